@@ -0,0 +1,237 @@
+package com.learning.globallearningcalendar.benchmark;
+
+import com.learning.globallearningcalendar.entity.*;
+import com.learning.globallearningcalendar.repository.BusinessUnitRepository;
+import com.learning.globallearningcalendar.repository.LocationRepository;
+import com.learning.globallearningcalendar.repository.RoleRepository;
+import com.learning.globallearningcalendar.repository.SkillRepository;
+import com.learning.globallearningcalendar.service.impl.ReferenceData;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * In-memory data for the benchmarks: a deterministic catalog of entities wired together the way
+ * Hibernate would hand them to a service, and stand-ins for the Spring collaborators.
+ *
+ * Repositories are interface proxies answering only the methods a benchmark needs; any other
+ * call fails loudly so a benchmark can't silently measure a no-op.
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    public static final class Catalog {
+        public final List<Role> roles = new ArrayList<>();
+        public final List<Location> locations = new ArrayList<>();
+        public final List<BusinessUnit> businessUnits = new ArrayList<>();
+        public final List<Skill> skills = new ArrayList<>();
+        public final List<LearningProgram> programs = new ArrayList<>();
+        public final List<User> users = new ArrayList<>();
+        public final List<LearningSession> sessions = new ArrayList<>();
+        public final List<Booking> bookings = new ArrayList<>();
+    }
+
+    /**
+     * A catalog shaped like a mid-sized tenant: a dozen roles, 20 locations, 30 business units,
+     * 200 programs, and the given number of users, sessions and confirmed bookings
+     */
+    public static Catalog catalog(int users, int sessions, int bookings) {
+        Random random = new Random(42);
+        Catalog catalog = new Catalog();
+        LocalDateTime now = LocalDateTime.now();
+
+        Role.RoleType[] roleTypes = Role.RoleType.values();
+        for (long id = 1; id <= 12; id++) {
+            Role role = new Role();
+            role.setId(id);
+            role.setCode("ROLE" + id);
+            role.setName("Role " + id);
+            role.setRoleType(roleTypes[(int) (id % roleTypes.length)]);
+            catalog.roles.add(role);
+        }
+        for (long id = 1; id <= 20; id++) {
+            Location location = new Location();
+            location.setId(id);
+            location.setName("Office " + id);
+            location.setCity("City " + id);
+            location.setCountry("Country " + (id % 6));
+            location.setRegion("Region " + (id % 3));
+            catalog.locations.add(location);
+        }
+        for (long id = 1; id <= 30; id++) {
+            BusinessUnit businessUnit = new BusinessUnit();
+            businessUnit.setId(id);
+            businessUnit.setCode("BU" + id);
+            businessUnit.setName("Business Unit " + id);
+            if (id > 5) {
+                businessUnit.setParentBusinessUnit(catalog.businessUnits.get((int) (id % 5)));
+            }
+            catalog.businessUnits.add(businessUnit);
+        }
+        for (long id = 1; id <= 50; id++) {
+            Skill skill = new Skill();
+            skill.setId(id);
+            skill.setCode("SK" + id);
+            skill.setName("Skill " + id);
+            skill.setSkillCategory("Category " + (id % 8));
+            catalog.skills.add(skill);
+        }
+        LearningProgram.ProgramType[] programTypes = LearningProgram.ProgramType.values();
+        for (long id = 1; id <= 200; id++) {
+            LearningProgram program = new LearningProgram();
+            program.setId(id);
+            program.setCode("PRG" + id);
+            program.setName("Program " + id);
+            program.setProgramType(programTypes[(int) (id % programTypes.length)]);
+            program.setIsMandatory(id % 10 == 0);
+            program.setSkills(sample(catalog.skills, 3, random));
+            program.setTargetBusinessUnits(sample(catalog.businessUnits, 2, random));
+            catalog.programs.add(program);
+        }
+
+        for (long id = 1; id <= users; id++) {
+            User user = new User();
+            user.setId(id);
+            user.setEmployeeId("EMP" + id);
+            user.setEmail("user" + id + "@example.com");
+            user.setFirstName("First" + id);
+            user.setLastName("Last" + id);
+            user.setRole(pick(catalog.roles, random));
+            user.setBusinessUnit(pick(catalog.businessUnits, random));
+            user.setLocation(pick(catalog.locations, random));
+            catalog.users.add(user);
+        }
+        // The first one in 20 users manage the rest
+        int managers = Math.max(1, users / 20);
+        for (User user : catalog.users.subList(Math.min(managers, users), users)) {
+            user.setManager(catalog.users.get(random.nextInt(managers)));
+        }
+
+        for (long id = 1; id <= sessions; id++) {
+            LearningSession session = new LearningSession();
+            session.setId(id);
+            session.setSessionCode("SES" + id);
+            session.setLearningProgram(pick(catalog.programs, random));
+            session.setLocation(pick(catalog.locations, random));
+            session.setStartDateTime(now.plusDays(random.nextInt(90)).withHour(9).withMinute(0));
+            session.setEndDateTime(session.getStartDateTime().plusHours(1 + random.nextInt(7)));
+            session.setTotalSeats(40);
+            session.setAvailableSeats(random.nextInt(41));
+            session.setStatus(LearningSession.SessionStatus.SCHEDULED);
+            session.setDeliveryMode(random.nextBoolean() ? DeliveryMode.ONLINE : DeliveryMode.OFFLINE);
+            session.setLocationScope(random.nextInt(4) == 0 ? LocationScope.SPECIFIC_LOCATION : LocationScope.ALL_LOCATIONS);
+            if (session.getLocationScope() == LocationScope.SPECIFIC_LOCATION) {
+                session.setTargetLocations(sample(catalog.locations, 3, random));
+            }
+            // Most sessions are open to every role; the rest target a few
+            if (random.nextInt(10) < 7) {
+                session.setTargetAllRoles(true);
+            } else {
+                session.setTargetAllRoles(false);
+                session.setTargetRoles(sample(catalog.roles, 3, random));
+            }
+            session.setInstructorName("Instructor " + (id % 40));
+            session.setInstructorEmail("instructor" + (id % 40) + "@example.com");
+            session.setCreatedBy(catalog.users.isEmpty() ? null : pick(catalog.users, random));
+            session.setCreatedAt(now.minusDays(30));
+            session.setUpdatedAt(now.minusDays(1));
+            catalog.sessions.add(session);
+        }
+
+        for (long id = 1; id <= bookings && !catalog.users.isEmpty() && !catalog.sessions.isEmpty(); id++) {
+            Booking booking = new Booking();
+            booking.setId(id);
+            booking.setBookingReference("BK-" + Long.toHexString(0x10000000L + id).toUpperCase());
+            booking.setUser(pick(catalog.users, random));
+            booking.setLearningSession(pick(catalog.sessions, random));
+            booking.setStatus(Booking.BookingStatus.CONFIRMED);
+            booking.setSeatNumber(1 + random.nextInt(40));
+            booking.setBookingDate(now.minusDays(random.nextInt(30)));
+            booking.setConfirmationDate(booking.getBookingDate().plusHours(2));
+            booking.setAttendanceStatus(Booking.AttendanceStatus.NOT_MARKED);
+            booking.setApprovedBy(booking.getUser().getManager());
+            booking.setApprovalDate(booking.getConfirmationDate());
+            booking.setNotes("Booked from the learning calendar");
+            booking.setCreatedAt(booking.getBookingDate());
+            booking.setUpdatedAt(booking.getConfirmationDate());
+            catalog.bookings.add(booking);
+        }
+        return catalog;
+    }
+
+    public static ReferenceData referenceData(Catalog catalog) {
+        return new ReferenceData(
+                repository(RoleRepository.class, Map.of("findAll", args -> catalog.roles)),
+                repository(LocationRepository.class, Map.of("findAll", args -> catalog.locations)),
+                repository(SkillRepository.class, Map.of("findAll", args -> catalog.skills)),
+                repository(BusinessUnitRepository.class, Map.of("findAll", args -> catalog.businessUnits)));
+    }
+
+    /**
+     * Repository stand-in answering the named methods; anything else throws
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> R repository(Class<R> type, Map<String, Function<Object[], Object>> answers) {
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName() + " stand-in";
+                default:
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer == null) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                    }
+                    return answer.apply(args);
+            }
+        });
+    }
+
+    /**
+     * Build a service through its constructor, passing each collaborator to the parameter of
+     * its type and null everywhere else
+     */
+    public static <T> T service(Class<T> type, Object... collaborators) {
+        Constructor<?> constructor = type.getDeclaredConstructors()[0];
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            for (Object collaborator : collaborators) {
+                if (parameterTypes[i].isInstance(collaborator)) {
+                    args[i] = collaborator;
+                }
+            }
+        }
+        try {
+            return type.cast(constructor.newInstance(args));
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot build " + type.getSimpleName(), e);
+        }
+    }
+
+    private static <T> T pick(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static <T> Set<T> sample(List<T> values, int count, Random random) {
+        Set<T> sample = new HashSet<>();
+        while (sample.size() < Math.min(count, values.size())) {
+            sample.add(pick(values, random));
+        }
+        return sample;
+    }
+}
@@ -0,0 +1,52 @@
+package com.learning.globallearningcalendar.benchmark;
+
+import com.learning.globallearningcalendar.util.SeatBlockAllocator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seat assignment for a booking: the allocator is built from the session's occupied seats under
+ * the session lock, then asked for a single seat or a block for a group.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeatAllocationBenchmark {
+
+    @Param({"40", "500"})
+    int totalSeats;
+
+    // Share of seats already taken, scattered at random
+    @Param({"0.5", "0.9"})
+    double occupancy;
+
+    private List<Integer> occupiedSeats;
+
+    @Setup
+    public void setUp() {
+        List<Integer> seats = new ArrayList<>();
+        for (int seat = 1; seat <= totalSeats; seat++) {
+            seats.add(seat);
+        }
+        Collections.shuffle(seats, new Random(42));
+        occupiedSeats = new ArrayList<>(seats.subList(0, (int) (totalSeats * occupancy)));
+    }
+
+    @Benchmark
+    public List<Integer> assignSeat() {
+        return new SeatBlockAllocator(totalSeats, occupiedSeats).allocate(1);
+    }
+
+    @Benchmark
+    public List<Integer> assignGroupOfFour() {
+        return new SeatBlockAllocator(totalSeats, occupiedSeats).allocate(4);
+    }
+}
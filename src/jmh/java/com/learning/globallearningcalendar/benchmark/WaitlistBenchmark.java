@@ -0,0 +1,152 @@
+package com.learning.globallearningcalendar.benchmark;
+
+import com.learning.globallearningcalendar.repository.ProgramWaitlistRepository;
+import com.learning.globallearningcalendar.service.impl.ProgramWaitlistQueues;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waitlist reordering over a large WAITING set. A session waiter's rank is an indexed range count,
+ * a join allocates the next sequence with MAX+1, and promotion selects the head of the queue
+ * skipping waiters who already hold a booking - these run against an embedded H2 table with the
+ * waitlist's (session_id, status, position) index, as the statements the repositories issue. The
+ * program-level queue picks its head from the in-memory queue.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaitlistBenchmark {
+
+    private static final long SESSION_ID = 1;
+    private static final long PROGRAM_ID = 1;
+
+    @Param({"1000", "100000"})
+    int waiting;
+
+    private Connection connection;
+    private PreparedStatement rank;
+    private PreparedStatement nextSequence;
+    private PreparedStatement head;
+    private ProgramWaitlistQueues programQueues;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:waitlist-" + waiting + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE waitlist (id BIGINT PRIMARY KEY, session_id BIGINT NOT NULL, user_id BIGINT NOT NULL, " +
+                    "position INT NOT NULL, status VARCHAR(20) NOT NULL, joined_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE UNIQUE INDEX uk_waitlist_session_position ON waitlist (session_id, position)");
+            statement.execute("CREATE INDEX idx_waitlist_session_status_position ON waitlist (session_id, status, position)");
+            statement.execute("CREATE TABLE bookings (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL, session_id BIGINT NOT NULL, " +
+                    "status VARCHAR(30) NOT NULL)");
+            statement.execute("CREATE INDEX idx_bookings_user_session ON bookings (user_id, session_id)");
+        }
+
+        // One in five sequences has left the queue (promoted or cancelled), and the first waiters
+        // already got a seat another way, so head selection has to skip them
+        Random random = new Random(42);
+        LocalDateTime joinedAt = LocalDateTime.now().minusDays(30);
+        int sequences = waiting + waiting / 4;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO waitlist (id, session_id, user_id, position, status, joined_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int sequence = 1; sequence <= sequences; sequence++) {
+                insert.setLong(1, sequence);
+                insert.setLong(2, SESSION_ID);
+                insert.setLong(3, sequence);
+                insert.setInt(4, sequence);
+                insert.setString(5, random.nextInt(5) == 0 ? "CANCELLED" : "WAITING");
+                insert.setObject(6, joinedAt.plusSeconds(sequence));
+                insert.addBatch();
+                if (sequence % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bookings (id, user_id, session_id, status) VALUES (?, ?, ?, 'CONFIRMED')")) {
+            for (long userId = 1; userId <= 20; userId++) {
+                insert.setLong(1, userId);
+                insert.setLong(2, userId);
+                insert.setLong(3, SESSION_ID);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        rank = connection.prepareStatement(
+                "SELECT COUNT(*) FROM waitlist WHERE session_id = ? AND status = 'WAITING' AND position < ?");
+        nextSequence = connection.prepareStatement("SELECT MAX(position) FROM waitlist WHERE session_id = ?");
+        head = connection.prepareStatement("SELECT w.id, w.user_id FROM waitlist w WHERE w.session_id = ? AND w.status = 'WAITING' " +
+                "AND NOT EXISTS (SELECT b.id FROM bookings b WHERE b.user_id = w.user_id AND b.session_id = ? " +
+                "AND b.status NOT IN ('CANCELLED', 'REJECTED')) ORDER BY w.position ASC, w.id ASC LIMIT ?");
+
+        List<Object[]> queueKeys = new ArrayList<>(waiting);
+        for (long id = 1; id <= waiting; id++) {
+            queueKeys.add(new Object[]{id, joinedAt.plusSeconds(random.nextInt(waiting))});
+        }
+        programQueues = new ProgramWaitlistQueues(Fixtures.repository(ProgramWaitlistRepository.class,
+                Map.of("findWaitingQueueKeysByProgram", args -> queueKeys)));
+        programQueues.size(PROGRAM_ID);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long rankOfWaiter() throws SQLException {
+        rank.setLong(1, SESSION_ID);
+        rank.setInt(2, 1 + ThreadLocalRandom.current().nextInt(waiting + waiting / 4));
+        try (ResultSet result = rank.executeQuery()) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    @Benchmark
+    public int nextSequence() throws SQLException {
+        nextSequence.setLong(1, SESSION_ID);
+        try (ResultSet result = nextSequence.executeQuery()) {
+            result.next();
+            return result.getInt(1) + 1;
+        }
+    }
+
+    @Benchmark
+    public List<Long> promoteHead() throws SQLException {
+        head.setLong(1, SESSION_ID);
+        head.setLong(2, SESSION_ID);
+        head.setInt(3, 5);
+        List<Long> ids = new ArrayList<>(5);
+        try (ResultSet result = head.executeQuery()) {
+            while (result.next()) {
+                ids.add(result.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public List<Long> programQueueHead() {
+        return programQueues.headIds(PROGRAM_ID, 64);
+    }
+}
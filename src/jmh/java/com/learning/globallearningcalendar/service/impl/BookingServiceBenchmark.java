@@ -0,0 +1,77 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.globallearningcalendar.benchmark.Fixtures;
+import com.learning.globallearningcalendar.config.JacksonConfig;
+import com.learning.globallearningcalendar.dto.BookingDTO;
+import com.learning.globallearningcalendar.entity.Booking;
+import com.learning.globallearningcalendar.repository.NominationRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Booking mapping, reference generation and serialization of booking lists as returned by the
+ * list endpoints. The nomination lookup in toDTO answers from memory here, so the numbers are
+ * the CPU cost of mapping only - its per-booking query shows up in the SQL statement metrics.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingServiceBenchmark {
+
+    private BookingServiceImpl bookingService;
+
+    @State(Scope.Benchmark)
+    public static class Page {
+        @Param({"100", "1000", "10000"})
+        int bookings;
+
+        List<Booking> entities;
+        List<BookingDTO> dtos;
+
+        @Setup
+        public void setUp(BookingServiceBenchmark benchmark) {
+            entities = Fixtures.catalog(2000, 500, bookings).bookings;
+            dtos = entities.stream().map(benchmark.bookingService::toDTO).collect(Collectors.toList());
+        }
+    }
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Setup
+    public void setUp() {
+        Fixtures.Catalog catalog = Fixtures.catalog(2000, 500, 0);
+        ReferenceData referenceData = Fixtures.referenceData(catalog);
+        referenceData.snapshot();
+        NominationRepository nominations = Fixtures.repository(NominationRepository.class,
+                Map.of("findByBookingId", args -> Optional.empty()));
+        bookingService = Fixtures.service(BookingServiceImpl.class, nominations, referenceData);
+    }
+
+    @Benchmark
+    public void toDTO(Page page, Blackhole blackhole) {
+        for (Booking booking : page.entities) {
+            blackhole.consume(bookingService.toDTO(booking));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeBookingList(Page page) throws Exception {
+        return objectMapper.writeValueAsBytes(page.dtos);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String generateBookingReference() {
+        return bookingService.generateBookingReference();
+    }
+}
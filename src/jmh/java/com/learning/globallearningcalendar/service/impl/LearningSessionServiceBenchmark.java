@@ -0,0 +1,63 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.benchmark.Fixtures;
+import com.learning.globallearningcalendar.entity.LearningSession;
+import com.learning.globallearningcalendar.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Session mapping and the role/location eligibility rules, which session listing runs for every
+ * active session on each request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LearningSessionServiceBenchmark {
+
+    @Param({"500", "5000"})
+    int sessions;
+
+    private LearningSessionServiceImpl sessionService;
+    private SessionEligibilityEvaluator eligibilityEvaluator;
+    private List<LearningSession> activeSessions;
+    private List<User> users;
+
+    @Setup
+    public void setUp() {
+        Fixtures.Catalog catalog = Fixtures.catalog(200, sessions, 0);
+        ReferenceData referenceData = Fixtures.referenceData(catalog);
+        referenceData.snapshot();
+        eligibilityEvaluator = new SessionEligibilityEvaluator();
+        sessionService = Fixtures.service(LearningSessionServiceImpl.class, eligibilityEvaluator, referenceData);
+        activeSessions = catalog.sessions;
+        users = catalog.users.subList(0, 20);
+    }
+
+    @Benchmark
+    public void toDTO(Blackhole blackhole) {
+        for (LearningSession session : activeSessions) {
+            blackhole.consume(sessionService.toDTO(session));
+        }
+    }
+
+    // One listing per user: every active session checked against the user's role and location
+    @Benchmark
+    public int eligibleSessions() {
+        int eligible = 0;
+        for (User user : users) {
+            for (LearningSession session : activeSessions) {
+                if (eligibilityEvaluator.isEligible(user, session)) {
+                    eligible++;
+                }
+            }
+        }
+        return eligible;
+    }
+}
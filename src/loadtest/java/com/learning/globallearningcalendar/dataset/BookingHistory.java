@@ -0,0 +1,325 @@
+package com.learning.globallearningcalendar.dataset;
+
+import com.learning.globallearningcalendar.dataset.DatasetGenerator.Person;
+import com.learning.globallearningcalendar.dataset.DatasetGenerator.Session;
+import com.learning.globallearningcalendar.entity.Booking.AttendanceStatus;
+import com.learning.globallearningcalendar.entity.Booking.BookingStatus;
+import com.learning.globallearningcalendar.entity.Booking.CompletionStatus;
+import com.learning.globallearningcalendar.entity.LearningSession.SessionStatus;
+import com.learning.globallearningcalendar.entity.Nomination.NominationStatus;
+import com.learning.globallearningcalendar.entity.Nomination.NominationType;
+import com.learning.globallearningcalendar.entity.Notification.NotificationType;
+import com.learning.globallearningcalendar.entity.Waitlist.WaitlistStatus;
+
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.SplittableRandom;
+
+/**
+ * Writes the activity of every planned session: bookings with their approval, cancellation,
+ * attendance and feedback trail, waitlist entries, manager nominations, and the notifications the
+ * application would have sent along the way. Seat holders get distinct seats and the waitlist
+ * distinct join sequences, so the data passes the same invariants as live traffic.
+ */
+final class BookingHistory {
+
+    private static final DateTimeFormatter SESSION_DATE = DateTimeFormatter.ofPattern("MMM dd, yyyy 'at' hh:mm a");
+    private static final String[] CANCELLATION_REASONS = {"Schedule conflict", "Project deadline", "Personal reasons",
+            "Will attend a later session", "Travel"};
+    private static final String[] REJECTION_REASONS = {"Release week - please pick a later session",
+            "Not relevant to your current project", "Team capacity is limited this month", "Training budget is on hold this quarter"};
+    private static final String[] FEEDBACK = {"Very practical, great examples", "Good content but too fast",
+            "Excellent instructor", "Would have liked more hands-on time", "Useful for my current project",
+            "Too basic for me"};
+
+    private final DatasetGenerator dataset;
+    private final SplittableRandom random;
+    private final LocalDateTime now;
+    private final BulkWriter.Table bookings;
+    private final BulkWriter.Table waitlist;
+    private final BulkWriter.Table nominations;
+    private final BulkWriter.Table notifications;
+    private long lastBookingId;
+
+    BookingHistory(DatasetGenerator dataset, BulkWriter writer, long lastBookingId) {
+        this.dataset = dataset;
+        this.random = dataset.random;
+        this.now = dataset.now;
+        this.lastBookingId = lastBookingId;
+        this.bookings = writer.table("bookings", "id", "booking_reference", "user_id", "session_id", "status", "seat_number",
+                "booking_date", "confirmation_date", "cancellation_date", "cancellation_reason", "attendance_status",
+                "attendance_marked_at", "completion_status", "completion_date", "feedback_rating", "feedback_comments",
+                "approved_by", "approval_date", "rejected_by", "rejection_date", "rejection_reason", "manager_notified",
+                "manager_notified_date", "created_at", "updated_at");
+        this.waitlist = writer.table("waitlist", "session_id", "user_id", "position", "status", "joined_at", "notified_at",
+                "created_at", "updated_at");
+        this.nominations = writer.table("nominations", "session_id", "nominee_user_id", "nominator_user_id",
+                "nomination_type", "status", "booking_id", "nominated_at", "responded_at", "acknowledged_at",
+                "created_at", "updated_at");
+        this.notifications = writer.table("notifications", "user_id", "title", "message", "type", "is_read",
+                "booking_id", "created_at");
+    }
+
+    void write() throws SQLException {
+        for (Session session : dataset.sessions) {
+            int[] seats = seats(session.seats, session.holders);
+            for (int i = 0; i < session.bookings; i++) {
+                writeBooking(session, dataset.people[session.attendees[i]], i < session.holders ? seats[i] : null);
+            }
+            writeWaitlist(session);
+            writeOpenNominations(session);
+        }
+        writeManagerDigests();
+    }
+
+    private void writeBooking(Session session, Person person, Integer seat) throws SQLException {
+        long id = ++lastBookingId;
+        Person manager = person.manager >= 0 ? dataset.people[person.manager] : null;
+        LocalDateTime deadline = deadline(session);
+        // Registration rush: most bookings arrive soon after the session is published
+        LocalDateTime booked = between(session.createdAt, deadline, 2.0);
+        String program = session.program.name;
+
+        BookingStatus status;
+        Integer seatNumber = null;
+        LocalDateTime confirmed = null;
+        LocalDateTime cancelled = null;
+        String cancellationReason = null;
+        AttendanceStatus attendance = AttendanceStatus.NOT_MARKED;
+        LocalDateTime attendanceMarked = null;
+        CompletionStatus completion = CompletionStatus.NOT_STARTED;
+        LocalDateTime completed = null;
+        Integer rating = null;
+        String comments = null;
+        Long approvedBy = null;
+        LocalDateTime approved = null;
+        Long rejectedBy = null;
+        LocalDateTime rejected = null;
+        String rejectionReason = null;
+        LocalDateTime managerNotified = manager != null ? booked.plusMinutes(1 + random.nextInt(10)) : null;
+        LocalDateTime updated = booked;
+        // At most one notification per booking, written after the booking row it points at
+        NotificationType notification = null;
+        String title = null;
+        String message = null;
+        LocalDateTime notifiedAt = null;
+
+        boolean upcoming = session.status == SessionStatus.SCHEDULED || session.status == SessionStatus.POSTPONED;
+        if (seat != null && session.status != SessionStatus.CANCELLED) {
+            seatNumber = seat;
+            if (manager != null && upcoming && random.nextInt(100) < 15) {
+                status = BookingStatus.PENDING_APPROVAL;
+            } else {
+                confirmed = manager != null ? DatasetGenerator.min(deadline, booked.plusHours(1 + random.nextInt(48))) : booked;
+                if (manager != null) {
+                    approvedBy = manager.id;
+                    approved = confirmed;
+                    notification = NotificationType.BOOKING_APPROVED;
+                    title = "Booking Approved";
+                    message = String.format("Your manager has approved your booking for '%s'. Session date: %s",
+                            program, SESSION_DATE.format(session.start));
+                } else {
+                    notification = NotificationType.BOOKING_CONFIRMED;
+                    title = "Booking Confirmed";
+                    message = String.format("Your booking for '%s' has been confirmed. Session date: %s",
+                            program, SESSION_DATE.format(session.start));
+                }
+                notifiedAt = confirmed;
+                updated = confirmed;
+                status = BookingStatus.CONFIRMED;
+                if (upcoming && random.nextInt(100) < 5) {
+                    status = BookingStatus.PENDING_CANCELLATION;
+                    cancellationReason = pick(CANCELLATION_REASONS);
+                    updated = between(confirmed, now, 1.0);
+                } else if (session.status == SessionStatus.COMPLETED) {
+                    int roll = random.nextInt(100);
+                    attendance = roll < 80 ? AttendanceStatus.PRESENT : roll < 88 ? AttendanceStatus.PARTIAL : AttendanceStatus.ABSENT;
+                    status = attendance == AttendanceStatus.ABSENT ? BookingStatus.NO_SHOW : BookingStatus.COMPLETED;
+                    attendanceMarked = DatasetGenerator.min(now, session.end.plusHours(1 + random.nextInt(48)));
+                    completion = attendance == AttendanceStatus.PRESENT ? CompletionStatus.COMPLETED : CompletionStatus.INCOMPLETE;
+                    completed = attendance == AttendanceStatus.PRESENT ? session.end : null;
+                    if (attendance != AttendanceStatus.ABSENT && random.nextInt(100) < 55) {
+                        rating = rating();
+                        comments = random.nextInt(100) < 30 ? pick(FEEDBACK) : null;
+                    }
+                    updated = attendanceMarked;
+                }
+            }
+        } else if (session.status == SessionStatus.CANCELLED && seat != null) {
+            status = BookingStatus.CANCELLED;
+            cancelled = between(booked, deadline, 1.0);
+            cancellationReason = "Session cancelled";
+            updated = cancelled;
+        } else if (manager != null && random.nextInt(100) < 25) {
+            status = BookingStatus.REJECTED;
+            rejectedBy = manager.id;
+            rejected = DatasetGenerator.min(deadline, booked.plusHours(1 + random.nextInt(72)));
+            rejectionReason = pick(REJECTION_REASONS);
+            updated = rejected;
+            notification = NotificationType.BOOKING_REJECTED;
+            notifiedAt = rejected;
+            title = "Booking Rejected";
+            message = String.format("Your booking request for '%s' has been rejected by your manager. Reason: %s",
+                    program, rejectionReason);
+        } else {
+            status = BookingStatus.CANCELLED;
+            cancelled = between(booked, deadline, 1.0);
+            cancellationReason = pick(CANCELLATION_REASONS);
+            updated = cancelled;
+        }
+        if (status == BookingStatus.CANCELLED) {
+            notification = NotificationType.BOOKING_CANCELLED;
+            notifiedAt = cancelled;
+            title = "Booking Cancelled";
+            message = String.format("Your booking for '%s' has been cancelled. Reason: %s", program, cancellationReason);
+        }
+
+        bookings.add(id, String.format("BK-%d-%02d-%04d", booked.getYear(), booked.getMonthValue(), id),
+                person.id, session.id, status.name(), seatNumber, booked, confirmed, cancelled, cancellationReason,
+                attendance.name(), attendanceMarked, completion.name(), completed, rating, comments, approvedBy, approved,
+                rejectedBy, rejected, rejectionReason, managerNotified != null, managerNotified, booked, updated);
+        if (notification != null) {
+            notify(person, title, message, notification, id, notifiedAt);
+        }
+
+        // Some seats were taken on a manager's nomination; mandatory programs mostly are
+        if (seatNumber != null && manager != null) {
+            boolean mandatory = session.program.mandatory && random.nextInt(100) < 50;
+            if (mandatory || random.nextInt(100) < 6) {
+                LocalDateTime nominated = between(session.createdAt, booked, 0.5);
+                LocalDateTime acknowledged = mandatory && random.nextInt(100) < 70 ? between(nominated, booked, 1.0) : null;
+                writeNomination(session, person, manager,
+                        mandatory ? NominationType.MANDATORY : NominationType.RECOMMENDED,
+                        mandatory ? NominationStatus.COMPLETED : NominationStatus.ACCEPTED, id, nominated, booked, acknowledged);
+            }
+        }
+    }
+
+    /**
+     * Join sequences in join order; the first joiners were promoted when seats freed up, a few
+     * left, and the rest are still waiting (or expired once the session ran)
+     */
+    private void writeWaitlist(Session session) throws SQLException {
+        int waiters = session.attendees.length - session.bookings;
+        if (waiters == 0) {
+            return;
+        }
+        boolean past = session.status == SessionStatus.COMPLETED;
+        LocalDateTime deadline = deadline(session);
+        LocalDateTime filledAt = between(session.createdAt, deadline, 1.0);
+        long window = Duration.between(filledAt, deadline).getSeconds();
+        int promoted = (int) Math.round(waiters * (past ? 0.2 : 0.1));
+        for (int position = 1; position <= waiters; position++) {
+            Person person = dataset.people[session.attendees[session.bookings + position - 1]];
+            LocalDateTime joined = filledAt.plusSeconds((long) (window * (position - 1 + random.nextDouble()) / waiters));
+            WaitlistStatus status = position <= promoted ? WaitlistStatus.CONFIRMED
+                    : random.nextInt(100) < (past ? 10 : 12) ? WaitlistStatus.CANCELLED
+                    : past ? WaitlistStatus.EXPIRED : WaitlistStatus.WAITING;
+            LocalDateTime notified = status == WaitlistStatus.CONFIRMED ? between(joined, deadline, 1.0) : null;
+            LocalDateTime updated = notified != null ? notified : status == WaitlistStatus.WAITING ? joined : between(joined, deadline, 1.0);
+            waitlist.add(session.id, person.id, position, status.name(), joined, notified, joined, updated);
+
+            notify(person, "Added to Waitlist", String.format("You've been added to the waitlist for '%s'. You'll be notified if a seat becomes available.",
+                    session.program.name), NotificationType.BOOKING_WAITLISTED, null, joined);
+            if (notified != null) {
+                notify(person, "Waitlist Promoted!", String.format("Great news! Your waitlist booking for '%s' has been confirmed. Session date: %s",
+                        session.program.name, SESSION_DATE.format(session.start)), NotificationType.WAITLIST_PROMOTED, null, notified);
+            }
+        }
+    }
+
+    // Recommendations nobody acted on: still pending for upcoming sessions, declined otherwise
+    private void writeOpenNominations(Session session) throws SQLException {
+        if (session.status == SessionStatus.CANCELLED) {
+            return;
+        }
+        boolean upcoming = session.status == SessionStatus.SCHEDULED || session.status == SessionStatus.POSTPONED;
+        LocalDateTime deadline = deadline(session);
+        long count = Math.round(session.bookings * 0.04);
+        for (int i = 0; i < count; i++) {
+            Person nominee = dataset.people[1 + random.nextInt(dataset.people.length - 1)];
+            LocalDateTime nominated = between(session.createdAt, deadline, 1.0);
+            boolean pending = upcoming && random.nextInt(100) < 60;
+            writeNomination(session, nominee, dataset.people[nominee.manager], NominationType.RECOMMENDED,
+                    pending ? NominationStatus.PENDING : NominationStatus.DECLINED, null, nominated,
+                    pending ? null : between(nominated, deadline, 1.0), null);
+        }
+    }
+
+    private void writeNomination(Session session, Person nominee, Person nominator, NominationType type,
+                                 NominationStatus status, Long bookingId, LocalDateTime nominated,
+                                 LocalDateTime responded, LocalDateTime acknowledged) throws SQLException {
+        LocalDateTime updated = acknowledged != null ? acknowledged : responded != null ? responded : nominated;
+        nominations.add(session.id, nominee.id, nominator.id, type.name(), status.name(), bookingId, nominated, responded,
+                acknowledged, nominated, updated);
+    }
+
+    // Weekly pending-approval digests over the last eight weeks for managers with something to approve
+    private void writeManagerDigests() throws SQLException {
+        LocalDateTime monday = now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).withHour(8).withMinute(0);
+        for (Person manager : dataset.people) {
+            if (manager.reports == 0) {
+                continue;
+            }
+            for (int week = 0; week < 8; week++) {
+                if (random.nextInt(100) < 50) {
+                    int approvals = 1 + random.nextInt(Math.max(1, manager.reports));
+                    int cancellations = random.nextInt(3);
+                    notify(manager, "Pending Approvals Digest", String.format(
+                            "You have %d booking request(s) awaiting approval and %d cancellation request(s) awaiting review (%d new since your last digest).",
+                            approvals, cancellations, 1 + random.nextInt(approvals + cancellations)),
+                            NotificationType.MANAGER_DIGEST, null, monday.minusWeeks(week));
+                }
+            }
+        }
+    }
+
+    // Older notifications have mostly been read
+    private void notify(Person person, String title, String message, NotificationType type, Long bookingId,
+                        LocalDateTime at) throws SQLException {
+        if (at.isAfter(now)) {
+            return;
+        }
+        boolean read = random.nextInt(100) < (at.isBefore(now.minusDays(14)) ? 90 : 40);
+        notifications.add(person.id, title, message, type.name(), read, bookingId, at);
+    }
+
+    // Bookings, waitlist joins and cancellations happen before the session starts (and never in the future)
+    private LocalDateTime deadline(Session session) {
+        LocalDateTime deadline = DatasetGenerator.min(now, session.start.minusHours(1));
+        return deadline.isAfter(session.createdAt) ? deadline : session.createdAt.plusHours(1);
+    }
+
+    private LocalDateTime between(LocalDateTime from, LocalDateTime to, double skew) {
+        long seconds = Duration.between(from, to).getSeconds();
+        return seconds <= 0 ? from : from.plusSeconds((long) (seconds * Math.pow(random.nextDouble(), skew)));
+    }
+
+    // Distinct seats for the holders, in random order
+    private int[] seats(int totalSeats, int holders) {
+        int[] seats = new int[totalSeats];
+        for (int i = 0; i < totalSeats; i++) {
+            seats[i] = i + 1;
+        }
+        for (int i = 0; i < holders; i++) {
+            int j = i + random.nextInt(totalSeats - i);
+            int swap = seats[i];
+            seats[i] = seats[j];
+            seats[j] = swap;
+        }
+        return seats;
+    }
+
+    private int rating() {
+        int roll = random.nextInt(100);
+        return roll < 40 ? 5 : roll < 75 ? 4 : roll < 90 ? 3 : roll < 96 ? 2 : 1;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
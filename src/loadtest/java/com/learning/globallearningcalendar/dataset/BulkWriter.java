@@ -0,0 +1,143 @@
+package com.learning.globallearningcalendar.dataset;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes rows through multi-row INSERT statements - INSERT INTO t (a, b) VALUES (?, ?), (?, ?), ... -
+ * one statement per chunk of rows, committing every commitEvery rows.
+ *
+ * Tables are written in the order they were opened, so open parents before children: before a
+ * chunk of one table goes out, the pending rows of every table opened earlier are written, and
+ * foreign keys always point at rows that already exist.
+ */
+final class BulkWriter implements AutoCloseable {
+
+    // MySQL allows at most 65535 placeholders in one statement
+    private static final int MAX_PARAMETERS = 60_000;
+
+    private final Connection connection;
+    private final int rowsPerStatement;
+    private final long commitEvery;
+    private final List<Table> tables = new ArrayList<>();
+    private long uncommittedRows;
+
+    BulkWriter(Connection connection, int rowsPerStatement, long commitEvery) throws SQLException {
+        this.connection = connection;
+        this.rowsPerStatement = rowsPerStatement;
+        this.commitEvery = commitEvery;
+        connection.setAutoCommit(false);
+    }
+
+    Table table(String name, String... columns) {
+        Table table = new Table(tables.size(), name, columns);
+        tables.add(table);
+        return table;
+    }
+
+    /**
+     * Rows written so far per table, in the order the tables were opened
+     */
+    Map<String, Long> rowsWritten() {
+        Map<String, Long> rows = new LinkedHashMap<>();
+        for (Table table : tables) {
+            rows.put(table.name, table.written);
+        }
+        return rows;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            writeUpTo(tables.size() - 1);
+            connection.commit();
+        } finally {
+            for (Table table : tables) {
+                if (table.fullChunk != null) {
+                    table.fullChunk.close();
+                }
+            }
+        }
+    }
+
+    private void writeUpTo(int index) throws SQLException {
+        for (int i = 0; i <= index; i++) {
+            tables.get(i).write();
+        }
+        if (uncommittedRows >= commitEvery) {
+            connection.commit();
+            uncommittedRows = 0;
+        }
+    }
+
+    final class Table {
+        private final int index;
+        private final String name;
+        private final String[] columns;
+        private final int chunkRows;
+        private final Object[] pending;
+        private int pendingRows;
+        private long written;
+        private PreparedStatement fullChunk;
+
+        private Table(int index, String name, String[] columns) {
+            this.index = index;
+            this.name = name;
+            this.columns = columns;
+            this.chunkRows = Math.max(1, Math.min(rowsPerStatement, MAX_PARAMETERS / columns.length));
+            this.pending = new Object[chunkRows * columns.length];
+        }
+
+        /**
+         * Queue one row; values in column order, enums as their names
+         */
+        void add(Object... values) throws SQLException {
+            if (values.length != columns.length) {
+                throw new IllegalArgumentException(name + " takes " + columns.length + " values, got " + values.length);
+            }
+            System.arraycopy(values, 0, pending, pendingRows * columns.length, columns.length);
+            if (++pendingRows == chunkRows) {
+                writeUpTo(index);
+            }
+        }
+
+        private void write() throws SQLException {
+            if (pendingRows == 0) {
+                return;
+            }
+            boolean full = pendingRows == chunkRows;
+            if (full && fullChunk == null) {
+                fullChunk = connection.prepareStatement(insert(chunkRows));
+            }
+            PreparedStatement statement = full ? fullChunk : connection.prepareStatement(insert(pendingRows));
+            try {
+                for (int i = 0; i < pendingRows * columns.length; i++) {
+                    statement.setObject(i + 1, pending[i]);
+                }
+                statement.executeUpdate();
+            } finally {
+                if (!full) {
+                    statement.close();
+                }
+            }
+            written += pendingRows;
+            uncommittedRows += pendingRows;
+            pendingRows = 0;
+        }
+
+        private String insert(int rows) {
+            String row = "(" + "?, ".repeat(columns.length - 1) + "?)";
+            StringBuilder sql = new StringBuilder(32 + rows * (row.length() + 2))
+                    .append("INSERT INTO ").append(name).append(" (").append(String.join(", ", columns)).append(") VALUES ");
+            for (int i = 0; i < rows; i++) {
+                sql.append(i == 0 ? "" : ", ").append(row);
+            }
+            return sql.toString();
+        }
+    }
+}
@@ -0,0 +1,797 @@
+package com.learning.globallearningcalendar.dataset;
+
+import com.learning.globallearningcalendar.entity.DeliveryMode;
+import com.learning.globallearningcalendar.entity.LearningProgram;
+import com.learning.globallearningcalendar.entity.LearningSession.SessionStatus;
+import com.learning.globallearningcalendar.entity.LocationScope;
+import com.learning.globallearningcalendar.entity.Role.RoleType;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Synthetic dataset shaped like production. At dataset.scale=1 that is 80k employees under one
+ * reporting tree, 15k sessions over the past year and the coming months, and 2.5M bookings, with:
+ *
+ * - a business unit tree (enterprise, divisions, departments and teams) and offices weighted towards a few hubs
+ * - job roles of every role type; people mostly stay in their manager's business unit and office
+ * - skills in categories, and programs tagged with skills, target roles and target business units
+ * - program popularity following a power law, so a few programs draw most sessions and bookings
+ * - per-session histories: seat holders with unique seats, cancellations and rejections, attendance
+ *   and feedback for past sessions, waitlists on full sessions, manager nominations, and the
+ *   notifications each of these would have produced
+ *
+ * Everything is written through multi-row INSERTs. Ids continue after the current maximum of each
+ * table, so it can add to a database that already holds data; the derived tables (reporting paths,
+ * learning statistics) are emptied at the end and the application refills them on its next start.
+ *
+ * Point it at a schema created by the application (spring.jpa.hibernate.ddl-auto=update):
+ * mvn -Ploadtest compile exec:exec@generate-dataset -Ddataset.args="--dataset.url=jdbc:mysql://localhost:3306/learning_calendar --dataset.username=... --dataset.password=... --dataset.scale=0.25"
+ */
+public final class DatasetGenerator {
+
+    // Filled by ReportingHierarchy and LearningStatistics on application start when empty
+    private static final List<String> DERIVED_TABLES = List.of("user_reporting_paths", "session_statistics",
+            "program_rating_statistics", "instructor_rating_statistics");
+
+    static final String[] FIRST_NAMES = {"Aarav", "Priya", "James", "Maria", "Wei", "Fatima", "Lucas", "Sofia", "Arjun",
+            "Emma", "Chen", "Olivia", "Mohammed", "Ananya", "Noah", "Isabella", "Ravi", "Mia", "Daniel", "Aisha", "Liam",
+            "Yuki", "Ethan", "Zara", "Kiran", "Chloe", "Mateo", "Leila", "Samuel", "Hana", "Vikram", "Grace", "Omar",
+            "Meera", "Jonas", "Elena", "Rahul", "Nora", "David", "Ingrid"};
+    static final String[] LAST_NAMES = {"Sharma", "Smith", "Garcia", "Wang", "Khan", "Mueller", "Rossi", "Patel",
+            "Johnson", "Silva", "Kim", "Nguyen", "Iyer", "Brown", "Martin", "Tanaka", "Lopez", "Reddy", "Wilson",
+            "Novak", "Ahmed", "Dubois", "Costa", "Singh", "Jensen", "Cohen", "Okafor", "Andersson", "Mehta", "Taylor"};
+
+    // City, country, region, timezone
+    private static final String[][] OFFICES = {
+            {"Bengaluru", "India", "APAC", "Asia/Kolkata"},
+            {"New York", "USA", "Americas", "America/New_York"},
+            {"London", "UK", "EMEA", "Europe/London"},
+            {"Hyderabad", "India", "APAC", "Asia/Kolkata"},
+            {"San Francisco", "USA", "Americas", "America/Los_Angeles"},
+            {"Pune", "India", "APAC", "Asia/Kolkata"},
+            {"Singapore", "Singapore", "APAC", "Asia/Singapore"},
+            {"Berlin", "Germany", "EMEA", "Europe/Berlin"},
+            {"Toronto", "Canada", "Americas", "America/Toronto"},
+            {"Chennai", "India", "APAC", "Asia/Kolkata"},
+            {"Dublin", "Ireland", "EMEA", "Europe/Dublin"},
+            {"Sydney", "Australia", "APAC", "Australia/Sydney"},
+            {"Austin", "USA", "Americas", "America/Chicago"},
+            {"Krakow", "Poland", "EMEA", "Europe/Warsaw"},
+            {"Sao Paulo", "Brazil", "Americas", "America/Sao_Paulo"},
+            {"Tokyo", "Japan", "APAC", "Asia/Tokyo"},
+            {"Amsterdam", "Netherlands", "EMEA", "Europe/Amsterdam"},
+            {"Manila", "Philippines", "APAC", "Asia/Manila"}};
+
+    private static final Object[][] JOB_ROLES = {
+            {"Software Engineer", RoleType.EMPLOYEE},
+            {"Senior Software Engineer", RoleType.EMPLOYEE},
+            {"Associate Software Engineer", RoleType.EMPLOYEE},
+            {"Lead Software Engineer", RoleType.EMPLOYEE},
+            {"QA Engineer", RoleType.EMPLOYEE},
+            {"Consultant", RoleType.EMPLOYEE},
+            {"Senior Consultant", RoleType.EMPLOYEE},
+            {"Business Analyst", RoleType.EMPLOYEE},
+            {"Data Analyst", RoleType.EMPLOYEE},
+            {"DevOps Engineer", RoleType.EMPLOYEE},
+            {"Data Scientist", RoleType.EMPLOYEE},
+            {"Sales Executive", RoleType.EMPLOYEE},
+            {"UX Designer", RoleType.EMPLOYEE},
+            {"Financial Analyst", RoleType.EMPLOYEE},
+            {"Operations Analyst", RoleType.EMPLOYEE},
+            {"HR Specialist", RoleType.EMPLOYEE},
+            {"Engineering Manager", RoleType.MANAGER},
+            {"Delivery Manager", RoleType.MANAGER},
+            {"Project Manager", RoleType.MANAGER},
+            {"Sales Manager", RoleType.MANAGER},
+            {"HR Manager", RoleType.MANAGER},
+            {"Director", RoleType.BU_LEADER},
+            {"Vice President", RoleType.BU_LEADER},
+            {"Head of Learning and Development", RoleType.LD_LEADER},
+            {"Learning Administrator", RoleType.LD_ADMIN},
+            {"System Administrator", RoleType.SYSTEM_ADMIN}};
+
+    private static final String[] DIVISIONS = {"Technology", "Consulting", "Sales", "Operations", "Finance",
+            "People", "Marketing"};
+    private static final String[] DEPARTMENTS = {"Platforms", "Delivery", "Solutions", "Analytics", "Services",
+            "Strategy", "Support", "Products", "Quality", "Enablement"};
+
+    // Skill name, category
+    private static final String[][] SKILLS = {
+            {"Java Programming", "TECHNICAL"}, {"Python Programming", "TECHNICAL"}, {"JavaScript", "TECHNICAL"},
+            {"Spring Boot", "TECHNICAL"}, {"Cloud Architecture", "TECHNICAL"}, {"Kubernetes", "TECHNICAL"},
+            {"SQL and Data Modelling", "TECHNICAL"}, {"Machine Learning", "TECHNICAL"}, {"Test Automation", "TECHNICAL"},
+            {"Security Fundamentals", "TECHNICAL"}, {"React", "TECHNICAL"}, {"Data Engineering", "TECHNICAL"},
+            {"Communication", "SOFT_SKILLS"}, {"Presentation", "SOFT_SKILLS"}, {"Negotiation", "SOFT_SKILLS"},
+            {"Time Management", "SOFT_SKILLS"}, {"Collaboration", "SOFT_SKILLS"},
+            {"People Management", "LEADERSHIP"}, {"Strategic Thinking", "LEADERSHIP"}, {"Coaching", "LEADERSHIP"},
+            {"Change Management", "LEADERSHIP"},
+            {"Data Privacy", "COMPLIANCE"}, {"Information Security Awareness", "COMPLIANCE"}, {"Code of Conduct", "COMPLIANCE"},
+            {"Agile Delivery", "METHODOLOGY"}, {"Project Management", "METHODOLOGY"}, {"Design Thinking", "METHODOLOGY"},
+            {"Financial Acumen", "BUSINESS"}, {"Consultative Selling", "BUSINESS"}, {"Customer Success", "BUSINESS"}};
+
+    // Program topic, type
+    private static final Object[][] PROGRAM_TOPICS = {
+            {"Java", LearningProgram.ProgramType.TECHNICAL}, {"Spring Boot", LearningProgram.ProgramType.TECHNICAL},
+            {"Kubernetes", LearningProgram.ProgramType.TECHNICAL}, {"AWS", LearningProgram.ProgramType.CERTIFICATION},
+            {"Azure", LearningProgram.ProgramType.CERTIFICATION}, {"Python for Data", LearningProgram.ProgramType.TECHNICAL},
+            {"Machine Learning", LearningProgram.ProgramType.TECHNICAL}, {"React", LearningProgram.ProgramType.TECHNICAL},
+            {"SQL Performance", LearningProgram.ProgramType.TECHNICAL}, {"Secure Coding", LearningProgram.ProgramType.TECHNICAL},
+            {"Scrum", LearningProgram.ProgramType.CERTIFICATION}, {"Effective Communication", LearningProgram.ProgramType.SOFT_SKILLS},
+            {"Storytelling with Data", LearningProgram.ProgramType.SOFT_SKILLS}, {"Negotiation", LearningProgram.ProgramType.SOFT_SKILLS},
+            {"First-Time Manager", LearningProgram.ProgramType.LEADERSHIP}, {"Leading Through Change", LearningProgram.ProgramType.LEADERSHIP},
+            {"Coaching for Performance", LearningProgram.ProgramType.LEADERSHIP}, {"Data Privacy", LearningProgram.ProgramType.COMPLIANCE},
+            {"Information Security", LearningProgram.ProgramType.COMPLIANCE}, {"Anti-Bribery", LearningProgram.ProgramType.COMPLIANCE},
+            {"New Joiner", LearningProgram.ProgramType.ONBOARDING}, {"Tools and Processes", LearningProgram.ProgramType.ONBOARDING},
+            {"Design Thinking", LearningProgram.ProgramType.WORKSHOP}, {"Architecture Kata", LearningProgram.ProgramType.WORKSHOP},
+            {"Industry Trends", LearningProgram.ProgramType.SEMINAR}, {"Customer Success", LearningProgram.ProgramType.SEMINAR}};
+    private static final String[] PROGRAM_LEVELS = {"Fundamentals", "Essentials", "Deep Dive", "Masterclass", "Bootcamp",
+            "Advanced"};
+
+    record JobRole(long id, String name, RoleType type) {
+    }
+
+    static final class Person {
+        long id;
+        int manager = -1;
+        int depth;
+        int reports;
+        int role;
+        int businessUnit;
+        int location;
+    }
+
+    static final class Program {
+        long id;
+        String name;
+        boolean mandatory;
+        int durationHours;
+        // Lower is more popular
+        int popularityRank;
+        int[] targetRoles;
+    }
+
+    static final class Session {
+        long id;
+        String code;
+        Program program;
+        int location;
+        boolean online;
+        int seats;
+        int waitlistCapacity;
+        SessionStatus status;
+        LocalDateTime createdAt;
+        LocalDateTime start;
+        LocalDateTime end;
+        // Null when open to every location / role
+        int[] targetLocations;
+        int[] targetRoles;
+        String instructorName;
+        String instructorEmail;
+        // Planned history: attendees [0, holders) hold a seat, [holders, bookings) cancelled or were
+        // rejected, and [bookings, length) joined the waitlist
+        int[] attendees;
+        int holders;
+        int bookings;
+    }
+
+    final DatasetSettings settings;
+    final SplittableRandom random;
+    final LocalDateTime now = LocalDateTime.now().withSecond(0).withNano(0);
+    private final Connection connection;
+
+    final List<JobRole> roles = new ArrayList<>();
+    long[] locationIds;
+    long[] businessUnitIds;
+    long[] skillIds;
+    Person[] people;
+    Session[] sessions;
+    private String[] businessUnitNames;
+    private int[] businessUnitParents;
+    private int[][] businessUnitChildren;
+    private int[] learningAdmins;
+    // Every person, most active first, overall and per office
+    private int[] usersByActivity;
+    private int[][] usersByLocation;
+    private Program[] programs;
+    private Program[] programsByPopularity;
+
+    private DatasetGenerator(DatasetSettings settings, Connection connection) {
+        this.settings = settings;
+        this.connection = connection;
+        this.random = new SplittableRandom(settings.seed());
+    }
+
+    public static void main(String[] args) throws Exception {
+        StandardEnvironment env = new StandardEnvironment();
+        env.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        DatasetSettings settings = DatasetSettings.from(env);
+        DataSource dataSource = new DriverManagerDataSource(env.getRequiredProperty("dataset.url"),
+                env.getProperty("dataset.username", ""), env.getProperty("dataset.password", ""));
+
+        System.out.printf("Generating %d users, %d sessions and %d bookings (scale %s)%n",
+                settings.users(), settings.sessions(), settings.bookings(), settings.scale());
+        long startedAt = System.nanoTime();
+        Map<String, Long> rows = generate(dataSource, settings);
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        long total = 0;
+        for (Map.Entry<String, Long> table : rows.entrySet()) {
+            System.out.printf("  %-32s %,12d%n", table.getKey(), table.getValue());
+            total += table.getValue();
+        }
+        System.out.printf("%,d rows in %.1f s (%,.0f rows/s)%n", total, seconds, total / seconds);
+    }
+
+    /**
+     * Generate and write the dataset; returns the rows written per table
+     */
+    public static Map<String, Long> generate(DataSource dataSource, DatasetSettings settings) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return new DatasetGenerator(settings, connection).run();
+        }
+    }
+
+    private Map<String, Long> run() throws SQLException {
+        boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+        if (mysql) {
+            // Every key is generated here and parents are written first - skip the per-row checks
+            execute("SET foreign_key_checks = 0, unique_checks = 0");
+        }
+        BulkWriter writer = new BulkWriter(connection, settings.rowsPerStatement(), 100_000);
+        try {
+            writeRoles(writer);
+            writeLocations(writer);
+            writeBusinessUnits(writer);
+            writeSkills(writer);
+            writeUsers(writer);
+            writePrograms(writer);
+            planSessions();
+            writeSessions(writer);
+            new BookingHistory(this, writer, nextId("bookings")).write();
+            writer.close();
+        } finally {
+            if (mysql) {
+                execute("SET foreign_key_checks = 1, unique_checks = 1");
+            }
+        }
+        for (String table : DERIVED_TABLES) {
+            execute("DELETE FROM " + table);
+        }
+        connection.commit();
+        return writer.rowsWritten();
+    }
+
+    private void writeRoles(BulkWriter writer) throws SQLException {
+        BulkWriter.Table rows = writer.table("roles", "id", "code", "name", "description", "role_type", "is_active",
+                "created_at", "updated_at");
+        long id = nextId("roles");
+        LocalDateTime createdAt = now.minusDays(settings.historyDays() * 3L);
+        for (Object[] jobRole : JOB_ROLES) {
+            JobRole role = new JobRole(++id, (String) jobRole[0], (RoleType) jobRole[1]);
+            roles.add(role);
+            rows.add(role.id(), "ROLE_" + snakeCase(role.name()) + "_" + role.id(), role.name(),
+                    role.name() + " (" + role.type().name().toLowerCase(Locale.ROOT).replace('_', ' ') + ")",
+                    role.type().name(), true, createdAt, createdAt);
+        }
+    }
+
+    private void writeLocations(BulkWriter writer) throws SQLException {
+        BulkWriter.Table rows = writer.table("locations", "id", "name", "city", "country", "region", "timezone",
+                "address", "capacity", "is_active", "created_at", "updated_at");
+        locationIds = ids(nextId("locations"), settings.locations());
+        LocalDateTime createdAt = now.minusDays(settings.historyDays() * 3L);
+        for (int i = 0; i < locationIds.length; i++) {
+            String[] office = OFFICES[i % OFFICES.length];
+            int campus = i / OFFICES.length + 1;
+            // Earlier offices are the hubs most people are drawn to
+            int capacity = Math.max(50, 5000 / (i + 1));
+            rows.add(locationIds[i], office[0] + " Campus " + campus, office[0], office[1], office[2], office[3],
+                    (100 + i) + " Learning Avenue, " + office[0], capacity, true, createdAt, createdAt);
+        }
+    }
+
+    private void writeBusinessUnits(BulkWriter writer) throws SQLException {
+        BulkWriter.Table rows = writer.table("business_units", "id", "code", "name", "description", "parent_bu_id",
+                "is_active", "created_at", "updated_at");
+        int count = settings.businessUnits();
+        businessUnitIds = ids(nextId("business_units"), count);
+        businessUnitNames = new String[count];
+        businessUnitParents = new int[count];
+        int[] depth = new int[count];
+        int[] division = new int[count];
+        int divisions = Math.min(DIVISIONS.length, count - 1);
+
+        businessUnitNames[0] = "Enterprise";
+        businessUnitParents[0] = -1;
+        for (int i = 1; i < count; i++) {
+            int parent = 0;
+            if (i > divisions) {
+                // Departments and teams under any division or department, four levels at most
+                do {
+                    parent = 1 + random.nextInt(i - 1);
+                } while (depth[parent] > 2);
+            }
+            businessUnitParents[i] = parent;
+            depth[i] = depth[parent] + 1;
+            division[i] = parent == 0 ? i - 1 : division[parent];
+            businessUnitNames[i] = parent == 0 ? DIVISIONS[i - 1]
+                    : DIVISIONS[division[i]] + " " + DEPARTMENTS[random.nextInt(DEPARTMENTS.length)] + " " + i;
+        }
+        businessUnitChildren = children(businessUnitParents);
+
+        LocalDateTime createdAt = now.minusDays(settings.historyDays() * 3L);
+        for (int i = 0; i < count; i++) {
+            rows.add(businessUnitIds[i], "BU_" + businessUnitIds[i], businessUnitNames[i], businessUnitNames[i] + " business unit",
+                    businessUnitParents[i] >= 0 ? businessUnitIds[businessUnitParents[i]] : null, true, createdAt, createdAt);
+        }
+    }
+
+    private void writeSkills(BulkWriter writer) throws SQLException {
+        BulkWriter.Table rows = writer.table("skills", "id", "code", "name", "description", "skill_category",
+                "is_active", "created_at", "updated_at");
+        skillIds = ids(nextId("skills"), settings.skills());
+        LocalDateTime createdAt = now.minusDays(settings.historyDays() * 2L);
+        for (int i = 0; i < skillIds.length; i++) {
+            String[] skill = SKILLS[i % SKILLS.length];
+            String name = numbered(skill[0], i / SKILLS.length);
+            rows.add(skillIds[i], "SKL_" + skillIds[i], name, name + " skills", skill[1], true, createdAt, createdAt);
+        }
+    }
+
+    /**
+     * One reporting tree over everybody, built breadth first so a manager always has a lower id
+     * than their reports. About one person in seven leads a team of 3 to 12.
+     */
+    private void writeUsers(BulkWriter writer) throws SQLException {
+        BulkWriter.Table rows = writer.table("users", "id", "employee_id", "email", "first_name", "last_name", "role_id",
+                "business_unit_id", "location_id", "manager_id", "job_title", "is_active", "created_at", "updated_at");
+        int count = settings.users();
+        long[] ids = ids(nextId("users"), count);
+        people = new Person[count];
+        int[] openSlots = new int[count];
+        ArrayDeque<Integer> managers = new ArrayDeque<>();
+        for (int i = 0; i < count; i++) {
+            Person person = new Person();
+            person.id = ids[i];
+            people[i] = person;
+            if (i == 0) {
+                openSlots[0] = Math.max(DIVISIONS.length, 6);
+                managers.add(0);
+                continue;
+            }
+            while (!managers.isEmpty() && openSlots[managers.peek()] == 0) {
+                managers.poll();
+            }
+            if (managers.isEmpty()) {
+                openSlots[i - 1] = 4 + random.nextInt(8);
+                managers.add(i - 1);
+            }
+            Person manager = people[managers.peek()];
+            openSlots[managers.peek()]--;
+            person.manager = managers.peek();
+            person.depth = manager.depth + 1;
+            manager.reports++;
+            if (random.nextInt(100) < 14) {
+                openSlots[i] = 3 + random.nextInt(10);
+                managers.add(i);
+            }
+        }
+
+        int[] employeeRoles = rolesOf(RoleType.EMPLOYEE);
+        int[] managerRoles = rolesOf(RoleType.MANAGER);
+        int[] leaderRoles = rolesOf(RoleType.BU_LEADER);
+        for (Person person : people) {
+            if (person.manager < 0) {
+                person.businessUnit = 0;
+                person.location = 0;
+            } else {
+                Person manager = people[person.manager];
+                int[] teams = businessUnitChildren[manager.businessUnit];
+                person.businessUnit = teams.length > 0 && (manager.businessUnit == 0 || random.nextInt(10) < 4)
+                        ? teams[random.nextInt(teams.length)] : manager.businessUnit;
+                person.location = random.nextInt(10) < 7 ? manager.location : skewed(locationIds.length, 30);
+            }
+            person.role = person.reports == 0 ? employeeRoles[skewed(employeeRoles.length, 6)]
+                    : person.depth <= 2 ? leaderRoles[random.nextInt(leaderRoles.length)]
+                    : managerRoles[random.nextInt(managerRoles.length)];
+        }
+        learningAdmins = assignStaff(RoleType.LD_ADMIN, Math.max(2, count / 4000));
+        assignStaff(RoleType.LD_LEADER, Math.max(1, count / 20_000));
+        assignStaff(RoleType.SYSTEM_ADMIN, Math.max(1, count / 40_000));
+
+        for (int i = 0; i < count; i++) {
+            Person person = people[i];
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            LocalDateTime joinedAt = now.minusDays(30 + random.nextInt(3650)).withHour(9).withMinute(0);
+            rows.add(person.id, String.format("E%07d", person.id), email(firstName, lastName, person.id, "globallearning.com"),
+                    firstName, lastName, roles.get(person.role).id(), businessUnitIds[person.businessUnit],
+                    locationIds[person.location], person.manager >= 0 ? people[person.manager].id : null,
+                    roles.get(person.role).name(), random.nextInt(100) < 98, joinedAt, joinedAt);
+        }
+
+        usersByActivity = new int[count];
+        for (int i = 0; i < count; i++) {
+            usersByActivity[i] = i;
+        }
+        shuffle(usersByActivity);
+        int[] perLocation = new int[locationIds.length];
+        for (Person person : people) {
+            perLocation[person.location]++;
+        }
+        usersByLocation = new int[locationIds.length][];
+        for (int i = 0; i < locationIds.length; i++) {
+            usersByLocation[i] = new int[perLocation[i]];
+            perLocation[i] = 0;
+        }
+        for (int index : usersByActivity) {
+            int location = people[index].location;
+            usersByLocation[location][perLocation[location]++] = index;
+        }
+    }
+
+    private void writePrograms(BulkWriter writer) throws SQLException {
+        BulkWriter.Table rows = writer.table("learning_programs", "id", "code", "name", "description", "program_type",
+                "delivery_mode", "duration_hours", "created_by", "is_mandatory", "is_active", "created_at", "updated_at");
+        BulkWriter.Table programSkills = writer.table("program_skills", "program_id", "skill_id");
+        BulkWriter.Table targetRoles = writer.table("program_target_roles", "program_id", "role_id");
+        BulkWriter.Table targetBusinessUnits = writer.table("program_target_business_units", "program_id", "business_unit_id");
+
+        int count = settings.programs();
+        long[] ids = ids(nextId("learning_programs"), count);
+        programs = new Program[count];
+        int[] employeeRoles = rolesOf(RoleType.EMPLOYEE);
+        LearningProgram.DeliveryMode[] deliveryModes = LearningProgram.DeliveryMode.values();
+        for (int i = 0; i < count; i++) {
+            Object[] topic = PROGRAM_TOPICS[i % PROGRAM_TOPICS.length];
+            LearningProgram.ProgramType type = (LearningProgram.ProgramType) topic[1];
+            int round = i / PROGRAM_TOPICS.length;
+            Program program = new Program();
+            program.id = ids[i];
+            program.name = numbered(topic[0] + " " + PROGRAM_LEVELS[round % PROGRAM_LEVELS.length], round / PROGRAM_LEVELS.length);
+            program.mandatory = type == LearningProgram.ProgramType.COMPLIANCE || random.nextInt(100) < 2;
+            program.durationHours = type == LearningProgram.ProgramType.SEMINAR ? 1 + random.nextInt(3) : 2 + random.nextInt(23);
+            if (random.nextInt(4) == 0) {
+                program.targetRoles = sample(employeeRoles, 1 + random.nextInt(3));
+            }
+            programs[i] = program;
+
+            LocalDateTime createdAt = now.minusDays(settings.historyDays() + random.nextInt(365));
+            rows.add(program.id, "LP-" + program.id, program.name,
+                    type.name().charAt(0) + type.name().substring(1).toLowerCase(Locale.ROOT).replace('_', ' ')
+                            + " program: " + program.name,
+                    type.name(), deliveryModes[random.nextInt(deliveryModes.length)].name(), program.durationHours,
+                    people[learningAdmin()].id, program.mandatory, random.nextInt(100) < 97, createdAt, createdAt);
+            for (int skill : distinct(skillIds.length, 1 + random.nextInt(4), 40)) {
+                programSkills.add(program.id, skillIds[skill]);
+            }
+            if (program.targetRoles != null) {
+                for (int role : program.targetRoles) {
+                    targetRoles.add(program.id, roles.get(role).id());
+                }
+            }
+            if (random.nextInt(100) < 15) {
+                for (int businessUnit : distinct(businessUnitIds.length, 1 + random.nextInt(2), 1)) {
+                    targetBusinessUnits.add(program.id, businessUnitIds[businessUnit]);
+                }
+            }
+        }
+
+        programsByPopularity = programs.clone();
+        for (int i = programsByPopularity.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Program swap = programsByPopularity[i];
+            programsByPopularity[i] = programsByPopularity[j];
+            programsByPopularity[j] = swap;
+        }
+        for (int rank = 0; rank < programsByPopularity.length; rank++) {
+            programsByPopularity[rank].popularityRank = rank;
+        }
+    }
+
+    /**
+     * Sessions and their booking plan. Each session's share of the bookings follows its program's
+     * popularity; shares are capped at one and a half times the seats (holders plus churn) and the
+     * demand over the cap turns into a waitlist on the now-full session.
+     */
+    private void planSessions() throws SQLException {
+        int count = settings.sessions();
+        long[] ids = ids(nextId("learning_sessions"), count);
+        sessions = new Session[count];
+        int instructors = Math.max(10, count / 25);
+        int[] employeeRoles = rolesOf(RoleType.EMPLOYEE);
+        double[] weights = new double[count];
+        double[] caps = new double[count];
+        for (int i = 0; i < count; i++) {
+            Session session = new Session();
+            session.id = ids[i];
+            session.program = programsByPopularity[skewed(programsByPopularity.length, 200)];
+            int day = random.nextInt(settings.historyDays() + settings.horizonDays() + 1) - settings.historyDays();
+            session.start = now.toLocalDate().plusDays(day).atTime(9 + random.nextInt(8), random.nextBoolean() ? 0 : 30);
+            session.end = session.start.plusHours(Math.max(1, Math.min(8, session.program.durationHours)));
+            session.createdAt = min(now.minusDays(1), session.start.minusDays(14 + random.nextInt(77)));
+            session.code = String.format("SESS-%d-%02d-%06d", session.start.getYear(), session.start.getMonthValue(), session.id);
+
+            int roll = random.nextInt(100);
+            session.status = session.end.isBefore(now) ? (roll < 4 ? SessionStatus.CANCELLED : SessionStatus.COMPLETED)
+                    : !session.start.isAfter(now) ? SessionStatus.IN_PROGRESS
+                    : roll < 3 ? SessionStatus.CANCELLED : roll < 5 ? SessionStatus.POSTPONED : SessionStatus.SCHEDULED;
+
+            session.online = random.nextInt(100) < 45;
+            // Classrooms seat 12 to 40; online sessions range from small cohorts to 1000-seat webinars
+            session.seats = session.online ? 30 + (int) (970 * Math.pow(random.nextDouble(), 3)) : 12 + random.nextInt(29);
+            session.waitlistCapacity = Math.max(5, session.seats / 4);
+            session.location = skewed(locationIds.length, 30);
+            if (!session.online && random.nextInt(4) > 0) {
+                session.targetLocations = new int[]{session.location};
+            } else if (session.online && random.nextInt(10) == 0) {
+                session.targetLocations = distinct(locationIds.length, 2 + random.nextInt(3), 30);
+            }
+            if (session.program.targetRoles != null && random.nextInt(10) < 6) {
+                session.targetRoles = session.program.targetRoles;
+            } else if (random.nextInt(5) == 0) {
+                session.targetRoles = sample(employeeRoles, 2 + random.nextInt(4));
+            }
+            int instructor = random.nextInt(instructors);
+            String firstName = FIRST_NAMES[instructor % FIRST_NAMES.length];
+            String lastName = LAST_NAMES[(instructor / FIRST_NAMES.length) % LAST_NAMES.length];
+            session.instructorName = firstName + " " + lastName;
+            session.instructorEmail = email(firstName, lastName, instructor, "training.com");
+            sessions[i] = session;
+
+            double popularity = 1.0 / (session.program.popularityRank + programs.length / 200.0);
+            weights[i] = popularity * Math.exp(0.5 * random.nextGaussian()) * (session.status == SessionStatus.CANCELLED ? 0.5 : 1);
+            caps[i] = Math.round(session.seats * 1.5);
+        }
+
+        double scale = fill(weights, caps, settings.bookings());
+        for (int i = 0; i < count; i++) {
+            Session session = sessions[i];
+            double demand = Double.isInfinite(scale) ? caps[i] + session.waitlistCapacity : scale * weights[i];
+            int bookings = (int) Math.min(caps[i], Math.round(demand));
+            int churn = (int) Math.round(bookings * (0.15 + 0.15 * random.nextDouble()));
+            int holders = Math.min(session.seats, bookings - churn);
+            int waiters = holders == session.seats && session.status != SessionStatus.CANCELLED
+                    ? (int) Math.min(session.waitlistCapacity, Math.round(demand - bookings)) : 0;
+            session.attendees = drawAttendees(session, bookings + waiters);
+            session.bookings = Math.min(bookings, session.attendees.length);
+            session.holders = Math.min(holders, session.bookings);
+        }
+    }
+
+    private void writeSessions(BulkWriter writer) throws SQLException {
+        BulkWriter.Table rows = writer.table("learning_sessions", "id", "session_code", "program_id", "location_id",
+                "start_date_time", "end_date_time", "total_seats", "available_seats", "waitlist_capacity", "status",
+                "delivery_mode", "location_scope", "target_all_roles", "instructor_name", "instructor_email",
+                "virtual_meeting_link", "room_number", "created_by", "is_active", "created_at", "updated_at");
+        BulkWriter.Table targetRoles = writer.table("session_target_roles", "session_id", "role_id");
+        BulkWriter.Table targetLocations = writer.table("session_target_locations", "session_id", "location_id");
+        for (Session session : sessions) {
+            // Attendance marking keeps the seats of past sessions taken; cancelling a session frees them all
+            int available = session.status == SessionStatus.CANCELLED ? session.seats : session.seats - session.holders;
+            rows.add(session.id, session.code, session.program.id, locationIds[session.location], session.start, session.end,
+                    session.seats, available, session.waitlistCapacity, session.status.name(),
+                    (session.online ? DeliveryMode.ONLINE : DeliveryMode.OFFLINE).name(),
+                    (session.targetLocations != null ? LocationScope.SPECIFIC_LOCATION : LocationScope.ALL_LOCATIONS).name(),
+                    session.targetRoles == null, session.instructorName, session.instructorEmail,
+                    session.online ? "https://meet.globallearning.com/" + session.code.toLowerCase(Locale.ROOT) : null,
+                    session.online ? null : "TR-" + (100 + random.nextInt(400)),
+                    people[learningAdmin()].id, session.status != SessionStatus.CANCELLED, session.createdAt, session.createdAt);
+            if (session.targetRoles != null) {
+                for (int role : session.targetRoles) {
+                    targetRoles.add(session.id, roles.get(role).id());
+                }
+            }
+            if (session.targetLocations != null) {
+                for (int location : session.targetLocations) {
+                    targetLocations.add(session.id, locationIds[location]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Distinct attendees for a session, in booking order. Fewer than wanted when the session's
+     * audience is smaller than its demand.
+     */
+    private int[] drawAttendees(Session session, int wanted) {
+        Set<Integer> attendees = new LinkedHashSet<>();
+        for (int attempt = 0; attendees.size() < wanted && attempt < wanted * 20 + 100; attempt++) {
+            attendees.add(drawAttendee(session));
+        }
+        return attendees.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // Mostly people the session is aimed at; the activity order makes some people book far more than others
+    private int drawAttendee(Session session) {
+        for (int attempt = 0; ; attempt++) {
+            int person = usersByActivity[skewed(usersByActivity.length, 20)];
+            if (session.targetLocations != null && random.nextInt(10) < 9) {
+                int[] local = usersByLocation[session.targetLocations[random.nextInt(session.targetLocations.length)]];
+                if (local.length > 0) {
+                    person = local[skewed(local.length, 20)];
+                }
+            }
+            if (session.targetRoles == null || attempt >= 5 || contains(session.targetRoles, people[person].role)) {
+                return person;
+            }
+        }
+    }
+
+    /**
+     * Multiplier m with sum(min(cap, m * weight)) = target, or infinity when the caps add up to less
+     */
+    private static double fill(double[] weights, double[] caps, long target) {
+        double capacity = 0;
+        for (double cap : caps) {
+            capacity += cap;
+        }
+        if (capacity <= target) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double low = 0;
+        double high = 1;
+        while (filled(weights, caps, high) < target) {
+            high *= 2;
+        }
+        for (int i = 0; i < 60; i++) {
+            double middle = (low + high) / 2;
+            if (filled(weights, caps, middle) < target) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return high;
+    }
+
+    private static double filled(double[] weights, double[] caps, double multiplier) {
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += Math.min(caps[i], multiplier * weights[i]);
+        }
+        return total;
+    }
+
+    private int[] assignStaff(RoleType type, int count) {
+        int role = rolesOf(type)[0];
+        int[] staff = new int[count];
+        for (int assigned = 0; assigned < count; ) {
+            int candidate = 1 + random.nextInt(people.length - 1);
+            if (people[candidate].reports == 0 && roles.get(people[candidate].role).type() == RoleType.EMPLOYEE) {
+                people[candidate].role = role;
+                staff[assigned++] = candidate;
+            }
+        }
+        return staff;
+    }
+
+    int learningAdmin() {
+        return learningAdmins[random.nextInt(learningAdmins.length)];
+    }
+
+    /**
+     * Log-uniform index in [0, n): index 0 is drawn about `spread` times as often as index n - 1
+     */
+    int skewed(int n, double spread) {
+        double offset = n / spread;
+        int index = (int) (offset * Math.pow((n + offset) / offset, random.nextDouble()) - offset);
+        return Math.min(n - 1, index);
+    }
+
+    private int[] distinct(int n, int count, double spread) {
+        Set<Integer> picked = new LinkedHashSet<>();
+        while (picked.size() < Math.min(count, n)) {
+            picked.add(skewed(n, spread));
+        }
+        return picked.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private int[] sample(int[] values, int count) {
+        int[] indexes = distinct(values.length, count, 1);
+        int[] sample = new int[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            sample[i] = values[indexes[i]];
+        }
+        return sample;
+    }
+
+    private void shuffle(int[] values) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+
+    private int[] rolesOf(RoleType type) {
+        return IntStream.range(0, roles.size()).filter(i -> roles.get(i).type() == type).toArray();
+    }
+
+    private static int[][] children(int[] parents) {
+        int[] counts = new int[parents.length];
+        for (int parent : parents) {
+            if (parent >= 0) {
+                counts[parent]++;
+            }
+        }
+        int[][] children = new int[parents.length][];
+        for (int i = 0; i < parents.length; i++) {
+            children[i] = new int[counts[i]];
+            counts[i] = 0;
+        }
+        for (int i = 0; i < parents.length; i++) {
+            if (parents[i] >= 0) {
+                children[parents[i]][counts[parents[i]]++] = i;
+            }
+        }
+        return children;
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int candidate : values) {
+            if (candidate == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long[] ids(long after, int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = after + i + 1;
+        }
+        return ids;
+    }
+
+    private static String numbered(String name, int round) {
+        return round == 0 ? name : name + " " + (round + 1);
+    }
+
+    private static String snakeCase(String name) {
+        return name.toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]+", "_");
+    }
+
+    static String email(String firstName, String lastName, long number, String domain) {
+        return (firstName + "." + lastName).toLowerCase(Locale.ROOT).replaceAll("[^a-z.]", "") + "." + number + "@" + domain;
+    }
+
+    static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private long nextId(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            result.next();
+            return result.getLong(1);
+        } catch (SQLException e) {
+            throw new SQLException("Cannot read " + table + " - create the schema by starting the application against "
+                    + "this database once (spring.jpa.hibernate.ddl-auto=update)", e);
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
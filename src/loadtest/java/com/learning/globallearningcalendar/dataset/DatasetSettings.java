@@ -0,0 +1,51 @@
+package com.learning.globallearningcalendar.dataset;
+
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.core.env.PropertySourcesPropertyResolver;
+
+import java.util.Map;
+
+/**
+ * Dataset size and shape, read from dataset.* properties. dataset.scale=1 is production size
+ * (80k users, 15k sessions, 2.5M bookings); every count can also be set on its own, e.g.
+ * --dataset.scale=0.1 --dataset.bookings=1000000.
+ */
+public record DatasetSettings(double scale, int businessUnits, int locations, int skills, int programs, int users,
+                              int sessions, long bookings, int historyDays, int horizonDays, long seed,
+                              int rowsPerStatement) {
+
+    public static DatasetSettings from(PropertyResolver env) {
+        double scale = env.getProperty("dataset.scale", Double.class, 1.0);
+        if (scale <= 0) {
+            throw new IllegalArgumentException("dataset.scale must be greater than 0");
+        }
+        return new DatasetSettings(
+                scale,
+                env.getProperty("dataset.business-units", Integer.class, scaled(350, scale, 8)),
+                env.getProperty("dataset.locations", Integer.class, scaled(120, scale, 4)),
+                env.getProperty("dataset.skills", Integer.class, scaled(600, scale, 20)),
+                env.getProperty("dataset.programs", Integer.class, scaled(2500, scale, 10)),
+                env.getProperty("dataset.users", Integer.class, scaled(80_000, scale, 50)),
+                env.getProperty("dataset.sessions", Integer.class, scaled(15_000, scale, 20)),
+                env.getProperty("dataset.bookings", Long.class, (long) scaled(2_500_000, scale, 100)),
+                env.getProperty("dataset.history-days", Integer.class, 365),
+                env.getProperty("dataset.horizon-days", Integer.class, 120),
+                env.getProperty("dataset.seed", Long.class, 42L),
+                env.getProperty("dataset.rows-per-statement", Integer.class, 1000));
+    }
+
+    /**
+     * Settings at the given scale with every other value at its default
+     */
+    public static DatasetSettings ofScale(double scale) {
+        MutablePropertySources sources = new MutablePropertySources();
+        sources.addFirst(new MapPropertySource("dataset", Map.of("dataset.scale", scale)));
+        return from(new PropertySourcesPropertyResolver(sources));
+    }
+
+    private static int scaled(int productionCount, double scale, int minimum) {
+        return (int) Math.max(minimum, Math.round(productionCount * scale));
+    }
+}
@@ -0,0 +1,310 @@
+package com.learning.globallearningcalendar.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.globallearningcalendar.GlobalLearningCalendarApplication;
+import com.learning.globallearningcalendar.loadtest.LoadTestSettings.Operation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registration-day load test. Boots the application on a random port against an in-memory H2
+ * database in MySQL mode, seeds users and scarce sessions, then lets every virtual user loop
+ * over a weighted mix of booking calls until the run ends:
+ *
+ * - create: book a session (a full session puts the user on its waitlist)
+ * - seat-select: read the session's booked seats and book a free one
+ * - approve: the user's manager confirms one of the user's pending bookings
+ * - cancel: cancel one of the user's bookings, which promotes waiters in the background
+ * - waitlist-join: join a session's waitlist directly
+ *
+ * Sessions are picked with a skew towards the first few, so most traffic contends for the same
+ * seats. Once background waitlist processing has drained, the seat and waitlist invariants are
+ * checked in the database, and a few read paths are held to SQL statement budgets
+ * ({@link StatementBudgets}). The process exits with 1 when any invariant is violated or any budget
+ * is exceeded.
+ *
+ * With loadtest.dataset-scale above 0 the scenario runs on top of a production-shaped dataset
+ * from {@link com.learning.globallearningcalendar.dataset.DatasetGenerator}, so queries see
+ * realistic table sizes.
+ *
+ * Run with: mvn -Ploadtest verify [-Dloadtest.args="--loadtest.virtual-users=5000 --loadtest.duration-seconds=120"]
+ */
+public final class BookingLoadTest {
+
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {
+    };
+    private static final TypeReference<List<Integer>> JSON_INTEGERS = new TypeReference<>() {
+    };
+    private static final Set<String> CANCELLABLE = Set.of("CONFIRMED", "PENDING_APPROVAL");
+
+    private final LoadTestSettings settings;
+    private final LoadTestData.Seeded data;
+    private final String baseUrl;
+    private final LoadTestReport report = new LoadTestReport();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+
+    private BookingLoadTest(LoadTestSettings settings, LoadTestData.Seeded data, String baseUrl) {
+        this.settings = settings;
+        this.data = data;
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(settings.requestTimeoutMs()))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(GlobalLearningCalendarApplication.class)
+                .profiles("loadtest")
+                .run(args);
+        int exitCode;
+        try {
+            LoadTestSettings settings = LoadTestSettings.from(context.getEnvironment());
+            if (settings.datasetScale() > 0) {
+                LoadTestData.generateBackground(context, settings.datasetScale());
+            }
+            LoadTestData.Seeded data = LoadTestData.seed(context, settings);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getRequiredProperty("local.server.port");
+
+            BookingLoadTest loadTest = new BookingLoadTest(settings, data, baseUrl);
+            loadTest.run();
+            awaitWaitlistProcessing(context.getBean(MeterRegistry.class));
+
+            List<String> violations = InvariantChecks.verify(context.getBean(JdbcTemplate.class));
+            List<String> budgetViolations = StatementBudgets.verify(context, data);
+            loadTest.report.print(System.out, violations, budgetViolations);
+            loadTest.report.writeJson(settings.reportFile(), settings, violations, budgetViolations);
+            System.out.println("Report written to " + settings.reportFile());
+            exitCode = violations.isEmpty() && budgetViolations.isEmpty() ? 0 : 1;
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private void run() throws InterruptedException {
+        int virtualUsers = settings.virtualUsers();
+        ExecutorService pool = Executors.newFixedThreadPool(virtualUsers, runnable -> {
+            Thread thread = new Thread(runnable, "virtual-user");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CountDownLatch done = new CountDownLatch(virtualUsers);
+        long rampUpNanos = TimeUnit.SECONDS.toNanos(settings.rampUpSeconds());
+        report.started();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(settings.durationSeconds());
+        System.out.printf("Running %d virtual users for %d s against %s%n", virtualUsers, settings.durationSeconds(), baseUrl);
+        for (int i = 0; i < virtualUsers; i++) {
+            long startDelayNanos = rampUpNanos * i / virtualUsers;
+            int index = i;
+            pool.execute(() -> {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(startDelayNanos);
+                    new VirtualUser(index).loop(deadline);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        report.finished();
+        pool.shutdownNow();
+    }
+
+    // Pending cancellation and seat promotion run on the waitlist pool; let it finish before checking
+    private static void awaitWaitlistProcessing(MeterRegistry registry) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (System.nanoTime() < deadline) {
+            Gauge pending = registry.find("waitlist.processing.pending").gauge();
+            if (pending == null || pending.value() == 0) {
+                return;
+            }
+            Thread.sleep(200);
+        }
+        System.out.println("Waitlist processing still busy after 60 s - checking invariants anyway");
+    }
+
+    private final class VirtualUser {
+        private final Long userId;
+        private final Long managerId;
+        // Bookings this user holds, with their last known status
+        private final Map<Long, String> bookings = new HashMap<>();
+
+        private VirtualUser(int index) {
+            this.userId = data.userIds().get(index);
+            int managerCount = data.managerIds().size();
+            this.managerId = index < managerCount ? null : data.managerIds().get(index % managerCount);
+        }
+
+        private void loop(long deadline) throws InterruptedException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < deadline) {
+                Operation operation = settings.operationAt(random.nextInt(settings.totalWeight()));
+                switch (operation) {
+                    case CREATE -> create(randomSession(), null);
+                    case SEAT_SELECT -> selectSeat();
+                    case APPROVE -> approve();
+                    case CANCEL -> cancel();
+                    case WAITLIST_JOIN -> joinWaitlist();
+                }
+                if (settings.thinkTimeMs() > 0) {
+                    Thread.sleep(random.nextLong(settings.thinkTimeMs() * 2 + 1));
+                }
+            }
+        }
+
+        private void create(Long sessionId, Integer seatNumber) {
+            Map<String, Object> body = new HashMap<>();
+            body.put("userId", userId);
+            body.put("sessionId", sessionId);
+            if (seatNumber != null) {
+                body.put("seatNumber", seatNumber);
+            }
+            Map<String, Object> created = sendForObject("POST /api/v1/bookings", post("/api/v1/bookings", body));
+            if (created != null && created.get("id") != null) {
+                bookings.put(((Number) created.get("id")).longValue(), String.valueOf(created.get("status")));
+            }
+        }
+
+        private void selectSeat() {
+            Long sessionId = randomSession();
+            String body = send("GET /api/v1/bookings/session/{sessionId}/booked-seats",
+                    get("/api/v1/bookings/session/" + sessionId + "/booked-seats"));
+            if (body == null) {
+                return;
+            }
+            List<Integer> taken = parse(body, JSON_INTEGERS);
+            List<Integer> free = new ArrayList<>();
+            for (int seat = 1; seat <= settings.seatsPerSession(); seat++) {
+                if (taken == null || !taken.contains(seat)) {
+                    free.add(seat);
+                }
+            }
+            if (!free.isEmpty()) {
+                create(sessionId, free.get(ThreadLocalRandom.current().nextInt(free.size())));
+            }
+        }
+
+        private void approve() {
+            Long bookingId = bookingWithStatus(Set.of("PENDING_APPROVAL"));
+            if (bookingId == null || managerId == null) {
+                create(randomSession(), null);
+                return;
+            }
+            Map<String, Object> confirmed = sendForObject("POST /api/v1/bookings/{id}/confirm",
+                    post("/api/v1/bookings/" + bookingId + "/confirm?approvedById=" + managerId, null));
+            if (confirmed != null) {
+                bookings.put(bookingId, String.valueOf(confirmed.get("status")));
+            }
+        }
+
+        private void cancel() {
+            Long bookingId = bookingWithStatus(CANCELLABLE);
+            if (bookingId == null) {
+                create(randomSession(), null);
+                return;
+            }
+            Map<String, Object> cancelled = sendForObject("POST /api/v1/bookings/{id}/cancel",
+                    post("/api/v1/bookings/" + bookingId + "/cancel?cancellationReason=load-test", null));
+            if (cancelled != null) {
+                bookings.remove(bookingId);
+            }
+        }
+
+        private void joinWaitlist() {
+            send("POST /api/v1/waitlist/join", post("/api/v1/waitlist/join",
+                    Map.of("sessionId", randomSession(), "userId", userId)));
+        }
+
+        private Long bookingWithStatus(Set<String> statuses) {
+            return bookings.entrySet().stream()
+                    .filter(entry -> statuses.contains(entry.getValue()))
+                    .map(Map.Entry::getKey)
+                    .findAny()
+                    .orElse(null);
+        }
+    }
+
+    // Quadratic skew: the first tenth of the sessions draws about a third of the traffic
+    private Long randomSession() {
+        double draw = ThreadLocalRandom.current().nextDouble();
+        List<Long> sessionIds = data.sessionIds();
+        return sessionIds.get((int) (sessionIds.size() * draw * draw));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofMillis(settings.requestTimeoutMs()))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, Object body) {
+        String json;
+        try {
+            json = body != null ? objectMapper.writeValueAsString(body) : "";
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofMillis(settings.requestTimeoutMs()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    /**
+     * Send the request and record it under the endpoint name; returns the body of a 2xx response, else null
+     */
+    private String send(String endpoint, HttpRequest request) {
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            report.record(endpoint, response.statusCode(), TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+            return response.statusCode() / 100 == 2 ? response.body() : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            report.record(endpoint, -1, 0);
+            return null;
+        }
+    }
+
+    private Map<String, Object> sendForObject(String endpoint, HttpRequest request) {
+        String body = send(endpoint, request);
+        return body != null ? parse(body, JSON_OBJECT) : null;
+    }
+
+    private <T> T parse(String body, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
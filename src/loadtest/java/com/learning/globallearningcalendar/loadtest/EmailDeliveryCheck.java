@@ -0,0 +1,233 @@
+package com.learning.globallearningcalendar.loadtest;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import com.learning.globallearningcalendar.GlobalLearningCalendarApplication;
+import com.learning.globallearningcalendar.entity.EmailDeadLetter;
+import com.learning.globallearningcalendar.service.EmailDeliveryService;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Email delivery check against GreenMail, a local SMTP stand-in. Boots the application with the
+ * loadtest profile and email enabled, then checks that:
+ *
+ * - batching: a burst of messages is delivered completely, in batches of more than one message
+ *   and at most notifications.email.batch-size, each batch one JavaMailSender.send call
+ * - retry: messages that fail while the SMTP server is down are retried with backoff and
+ *   delivered once it is back, without being dead-lettered
+ * - dead letters: messages still failing after notifications.email.max-attempts are stored, and
+ *   are delivered once re-queued
+ *
+ * The process exits with 1 when any check fails.
+ *
+ * Run with: mvn -Ploadtest verify (after the load test), or on its own with
+ * mvn -Ploadtest compile exec:exec@email-delivery-check
+ */
+public final class EmailDeliveryCheck {
+
+    private static final int BATCH_SIZE = 20;
+    private static final int MAX_ATTEMPTS = 6;
+    private static final long RETRY_BACKOFF_MS = 250;
+    private static final long TIMEOUT_MS = 30_000;
+
+    private final EmailDeliveryService emailDeliveryService;
+    private final Queue<Integer> batchSizes;
+    private final ServerSetup smtp;
+    private final List<String> failures = new ArrayList<>();
+    private GreenMail greenMail;
+
+    private EmailDeliveryCheck(EmailDeliveryService emailDeliveryService, Queue<Integer> batchSizes, ServerSetup smtp) {
+        this.emailDeliveryService = emailDeliveryService;
+        this.batchSizes = batchSizes;
+        this.smtp = smtp;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ServerSetup smtp = new ServerSetup(freePort(), "127.0.0.1", ServerSetup.PROTOCOL_SMTP);
+        GreenMail greenMail = new GreenMail(smtp);
+        greenMail.start();
+
+        Queue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
+        String[] settings = {
+                "--notifications.email.enabled=true",
+                "--spring.mail.host=127.0.0.1",
+                "--spring.mail.port=" + smtp.getPort(),
+                "--notifications.email.batch-size=" + BATCH_SIZE,
+                "--notifications.email.max-attempts=" + MAX_ATTEMPTS,
+                "--notifications.email.retry-backoff-ms=" + RETRY_BACKOFF_MS,
+                "--notifications.email.per-recipient-per-minute=1000"
+        };
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(GlobalLearningCalendarApplication.class)
+                .profiles("loadtest")
+                .initializers(applicationContext -> applicationContext.getBeanFactory()
+                        .addBeanPostProcessor(countingBatches(batchSizes)))
+                .run(Stream.concat(Stream.of(settings), Stream.of(args)).toArray(String[]::new));
+
+        EmailDeliveryCheck check = new EmailDeliveryCheck(context.getBean(EmailDeliveryService.class), batchSizes, smtp);
+        check.greenMail = greenMail;
+        int exitCode;
+        try {
+            check.batching();
+            check.retry();
+            check.deadLetters();
+            check.failures.forEach(failure -> System.out.println("  - " + failure));
+            System.out.println(check.failures.isEmpty() ? "Email delivery: all checks passed" : "Email delivery checks failed");
+            exitCode = check.failures.isEmpty() ? 0 : 1;
+        } finally {
+            context.close();
+            check.greenMail.stop();
+        }
+        System.exit(exitCode);
+    }
+
+    private void batching() {
+        int messages = BATCH_SIZE * 10;
+        batchSizes.clear();
+        for (int i = 0; i < messages; i++) {
+            emailDeliveryService.enqueue("batch-" + i + "@emailcheck.local", "Batch " + i, "Batching check");
+        }
+        if (!greenMail.waitForIncomingEmail(TIMEOUT_MS, messages)) {
+            failures.add(String.format("batching: %d of %d messages delivered", received(), messages));
+            return;
+        }
+        int sends = batchSizes.size();
+        int largest = batchSizes.stream().mapToInt(Integer::intValue).max().orElse(0);
+        System.out.printf("Batching: %d messages in %d sends, largest batch %d%n", messages, sends, largest);
+        if (largest <= 1 || largest > BATCH_SIZE) {
+            failures.add(String.format("batching: largest batch was %d, expected 2..%d", largest, BATCH_SIZE));
+        }
+        if (batchSizes.stream().mapToInt(Integer::intValue).sum() != messages) {
+            failures.add("batching: messages were sent more than once or not through a batch send");
+        }
+    }
+
+    private void retry() {
+        int messages = 10;
+        long retriedBefore = statistic("retried");
+        long deadLetteredBefore = statistic("deadLettered");
+        greenMail.stop();
+        for (int i = 0; i < messages; i++) {
+            emailDeliveryService.enqueue("retry-" + i + "@emailcheck.local", "Retry " + i, "Retry check");
+        }
+        // Every message has failed once before the server comes back
+        if (!await(() -> statistic("retried") - retriedBefore >= messages)) {
+            failures.add(String.format("retry: only %d of %d failed messages were scheduled for retry",
+                    statistic("retried") - retriedBefore, messages));
+        }
+        restartSmtp();
+        if (!greenMail.waitForIncomingEmail(TIMEOUT_MS, messages)) {
+            failures.add(String.format("retry: %d of %d messages delivered after the SMTP server came back", received(), messages));
+        }
+        if (statistic("deadLettered") != deadLetteredBefore) {
+            failures.add("retry: messages were dead-lettered although the server came back within the retry window");
+        }
+        System.out.printf("Retry: %d messages delivered after %d retries%n", received(), statistic("retried") - retriedBefore);
+    }
+
+    private void deadLetters() {
+        int messages = 5;
+        long deadLetteredBefore = statistic("deadLettered");
+        greenMail.stop();
+        for (int i = 0; i < messages; i++) {
+            emailDeliveryService.enqueue("dead-" + i + "@emailcheck.local", "Dead letter " + i, "Dead-letter check");
+        }
+        if (!await(() -> statistic("deadLettered") - deadLetteredBefore >= messages)) {
+            failures.add(String.format("dead letters: %d of %d messages dead-lettered after %d attempts",
+                    statistic("deadLettered") - deadLetteredBefore, messages, MAX_ATTEMPTS));
+            restartSmtp();
+            return;
+        }
+        List<Long> ids = emailDeliveryService.getDeadLetters().stream()
+                .filter(deadLetter -> deadLetter.getRecipient().startsWith("dead-"))
+                .map(EmailDeadLetter::getId)
+                .toList();
+        if (ids.size() != messages) {
+            failures.add(String.format("dead letters: %d of %d messages stored", ids.size(), messages));
+        }
+
+        restartSmtp();
+        int requeued = emailDeliveryService.requeueDeadLetters(ids);
+        if (!greenMail.waitForIncomingEmail(TIMEOUT_MS, requeued) || requeued != ids.size()) {
+            failures.add(String.format("dead letters: %d requeued, %d delivered", requeued, received()));
+        }
+        System.out.printf("Dead letters: %d stored after %d attempts, %d delivered once re-queued%n",
+                ids.size(), MAX_ATTEMPTS, received());
+    }
+
+    private void restartSmtp() {
+        greenMail = new GreenMail(smtp);
+        greenMail.start();
+    }
+
+    private int received() {
+        return greenMail.getReceivedMessages().length;
+    }
+
+    private long statistic(String name) {
+        return emailDeliveryService.getStatistics().getOrDefault(name, 0L);
+    }
+
+    private static boolean await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Wraps the application's JavaMailSender to record the size of every batch send
+     */
+    private static BeanPostProcessor countingBatches(Queue<Integer> batchSizes) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof JavaMailSender mailSender)) {
+                    return bean;
+                }
+                return Proxy.newProxyInstance(JavaMailSender.class.getClassLoader(), new Class<?>[]{JavaMailSender.class},
+                        (proxy, method, methodArgs) -> {
+                            if (method.getName().equals("send") && methodArgs != null && methodArgs.length == 1
+                                    && methodArgs[0] instanceof SimpleMailMessage[] batch) {
+                                batchSizes.add(batch.length);
+                            }
+                            try {
+                                return method.invoke(mailSender, methodArgs);
+                            } catch (InvocationTargetException e) {
+                                // Failed sends must reach the delivery service as thrown, e.g. MailSendException
+                                throw e.getCause();
+                            }
+                        });
+            }
+        };
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.learning.globallearningcalendar.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consistency checks run against the database once the load has stopped and background waitlist
+ * processing has drained. Each returns one message per offending session.
+ */
+final class InvariantChecks {
+
+    // Statuses that hold a seat: taken when the booking is created, released on cancel or reject
+    private static final String SEAT_HOLDING = "('CONFIRMED', 'PENDING_APPROVAL', 'PENDING_CANCELLATION')";
+
+    private InvariantChecks() {
+    }
+
+    static List<String> verify(JdbcTemplate jdbc) {
+        List<String> violations = new ArrayList<>();
+
+        jdbc.query("SELECT ls.id, ls.total_seats, COUNT(b.id) FROM learning_sessions ls " +
+                "LEFT JOIN bookings b ON b.session_id = ls.id AND b.status IN " + SEAT_HOLDING + " " +
+                "GROUP BY ls.id, ls.total_seats HAVING COUNT(b.id) > ls.total_seats", row -> {
+            violations.add(String.format("Session %d oversold: %d seat-holding bookings for %d seats",
+                    row.getLong(1), row.getLong(3), row.getLong(2)));
+        });
+
+        // Marking attendance moves bookings to COMPLETED / NO_SHOW without freeing their seats
+        jdbc.query("SELECT ls.id, ls.total_seats, ls.available_seats, COUNT(b.id) FROM learning_sessions ls " +
+                "LEFT JOIN bookings b ON b.session_id = ls.id AND b.status IN " + SEAT_HOLDING + " " +
+                "WHERE ls.status <> 'COMPLETED' " +
+                "GROUP BY ls.id, ls.total_seats, ls.available_seats " +
+                "HAVING ls.available_seats <> ls.total_seats - COUNT(b.id)", row -> {
+            violations.add(String.format("Session %d availableSeats is %d but %d of %d seats are held",
+                    row.getLong(1), row.getLong(3), row.getLong(4), row.getLong(2)));
+        });
+
+        jdbc.query("SELECT session_id, seat_number, COUNT(*) FROM bookings " +
+                "WHERE seat_number IS NOT NULL AND status IN " + SEAT_HOLDING + " " +
+                "GROUP BY session_id, seat_number HAVING COUNT(*) > 1", row -> {
+            violations.add(String.format("Session %d seat %d held by %d bookings",
+                    row.getLong(1), row.getLong(2), row.getLong(3)));
+        });
+
+        jdbc.query("SELECT session_id, position, COUNT(*) FROM waitlist " +
+                "GROUP BY session_id, position HAVING COUNT(*) > 1", row -> {
+            violations.add(String.format("Session %d waitlist position %d used by %d entries",
+                    row.getLong(1), row.getLong(2), row.getLong(3)));
+        });
+
+        return violations;
+    }
+}
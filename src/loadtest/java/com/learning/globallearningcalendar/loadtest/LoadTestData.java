@@ -0,0 +1,136 @@
+package com.learning.globallearningcalendar.loadtest;
+
+import com.learning.globallearningcalendar.dataset.DatasetGenerator;
+import com.learning.globallearningcalendar.dataset.DatasetSettings;
+import com.learning.globallearningcalendar.entity.*;
+import com.learning.globallearningcalendar.repository.*;
+import com.learning.globallearningcalendar.service.impl.BookingMetrics;
+import com.learning.globallearningcalendar.service.impl.LearningStatistics;
+import com.learning.globallearningcalendar.service.impl.ReferenceData;
+import com.learning.globallearningcalendar.service.impl.ReportingHierarchy;
+import com.learning.globallearningcalendar.service.impl.SearchIndexes;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Seeds the registration-day scenario: one user per virtual user (one in 20 of them managers of
+ * the rest) and a set of scarce sessions open to every role and location, all starting next week.
+ */
+final class LoadTestData {
+
+    record Seeded(List<Long> userIds, List<Long> managerIds, List<Long> sessionIds) {
+    }
+
+    private LoadTestData() {
+    }
+
+    /**
+     * Write a production-shaped dataset at the given scale, then rebuild what the application
+     * derived at startup from the (then empty) tables
+     */
+    static void generateBackground(ApplicationContext context, double scale) throws SQLException {
+        long startedAt = System.nanoTime();
+        Map<String, Long> rows = DatasetGenerator.generate(context.getBean(DataSource.class), DatasetSettings.ofScale(scale));
+        System.out.printf("Generated background dataset at scale %s in %d s: %s%n", scale,
+                (System.nanoTime() - startedAt) / 1_000_000_000L, rows);
+        context.getBean(ReportingHierarchy.class).rebuild();
+        context.getBean(LearningStatistics.class).rebuild();
+        context.getBean(SearchIndexes.class).load();
+    }
+
+    static Seeded seed(ApplicationContext context, LoadTestSettings settings) {
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        Seeded seeded = transaction.execute(status -> {
+            Role employeeRole = context.getBean(RoleRepository.class).save(role("EMPLOYEE", Role.RoleType.EMPLOYEE));
+            Role managerRole = context.getBean(RoleRepository.class).save(role("MANAGER", Role.RoleType.MANAGER));
+
+            Location location = new Location();
+            location.setName("Load Test Campus");
+            location.setCity("Bengaluru");
+            location.setCountry("India");
+            location = context.getBean(LocationRepository.class).save(location);
+
+            BusinessUnit businessUnit = new BusinessUnit();
+            businessUnit.setCode("LOAD");
+            businessUnit.setName("Load Test");
+            businessUnit = context.getBean(BusinessUnitRepository.class).save(businessUnit);
+
+            LearningProgram program = new LearningProgram();
+            program.setCode("LOAD-101");
+            program.setName("Registration Day");
+            program.setProgramType(LearningProgram.ProgramType.TECHNICAL);
+            program = context.getBean(LearningProgramRepository.class).save(program);
+
+            UserRepository userRepository = context.getBean(UserRepository.class);
+            int managerCount = Math.max(1, settings.virtualUsers() / 20);
+            List<User> managers = new ArrayList<>();
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < settings.virtualUsers(); i++) {
+                User user = new User();
+                user.setEmployeeId("LT" + i);
+                user.setEmail("lt" + i + "@loadtest.local");
+                user.setFirstName("Load");
+                user.setLastName("User" + i);
+                user.setBusinessUnit(businessUnit);
+                user.setLocation(location);
+                if (i < managerCount) {
+                    user.setRole(managerRole);
+                    managers.add(user);
+                } else {
+                    user.setRole(employeeRole);
+                    user.setManager(managers.get(i % managerCount));
+                }
+                users.add(user);
+            }
+            userRepository.saveAll(users);
+
+            LearningSessionRepository sessionRepository = context.getBean(LearningSessionRepository.class);
+            LocalDateTime start = LocalDateTime.now().plusDays(7).withHour(9).withMinute(0).withSecond(0).withNano(0);
+            List<LearningSession> sessions = new ArrayList<>();
+            for (int i = 0; i < settings.sessions(); i++) {
+                LearningSession session = new LearningSession();
+                session.setSessionCode("LT-SES-" + i);
+                session.setLearningProgram(program);
+                session.setLocation(location);
+                session.setStartDateTime(start.plusHours(i % 8));
+                session.setEndDateTime(start.plusHours(i % 8 + 1));
+                session.setTotalSeats(settings.seatsPerSession());
+                session.setAvailableSeats(settings.seatsPerSession());
+                session.setWaitlistCapacity(settings.seatsPerSession() * 4);
+                session.setStatus(LearningSession.SessionStatus.SCHEDULED);
+                session.setDeliveryMode(DeliveryMode.ONLINE);
+                session.setLocationScope(LocationScope.ALL_LOCATIONS);
+                session.setTargetAllRoles(true);
+                sessions.add(session);
+            }
+            sessionRepository.saveAll(sessions);
+
+            return new Seeded(
+                    users.stream().map(User::getId).toList(),
+                    managers.stream().map(User::getId).toList(),
+                    sessions.stream().map(LearningSession::getId).toList());
+        });
+        // The users were saved directly, so their reporting paths are derived here; reference data and
+        // metric counts were loaded at startup, before any of the rows above existed
+        context.getBean(ReportingHierarchy.class).rebuild();
+        context.getBean(ReferenceData.class).reload();
+        context.getBean(BookingMetrics.class).refresh();
+        return seeded;
+    }
+
+    private static Role role(String code, Role.RoleType type) {
+        Role role = new Role();
+        role.setCode(code);
+        role.setName(code.charAt(0) + code.substring(1).toLowerCase());
+        role.setRoleType(type);
+        return role;
+    }
+}
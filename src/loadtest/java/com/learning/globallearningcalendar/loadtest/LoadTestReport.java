@@ -0,0 +1,129 @@
+package com.learning.globallearningcalendar.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint outcome counts and latency histograms, printed as a table and written as JSON.
+ * Non-2xx responses are expected on registration day (full sessions, duplicate bookings) and are
+ * reported separately from transport errors.
+ */
+final class LoadTestReport {
+
+    static final class EndpointStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder ok = new LongAdder();
+        final LongAdder clientErrors = new LongAdder();
+        final LongAdder serverErrors = new LongAdder();
+        final LongAdder transportErrors = new LongAdder();
+    }
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private long startedAtNanos;
+    private long finishedAtNanos;
+
+    void started() {
+        startedAtNanos = System.nanoTime();
+    }
+
+    void finished() {
+        finishedAtNanos = System.nanoTime();
+    }
+
+    /**
+     * status is the HTTP status, or -1 when the request never got a response
+     */
+    void record(String endpoint, int status, long micros) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, key -> new EndpointStats());
+        if (status < 0) {
+            stats.transportErrors.increment();
+            return;
+        }
+        stats.latency.record(micros);
+        if (status < 400) {
+            stats.ok.increment();
+        } else if (status < 500) {
+            stats.clientErrors.increment();
+        } else {
+            stats.serverErrors.increment();
+        }
+    }
+
+    private double elapsedSeconds() {
+        return Math.max(finishedAtNanos - startedAtNanos, 1) / 1e9;
+    }
+
+    void print(PrintStream out, List<String> violations, List<String> budgetViolations) {
+        out.printf("%n%-48s %9s %9s %9s %9s %7s %10s %9s %9s %9s %9s%n", "endpoint", "requests", "2xx/3xx", "4xx",
+                "5xx", "io-err", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        endpoints.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            EndpointStats stats = entry.getValue();
+            long requests = stats.latency.count() + stats.transportErrors.sum();
+            out.printf("%-48s %9d %9d %9d %9d %7d %10.1f %9.1f %9.1f %9.1f %9.1f%n", entry.getKey(), requests,
+                    stats.ok.sum(), stats.clientErrors.sum(), stats.serverErrors.sum(), stats.transportErrors.sum(),
+                    requests / elapsedSeconds(), millis(stats.latency.percentile(0.50)),
+                    millis(stats.latency.percentile(0.99)), millis(stats.latency.percentile(0.999)),
+                    millis(stats.latency.max()));
+        });
+        out.printf("%nDuration %.1f s%n", elapsedSeconds());
+        if (violations.isEmpty()) {
+            out.println("Invariants: all hold");
+        } else {
+            out.println("Invariants violated:");
+            violations.forEach(violation -> out.println("  - " + violation));
+        }
+        if (budgetViolations.isEmpty()) {
+            out.println("SQL statement budgets: all met");
+        } else {
+            out.println("SQL statement budgets exceeded:");
+            budgetViolations.forEach(violation -> out.println("  - " + violation));
+        }
+    }
+
+    void writeJson(String path, LoadTestSettings settings, List<String> violations,
+                   List<String> budgetViolations) throws IOException {
+        Map<String, Object> endpointResults = new LinkedHashMap<>();
+        endpoints.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            EndpointStats stats = entry.getValue();
+            long requests = stats.latency.count() + stats.transportErrors.sum();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("requests", requests);
+            result.put("ok", stats.ok.sum());
+            result.put("clientErrors", stats.clientErrors.sum());
+            result.put("serverErrors", stats.serverErrors.sum());
+            result.put("transportErrors", stats.transportErrors.sum());
+            result.put("throughputPerSecond", requests / elapsedSeconds());
+            result.put("p50Ms", millis(stats.latency.percentile(0.50)));
+            result.put("p99Ms", millis(stats.latency.percentile(0.99)));
+            result.put("p999Ms", millis(stats.latency.percentile(0.999)));
+            result.put("maxMs", millis(stats.latency.max()));
+            endpointResults.put(entry.getKey(), result);
+        });
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("durationSeconds", elapsedSeconds());
+        report.put("endpoints", endpointResults);
+        report.put("invariantViolations", new ArrayList<>(violations));
+        report.put("statementBudgetViolations", new ArrayList<>(budgetViolations));
+
+        File file = new File(path);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,67 @@
+package com.learning.globallearningcalendar.loadtest;
+
+import org.springframework.core.env.Environment;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test knobs, read from loadtest.* properties (application-loadtest.properties, overridable
+ * on the command line, e.g. --loadtest.virtual-users=5000).
+ */
+record LoadTestSettings(int virtualUsers, int durationSeconds, int rampUpSeconds, int sessions, int seatsPerSession,
+                        long thinkTimeMs, long requestTimeoutMs, Map<Operation, Integer> mix, String reportFile,
+                        double datasetScale) {
+
+    enum Operation {
+        CREATE("create"),
+        APPROVE("approve"),
+        CANCEL("cancel"),
+        WAITLIST_JOIN("waitlist-join"),
+        SEAT_SELECT("seat-select");
+
+        final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+    }
+
+    static LoadTestSettings from(Environment env) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            mix.put(operation, env.getProperty("loadtest.mix." + operation.key, Integer.class, 0));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("loadtest.mix.* weights must add up to more than 0");
+        }
+        return new LoadTestSettings(
+                env.getProperty("loadtest.virtual-users", Integer.class, 2000),
+                env.getProperty("loadtest.duration-seconds", Integer.class, 60),
+                env.getProperty("loadtest.ramp-up-seconds", Integer.class, 10),
+                env.getProperty("loadtest.sessions", Integer.class, 40),
+                env.getProperty("loadtest.seats-per-session", Integer.class, 25),
+                env.getProperty("loadtest.think-time-ms", Long.class, 50L),
+                env.getProperty("loadtest.request-timeout-ms", Long.class, 30000L),
+                mix,
+                env.getProperty("loadtest.report-file", "target/loadtest-report.json"),
+                env.getProperty("loadtest.dataset-scale", Double.class, 0.0));
+    }
+
+    /**
+     * Operation for a uniform draw in [0, total weight)
+     */
+    Operation operationAt(int draw) {
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            draw -= entry.getValue();
+            if (draw < 0) {
+                return entry.getKey();
+            }
+        }
+        return Operation.CREATE;
+    }
+
+    int totalWeight() {
+        return mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
@@ -0,0 +1,52 @@
+package com.learning.globallearningcalendar.loadtest;
+
+import com.learning.globallearningcalendar.service.IBookingService;
+import com.learning.globallearningcalendar.service.ILearningSessionService;
+import com.learning.globallearningcalendar.util.SqlStatementCounter;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL statement budgets for read paths that used to load associations row by row. Each call runs
+ * on the calling thread under its own {@link SqlStatementCounter} tally once the load has stopped;
+ * going over budget means a lazy load crept back into the mapping.
+ */
+final class StatementBudgets {
+
+    private static final int PAGE_SIZE = 20;
+
+    private StatementBudgets() {
+    }
+
+    static List<String> verify(ApplicationContext context, LoadTestData.Seeded data) {
+        List<String> violations = new ArrayList<>();
+        ILearningSessionService sessionService = context.getBean(ILearningSessionService.class);
+        IBookingService bookingService = context.getBean(IBookingService.class);
+
+        // The session with its program, location and targeting, then the program's skills and business units
+        check(violations, "getSessionById", 3,
+                () -> sessionService.getSessionById(data.sessionIds().get(0)));
+
+        // Page and count queries with users and sessions fetched, then one nomination lookup per booking
+        check(violations, "getOrganizationBookings", 2 + PAGE_SIZE,
+                () -> bookingService.getOrganizationBookings(data.managerIds().get(0), PageRequest.of(0, PAGE_SIZE)));
+
+        return violations;
+    }
+
+    private static void check(List<String> violations, String call, long maxStatements, Runnable work) {
+        SqlStatementCounter.Tally tally = SqlStatementCounter.begin();
+        try {
+            work.run();
+        } finally {
+            SqlStatementCounter.end(tally);
+        }
+        if (tally.statements() > maxStatements) {
+            violations.add(String.format("%s issued %d SQL statements (%d rows), budget is %d",
+                    call, tally.statements(), tally.rows(), maxStatements));
+        }
+    }
+}
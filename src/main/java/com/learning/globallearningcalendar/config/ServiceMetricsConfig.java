@@ -0,0 +1,64 @@
+package com.learning.globallearningcalendar.config;
+
+import com.learning.globallearningcalendar.service.IBookingService;
+import com.learning.globallearningcalendar.service.INominationService;
+import com.learning.globallearningcalendar.service.IWaitlistService;
+import com.learning.globallearningcalendar.service.impl.BookingMetrics;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Times every operation of the booking, waitlist and nomination services into the service.calls
+ * timer kept by {@link BookingMetrics}, including failed calls.
+ */
+@Configuration
+public class ServiceMetricsConfig {
+
+    private static final List<Class<?>> TIMED_SERVICES =
+            List.of(IBookingService.class, IWaitlistService.class, INominationService.class);
+
+    /**
+     * Infrastructure role so the transaction auto-proxy creator applies it too; ordered just inside
+     * the SQL accounting advisor and outside the transaction interceptor, so commits are timed
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceCallTimingAdvisor(ObjectProvider<BookingMetrics> metrics) {
+        MethodInterceptor interceptor = invocation -> {
+            long startedAt = System.nanoTime();
+            Throwable failure = null;
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                failure = e;
+                throw e;
+            } finally {
+                metrics.getObject().recordCall(AopUtils.getTargetClass(invocation.getThis()).getSimpleName(),
+                        invocation.getMethod().getName(), System.nanoTime() - startedAt, failure);
+            }
+        };
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return TIMED_SERVICES.stream().anyMatch(service -> service.isAssignableFrom(targetClass)
+                        && ClassUtils.hasMethod(service, method.getName(), method.getParameterTypes()));
+            }
+        };
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+}
@@ -0,0 +1,123 @@
+package com.learning.globallearningcalendar.config;
+
+import com.learning.globallearningcalendar.service.impl.SqlStatementMetrics;
+import com.learning.globallearningcalendar.util.InstrumentedDataSource;
+import com.learning.globallearningcalendar.util.SqlStatementCounter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL statement accounting. The DataSource is wrapped so every statement is counted,
+ * and the counts are attributed to the HTTP route being served and to the outermost @Service
+ * method on the call stack (nested service calls count towards their caller).
+ *
+ * Disable with sql.instrumentation.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInstrumentationConfig implements WebMvcConfigurer {
+
+    private static final String REQUEST_TALLY = SqlInstrumentationConfig.class.getName() + ".TALLY";
+
+    private final ObjectProvider<SqlStatementMetrics> metrics;
+
+    public SqlInstrumentationConfig(ObjectProvider<SqlStatementMetrics> metrics) {
+        this.metrics = metrics;
+    }
+
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)
+                        ? new InstrumentedDataSource(dataSource) : bean;
+            }
+        };
+    }
+
+    /**
+     * Infrastructure role so the transaction auto-proxy creator applies it too; ordered outside the
+     * transaction interceptor so statements flushed at commit are counted
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor sqlServiceCallAdvisor(ObjectProvider<SqlStatementMetrics> metrics) {
+        ThreadLocal<Boolean> inServiceCall = new ThreadLocal<>();
+        MethodInterceptor interceptor = invocation -> {
+            if (inServiceCall.get() != null) {
+                return invocation.proceed();
+            }
+            inServiceCall.set(Boolean.TRUE);
+            SqlStatementCounter.Tally tally = SqlStatementCounter.begin();
+            try {
+                return invocation.proceed();
+            } finally {
+                SqlStatementCounter.end(tally);
+                inServiceCall.remove();
+                metrics.getObject().record(SqlStatementMetrics.SERVICE,
+                        AopUtils.getTargetClass(invocation.getThis()).getSimpleName() + "." + invocation.getMethod().getName(),
+                        tally);
+            }
+        };
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Service.class, true), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AsyncHandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                request.setAttribute(REQUEST_TALLY, SqlStatementCounter.begin());
+                return true;
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                        Exception ex) {
+                SqlStatementCounter.Tally tally = (SqlStatementCounter.Tally) request.getAttribute(REQUEST_TALLY);
+                if (tally == null) {
+                    return;
+                }
+                request.removeAttribute(REQUEST_TALLY);
+                SqlStatementCounter.end(tally);
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                metrics.getObject().record(SqlStatementMetrics.HTTP,
+                        request.getMethod() + " " + (pattern != null ? pattern : "UNMATCHED"), tally);
+            }
+
+            // The request continues on another thread - stop counting on this one
+            @Override
+            public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                                       Object handler) {
+                SqlStatementCounter.Tally tally = (SqlStatementCounter.Tally) request.getAttribute(REQUEST_TALLY);
+                if (tally != null) {
+                    request.removeAttribute(REQUEST_TALLY);
+                    SqlStatementCounter.end(tally);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package com.learning.globallearningcalendar.controller;
+
+import com.learning.globallearningcalendar.dto.AnalyticsDTO;
+import com.learning.globallearningcalendar.service.IAnalyticsService;
+import com.learning.globallearningcalendar.util.BookingAnalyticsSnapshot;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for booking analytics, served from the in-memory snapshot
+ */
+@RestController
+@RequestMapping("/api/v1/analytics/bookings")
+@RequiredArgsConstructor
+@CrossOrigin
+@Tag(name = "Analytics", description = "Slice-and-dice booking analytics APIs")
+public class AnalyticsController {
+
+    private final IAnalyticsService analyticsService;
+
+    @PostMapping("/query")
+    @Operation(summary = "Group and filter bookings by business unit, location, program type, program, month, role type or status")
+    public ResponseEntity<AnalyticsDTO.QueryResponse> queryBookings(@RequestBody AnalyticsDTO.QueryRequest request) {
+        return ResponseEntity.ok(analyticsService.queryBookings(request));
+    }
+
+    @GetMapping("/dimensions/{dimension}")
+    @Operation(summary = "Get the distinct values of a dimension in the current snapshot")
+    public ResponseEntity<List<String>> getDimensionValues(@PathVariable BookingAnalyticsSnapshot.Dimension dimension) {
+        return ResponseEntity.ok(analyticsService.getDimensionValues(dimension));
+    }
+
+    @GetMapping("/snapshot")
+    @Operation(summary = "Get when the analytics snapshot was built and how large it is")
+    public ResponseEntity<AnalyticsDTO.SnapshotInfo> getSnapshotInfo() {
+        return ResponseEntity.ok(analyticsService.getSnapshotInfo());
+    }
+
+    @PostMapping("/snapshot/refresh")
+    @Operation(summary = "Rebuild the analytics snapshot from the database now")
+    public ResponseEntity<AnalyticsDTO.SnapshotInfo> refreshSnapshot() {
+        return ResponseEntity.ok(analyticsService.refreshSnapshot());
+    }
+}
@@ -1,6 +1,7 @@
 package com.learning.globallearningcalendar.controller;
 
 import com.learning.globallearningcalendar.dto.BookingDTO;
+import com.learning.globallearningcalendar.dto.StatisticsDTO;
 import com.learning.globallearningcalendar.entity.Booking;
 import com.learning.globallearningcalendar.service.IBookingService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -268,6 +269,12 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.getTeamBookings(managerId));
     }
 
+    @GetMapping("/manager/{managerId}/organization/paged")
+    @Operation(summary = "Get bookings of a manager's whole reporting tree with pagination")
+    public ResponseEntity<Page<BookingDTO>> getOrganizationBookingsPaged(@PathVariable Long managerId, Pageable pageable) {
+        return ResponseEntity.ok(bookingService.getOrganizationBookings(managerId, pageable));
+    }
+
     @GetMapping("/session/{sessionId}/attendance-stats")
     @Operation(summary = "Get attendance statistics for a session")
     public ResponseEntity<Map<Booking.AttendanceStatus, Long>> getAttendanceStatsBySession(@PathVariable Long sessionId) {
@@ -280,6 +287,31 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.getAverageFeedbackRatingByProgram(programId));
     }
 
+    @GetMapping("/session/{sessionId}/statistics")
+    @Operation(summary = "Get attendance, fill rate and rating statistics for a session")
+    public ResponseEntity<StatisticsDTO.SessionStatistics> getSessionStatistics(@PathVariable Long sessionId) {
+        return ResponseEntity.ok(bookingService.getSessionStatistics(sessionId));
+    }
+
+    @GetMapping("/program/{programId}/rating-stats")
+    @Operation(summary = "Get feedback rating count, average and distribution for a program")
+    public ResponseEntity<StatisticsDTO.RatingSummary> getProgramRatingStatistics(@PathVariable Long programId) {
+        return ResponseEntity.ok(bookingService.getProgramRatingStatistics(programId));
+    }
+
+    @GetMapping("/instructor/rating-stats")
+    @Operation(summary = "Get feedback rating count, average and distribution for an instructor")
+    public ResponseEntity<StatisticsDTO.RatingSummary> getInstructorRatingStatistics(@RequestParam String email) {
+        return ResponseEntity.ok(bookingService.getInstructorRatingStatistics(email));
+    }
+
+    @PostMapping("/statistics/rebuild")
+    @Operation(summary = "Recompute session, program and instructor statistics from bookings (admin repair)")
+    public ResponseEntity<Void> rebuildStatistics() {
+        bookingService.rebuildStatistics();
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/{id}/select-seat")
     @Operation(summary = "Select a seat for a PENDING booking (RECOMMENDED nominations)")
     public ResponseEntity<BookingDTO> selectSeat(
@@ -322,6 +354,38 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.rejectCancellationRequest(id, managerId, rejectionReason));
     }
 
+    @PostMapping("/bulk/confirm")
+    @Operation(summary = "Confirm several bookings at once (Manager approval)")
+    public ResponseEntity<BookingDTO.BulkDecisionResponse> confirmBookings(
+            @Valid @RequestBody BookingDTO.BulkDecisionRequest request,
+            @RequestParam Long approvedById) {
+        return ResponseEntity.ok(bookingService.confirmBookings(request.getBookingIds(), approvedById));
+    }
+
+    @PostMapping("/bulk/reject")
+    @Operation(summary = "Reject several bookings at once (Manager rejection)")
+    public ResponseEntity<BookingDTO.BulkDecisionResponse> rejectBookings(
+            @Valid @RequestBody BookingDTO.BulkDecisionRequest request,
+            @RequestParam Long rejectedById) {
+        return ResponseEntity.ok(bookingService.rejectBookings(request.getBookingIds(), rejectedById, request.getReason()));
+    }
+
+    @PostMapping("/bulk/approve-cancellation")
+    @Operation(summary = "Manager approves several cancellation requests at once")
+    public ResponseEntity<BookingDTO.BulkDecisionResponse> approveCancellations(
+            @Valid @RequestBody BookingDTO.BulkDecisionRequest request,
+            @RequestParam Long managerId) {
+        return ResponseEntity.ok(bookingService.approveCancellations(request.getBookingIds(), managerId));
+    }
+
+    @PostMapping("/bulk/reject-cancellation")
+    @Operation(summary = "Manager rejects several cancellation requests at once")
+    public ResponseEntity<BookingDTO.BulkDecisionResponse> rejectCancellations(
+            @Valid @RequestBody BookingDTO.BulkDecisionRequest request,
+            @RequestParam Long managerId) {
+        return ResponseEntity.ok(bookingService.rejectCancellationRequests(request.getBookingIds(), managerId, request.getReason()));
+    }
+
     @GetMapping("/manager/{managerId}/pending-cancellations")
     @Operation(summary = "Get pending cancellation requests for a manager")
     public ResponseEntity<List<BookingDTO>> getPendingCancellationsByManager(@PathVariable Long managerId) {
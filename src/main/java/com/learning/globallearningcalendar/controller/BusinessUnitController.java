@@ -33,6 +33,12 @@ public class BusinessUnitController {
         return ResponseEntity.ok(businessUnitService.getActiveBusinessUnits());
     }
 
+    @GetMapping("/tree")
+    @Operation(summary = "Get the active business unit org chart with rolled-up user and booking totals")
+    public ResponseEntity<List<BusinessUnitDTO.TreeNode>> getBusinessUnitTree() {
+        return ResponseEntity.ok(businessUnitService.getBusinessUnitTree());
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get business unit by ID")
     public ResponseEntity<BusinessUnitDTO> getBusinessUnitById(@PathVariable Long id) {
@@ -81,4 +87,16 @@ public class BusinessUnitController {
     public ResponseEntity<Long> countUsersByBusinessUnit(@PathVariable Long id) {
         return ResponseEntity.ok(businessUnitService.countUsersByBusinessUnit(id));
     }
+
+    @GetMapping("/{id}/tree")
+    @Operation(summary = "Get a business unit's subtree with rolled-up user and booking totals")
+    public ResponseEntity<BusinessUnitDTO.TreeNode> getBusinessUnitSubtree(@PathVariable Long id) {
+        return ResponseEntity.ok(businessUnitService.getBusinessUnitSubtree(id));
+    }
+
+    @GetMapping("/{id}/subtree-user-count")
+    @Operation(summary = "Get active user count for a business unit and all its sub-units")
+    public ResponseEntity<Long> countUsersInBusinessUnitTree(@PathVariable Long id) {
+        return ResponseEntity.ok(businessUnitService.countUsersInBusinessUnitTree(id));
+    }
 }
@@ -0,0 +1,34 @@
+package com.learning.globallearningcalendar.controller;
+
+import com.learning.globallearningcalendar.dto.DashboardDTO;
+import com.learning.globallearningcalendar.service.IDashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for composed home-page dashboards
+ */
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@RequiredArgsConstructor
+@CrossOrigin
+@Tag(name = "Dashboard", description = "Composed dashboard APIs - one request per home page")
+public class DashboardController {
+
+    private final IDashboardService dashboardService;
+
+    @GetMapping("/employee/{userId}")
+    @Operation(summary = "Employee dashboard: upcoming bookings, eligible sessions, unread notifications, actionable nominations and waitlists")
+    public ResponseEntity<DashboardDTO.EmployeeDashboard> getEmployeeDashboard(@PathVariable Long userId) {
+        return ResponseEntity.ok(dashboardService.getEmployeeDashboard(userId));
+    }
+
+    @GetMapping("/manager/{managerId}")
+    @Operation(summary = "Manager dashboard: employee sections plus pending approvals, pending cancellations, team bookings and sent nominations")
+    public ResponseEntity<DashboardDTO.ManagerDashboard> getManagerDashboard(@PathVariable Long managerId) {
+        return ResponseEntity.ok(dashboardService.getManagerDashboard(managerId));
+    }
+}
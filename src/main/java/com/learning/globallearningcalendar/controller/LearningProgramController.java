@@ -111,8 +111,9 @@ public class LearningProgramController {
 
     @GetMapping("/search")
     @Operation(summary = "Search learning programs")
-    public ResponseEntity<List<LearningProgramDTO>> searchPrograms(@RequestParam String searchTerm) {
-        return ResponseEntity.ok(learningProgramService.searchPrograms(searchTerm));
+    public ResponseEntity<List<LearningProgramDTO>> searchPrograms(@RequestParam String searchTerm,
+                                                                   @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(learningProgramService.searchPrograms(searchTerm, limit));
     }
 
     @GetMapping("/{id}/session-count")
@@ -1,6 +1,7 @@
 package com.learning.globallearningcalendar.controller;
 
 import com.learning.globallearningcalendar.dto.NominationDTO;
+import com.learning.globallearningcalendar.entity.NominationJob;
 import com.learning.globallearningcalendar.service.INominationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +37,42 @@ public class NominationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * BU leader / L&D nominates a whole business unit, location, role type or reporting tree.
+     * Processed in the background - poll the returned job for progress.
+     * POST /api/nominations/scoped
+     */
+    @PostMapping("/scoped")
+    public ResponseEntity<NominationDTO.NominationJobResponse> scopedNominate(
+            @Valid @RequestBody NominationDTO.ScopedNominationRequest request,
+            @RequestParam Long nominatorId) {
+
+        log.info("User {} nominating {} {} for session {}", nominatorId, request.getSelectorType(),
+                request.getSelectorType() == NominationJob.SelectorType.ROLE_TYPE ? request.getRoleType() : request.getSelectorId(),
+                request.getSessionId());
+
+        NominationDTO.NominationJobResponse job = nominationService.startScopedNomination(request, nominatorId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * Get progress of a scoped nomination job
+     * GET /api/nominations/jobs/{jobId}
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<NominationDTO.NominationJobResponse> getNominationJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(nominationService.getNominationJob(jobId));
+    }
+
+    /**
+     * Get scoped nomination jobs started by a nominator
+     * GET /api/nominations/jobs?nominatorId={id}
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<List<NominationDTO.NominationJobResponse>> getNominationJobs(@RequestParam Long nominatorId) {
+        return ResponseEntity.ok(nominationService.getNominationJobsByNominator(nominatorId));
+    }
+
     /**
      * Get all nominations for the current employee
      * GET /api/nominations/my-nominations?employeeId={id}
@@ -1,6 +1,8 @@
 package com.learning.globallearningcalendar.controller;
 
 import com.learning.globallearningcalendar.dto.NotificationDTO;
+import com.learning.globallearningcalendar.entity.EmailDeadLetter;
+import com.learning.globallearningcalendar.service.EmailDeliveryService;
 import com.learning.globallearningcalendar.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,6 +21,7 @@ import java.util.Map;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final EmailDeliveryService emailDeliveryService;
 
     @GetMapping("/user/{userId}")
     @Operation(summary = "Get all notifications for a user")
@@ -63,4 +66,29 @@ public class NotificationController {
         notificationService.deleteNotification(notificationId, userId);
         return ResponseEntity.ok().build();
     }
+
+    @PostMapping("/manager-digest/send")
+    @Operation(summary = "Send pending-approval digests to all managers now (admin only)")
+    public ResponseEntity<Map<String, Integer>> sendManagerDigests() {
+        int sent = notificationService.sendManagerDigests();
+        return ResponseEntity.ok(Map.of("digestsSent", sent));
+    }
+
+    @GetMapping("/email/stats")
+    @Operation(summary = "Get email delivery queue statistics (admin only)")
+    public ResponseEntity<Map<String, Long>> getEmailStatistics() {
+        return ResponseEntity.ok(emailDeliveryService.getStatistics());
+    }
+
+    @GetMapping("/email/dead-letters")
+    @Operation(summary = "List emails that could not be delivered (admin only)")
+    public ResponseEntity<List<EmailDeadLetter>> getEmailDeadLetters() {
+        return ResponseEntity.ok(emailDeliveryService.getDeadLetters());
+    }
+
+    @PostMapping("/email/dead-letters/requeue")
+    @Operation(summary = "Re-queue dead-lettered emails for delivery (admin only)")
+    public ResponseEntity<Map<String, Integer>> requeueEmailDeadLetters(@RequestBody List<Long> deadLetterIds) {
+        return ResponseEntity.ok(Map.of("requeued", emailDeliveryService.requeueDeadLetters(deadLetterIds)));
+    }
 }
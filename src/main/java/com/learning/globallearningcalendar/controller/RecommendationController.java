@@ -0,0 +1,42 @@
+package com.learning.globallearningcalendar.controller;
+
+import com.learning.globallearningcalendar.dto.RecommendationDTO;
+import com.learning.globallearningcalendar.service.IRecommendationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for personalised session recommendations
+ */
+@RestController
+@RequestMapping("/api/v1/recommendations")
+@RequiredArgsConstructor
+@CrossOrigin
+@Tag(name = "Recommendations", description = "Recommended sessions for you APIs")
+public class RecommendationController {
+
+    private final IRecommendationService recommendationService;
+
+    @GetMapping("/users/{userId}")
+    @Operation(summary = "Get upcoming sessions recommended for a user, best first")
+    public ResponseEntity<RecommendationDTO.UserRecommendations> getRecommendations(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(recommendationService.getRecommendations(userId, limit));
+    }
+
+    @GetMapping("/model")
+    @Operation(summary = "Get when the recommendation model was built and how large it is")
+    public ResponseEntity<RecommendationDTO.ModelInfo> getModelInfo() {
+        return ResponseEntity.ok(recommendationService.getModelInfo());
+    }
+
+    @PostMapping("/model/rebuild")
+    @Operation(summary = "Rebuild the recommendation model now")
+    public ResponseEntity<RecommendationDTO.ModelInfo> rebuildModel() {
+        return ResponseEntity.ok(recommendationService.rebuildModel());
+    }
+}
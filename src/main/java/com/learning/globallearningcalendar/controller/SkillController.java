@@ -78,7 +78,8 @@ public class SkillController {
 
     @GetMapping("/search")
     @Operation(summary = "Search skills by name")
-    public ResponseEntity<List<SkillDTO>> searchSkills(@RequestParam String searchTerm) {
-        return ResponseEntity.ok(skillService.searchSkills(searchTerm));
+    public ResponseEntity<List<SkillDTO>> searchSkills(@RequestParam String searchTerm,
+                                                       @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(skillService.searchSkills(searchTerm, limit));
     }
 }
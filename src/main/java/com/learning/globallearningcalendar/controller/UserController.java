@@ -109,10 +109,17 @@ public class UserController {
         return ResponseEntity.ok(userService.getDirectReports(managerId));
     }
 
+    @GetMapping("/{managerId}/reporting-tree")
+    @Operation(summary = "Get everyone reporting to a manager, directly or skip-level")
+    public ResponseEntity<List<UserDTO>> getReportingTree(@PathVariable Long managerId) {
+        return ResponseEntity.ok(userService.getReportingTree(managerId));
+    }
+
     @GetMapping("/search")
     @Operation(summary = "Search users by name, email, or employee ID")
-    public ResponseEntity<List<UserDTO>> searchUsers(@RequestParam String searchTerm) {
-        return ResponseEntity.ok(userService.searchUsers(searchTerm));
+    public ResponseEntity<List<UserDTO>> searchUsers(@RequestParam String searchTerm,
+                                                     @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(userService.searchUsers(searchTerm, limit));
     }
 
     @GetMapping("/business-unit/{buId}/count")
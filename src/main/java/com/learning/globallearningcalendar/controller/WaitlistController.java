@@ -1,7 +1,9 @@
 package com.learning.globallearningcalendar.controller;
 
+import com.learning.globallearningcalendar.dto.ProgramWaitlistDTO;
 import com.learning.globallearningcalendar.dto.WaitlistDTO;
 import com.learning.globallearningcalendar.entity.Waitlist.WaitlistStatus;
+import com.learning.globallearningcalendar.service.IProgramWaitlistService;
 import com.learning.globallearningcalendar.service.IWaitlistService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,6 +30,7 @@ import java.util.Map;
 public class WaitlistController {
 
     private final IWaitlistService waitlistService;
+    private final IProgramWaitlistService programWaitlistService;
     private static final Logger log = LoggerFactory.getLogger(WaitlistController.class);
 
     @PostMapping("/join")
@@ -140,6 +143,75 @@ public class WaitlistController {
         return ResponseEntity.ok(waitlist);
     }
 
+    @PostMapping("/program/join")
+    @Operation(summary = "Join the \"first available\" waitlist for any eligible session of a program")
+    public ResponseEntity<Map<String, Object>> joinProgramWaitlist(@RequestBody Map<String, Object> request) {
+        try {
+            Long programId = Long.valueOf(request.get("programId").toString());
+            Long userId = Long.valueOf(request.get("userId").toString());
+            String notes = request.get("notes") != null ? request.get("notes").toString() : null;
+
+            log.info("API call: User {} joining program waitlist for program {}", userId, programId);
+
+            ProgramWaitlistDTO entry = programWaitlistService.joinProgramWaitlist(programId, userId, notes);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Successfully joined program waitlist");
+            response.put("waitlistId", entry.getId());
+            response.put("position", entry.getPosition());
+            response.put("data", entry);
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (Exception e) {
+            log.error("Error joining program waitlist: {}", e.getMessage(), e);
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    @DeleteMapping("/program/{entryId}")
+    @Operation(summary = "Leave a program waitlist")
+    public ResponseEntity<Map<String, Object>> leaveProgramWaitlist(
+            @PathVariable Long entryId,
+            @RequestParam Long userId) {
+        try {
+            programWaitlistService.leaveProgramWaitlist(entryId, userId);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Successfully removed from program waitlist");
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error leaving program waitlist: {}", e.getMessage(), e);
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    @GetMapping("/program/{programId}")
+    @Operation(summary = "Get the active program waitlist, longest waiting first")
+    public ResponseEntity<List<ProgramWaitlistDTO>> getProgramWaitlist(@PathVariable Long programId) {
+        return ResponseEntity.ok(programWaitlistService.getProgramWaitlist(programId));
+    }
+
+    @GetMapping("/program/user/{userId}")
+    @Operation(summary = "Get all program waitlist entries for a user")
+    public ResponseEntity<List<ProgramWaitlistDTO>> getUserProgramWaitlists(@PathVariable Long userId) {
+        return ResponseEntity.ok(programWaitlistService.getUserProgramWaitlists(userId));
+    }
+
+    @GetMapping("/legacy-migration/progress")
+    @Operation(summary = "Get progress of the background legacy WAITLISTED booking migration (admin only)")
+    public ResponseEntity<Map<String, Object>> getLegacyMigrationProgress() {
+        return ResponseEntity.ok(waitlistService.getLegacyMigrationProgress());
+    }
+
     @PostMapping("/session/{sessionId}/process")
     @Operation(summary = "Manually trigger waitlist processing (admin only)")
     public ResponseEntity<Map<String, Object>> processWaitlist(@PathVariable Long sessionId) {
@@ -0,0 +1,71 @@
+package com.learning.globallearningcalendar.dto;
+
+import com.learning.globallearningcalendar.util.BookingAnalyticsSnapshot;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Objects for the booking analytics API. Queries are answered from the in-memory
+ * snapshot; snapshotBuiltAt says how current the figures are.
+ */
+public class AnalyticsDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class QueryRequest {
+        // Dimensions to group by, in output order; empty = grand total
+        private List<BookingAnalyticsSnapshot.Dimension> groupBy;
+        // Keep only rows whose value is one of the listed values, per dimension
+        private Map<BookingAnalyticsSnapshot.Dimension, List<String>> filters;
+        // Largest groups first; null = all groups
+        private Integer limit;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class QueryResponse {
+        private List<BookingAnalyticsSnapshot.Dimension> groupBy;
+        private List<GroupRow> groups;
+        private int totalGroups;
+        private LocalDateTime snapshotBuiltAt;
+        private int snapshotRows;
+        private long elapsedMs;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class GroupRow {
+        // Dimension -> value for this group
+        private Map<BookingAnalyticsSnapshot.Dimension, String> keys;
+        private long bookings;
+        private long confirmed;
+        private long completions;
+        private long cancellations;
+        private long noShows;
+        private long attended;
+        private long ratingCount;
+        private Double averageRating;
+        // completions / bookings, 0..1
+        private Double completionRate;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SnapshotInfo {
+        private LocalDateTime builtAt;
+        private int rows;
+        private long buildMs;
+        private Map<BookingAnalyticsSnapshot.Dimension, Integer> distinctValues;
+    }
+}
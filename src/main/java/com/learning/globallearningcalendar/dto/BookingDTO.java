@@ -1,10 +1,12 @@
 package com.learning.globallearningcalendar.dto;
 
 import com.learning.globallearningcalendar.entity.Booking;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -103,4 +105,31 @@ public class BookingDTO {
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    // Request DTO for bulk manager decisions (approve / reject bookings or cancellation requests)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BulkDecisionRequest {
+
+        @NotEmpty(message = "At least one booking ID is required")
+        private List<Long> bookingIds;
+
+        // Rejection reason (rejections only)
+        private String reason;
+    }
+
+    // Response DTO for bulk manager decisions
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BulkDecisionResponse {
+        private int requested;
+        private int succeeded;
+        private int failed;
+        private List<Long> processedBookingIds;
+        private List<String> errors;
+    }
 }
@@ -33,4 +33,24 @@ public class BusinessUnitDTO {
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    /**
+     * A node of the business unit org chart with totals rolled up over its whole subtree
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TreeNode {
+        private Long id;
+        private String code;
+        private String name;
+        private Long parentBusinessUnitId;
+        private int depth;
+        private long activeUsers;
+        private long subtreeActiveUsers;
+        private long subtreeActiveBookings;
+        private int subtreeBusinessUnits;
+        private List<TreeNode> children;
+    }
 }
@@ -0,0 +1,52 @@
+package com.learning.globallearningcalendar.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Objects for the composed home-page dashboards. Sections are read in parallel;
+ * a section that fails or misses its deadline is left empty and listed in unavailableSections.
+ */
+public class DashboardDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class EmployeeDashboard {
+        private Long userId;
+        private List<BookingDTO> upcomingBookings;
+        private List<LearningSessionDTO> eligibleSessions;
+        private List<NotificationDTO> unreadNotifications;
+        private List<NominationDTO> actionableNominations;
+        private List<WaitlistDTO> waitlists;
+        // Section name -> reason ("timed out" / "failed")
+        private Map<String, String> unavailableSections;
+        private LocalDateTime generatedAt;
+        private long elapsedMs;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ManagerDashboard {
+        private Long managerId;
+        private List<BookingDTO> upcomingBookings;
+        private List<LearningSessionDTO> eligibleSessions;
+        private List<NotificationDTO> unreadNotifications;
+        private List<NominationDTO> actionableNominations;
+        private List<WaitlistDTO> waitlists;
+        private List<BookingDTO> pendingApprovals;
+        private List<BookingDTO> pendingCancellations;
+        private List<BookingDTO> teamBookings;
+        private List<NominationDTO> sentNominations;
+        // Section name -> reason ("timed out" / "failed")
+        private Map<String, String> unavailableSections;
+        private LocalDateTime generatedAt;
+        private long elapsedMs;
+    }
+}
@@ -37,6 +37,9 @@ public class LearningSessionDTO {
 
     private Set<Long> targetRoleIds;
 
+    // Open to every role, including roles added later; send true without targetRoleIds to lift a restriction
+    private Boolean targetAllRoles;
+
     private List<Long> targetLocationIds;
 
     private java.util.List<Long> targetBusinessUnitIds;
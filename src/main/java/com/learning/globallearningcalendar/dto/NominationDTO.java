@@ -1,6 +1,8 @@
 package com.learning.globallearningcalendar.dto;
 
 import com.learning.globallearningcalendar.entity.Nomination;
+import com.learning.globallearningcalendar.entity.NominationJob;
+import com.learning.globallearningcalendar.entity.Role;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -86,6 +88,58 @@ public class NominationDTO {
         private List<NominationDTO> nominations;
     }
 
+    // Request DTO for organization-scope nominations (processed as a background job)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ScopedNominationRequest {
+
+        @NotNull(message = "Session ID is required")
+        private Long sessionId;
+
+        @NotNull(message = "Selector type is required")
+        private NominationJob.SelectorType selectorType;
+
+        // Business unit / location / reporting-tree root user id
+        private Long selectorId;
+
+        // Required for ROLE_TYPE selectors
+        private Role.RoleType roleType;
+
+        @NotNull(message = "Nomination type is required")
+        private Nomination.NominationType nominationType;
+
+        private String notes;
+    }
+
+    // Progress of an organization-scope nomination job
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class NominationJobResponse {
+        private Long jobId;
+        private Long sessionId;
+        private String sessionName;
+        private Long nominatorId;
+        private NominationJob.SelectorType selectorType;
+        private Long selectorId;
+        private Role.RoleType roleType;
+        private Nomination.NominationType nominationType;
+        private NominationJob.JobStatus status;
+        private int totalTargets;
+        private int processed;
+        private int successful;
+        private int failed;
+        private double percentComplete;
+        private List<String> errors;
+        private String failureReason;
+        private LocalDateTime createdAt;
+        private LocalDateTime startedAt;
+        private LocalDateTime completedAt;
+    }
+
     // Response DTO for pending nominations count
     @Data
     @NoArgsConstructor
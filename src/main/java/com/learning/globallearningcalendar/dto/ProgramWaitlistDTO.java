@@ -0,0 +1,43 @@
+package com.learning.globallearningcalendar.dto;
+
+import com.learning.globallearningcalendar.entity.Waitlist.WaitlistStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for program-level ("first available") waitlist entries
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProgramWaitlistDTO {
+
+    private Long id;
+
+    private Long programId;
+
+    private String programName;
+
+    private Long userId;
+
+    private String userName;
+
+    private String userEmail;
+
+    // Live position in the program queue (WAITING entries only)
+    private Integer position;
+
+    private WaitlistStatus status;
+
+    private LocalDateTime joinedAt;
+
+    private Long assignedSessionId;
+
+    private String assignedSessionCode;
+
+    private LocalDateTime assignedAt;
+
+    private String notes;
+}
@@ -0,0 +1,58 @@
+package com.learning.globallearningcalendar.dto;
+
+import com.learning.globallearningcalendar.entity.DeliveryMode;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Objects for "recommended sessions for you"
+ */
+public class RecommendationDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SessionRecommendation {
+        private Long sessionId;
+        private String sessionCode;
+        private Long programId;
+        private String programName;
+        private Boolean isMandatory;
+        private LocalDateTime startDateTime;
+        private LocalDateTime endDateTime;
+        private DeliveryMode deliveryMode;
+        private String locationName;
+        private Integer availableSeats;
+        private double score;
+        // Signals behind the score, e.g. "Mandatory program you have not completed"
+        private List<String> reasons;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class UserRecommendations {
+        private Long userId;
+        private List<SessionRecommendation> recommendations;
+        // When the ranking was computed - it may be served from cache for a while
+        private LocalDateTime rankedAt;
+        private boolean fromCache;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ModelInfo {
+        private LocalDateTime builtAt;
+        private long buildMs;
+        private int programs;
+        private int cohorts;
+        private long cooccurrenceCells;
+        private int cachedUsers;
+    }
+}
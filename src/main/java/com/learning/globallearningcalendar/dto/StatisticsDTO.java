@@ -0,0 +1,38 @@
+package com.learning.globallearningcalendar.dto;
+
+import com.learning.globallearningcalendar.entity.Booking;
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Objects for the incrementally maintained session, program and instructor
+ * statistics.
+ */
+public class StatisticsDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SessionStatistics {
+        private Long sessionId;
+        private Map<Booking.AttendanceStatus, Long> attendance;
+        private Integer totalSeats;
+        private Integer bookedSeats;
+        // Booked seats / total seats, 0..1
+        private Double fillRate;
+        private RatingSummary ratings;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RatingSummary {
+        private long ratingCount;
+        private Double averageRating;
+        // Stars (1-5) -> number of ratings
+        private Map<Integer, Long> distribution;
+    }
+}
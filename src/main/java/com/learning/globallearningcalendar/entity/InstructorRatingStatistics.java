@@ -0,0 +1,30 @@
+package com.learning.globallearningcalendar.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * InstructorRatingStatistics Entity
+ * Feedback rating totals per instructor, keyed by the sessions' lower-cased instructor email.
+ */
+@Entity
+@Table(name = "instructor_rating_statistics")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InstructorRatingStatistics {
+
+    @Id
+    @Column(name = "instructor_email")
+    private String instructorEmail;
+
+    @Embedded
+    private RatingStatistics ratings;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -57,6 +57,10 @@ public class LearningSession {
     @Column(name = "location_scope")
     private LocationScope locationScope;
 
+    // Open to every role, present and future, without a session_target_roles row per role
+    @Column(name = "target_all_roles", nullable = false)
+    private Boolean targetAllRoles = false;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "session_target_roles",
@@ -115,6 +119,13 @@ public class LearningSession {
         updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * True when no role restriction applies - checked before touching the lazy targetRoles
+     */
+    public boolean isOpenToAllRoles() {
+        return Boolean.TRUE.equals(targetAllRoles) || targetRoles == null || targetRoles.isEmpty();
+    }
+
     public boolean hasAvailableSeats() {
         return availableSeats != null && availableSeats > 0;
     }
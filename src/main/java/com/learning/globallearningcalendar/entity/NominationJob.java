@@ -0,0 +1,116 @@
+package com.learning.globallearningcalendar.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * NominationJob Entity
+ * An organization-scope nomination (business unit subtree, location, role type or reporting tree)
+ * whose nominees are resolved in the database and nominated in chunks by a background job.
+ * The user id cursor commits with each chunk, so a restart resumes after the last chunk.
+ */
+@Entity
+@Table(name = "nomination_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NominationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "session_id", nullable = false)
+    private LearningSession session;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "nominator_user_id", nullable = false)
+    private User nominator;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "selector_type", length = 30, nullable = false)
+    private SelectorType selectorType;
+
+    // Business unit, location or reporting-tree root user id, depending on selectorType
+    @Column(name = "selector_id")
+    private Long selectorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "selector_role_type", length = 30)
+    private Role.RoleType selectorRoleType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "nomination_type", nullable = false)
+    private Nomination.NominationType nominationType;
+
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private JobStatus status = JobStatus.QUEUED;
+
+    @Column(name = "total_targets", nullable = false)
+    private Integer totalTargets = 0;
+
+    @Column(name = "processed_count", nullable = false)
+    private Integer processedCount = 0;
+
+    @Column(name = "successful_count", nullable = false)
+    private Integer successfulCount = 0;
+
+    @Column(name = "failed_count", nullable = false)
+    private Integer failedCount = 0;
+
+    // Highest nominee user id processed so far - the next chunk starts after it
+    @Column(name = "last_processed_user_id", nullable = false)
+    private Long lastProcessedUserId = 0L;
+
+    // First errors reported by the chunks, one per line (capped)
+    @Column(columnDefinition = "TEXT")
+    private String errors;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum SelectorType {
+        BUSINESS_UNIT,   // All active users in a business unit and its child units
+        LOCATION,        // All active users at a location
+        ROLE_TYPE,       // All active users with a role of the given type
+        REPORTING_TREE   // Everyone reporting (directly or skip-level) to a user
+    }
+
+    public enum JobStatus {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
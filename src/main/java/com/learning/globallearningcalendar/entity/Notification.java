@@ -56,6 +56,8 @@ public class Notification {
         CANCELLATION_APPROVED,
         CANCELLATION_REJECTED,
         NOMINATION_RECEIVED,
-        SESSION_REMINDER
+        SESSION_REMINDER,
+        MANAGER_DIGEST,
+        WAITLIST_CANCELLED
     }
 }
@@ -0,0 +1,30 @@
+package com.learning.globallearningcalendar.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ProgramRatingStatistics Entity
+ * Feedback rating totals over every session of a learning program.
+ */
+@Entity
+@Table(name = "program_rating_statistics")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProgramRatingStatistics {
+
+    @Id
+    @Column(name = "program_id")
+    private Long programId;
+
+    @Embedded
+    private RatingStatistics ratings;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
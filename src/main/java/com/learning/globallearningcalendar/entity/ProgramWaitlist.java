@@ -0,0 +1,79 @@
+package com.learning.globallearningcalendar.entity;
+
+import com.learning.globallearningcalendar.entity.Waitlist.WaitlistStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * ProgramWaitlist Entity
+ * An employee waiting for a seat in any session of a learning program ("first available").
+ * When a seat is released in one of the program's sessions, the longest-waiting eligible
+ * employee is booked into it.
+ */
+@Entity
+@Table(name = "program_waitlist",
+       indexes = {
+           @Index(name = "idx_program_waitlist_queue", columnList = "program_id, status, joined_at, id"),
+           @Index(name = "idx_program_waitlist_user", columnList = "user_id, status")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProgramWaitlist {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "program_id", nullable = false)
+    private LearningProgram learningProgram;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private WaitlistStatus status = WaitlistStatus.WAITING;
+
+    @Column(name = "joined_at", nullable = false)
+    private LocalDateTime joinedAt;
+
+    // Session the employee was booked into when a seat was matched
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assigned_session_id")
+    private LearningSession assignedSession;
+
+    @Column(name = "assigned_at")
+    private LocalDateTime assignedAt;
+
+    @Column(name = "notes", columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+        if (joinedAt == null) {
+            joinedAt = LocalDateTime.now();
+        }
+        if (status == null) {
+            status = WaitlistStatus.WAITING;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
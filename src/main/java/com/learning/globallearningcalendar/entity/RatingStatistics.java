@@ -0,0 +1,47 @@
+package com.learning.globallearningcalendar.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Running feedback rating totals (ratings are 1-5), embedded in the session, program and
+ * instructor statistics rows. Maintained incrementally as feedback is submitted.
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RatingStatistics {
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_1", nullable = false)
+    private long rating1;
+
+    @Column(name = "rating_2", nullable = false)
+    private long rating2;
+
+    @Column(name = "rating_3", nullable = false)
+    private long rating3;
+
+    @Column(name = "rating_4", nullable = false)
+    private long rating4;
+
+    @Column(name = "rating_5", nullable = false)
+    private long rating5;
+
+    public Double average() {
+        return ratingCount > 0 ? (double) ratingSum / ratingCount : null;
+    }
+
+    // Count per star, index 0 = 1 star
+    public long[] distribution() {
+        return new long[]{rating1, rating2, rating3, rating4, rating5};
+    }
+}
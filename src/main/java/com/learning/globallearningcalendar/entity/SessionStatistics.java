@@ -0,0 +1,44 @@
+package com.learning.globallearningcalendar.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * SessionStatistics Entity
+ * Per-session booking counts by attendance status and feedback rating totals, updated in the same
+ * transaction as the booking change so session reports read one row instead of grouping bookings.
+ * Fill rate comes from the session's own seat counters, which are already maintained the same way.
+ */
+@Entity
+@Table(name = "session_statistics")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SessionStatistics {
+
+    @Id
+    @Column(name = "session_id")
+    private Long sessionId;
+
+    @Column(name = "attendance_not_marked", nullable = false)
+    private long attendanceNotMarked;
+
+    @Column(name = "attendance_present", nullable = false)
+    private long attendancePresent;
+
+    @Column(name = "attendance_absent", nullable = false)
+    private long attendanceAbsent;
+
+    @Column(name = "attendance_partial", nullable = false)
+    private long attendancePartial;
+
+    @Embedded
+    private RatingStatistics ratings;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
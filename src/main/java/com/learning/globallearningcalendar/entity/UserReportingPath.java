@@ -0,0 +1,43 @@
+package com.learning.globallearningcalendar.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.io.Serializable;
+
+/**
+ * UserReportingPath Entity
+ * Closure table of the reporting hierarchy: one row for every (manager, report) pair at any
+ * distance, plus a depth-0 row per user. "Everyone under manager X" is a single indexed join on
+ * ancestor_id instead of a walk over User.manager one level at a time.
+ */
+@Entity
+@Table(name = "user_reporting_paths",
+       indexes = @Index(name = "idx_reporting_paths_descendant", columnList = "descendant_id, ancestor_id"))
+@IdClass(UserReportingPath.PathId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserReportingPath {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    // 0 = the user themself, 1 = direct report, 2 = skip-level, ...
+    @Column(nullable = false)
+    private Integer depth;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PathId implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
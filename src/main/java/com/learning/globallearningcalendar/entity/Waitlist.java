@@ -10,7 +10,9 @@ import java.time.LocalDateTime;
  * When a booking is cancelled, the first person in the waitlist is automatically confirmed.
  */
 @Entity
-@Table(name = "waitlist")
+@Table(name = "waitlist",
+       uniqueConstraints = @UniqueConstraint(name = "uk_waitlist_session_position", columnNames = {"session_id", "position"}),
+       indexes = @Index(name = "idx_waitlist_session_status_position", columnList = "session_id, status, position"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,6 +32,8 @@ public class Waitlist {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // Join sequence number within the session, unique per session - never renumbered; the live rank
+    // is the number of WAITING entries with a lower sequence, plus one
     @Column(name = "position", nullable = false)
     private Integer position;
 
@@ -1,9 +1,13 @@
 package com.learning.globallearningcalendar.repository;
 
 import com.learning.globallearningcalendar.entity.Booking;
+import com.learning.globallearningcalendar.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -59,6 +63,29 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT b FROM Booking b WHERE b.learningSession.id = :sessionId AND b.status = 'WAITLISTED' ORDER BY b.waitlistPosition ASC")
     List<Booking> findWaitlistedBookingsBySession(@Param("sessionId") Long sessionId);
 
+    // Locking read - concurrent migrations of the same session see each other's deletes instead of duplicating entries
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b JOIN FETCH b.user WHERE b.learningSession.id = :sessionId AND b.status = 'WAITLISTED' ORDER BY b.waitlistPosition ASC, b.id ASC")
+    List<Booking> findWaitlistedBookingsBySessionForUpdate(@Param("sessionId") Long sessionId);
+
+    @Query("SELECT DISTINCT b.learningSession.id FROM Booking b WHERE b.status = 'WAITLISTED' AND b.learningSession.id > :afterSessionId ORDER BY b.learningSession.id ASC")
+    List<Long> findSessionIdsWithWaitlistedBookingsAfter(@Param("afterSessionId") Long afterSessionId, Pageable pageable);
+
+    @Query("SELECT COUNT(b) FROM Booking b WHERE b.status = 'WAITLISTED'")
+    long countWaitlistedBookings();
+
+    // Users among :userIds with an active (not CANCELLED/REJECTED) booking for the session
+    @Query("SELECT b.user.id FROM Booking b WHERE b.learningSession.id = :sessionId AND b.user.id IN :userIds AND b.status NOT IN ('CANCELLED', 'REJECTED')")
+    List<Long> findUserIdsWithActiveBooking(@Param("sessionId") Long sessionId, @Param("userIds") List<Long> userIds);
+
+    // Users among :userIds who already hold an active booking in an upcoming session of the program
+    @Query("SELECT DISTINCT b.user.id FROM Booking b WHERE b.learningSession.learningProgram.id = :programId " +
+           "AND b.user.id IN :userIds AND b.status NOT IN ('CANCELLED', 'REJECTED', 'WAITLISTED') " +
+           "AND b.learningSession.startDateTime > :now")
+    List<Long> findUserIdsWithUpcomingProgramBooking(@Param("programId") Long programId,
+                                                     @Param("userIds") List<Long> userIds,
+                                                     @Param("now") LocalDateTime now);
+
     @Query("SELECT COUNT(b) FROM Booking b WHERE b.user.id = :userId AND b.status = 'CONFIRMED'")
     Long countConfirmedBookingsByUser(@Param("userId") Long userId);
 
@@ -77,11 +104,16 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT b FROM Booking b WHERE b.user.manager.id = :managerId ORDER BY b.learningSession.startDateTime DESC")
     List<Booking> findTeamBookings(@Param("managerId") Long managerId, @Param("startDate") LocalDateTime startDate);
 
-    @Query("SELECT b.attendanceStatus, COUNT(b) FROM Booking b WHERE b.learningSession.id = :sessionId GROUP BY b.attendanceStatus")
-    List<Object[]> getAttendanceStatsBySession(@Param("sessionId") Long sessionId);
-
-    @Query("SELECT AVG(b.feedbackRating) FROM Booking b WHERE b.learningSession.learningProgram.id = :programId AND b.feedbackRating IS NOT NULL")
-    Double getAverageFeedbackRatingByProgram(@Param("programId") Long programId);
+    // Bookings of everyone under a manager (direct and skip-level) via the reporting closure table,
+    // fetching the user and session associations the DTO mapping reads
+    @Query(value = "SELECT b FROM Booking b JOIN FETCH b.user u LEFT JOIN FETCH u.manager " +
+                   "JOIN FETCH b.learningSession ls JOIN FETCH ls.learningProgram " +
+                   "LEFT JOIN FETCH b.approvedBy LEFT JOIN FETCH b.rejectedBy " +
+                   "WHERE u.id IN (SELECT p.descendantId FROM UserReportingPath p WHERE p.ancestorId = :managerId AND p.depth > 0) " +
+                   "ORDER BY ls.startDateTime DESC, b.id DESC",
+           countQuery = "SELECT COUNT(b) FROM Booking b " +
+                        "WHERE b.user.id IN (SELECT p.descendantId FROM UserReportingPath p WHERE p.ancestorId = :managerId AND p.depth > 0)")
+    Page<Booking> findOrganizationBookings(@Param("managerId") Long managerId, Pageable pageable);
 
     // Use method name derivation for these 'not' queries to ensure Spring Data handles paging/count queries properly
     List<Booking> findByUserIdAndStatusNot(Long userId, Booking.BookingStatus excludedStatus);
@@ -108,4 +140,95 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     // Get all booked seat numbers for a session (excluding CANCELLED and REJECTED)
     @Query("SELECT b.seatNumber FROM Booking b WHERE b.learningSession.id = :sessionId AND b.seatNumber IS NOT NULL AND b.status NOT IN ('CANCELLED', 'REJECTED')")
     List<Integer> findBookedSeatsBySessionId(@Param("sessionId") Long sessionId);
+
+    // Manager digest: one row per (manager, pending status) with the total pending count and how many
+    // of those the manager has not been told about yet. Replaces one notification per pending booking.
+    @Query("SELECT u.manager.id, b.status, COUNT(b), SUM(CASE WHEN b.managerNotified = true THEN 0 ELSE 1 END) " +
+           "FROM Booking b JOIN b.user u " +
+           "WHERE u.manager IS NOT NULL AND b.status IN ('PENDING_APPROVAL', 'PENDING_CANCELLATION') " +
+           "AND (b.updatedAt IS NULL OR b.updatedAt <= :cutoff) " +
+           "GROUP BY u.manager.id, b.status")
+    List<Object[]> countPendingManagerActionsGroupedByManager(@Param("cutoff") LocalDateTime cutoff);
+
+    // Pending-approval backlog: one row per manager with the number of bookings awaiting their decision
+    @Query("SELECT u.manager.id, COUNT(b) FROM Booking b JOIN b.user u " +
+           "WHERE u.manager IS NOT NULL AND b.status = 'PENDING_APPROVAL' GROUP BY u.manager.id")
+    List<Object[]> countPendingApprovalsGroupedByManager();
+
+    // Flag every pending booking covered by a digest run in a single statement
+    @Modifying
+    @Query("UPDATE Booking b SET b.managerNotified = true, b.managerNotifiedDate = :notifiedAt " +
+           "WHERE b.status IN ('PENDING_APPROVAL', 'PENDING_CANCELLATION') " +
+           "AND (b.managerNotified = false OR b.managerNotified IS NULL) " +
+           "AND (b.updatedAt IS NULL OR b.updatedAt <= :cutoff) " +
+           "AND b.user.id IN (SELECT u.id FROM User u WHERE u.manager IS NOT NULL)")
+    int markPendingManagerActionsNotified(@Param("cutoff") LocalDateTime cutoff, @Param("notifiedAt") LocalDateTime notifiedAt);
+
+    // Bulk manager decisions: load everything needed to validate a batch in one query
+    @Query("SELECT b FROM Booking b JOIN FETCH b.user u LEFT JOIN FETCH u.manager " +
+           "JOIN FETCH b.learningSession s JOIN FETCH s.learningProgram WHERE b.id IN :ids")
+    List<Booking> findAllByIdForDecision(@Param("ids") List<Long> ids);
+
+    // The status guards make each transition apply only to bookings still awaiting that decision
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :confirmed, b.confirmationDate = :now, b.approvedBy = :approver, " +
+           "b.approvalDate = :now, b.updatedAt = :now " +
+           "WHERE b.id IN :ids AND b.status IN ('PENDING', 'PENDING_APPROVAL')")
+    int confirmPendingBookings(@Param("ids") List<Long> ids, @Param("approver") User approver,
+                               @Param("now") LocalDateTime now, @Param("confirmed") Booking.BookingStatus confirmed);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :rejected, b.rejectedBy = :rejector, b.rejectionDate = :now, " +
+           "b.rejectionReason = :reason, b.updatedAt = :now " +
+           "WHERE b.id IN :ids AND b.status = 'PENDING_APPROVAL'")
+    int rejectPendingApprovalBookings(@Param("ids") List<Long> ids, @Param("rejector") User rejector,
+                                      @Param("reason") String reason, @Param("now") LocalDateTime now,
+                                      @Param("rejected") Booking.BookingStatus rejected);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :cancelled, b.cancellationDate = :now, b.updatedAt = :now " +
+           "WHERE b.id IN :ids AND b.status = 'PENDING_CANCELLATION'")
+    int approvePendingCancellations(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now,
+                                    @Param("cancelled") Booking.BookingStatus cancelled);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :confirmed, b.rejectedBy = :manager, b.rejectionDate = :now, " +
+           "b.rejectionReason = :reason, b.cancellationReason = NULL, b.cancellationDate = NULL, b.updatedAt = :now " +
+           "WHERE b.id IN :ids AND b.status = 'PENDING_CANCELLATION'")
+    int rejectPendingCancellations(@Param("ids") List<Long> ids, @Param("manager") User manager,
+                                   @Param("reason") String reason, @Param("now") LocalDateTime now,
+                                   @Param("confirmed") Booking.BookingStatus confirmed);
+
+    // Flattened rows for the analytics snapshot, keyset-paged by booking id
+    @Query("SELECT b.id, b.status, b.completionStatus, b.attendanceStatus, b.feedbackRating, " +
+           "bu.name, loc.name, p.programType, p.name, s.startDateTime, r.roleType " +
+           "FROM Booking b JOIN b.learningSession s JOIN s.learningProgram p JOIN b.user u " +
+           "LEFT JOIN u.businessUnit bu LEFT JOIN u.location loc LEFT JOIN u.role r " +
+           "WHERE b.id > :afterId ORDER BY b.id")
+    List<Object[]> findAnalyticsRows(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Recommendation model rows: userId, programId for every program a user completed, grouped by user
+    @Query("SELECT DISTINCT b.user.id, b.learningSession.learningProgram.id FROM Booking b " +
+           "WHERE b.status = 'COMPLETED' OR b.completionStatus = 'COMPLETED' ORDER BY b.user.id")
+    List<Object[]> findCompletedUserPrograms();
+
+    @Query("SELECT DISTINCT b.learningSession.learningProgram.id FROM Booking b " +
+           "WHERE b.user.id = :userId AND (b.status = 'COMPLETED' OR b.completionStatus = 'COMPLETED')")
+    List<Long> findCompletedProgramIdsByUser(@Param("userId") Long userId);
+
+    // Programs the user completed through any booking other than the given one
+    @Query("SELECT DISTINCT b.learningSession.learningProgram.id FROM Booking b WHERE b.user.id = :userId " +
+           "AND b.id <> :bookingId AND (b.status = 'COMPLETED' OR b.completionStatus = 'COMPLETED')")
+    List<Long> findOtherCompletedProgramIdsByUser(@Param("userId") Long userId, @Param("bookingId") Long bookingId);
+
+    // Programs the user already holds a live booking for in an upcoming session
+    @Query("SELECT DISTINCT b.learningSession.learningProgram.id FROM Booking b WHERE b.user.id = :userId " +
+           "AND b.learningSession.startDateTime > :now AND b.status NOT IN ('CANCELLED', 'REJECTED', 'NO_SHOW', 'COMPLETED')")
+    List<Long> findUpcomingBookedProgramIdsByUser(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // Peer cohort rows: roleId, businessUnitId, programId, confirmed or completed bookings
+    @Query("SELECT u.role.id, u.businessUnit.id, s.learningProgram.id, COUNT(b) FROM Booking b " +
+           "JOIN b.user u JOIN b.learningSession s WHERE b.status IN ('CONFIRMED', 'COMPLETED') " +
+           "GROUP BY u.role.id, u.businessUnit.id, s.learningProgram.id")
+    List<Object[]> countBookingsByCohortAndProgram();
 }
@@ -29,4 +29,16 @@ public interface BusinessUnitRepository extends JpaRepository<BusinessUnit, Long
 
     @Query("SELECT COUNT(u) FROM User u WHERE u.businessUnit.id = :buId AND u.isActive = true")
     Long countActiveUsersByBusinessUnit(@Param("buId") Long buId);
+
+    // Rows for the in-memory tree: id, parent id, code, name, active
+    @Query("SELECT bu.id, parent.id, bu.code, bu.name, bu.isActive FROM BusinessUnit bu LEFT JOIN bu.parentBusinessUnit parent")
+    List<Object[]> findAllTreeRows();
+
+    @Query("SELECT u.businessUnit.id, COUNT(u) FROM User u WHERE u.businessUnit IS NOT NULL AND u.isActive = true " +
+           "GROUP BY u.businessUnit.id")
+    List<Object[]> countActiveUsersGroupedByBusinessUnit();
+
+    @Query("SELECT u.businessUnit.id, COUNT(b) FROM Booking b JOIN b.user u " +
+           "WHERE u.businessUnit IS NOT NULL AND b.status IN ('CONFIRMED', 'COMPLETED') GROUP BY u.businessUnit.id")
+    List<Object[]> countActiveBookingsGroupedByBusinessUnit();
 }
@@ -0,0 +1,13 @@
+package com.learning.globallearningcalendar.repository;
+
+import com.learning.globallearningcalendar.entity.EmailDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EmailDeadLetterRepository extends JpaRepository<EmailDeadLetter, Long> {
+
+    List<EmailDeadLetter> findAllByOrderByFailedAtDesc();
+}
@@ -0,0 +1,58 @@
+package com.learning.globallearningcalendar.repository;
+
+import com.learning.globallearningcalendar.entity.InstructorRatingStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface InstructorRatingStatisticsRepository extends JpaRepository<InstructorRatingStatistics, String> {
+
+    // Add (delta = 1) or remove (delta = -1) one feedback rating; the email is stored trimmed and lower-cased
+    @Modifying
+    @Query(value = "INSERT INTO instructor_rating_statistics (instructor_email, rating_count, rating_sum, " +
+                   "rating_1, rating_2, rating_3, rating_4, rating_5, updated_at) " +
+                   "VALUES (:email, :delta, :delta * :rating, " +
+                   "CASE WHEN :rating = 1 THEN :delta ELSE 0 END, CASE WHEN :rating = 2 THEN :delta ELSE 0 END, " +
+                   "CASE WHEN :rating = 3 THEN :delta ELSE 0 END, CASE WHEN :rating = 4 THEN :delta ELSE 0 END, " +
+                   "CASE WHEN :rating = 5 THEN :delta ELSE 0 END, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE rating_count = rating_count + VALUES(rating_count), rating_sum = rating_sum + VALUES(rating_sum), " +
+                   "rating_1 = rating_1 + VALUES(rating_1), rating_2 = rating_2 + VALUES(rating_2), rating_3 = rating_3 + VALUES(rating_3), " +
+                   "rating_4 = rating_4 + VALUES(rating_4), rating_5 = rating_5 + VALUES(rating_5), updated_at = NOW()", nativeQuery = true)
+    int addRating(@Param("email") String email, @Param("rating") int rating, @Param("delta") int delta);
+
+    // Recompute one instructor's row from bookings (used when a session changes instructor)
+    @Modifying
+    @Query(value = "DELETE FROM instructor_rating_statistics WHERE instructor_email = :email", nativeQuery = true)
+    int deleteStatistics(@Param("email") String email);
+
+    @Modifying
+    @Query(value = "INSERT INTO instructor_rating_statistics (instructor_email, rating_count, rating_sum, " +
+                   "rating_1, rating_2, rating_3, rating_4, rating_5, updated_at) " +
+                   "SELECT LOWER(TRIM(s.instructor_email)), COUNT(*), SUM(b.feedback_rating), " +
+                   "SUM(CASE WHEN b.feedback_rating = 1 THEN 1 ELSE 0 END), SUM(CASE WHEN b.feedback_rating = 2 THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN b.feedback_rating = 3 THEN 1 ELSE 0 END), SUM(CASE WHEN b.feedback_rating = 4 THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN b.feedback_rating = 5 THEN 1 ELSE 0 END), NOW() " +
+                   "FROM bookings b JOIN learning_sessions s ON s.id = b.session_id " +
+                   "WHERE b.feedback_rating IS NOT NULL AND LOWER(TRIM(s.instructor_email)) = :email " +
+                   "GROUP BY LOWER(TRIM(s.instructor_email))", nativeQuery = true)
+    int insertStatistics(@Param("email") String email);
+
+    @Modifying
+    @Query(value = "DELETE FROM instructor_rating_statistics", nativeQuery = true)
+    int deleteAllStatistics();
+
+    @Modifying
+    @Query(value = "INSERT INTO instructor_rating_statistics (instructor_email, rating_count, rating_sum, " +
+                   "rating_1, rating_2, rating_3, rating_4, rating_5, updated_at) " +
+                   "SELECT LOWER(TRIM(s.instructor_email)), COUNT(*), SUM(b.feedback_rating), " +
+                   "SUM(CASE WHEN b.feedback_rating = 1 THEN 1 ELSE 0 END), SUM(CASE WHEN b.feedback_rating = 2 THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN b.feedback_rating = 3 THEN 1 ELSE 0 END), SUM(CASE WHEN b.feedback_rating = 4 THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN b.feedback_rating = 5 THEN 1 ELSE 0 END), NOW() " +
+                   "FROM bookings b JOIN learning_sessions s ON s.id = b.session_id " +
+                   "WHERE b.feedback_rating IS NOT NULL AND s.instructor_email IS NOT NULL AND TRIM(s.instructor_email) <> '' " +
+                   "GROUP BY LOWER(TRIM(s.instructor_email))", nativeQuery = true)
+    int insertAllStatistics();
+}
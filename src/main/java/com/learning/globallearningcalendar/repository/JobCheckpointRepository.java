@@ -0,0 +1,9 @@
+package com.learning.globallearningcalendar.repository;
+
+import com.learning.globallearningcalendar.entity.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+}
@@ -43,11 +43,13 @@ public interface LearningProgramRepository extends JpaRepository<LearningProgram
     @Query("SELECT lp FROM LearningProgram lp JOIN lp.targetBusinessUnits bu WHERE bu.id = :buId AND lp.isActive = true")
     List<LearningProgram> findByTargetBusinessUnitId(@Param("buId") Long buId);
 
-    @Query("SELECT lp FROM LearningProgram lp WHERE " +
-           "(LOWER(lp.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(lp.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(lp.code) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND lp.isActive = true")
-    List<LearningProgram> searchPrograms(@Param("searchTerm") String searchTerm);
+    // Recommendation model rows: programId, skillId
+    @Query("SELECT lp.id, s.id FROM LearningProgram lp JOIN lp.skills s WHERE lp.isActive = true")
+    List<Object[]> findActiveProgramSkillPairs();
+
+    // Search index rows: id, name, code, description
+    @Query("SELECT lp.id, lp.name, lp.code, lp.description FROM LearningProgram lp WHERE lp.isActive = true")
+    List<Object[]> findActiveSearchRows();
 
     @Query("SELECT lp FROM LearningProgram lp LEFT JOIN FETCH lp.skills LEFT JOIN FETCH lp.targetRoles WHERE lp.id = :id")
     Optional<LearningProgram> findByIdWithDetails(@Param("id") Long id);
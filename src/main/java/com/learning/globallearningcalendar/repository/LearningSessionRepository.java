@@ -5,6 +5,7 @@ import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
@@ -54,10 +55,16 @@ public interface LearningSessionRepository extends JpaRepository<LearningSession
     @Query("SELECT DISTINCT ls FROM LearningSession ls LEFT JOIN FETCH ls.targetRoles LEFT JOIN FETCH ls.targetLocations WHERE ls.isActive = true")
     List<LearningSession> findAllActiveWithRoles();
 
+    // Bookable upcoming sessions with everything the eligibility rules and recommendations read
+    @Query("SELECT DISTINCT ls FROM LearningSession ls JOIN FETCH ls.learningProgram lp LEFT JOIN FETCH ls.location " +
+           "LEFT JOIN FETCH ls.targetRoles LEFT JOIN FETCH ls.targetLocations WHERE ls.isActive = true AND lp.isActive = true " +
+           "AND ls.status = 'SCHEDULED' AND ls.availableSeats > 0 AND ls.startDateTime > :now")
+    List<LearningSession> findOpenSessionsWithEligibility(@Param("now") LocalDateTime now);
+
     @Query("SELECT ls FROM LearningSession ls WHERE ls.instructorEmail = :email AND ls.isActive = true")
     List<LearningSession> findByInstructorEmail(@Param("email") String email);
 
-    @Query("SELECT DISTINCT ls FROM LearningSession ls LEFT JOIN FETCH ls.targetRoles r LEFT JOIN FETCH ls.learningProgram WHERE ls.isActive = true AND ls.status = 'SCHEDULED' AND ls.startDateTime > :now AND (SIZE(ls.targetRoles) = 0 OR r.id IN :roleIds)")
+    @Query("SELECT DISTINCT ls FROM LearningSession ls LEFT JOIN FETCH ls.targetRoles r LEFT JOIN FETCH ls.learningProgram WHERE ls.isActive = true AND ls.status = 'SCHEDULED' AND ls.startDateTime > :now AND (ls.targetAllRoles = true OR SIZE(ls.targetRoles) = 0 OR r.id IN :roleIds)")
     List<LearningSession> findActiveSessionsByRoles(@Param("roleIds") List<Long> roleIds, @Param("now") LocalDateTime now);
 
     @Query("SELECT COUNT(b) FROM Booking b WHERE b.learningSession.id = :sessionId AND b.status = 'CONFIRMED'")
@@ -68,4 +75,33 @@ public interface LearningSessionRepository extends JpaRepository<LearningSession
 
     @Query("SELECT ls FROM LearningSession ls JOIN ls.learningProgram lp JOIN lp.skills s WHERE s.id = :skillId AND ls.startDateTime >= :now AND ls.isActive = true ORDER BY ls.startDateTime")
     List<LearningSession> findUpcomingSessionsBySkill(@Param("skillId") Long skillId, @Param("now") LocalDateTime now);
+
+    // Return several seats to a session in one statement, capped at its capacity
+    @Modifying
+    @Query("UPDATE LearningSession ls SET ls.availableSeats = " +
+           "CASE WHEN ls.availableSeats + :released > ls.totalSeats THEN ls.totalSeats ELSE ls.availableSeats + :released END " +
+           "WHERE ls.id = :sessionId")
+    int releaseSeats(@Param("sessionId") Long sessionId, @Param("released") int released);
+
+    // Seat counts of scheduled sessions that have not started: id, start, total seats, available seats
+    @Query("SELECT ls.id, ls.startDateTime, ls.totalSeats, ls.availableSeats FROM LearningSession ls " +
+           "WHERE ls.isActive = true AND ls.status = 'SCHEDULED' AND ls.startDateTime > :now")
+    List<Object[]> findUpcomingSeatRows(@Param("now") LocalDateTime now);
+
+    // Upcoming sessions with free seats and someone waiting for them - an eligible session waiter
+    // (no active booking for the session) or anyone on the program-level waitlist. Rows: id, available
+    // seats, then count and highest id of the WAITING session and program entries, which change
+    // whenever someone joins or leaves either queue
+    @Query("SELECT ls.id, ls.availableSeats, " +
+           "(SELECT COUNT(w.id) FROM Waitlist w WHERE w.learningSession = ls AND w.status = 'WAITING'), " +
+           "(SELECT MAX(w.id) FROM Waitlist w WHERE w.learningSession = ls AND w.status = 'WAITING'), " +
+           "(SELECT COUNT(pw.id) FROM ProgramWaitlist pw WHERE pw.learningProgram = ls.learningProgram AND pw.status = 'WAITING'), " +
+           "(SELECT MAX(pw.id) FROM ProgramWaitlist pw WHERE pw.learningProgram = ls.learningProgram AND pw.status = 'WAITING') " +
+           "FROM LearningSession ls WHERE ls.availableSeats > 0 AND ls.isActive = true " +
+           "AND ls.status = 'SCHEDULED' AND ls.startDateTime > :now AND (" +
+           "EXISTS (SELECT w.id FROM Waitlist w WHERE w.learningSession = ls AND w.status = 'WAITING' " +
+           "AND NOT EXISTS (SELECT b.id FROM Booking b WHERE b.user = w.user AND b.learningSession = ls " +
+           "AND b.status NOT IN ('CANCELLED', 'REJECTED'))) " +
+           "OR EXISTS (SELECT pw.id FROM ProgramWaitlist pw WHERE pw.learningProgram = ls.learningProgram AND pw.status = 'WAITING'))")
+    List<Object[]> findSessionsWithSeatsForWaiters(@Param("now") LocalDateTime now);
 }
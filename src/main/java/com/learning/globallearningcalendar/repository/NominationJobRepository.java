@@ -0,0 +1,28 @@
+package com.learning.globallearningcalendar.repository;
+
+import com.learning.globallearningcalendar.entity.NominationJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface NominationJobRepository extends JpaRepository<NominationJob, Long> {
+
+    // Locks the job row so only one worker processes a given chunk
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM NominationJob j WHERE j.id = :id")
+    Optional<NominationJob> findByIdForUpdate(@Param("id") Long id);
+
+    // Jobs still to be (re)started, oldest first
+    @Query("SELECT j.id FROM NominationJob j WHERE j.status IN ('QUEUED', 'RUNNING') ORDER BY j.createdAt, j.id")
+    List<Long> findUnfinishedJobIds();
+
+    @Query("SELECT j FROM NominationJob j WHERE j.nominator.id = :nominatorId ORDER BY j.createdAt DESC")
+    List<NominationJob> findByNominatorId(@Param("nominatorId") Long nominatorId);
+}
@@ -84,6 +84,16 @@ public interface NominationRepository extends JpaRepository<Nomination, Long> {
         @Param("nomineeId") Long nomineeId
     );
 
+    // Nominees (among :nomineeIds) who already have a PENDING nomination for the session
+    @Query("SELECT n.nominee.id FROM Nomination n " +
+           "WHERE n.session.id = :sessionId " +
+           "AND n.nominee.id IN :nomineeIds " +
+           "AND n.status = 'PENDING'")
+    List<Long> findNomineeIdsWithActiveNomination(
+        @Param("sessionId") Long sessionId,
+        @Param("nomineeIds") List<Long> nomineeIds
+    );
+
     // Find nomination by booking ID
     @Query("SELECT n FROM Nomination n WHERE n.booking.id = :bookingId")
     Optional<Nomination> findByBookingId(@Param("bookingId") Long bookingId);
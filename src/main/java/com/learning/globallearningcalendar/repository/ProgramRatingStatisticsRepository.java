@@ -0,0 +1,40 @@
+package com.learning.globallearningcalendar.repository;
+
+import com.learning.globallearningcalendar.entity.ProgramRatingStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProgramRatingStatisticsRepository extends JpaRepository<ProgramRatingStatistics, Long> {
+
+    // Add (delta = 1) or remove (delta = -1) one feedback rating
+    @Modifying
+    @Query(value = "INSERT INTO program_rating_statistics (program_id, rating_count, rating_sum, " +
+                   "rating_1, rating_2, rating_3, rating_4, rating_5, updated_at) " +
+                   "VALUES (:programId, :delta, :delta * :rating, " +
+                   "CASE WHEN :rating = 1 THEN :delta ELSE 0 END, CASE WHEN :rating = 2 THEN :delta ELSE 0 END, " +
+                   "CASE WHEN :rating = 3 THEN :delta ELSE 0 END, CASE WHEN :rating = 4 THEN :delta ELSE 0 END, " +
+                   "CASE WHEN :rating = 5 THEN :delta ELSE 0 END, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE rating_count = rating_count + VALUES(rating_count), rating_sum = rating_sum + VALUES(rating_sum), " +
+                   "rating_1 = rating_1 + VALUES(rating_1), rating_2 = rating_2 + VALUES(rating_2), rating_3 = rating_3 + VALUES(rating_3), " +
+                   "rating_4 = rating_4 + VALUES(rating_4), rating_5 = rating_5 + VALUES(rating_5), updated_at = NOW()", nativeQuery = true)
+    int addRating(@Param("programId") Long programId, @Param("rating") int rating, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "DELETE FROM program_rating_statistics", nativeQuery = true)
+    int deleteAllStatistics();
+
+    @Modifying
+    @Query(value = "INSERT INTO program_rating_statistics (program_id, rating_count, rating_sum, " +
+                   "rating_1, rating_2, rating_3, rating_4, rating_5, updated_at) " +
+                   "SELECT s.program_id, COUNT(*), SUM(b.feedback_rating), " +
+                   "SUM(CASE WHEN b.feedback_rating = 1 THEN 1 ELSE 0 END), SUM(CASE WHEN b.feedback_rating = 2 THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN b.feedback_rating = 3 THEN 1 ELSE 0 END), SUM(CASE WHEN b.feedback_rating = 4 THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN b.feedback_rating = 5 THEN 1 ELSE 0 END), NOW() " +
+                   "FROM bookings b JOIN learning_sessions s ON s.id = b.session_id " +
+                   "WHERE b.feedback_rating IS NOT NULL GROUP BY s.program_id", nativeQuery = true)
+    int insertAllStatistics();
+}
@@ -0,0 +1,54 @@
+package com.learning.globallearningcalendar.repository;
+
+import com.learning.globallearningcalendar.entity.ProgramWaitlist;
+import com.learning.globallearningcalendar.entity.Waitlist.WaitlistStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for program-level ("first available") waitlist operations
+ */
+@Repository
+public interface ProgramWaitlistRepository extends JpaRepository<ProgramWaitlist, Long> {
+
+    boolean existsByLearningProgramIdAndUserIdAndStatus(Long programId, Long userId, WaitlistStatus status);
+
+    /**
+     * Queue keys (id, joinedAt) of all waiting entries for a program - used to build the in-memory queue
+     */
+    @Query("SELECT w.id, w.joinedAt FROM ProgramWaitlist w WHERE w.learningProgram.id = :programId AND w.status = 'WAITING'")
+    List<Object[]> findWaitingQueueKeysByProgram(@Param("programId") Long programId);
+
+    // WAITING entries ahead of (joinedAt, id) in the program queue - a range scan on idx_program_waitlist_queue
+    @Query("SELECT COUNT(w) FROM ProgramWaitlist w WHERE w.learningProgram.id = :programId AND w.status = 'WAITING' " +
+           "AND (w.joinedAt < :joinedAt OR (w.joinedAt = :joinedAt AND w.id < :id))")
+    long countWaitingAhead(@Param("programId") Long programId, @Param("joinedAt") LocalDateTime joinedAt,
+                           @Param("id") Long id);
+
+    // Locking read, in id order - parallel matching runs for sessions of the same program wait for each
+    // other here and then see the entries the other one assigned
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM ProgramWaitlist w WHERE w.id IN :ids ORDER BY w.id ASC")
+    List<ProgramWaitlist> findAllByIdInForUpdate(@Param("ids") List<Long> ids);
+
+    /**
+     * Entries with the user's role, location and manager loaded for eligibility checks
+     */
+    @Query("SELECT w FROM ProgramWaitlist w JOIN FETCH w.user u LEFT JOIN FETCH u.role LEFT JOIN FETCH u.location " +
+           "LEFT JOIN FETCH u.manager WHERE w.id IN :ids")
+    List<ProgramWaitlist> findAllWithUserByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT w FROM ProgramWaitlist w JOIN FETCH w.user JOIN FETCH w.learningProgram " +
+           "WHERE w.learningProgram.id = :programId AND w.status = :status ORDER BY w.joinedAt ASC, w.id ASC")
+    List<ProgramWaitlist> findByProgramIdAndStatus(@Param("programId") Long programId, @Param("status") WaitlistStatus status);
+
+    @Query("SELECT w FROM ProgramWaitlist w JOIN FETCH w.learningProgram WHERE w.user.id = :userId ORDER BY w.joinedAt DESC")
+    List<ProgramWaitlist> findByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,59 @@
+package com.learning.globallearningcalendar.repository;
+
+import com.learning.globallearningcalendar.entity.SessionStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SessionStatisticsRepository extends JpaRepository<SessionStatistics, Long> {
+
+    // Add delta bookings to one attendance bucket, creating the row on first use
+    @Modifying
+    @Query(value = "INSERT INTO session_statistics (session_id, attendance_not_marked, attendance_present, attendance_absent, " +
+                   "attendance_partial, rating_count, rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5, updated_at) " +
+                   "VALUES (:sessionId, " +
+                   "CASE WHEN :status = 'NOT_MARKED' THEN :delta ELSE 0 END, CASE WHEN :status = 'PRESENT' THEN :delta ELSE 0 END, " +
+                   "CASE WHEN :status = 'ABSENT' THEN :delta ELSE 0 END, CASE WHEN :status = 'PARTIAL' THEN :delta ELSE 0 END, " +
+                   "0, 0, 0, 0, 0, 0, 0, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE attendance_not_marked = attendance_not_marked + VALUES(attendance_not_marked), " +
+                   "attendance_present = attendance_present + VALUES(attendance_present), " +
+                   "attendance_absent = attendance_absent + VALUES(attendance_absent), " +
+                   "attendance_partial = attendance_partial + VALUES(attendance_partial), updated_at = NOW()", nativeQuery = true)
+    int addAttendance(@Param("sessionId") Long sessionId, @Param("status") String status, @Param("delta") long delta);
+
+    // Add (delta = 1) or remove (delta = -1) one feedback rating
+    @Modifying
+    @Query(value = "INSERT INTO session_statistics (session_id, attendance_not_marked, attendance_present, attendance_absent, " +
+                   "attendance_partial, rating_count, rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5, updated_at) " +
+                   "VALUES (:sessionId, 0, 0, 0, 0, :delta, :delta * :rating, " +
+                   "CASE WHEN :rating = 1 THEN :delta ELSE 0 END, CASE WHEN :rating = 2 THEN :delta ELSE 0 END, " +
+                   "CASE WHEN :rating = 3 THEN :delta ELSE 0 END, CASE WHEN :rating = 4 THEN :delta ELSE 0 END, " +
+                   "CASE WHEN :rating = 5 THEN :delta ELSE 0 END, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE rating_count = rating_count + VALUES(rating_count), rating_sum = rating_sum + VALUES(rating_sum), " +
+                   "rating_1 = rating_1 + VALUES(rating_1), rating_2 = rating_2 + VALUES(rating_2), rating_3 = rating_3 + VALUES(rating_3), " +
+                   "rating_4 = rating_4 + VALUES(rating_4), rating_5 = rating_5 + VALUES(rating_5), updated_at = NOW()", nativeQuery = true)
+    int addRating(@Param("sessionId") Long sessionId, @Param("rating") int rating, @Param("delta") int delta);
+
+    // Full rebuild from bookings (offline repair / first start)
+    @Modifying
+    @Query(value = "DELETE FROM session_statistics", nativeQuery = true)
+    int deleteAllStatistics();
+
+    @Modifying
+    @Query(value = "INSERT INTO session_statistics (session_id, attendance_not_marked, attendance_present, attendance_absent, " +
+                   "attendance_partial, rating_count, rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5, updated_at) " +
+                   "SELECT b.session_id, " +
+                   "SUM(CASE WHEN b.attendance_status = 'NOT_MARKED' THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN b.attendance_status = 'PRESENT' THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN b.attendance_status = 'ABSENT' THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN b.attendance_status = 'PARTIAL' THEN 1 ELSE 0 END), " +
+                   "COUNT(b.feedback_rating), COALESCE(SUM(b.feedback_rating), 0), " +
+                   "SUM(CASE WHEN b.feedback_rating = 1 THEN 1 ELSE 0 END), SUM(CASE WHEN b.feedback_rating = 2 THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN b.feedback_rating = 3 THEN 1 ELSE 0 END), SUM(CASE WHEN b.feedback_rating = 4 THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN b.feedback_rating = 5 THEN 1 ELSE 0 END), NOW() " +
+                   "FROM bookings b GROUP BY b.session_id", nativeQuery = true)
+    int insertAllStatistics();
+}
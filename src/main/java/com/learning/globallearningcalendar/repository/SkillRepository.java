@@ -26,8 +26,9 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     @Query("SELECT s FROM Skill s WHERE s.skillCategory = :category AND s.isActive = true")
     List<Skill> findActiveSkillsByCategory(@Param("category") String category);
 
-    @Query("SELECT s FROM Skill s WHERE LOWER(s.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) AND s.isActive = true")
-    List<Skill> searchByName(@Param("searchTerm") String searchTerm);
+    // Search index rows: id, name
+    @Query("SELECT s.id, s.name FROM Skill s WHERE s.isActive = true")
+    List<Object[]> findActiveSearchRows();
 
     @Query("SELECT s FROM Skill s JOIN s.learningPrograms lp WHERE lp.id = :programId")
     List<Skill> findByLearningProgramId(@Param("programId") Long programId);
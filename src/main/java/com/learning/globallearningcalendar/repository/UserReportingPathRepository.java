@@ -0,0 +1,48 @@
+package com.learning.globallearningcalendar.repository;
+
+import com.learning.globallearningcalendar.entity.UserReportingPath;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserReportingPathRepository extends JpaRepository<UserReportingPath, UserReportingPath.PathId> {
+
+    // The user and everyone under them (depth 0 included)
+    @Query("SELECT p.descendantId FROM UserReportingPath p WHERE p.ancestorId = :userId")
+    List<Long> findSubtreeIds(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(p) > 0 FROM UserReportingPath p WHERE p.ancestorId = :managerId AND p.descendantId = :userId AND p.depth > 0")
+    boolean isInReportingLine(@Param("managerId") Long managerId, @Param("userId") Long userId);
+
+    // Detach a subtree from all of its former managers (paths inside the subtree are kept)
+    @Modifying
+    @Query("DELETE FROM UserReportingPath p WHERE p.descendantId IN :subtreeIds AND p.ancestorId NOT IN :subtreeIds")
+    int detachSubtree(@Param("subtreeIds") List<Long> subtreeIds);
+
+    // Attach the subtree rooted at :userId under every ancestor of :managerId (manager included)
+    @Modifying
+    @Query(value = "INSERT INTO user_reporting_paths (ancestor_id, descendant_id, depth) " +
+                   "SELECT a.ancestor_id, d.descendant_id, a.depth + d.depth + 1 " +
+                   "FROM user_reporting_paths a CROSS JOIN user_reporting_paths d " +
+                   "WHERE a.descendant_id = :managerId AND d.ancestor_id = :userId", nativeQuery = true)
+    int attachSubtree(@Param("userId") Long userId, @Param("managerId") Long managerId);
+
+    // Full rebuild from users.manager_id (offline repair / first start)
+    @Modifying
+    @Query(value = "DELETE FROM user_reporting_paths", nativeQuery = true)
+    int deleteAllPaths();
+
+    @Modifying
+    @Query(value = "INSERT INTO user_reporting_paths (ancestor_id, descendant_id, depth) " +
+                   "WITH RECURSIVE paths (ancestor_id, descendant_id, depth) AS (" +
+                   "SELECT id, id, 0 FROM users " +
+                   "UNION SELECT p.ancestor_id, u.id, p.depth + 1 FROM paths p JOIN users u ON u.manager_id = p.descendant_id " +
+                   "WHERE p.depth < 64) " +
+                   "SELECT ancestor_id, descendant_id, MIN(depth) FROM paths GROUP BY ancestor_id, descendant_id", nativeQuery = true)
+    int insertAllPaths();
+}
@@ -37,12 +37,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.role.roleType = :roleType AND u.isActive = true")
     List<User> findByRoleType(@Param("roleType") com.learning.globallearningcalendar.entity.Role.RoleType roleType);
 
-    @Query("SELECT u FROM User u WHERE " +
-           "(LOWER(u.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(u.email) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(u.employeeId) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND u.isActive = true")
-    List<User> searchUsers(@Param("searchTerm") String searchTerm);
+    // Search index rows: id, firstName, lastName, email, employeeId
+    @Query("SELECT u.id, u.firstName, u.lastName, u.email, u.employeeId FROM User u WHERE u.isActive = true")
+    List<Object[]> findActiveSearchRows();
 
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.role LEFT JOIN FETCH u.businessUnit LEFT JOIN FETCH u.location WHERE u.id = :id")
     Optional<User> findByIdWithDetails(@Param("id") Long id);
@@ -52,4 +49,60 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT COUNT(u) FROM User u WHERE u.location.id = :locationId AND u.isActive = true")
     Long countByLocation(@Param("locationId") Long locationId);
+
+    // Nomination target resolution - keyset-paged active user ids (excluding the nominator)
+
+    @Query(value = "WITH RECURSIVE bu_tree (id) AS (" +
+                   "SELECT id FROM business_units WHERE id = :buId " +
+                   "UNION SELECT c.id FROM business_units c JOIN bu_tree t ON c.parent_bu_id = t.id) " +
+                   "SELECT u.id FROM users u JOIN bu_tree t ON u.business_unit_id = t.id " +
+                   "WHERE u.is_active = true AND u.id > :afterId AND u.id <> :excludeUserId " +
+                   "ORDER BY u.id LIMIT :limit", nativeQuery = true)
+    List<Long> findActiveIdsInBusinessUnitTree(@Param("buId") Long buId, @Param("excludeUserId") Long excludeUserId,
+                                               @Param("afterId") Long afterId, @Param("limit") int limit);
+
+    @Query(value = "WITH RECURSIVE bu_tree (id) AS (" +
+                   "SELECT id FROM business_units WHERE id = :buId " +
+                   "UNION SELECT c.id FROM business_units c JOIN bu_tree t ON c.parent_bu_id = t.id) " +
+                   "SELECT COUNT(*) FROM users u JOIN bu_tree t ON u.business_unit_id = t.id " +
+                   "WHERE u.is_active = true AND u.id <> :excludeUserId", nativeQuery = true)
+    long countActiveInBusinessUnitTree(@Param("buId") Long buId, @Param("excludeUserId") Long excludeUserId);
+
+    @Query("SELECT u.id FROM User u WHERE u.location.id = :locationId AND u.isActive = true " +
+           "AND u.id > :afterId AND u.id <> :excludeUserId ORDER BY u.id")
+    List<Long> findActiveIdsByLocation(@Param("locationId") Long locationId, @Param("excludeUserId") Long excludeUserId,
+                                       @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(u) FROM User u WHERE u.location.id = :locationId AND u.isActive = true AND u.id <> :excludeUserId")
+    long countActiveByLocation(@Param("locationId") Long locationId, @Param("excludeUserId") Long excludeUserId);
+
+    @Query("SELECT u.id FROM User u WHERE u.role.roleType = :roleType AND u.isActive = true " +
+           "AND u.id > :afterId AND u.id <> :excludeUserId ORDER BY u.id")
+    List<Long> findActiveIdsByRoleType(@Param("roleType") com.learning.globallearningcalendar.entity.Role.RoleType roleType,
+                                       @Param("excludeUserId") Long excludeUserId,
+                                       @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(u) FROM User u WHERE u.role.roleType = :roleType AND u.isActive = true AND u.id <> :excludeUserId")
+    long countActiveByRoleType(@Param("roleType") com.learning.globallearningcalendar.entity.Role.RoleType roleType,
+                               @Param("excludeUserId") Long excludeUserId);
+
+    // Everyone below :rootId in the reporting line (direct and skip-level reports), not the root itself
+    @Query("SELECT u.id FROM UserReportingPath p JOIN User u ON u.id = p.descendantId " +
+           "WHERE p.ancestorId = :rootId AND p.depth > 0 AND u.isActive = true " +
+           "AND u.id > :afterId AND u.id <> :excludeUserId ORDER BY u.id")
+    List<Long> findActiveIdsInReportingTree(@Param("rootId") Long rootId, @Param("excludeUserId") Long excludeUserId,
+                                            @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(u) FROM UserReportingPath p JOIN User u ON u.id = p.descendantId " +
+           "WHERE p.ancestorId = :rootId AND p.depth > 0 AND u.isActive = true AND u.id <> :excludeUserId")
+    long countActiveInReportingTree(@Param("rootId") Long rootId, @Param("excludeUserId") Long excludeUserId);
+
+    @Query("SELECT u FROM UserReportingPath p JOIN User u ON u.id = p.descendantId " +
+           "WHERE p.ancestorId = :managerId AND p.depth > 0 AND u.isActive = true ORDER BY p.depth, u.lastName, u.firstName")
+    List<User> findActiveInReportingTree(@Param("managerId") Long managerId);
+
+    // Distinct (role type, location id) pairs across a user and everyone under them
+    @Query("SELECT DISTINCT r.roleType, l.id FROM UserReportingPath p JOIN User u ON u.id = p.descendantId " +
+           "LEFT JOIN u.role r LEFT JOIN u.location l WHERE p.ancestorId = :userId AND u.isActive = true")
+    List<Object[]> findRoleTypesAndLocationsInReportingTree(@Param("userId") Long userId);
 }
@@ -2,6 +2,7 @@ package com.learning.globallearningcalendar.repository;
 
 import com.learning.globallearningcalendar.entity.Waitlist;
 import com.learning.globallearningcalendar.entity.Waitlist.WaitlistStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,7 +20,7 @@ public interface WaitlistRepository extends JpaRepository<Waitlist, Long> {
     /**
      * Find all waitlist entries for a session with a specific status, ordered by position
      */
-    @Query("SELECT w FROM Waitlist w WHERE w.learningSession.id = :sessionId AND w.status = :status ORDER BY w.position ASC")
+    @Query("SELECT w FROM Waitlist w WHERE w.learningSession.id = :sessionId AND w.status = :status ORDER BY w.position ASC, w.id ASC")
     List<Waitlist> findBySessionIdAndStatusOrderByPosition(@Param("sessionId") Long sessionId, @Param("status") WaitlistStatus status);
 
     /**
@@ -70,12 +71,41 @@ public interface WaitlistRepository extends JpaRepository<Waitlist, Long> {
     /**
      * Find all waiting entries for a session with details
      */
-    @Query("SELECT w FROM Waitlist w LEFT JOIN FETCH w.user u WHERE w.learningSession.id = :sessionId AND w.status = 'WAITING' ORDER BY w.position ASC")
+    @Query("SELECT w FROM Waitlist w LEFT JOIN FETCH w.user u WHERE w.learningSession.id = :sessionId AND w.status = 'WAITING' ORDER BY w.position ASC, w.id ASC")
     List<Waitlist> findWaitingBySessionWithDetails(@Param("sessionId") Long sessionId);
 
     /**
-     * Get the maximum position for a session (used to add new entries to the end)
+     * First eligible waiting entries for a session (user and manager eagerly loaded), in join order.
+     * Skips waiters who already hold an active booking for the session. Page size = seats to fill.
      */
-    @Query("SELECT MAX(w.position) FROM Waitlist w WHERE w.learningSession.id = :sessionId AND w.status = 'WAITING'")
-    Integer findMaxPositionBySession(@Param("sessionId") Long sessionId);
+    @Query("SELECT w FROM Waitlist w JOIN FETCH w.user u LEFT JOIN FETCH u.manager " +
+           "WHERE w.learningSession.id = :sessionId AND w.status = 'WAITING' " +
+           "AND NOT EXISTS (SELECT b.id FROM Booking b WHERE b.user.id = u.id AND b.learningSession.id = :sessionId " +
+           "AND b.status NOT IN ('CANCELLED', 'REJECTED')) " +
+           "ORDER BY w.position ASC, w.id ASC")
+    List<Waitlist> findFirstEligibleWaiting(@Param("sessionId") Long sessionId, Pageable pageable);
+
+    /**
+     * Waitlist entries (any status) of the given users for a session - at most one per user
+     */
+    @Query("SELECT w FROM Waitlist w WHERE w.learningSession.id = :sessionId AND w.user.id IN :userIds")
+    List<Waitlist> findBySessionIdAndUserIds(@Param("sessionId") Long sessionId, @Param("userIds") List<Long> userIds);
+
+    /**
+     * Number of WAITING entries ahead of the given join sequence (index range scan on session, status, position)
+     */
+    @Query("SELECT COUNT(w) FROM Waitlist w WHERE w.learningSession.id = :sessionId AND w.status = 'WAITING' AND w.position < :position")
+    long countWaitingAhead(@Param("sessionId") Long sessionId, @Param("position") Integer position);
+
+    /**
+     * Highest join sequence ever allocated for a session, across all statuses
+     */
+    @Query("SELECT MAX(w.position) FROM Waitlist w WHERE w.learningSession.id = :sessionId")
+    Integer findMaxSequenceBySession(@Param("sessionId") Long sessionId);
+
+    /**
+     * Number of waiting entries per session, as (session id, count) rows
+     */
+    @Query("SELECT w.learningSession.id, COUNT(w) FROM Waitlist w WHERE w.status = 'WAITING' GROUP BY w.learningSession.id")
+    List<Object[]> countWaitingGroupedBySession();
 }
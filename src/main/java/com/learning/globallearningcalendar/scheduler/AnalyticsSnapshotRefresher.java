@@ -0,0 +1,32 @@
+package com.learning.globallearningcalendar.scheduler;
+
+import com.learning.globallearningcalendar.service.IAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the booking analytics snapshot on an interval. A failed build keeps the previous
+ * snapshot serving queries until the next attempt.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "analytics.snapshot.enabled", havingValue = "true", matchIfMissing = true)
+public class AnalyticsSnapshotRefresher {
+
+    private final IAnalyticsService analyticsService;
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsSnapshotRefresher.class);
+
+    @Scheduled(initialDelayString = "${analytics.snapshot.initial-delay-ms:20000}",
+               fixedDelayString = "${analytics.snapshot.refresh-ms:300000}")
+    public void refresh() {
+        try {
+            analyticsService.refreshSnapshot();
+        } catch (Exception e) {
+            log.error("Booking analytics snapshot build failed: {}", e.getMessage(), e);
+        }
+    }
+}
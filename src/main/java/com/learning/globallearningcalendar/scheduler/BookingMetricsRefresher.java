@@ -0,0 +1,30 @@
+package com.learning.globallearningcalendar.scheduler;
+
+import com.learning.globallearningcalendar.service.impl.BookingMetrics;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads the counts behind the booking gauges on an interval, as a safety net for changes the
+ * services don't report (direct SQL, sessions starting, lost updates during a reload).
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingMetricsRefresher {
+
+    private final BookingMetrics bookingMetrics;
+    private static final Logger log = LoggerFactory.getLogger(BookingMetricsRefresher.class);
+
+    @Scheduled(initialDelayString = "${metrics.booking.refresh-ms:300000}",
+               fixedDelayString = "${metrics.booking.refresh-ms:300000}")
+    public void refresh() {
+        try {
+            bookingMetrics.refresh();
+        } catch (Exception e) {
+            log.warn("Booking metrics refresh failed: {}", e.getMessage());
+        }
+    }
+}
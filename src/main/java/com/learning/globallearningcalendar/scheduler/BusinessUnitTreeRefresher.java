@@ -0,0 +1,40 @@
+package com.learning.globallearningcalendar.scheduler;
+
+import com.learning.globallearningcalendar.service.IBusinessUnitService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the in-memory business unit tree's booking totals current - bookings change too often
+ * to push each one into the tree - and periodically reloads the whole tree as a safety net.
+ */
+@Component
+@RequiredArgsConstructor
+public class BusinessUnitTreeRefresher {
+
+    private final IBusinessUnitService businessUnitService;
+    private static final Logger log = LoggerFactory.getLogger(BusinessUnitTreeRefresher.class);
+
+    @Scheduled(initialDelayString = "${business-units.tree.booking-refresh-ms:60000}",
+               fixedDelayString = "${business-units.tree.booking-refresh-ms:60000}")
+    public void refreshBookingTotals() {
+        try {
+            businessUnitService.refreshBusinessUnitBookingTotals();
+        } catch (Exception e) {
+            log.warn("Business unit booking totals refresh failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${business-units.tree.full-reload-ms:900000}",
+               fixedDelayString = "${business-units.tree.full-reload-ms:900000}")
+    public void reloadTree() {
+        try {
+            businessUnitService.reloadBusinessUnitTree();
+        } catch (Exception e) {
+            log.warn("Business unit tree reload failed: {}", e.getMessage());
+        }
+    }
+}
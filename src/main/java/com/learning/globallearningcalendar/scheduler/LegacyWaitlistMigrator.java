@@ -0,0 +1,53 @@
+package com.learning.globallearningcalendar.scheduler;
+
+import com.learning.globallearningcalendar.service.IWaitlistService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves legacy WAITLISTED bookings into the waitlist table in the background, a chunk of
+ * sessions per transaction. Progress is checkpointed, so restarts resume where they stopped;
+ * once complete, the job (and the per-cancellation migration check) is skipped.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "waitlist.legacy-migration.enabled", havingValue = "true", matchIfMissing = true)
+public class LegacyWaitlistMigrator {
+
+    private final IWaitlistService waitlistService;
+    private static final Logger log = LoggerFactory.getLogger(LegacyWaitlistMigrator.class);
+
+    @Value("${waitlist.legacy-migration.chunk-size:50}")
+    private int chunkSize;
+
+    @Value("${waitlist.legacy-migration.max-run-ms:30000}")
+    private long maxRunMs;
+
+    @Scheduled(initialDelayString = "${waitlist.legacy-migration.initial-delay-ms:30000}",
+               fixedDelayString = "${waitlist.legacy-migration.interval-ms:300000}")
+    public void migrateNextChunks() {
+        if (waitlistService.isLegacyMigrationComplete()) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + maxRunMs;
+        int sessions = 0;
+        try {
+            // Bounded run per tick so the scheduler thread isn't held indefinitely
+            while (System.currentTimeMillis() < deadline) {
+                int processed = waitlistService.migrateLegacyWaitlistChunk(chunkSize);
+                if (processed == 0) {
+                    break;
+                }
+                sessions += processed;
+            }
+            log.debug("Legacy waitlist migrator processed {} sessions this run", sessions);
+        } catch (Exception e) {
+            log.error("Legacy waitlist migration chunk failed (will resume from the last checkpoint): {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.learning.globallearningcalendar.scheduler;
+
+import com.learning.globallearningcalendar.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends managers a single digest of bookings pending their action on a configurable cadence
+ * (notifications.manager-digest.cron), instead of one notification per pending booking.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notifications.manager-digest.enabled", havingValue = "true", matchIfMissing = true)
+public class ManagerDigestScheduler {
+
+    private final NotificationService notificationService;
+    private static final Logger log = LoggerFactory.getLogger(ManagerDigestScheduler.class);
+
+    @Scheduled(cron = "${notifications.manager-digest.cron:0 0 8 * * *}", zone = "${notifications.manager-digest.zone:UTC}")
+    public void sendManagerDigests() {
+        try {
+            int sent = notificationService.sendManagerDigests();
+            log.info("Manager digest run completed: {} digests sent", sent);
+        } catch (Exception e) {
+            log.error("Manager digest run failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.learning.globallearningcalendar.scheduler;
+
+import com.learning.globallearningcalendar.service.INominationService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Works through queued organization-scope nomination jobs, one chunk of nominees per
+ * transaction. Each chunk commits its cursor, so a restart resumes the job after the last
+ * completed chunk; a chunk that throws fails the job rather than retrying it forever
+ * (resubmitting is safe - already nominated users are reported and skipped).
+ */
+@Component
+@RequiredArgsConstructor
+public class NominationJobRunner {
+
+    private final INominationService nominationService;
+    private static final Logger log = LoggerFactory.getLogger(NominationJobRunner.class);
+
+    @Value("${nominations.scoped-jobs.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${nominations.scoped-jobs.max-run-ms:30000}")
+    private long maxRunMs;
+
+    @Scheduled(initialDelayString = "${nominations.scoped-jobs.initial-delay-ms:10000}",
+               fixedDelayString = "${nominations.scoped-jobs.poll-interval-ms:5000}")
+    public void runQueuedJobs() {
+        List<Long> jobIds = nominationService.getUnfinishedNominationJobIds();
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        // Bounded run per tick so the scheduler thread isn't held indefinitely
+        long deadline = System.currentTimeMillis() + maxRunMs;
+        for (Long jobId : jobIds) {
+            int chunks = 0;
+            try {
+                boolean more = true;
+                while (more && System.currentTimeMillis() < deadline) {
+                    more = nominationService.processNominationJobChunk(jobId, chunkSize);
+                    chunks++;
+                }
+            } catch (Exception e) {
+                log.error("Nomination job {} failed: {}", jobId, e.getMessage(), e);
+                nominationService.failNominationJob(jobId, e.getMessage());
+            }
+            log.debug("Nomination job {}: processed {} chunks this run", jobId, chunks);
+            if (System.currentTimeMillis() >= deadline) {
+                break;
+            }
+        }
+    }
+}
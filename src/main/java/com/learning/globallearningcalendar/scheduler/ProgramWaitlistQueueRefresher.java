@@ -0,0 +1,31 @@
+package com.learning.globallearningcalendar.scheduler;
+
+import com.learning.globallearningcalendar.service.impl.ProgramWaitlistQueues;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads the in-memory program waitlist queues on an interval, so joins, removals and
+ * assignments committed on other instances reach this one's seat matching.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProgramWaitlistQueueRefresher {
+
+    private final ProgramWaitlistQueues programWaitlistQueues;
+    private static final Logger log = LoggerFactory.getLogger(ProgramWaitlistQueueRefresher.class);
+
+    @Scheduled(initialDelayString = "${program-waitlist.queues.reload-ms:60000}",
+               fixedDelayString = "${program-waitlist.queues.reload-ms:60000}")
+    public void reload() {
+        try {
+            int reloaded = programWaitlistQueues.reloadLoaded();
+            log.debug("Reloaded {} program waitlist queues", reloaded);
+        } catch (Exception e) {
+            log.warn("Program waitlist queue reload failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.learning.globallearningcalendar.scheduler;
+
+import com.learning.globallearningcalendar.service.IRecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the recommendation model on an interval, picking up new cohorts, program skills and
+ * anything the incremental completion updates missed. A failed build keeps the previous model.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "recommendations.model.enabled", havingValue = "true", matchIfMissing = true)
+public class RecommendationModelRefresher {
+
+    private final IRecommendationService recommendationService;
+    private static final Logger log = LoggerFactory.getLogger(RecommendationModelRefresher.class);
+
+    @Scheduled(initialDelayString = "${recommendations.model.rebuild-ms:3600000}",
+               fixedDelayString = "${recommendations.model.rebuild-ms:3600000}")
+    public void rebuild() {
+        try {
+            recommendationService.rebuildModel();
+        } catch (Exception e) {
+            log.error("Recommendation model build failed: {}", e.getMessage(), e);
+        }
+    }
+}
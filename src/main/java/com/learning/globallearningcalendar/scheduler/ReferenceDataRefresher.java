@@ -0,0 +1,30 @@
+package com.learning.globallearningcalendar.scheduler;
+
+import com.learning.globallearningcalendar.service.impl.ReferenceData;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads the reference data snapshot on an interval, so roles, locations, skills and business
+ * units written on other instances (or directly in the database) reach this one.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataRefresher {
+
+    private final ReferenceData referenceData;
+    private static final Logger log = LoggerFactory.getLogger(ReferenceDataRefresher.class);
+
+    @Scheduled(initialDelayString = "${reference-data.reload-ms:300000}",
+               fixedDelayString = "${reference-data.reload-ms:300000}")
+    public void reload() {
+        try {
+            referenceData.reload();
+        } catch (Exception e) {
+            log.warn("Reference data reload failed: {}", e.getMessage());
+        }
+    }
+}
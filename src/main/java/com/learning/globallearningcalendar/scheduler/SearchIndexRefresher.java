@@ -0,0 +1,30 @@
+package com.learning.globallearningcalendar.scheduler;
+
+import com.learning.globallearningcalendar.service.impl.SearchIndexes;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads the search indexes on an interval - each instance only re-indexes the changes it
+ * commits itself, so this is how programs, skills and users edited elsewhere become searchable.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexRefresher {
+
+    private final SearchIndexes searchIndexes;
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexRefresher.class);
+
+    @Scheduled(initialDelayString = "${search.indexes.reload-ms:300000}",
+               fixedDelayString = "${search.indexes.reload-ms:300000}")
+    public void reload() {
+        try {
+            searchIndexes.load();
+        } catch (Exception e) {
+            log.warn("Search index reload failed: {}", e.getMessage());
+        }
+    }
+}
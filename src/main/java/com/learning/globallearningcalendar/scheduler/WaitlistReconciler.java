@@ -0,0 +1,33 @@
+package com.learning.globallearningcalendar.scheduler;
+
+import com.learning.globallearningcalendar.service.impl.WaitlistProcessingExecutor;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resubmits waitlist processing for sessions whose free seats nobody is promoting - runs that were
+ * queued in memory when an instance stopped, or seats released by another instance or direct SQL.
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitlistReconciler {
+
+    private final WaitlistProcessingExecutor waitlistProcessingExecutor;
+    private static final Logger log = LoggerFactory.getLogger(WaitlistReconciler.class);
+
+    @Scheduled(initialDelayString = "${waitlist.reconciliation.interval-ms:60000}",
+               fixedDelayString = "${waitlist.reconciliation.interval-ms:60000}")
+    public void reconcile() {
+        try {
+            int submitted = waitlistProcessingExecutor.resubmitStrandedSessions();
+            if (submitted > 0) {
+                log.info("Waitlist reconciliation resubmitted {} sessions with free seats", submitted);
+            }
+        } catch (Exception e) {
+            log.warn("Waitlist reconciliation failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.learning.globallearningcalendar.service;
+
+import com.learning.globallearningcalendar.entity.EmailDeadLetter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Asynchronous outbound email channel. Messages are queued and delivered by background
+ * workers so request threads never wait on SMTP.
+ */
+public interface EmailDeliveryService {
+
+    /**
+     * Queue a message for delivery. Returns false if email is disabled, the recipient is blank
+     * or the queue is full (the message is then dead-lettered rather than blocking the caller).
+     */
+    boolean enqueue(String recipient, String subject, String body);
+
+    /**
+     * Queue a message once the current transaction commits (immediately if there is none).
+     */
+    void enqueueAfterCommit(String recipient, String subject, String body);
+
+    List<EmailDeadLetter> getDeadLetters();
+
+    /**
+     * Re-queue the given dead letters and remove them from the dead-letter store.
+     * Returns the number re-queued.
+     */
+    int requeueDeadLetters(List<Long> deadLetterIds);
+
+    Map<String, Long> getStatistics();
+}
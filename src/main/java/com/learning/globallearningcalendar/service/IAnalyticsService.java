@@ -0,0 +1,23 @@
+package com.learning.globallearningcalendar.service;
+
+import com.learning.globallearningcalendar.dto.AnalyticsDTO;
+import com.learning.globallearningcalendar.util.BookingAnalyticsSnapshot;
+
+import java.util.List;
+
+public interface IAnalyticsService {
+
+    /**
+     * Group and filter bookings over the in-memory snapshot - never queries the database
+     */
+    AnalyticsDTO.QueryResponse queryBookings(AnalyticsDTO.QueryRequest request);
+
+    List<String> getDimensionValues(BookingAnalyticsSnapshot.Dimension dimension);
+
+    AnalyticsDTO.SnapshotInfo getSnapshotInfo();
+
+    /**
+     * Rebuild the snapshot from the database and swap it in
+     */
+    AnalyticsDTO.SnapshotInfo refreshSnapshot();
+}
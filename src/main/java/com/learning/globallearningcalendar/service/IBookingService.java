@@ -1,6 +1,7 @@
 package com.learning.globallearningcalendar.service;
 
 import com.learning.globallearningcalendar.dto.BookingDTO;
+import com.learning.globallearningcalendar.dto.StatisticsDTO;
 import com.learning.globallearningcalendar.entity.Booking;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -63,10 +64,26 @@ public interface IBookingService {
 
     List<BookingDTO> getTeamBookings(Long managerId);
 
+    /**
+     * Bookings of everyone in the manager's reporting tree, direct and skip-level reports
+     */
+    Page<BookingDTO> getOrganizationBookings(Long managerId, Pageable pageable);
+
     Map<Booking.AttendanceStatus, Long> getAttendanceStatsBySession(Long sessionId);
 
     Double getAverageFeedbackRatingByProgram(Long programId);
 
+    StatisticsDTO.SessionStatistics getSessionStatistics(Long sessionId);
+
+    StatisticsDTO.RatingSummary getProgramRatingStatistics(Long programId);
+
+    StatisticsDTO.RatingSummary getInstructorRatingStatistics(String instructorEmail);
+
+    /**
+     * Recompute the session, program and instructor statistics from the bookings table
+     */
+    void rebuildStatistics();
+
     BookingDTO rejectBooking(Long id, Long rejectedById, String rejectionReason);
 
     List<BookingDTO> getPendingApprovalsByManager(Long managerId);
@@ -95,5 +112,17 @@ public interface IBookingService {
 
     BookingDTO rejectCancellationRequest(Long bookingId, Long managerId, String rejectionReason);
 
+    /**
+     * Bulk versions of the manager decisions above. The batch is validated with one query; bookings
+     * that fail validation are reported in the response and the rest are updated set-based.
+     */
+    BookingDTO.BulkDecisionResponse confirmBookings(List<Long> bookingIds, Long approvedById);
+
+    BookingDTO.BulkDecisionResponse rejectBookings(List<Long> bookingIds, Long rejectedById, String rejectionReason);
+
+    BookingDTO.BulkDecisionResponse approveCancellations(List<Long> bookingIds, Long managerId);
+
+    BookingDTO.BulkDecisionResponse rejectCancellationRequests(List<Long> bookingIds, Long managerId, String rejectionReason);
+
     List<BookingDTO> getPendingCancellationsByManager(Long managerId);
 }
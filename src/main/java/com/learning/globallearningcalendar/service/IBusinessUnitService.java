@@ -25,4 +25,14 @@ public interface IBusinessUnitService {
     List<BusinessUnitDTO> getChildBusinessUnits(Long parentId);
 
     Long countUsersByBusinessUnit(Long buId);
+
+    Long countUsersInBusinessUnitTree(Long buId);
+
+    List<BusinessUnitDTO.TreeNode> getBusinessUnitTree();
+
+    BusinessUnitDTO.TreeNode getBusinessUnitSubtree(Long buId);
+
+    void refreshBusinessUnitBookingTotals();
+
+    void reloadBusinessUnitTree();
 }
@@ -0,0 +1,21 @@
+package com.learning.globallearningcalendar.service;
+
+import com.learning.globallearningcalendar.dto.DashboardDTO;
+
+/**
+ * Service interface for composed dashboards - one response per role instead of one request per panel
+ */
+public interface IDashboardService {
+
+    /**
+     * Employee home page: upcoming bookings, eligible sessions, unread notifications,
+     * actionable nominations and waitlists
+     */
+    DashboardDTO.EmployeeDashboard getEmployeeDashboard(Long userId);
+
+    /**
+     * Manager home page: the employee sections plus pending approvals, pending cancellations,
+     * team bookings and nominations sent
+     */
+    DashboardDTO.ManagerDashboard getManagerDashboard(Long managerId);
+}
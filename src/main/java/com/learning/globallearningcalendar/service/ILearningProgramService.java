@@ -37,7 +37,7 @@ public interface ILearningProgramService {
 
     List<LearningProgramDTO> getProgramsByTargetBusinessUnit(Long buId);
 
-    List<LearningProgramDTO> searchPrograms(String searchTerm);
+    List<LearningProgramDTO> searchPrograms(String searchTerm, Integer limit);
 
     Long countSessionsByProgram(Long programId);
 }
@@ -11,6 +11,38 @@ public interface INominationService {
      */
     NominationDTO.BulkNominationResponse nominateEmployees(NominationDTO.BulkNominationRequest request, Long nominatorId);
 
+    /**
+     * Queue an organization-scope nomination (business unit subtree, location, role type or
+     * reporting tree). Nominees are resolved in the database and nominated by a background job.
+     */
+    NominationDTO.NominationJobResponse startScopedNomination(NominationDTO.ScopedNominationRequest request, Long nominatorId);
+
+    /**
+     * Nominate the next chunk of a scoped nomination job in one transaction.
+     * Returns true while more nominees remain.
+     */
+    boolean processNominationJobChunk(Long jobId, int chunkSize);
+
+    /**
+     * Mark a scoped nomination job as failed
+     */
+    void failNominationJob(Long jobId, String reason);
+
+    /**
+     * Ids of queued or running scoped nomination jobs, oldest first
+     */
+    List<Long> getUnfinishedNominationJobIds();
+
+    /**
+     * Get progress of a scoped nomination job
+     */
+    NominationDTO.NominationJobResponse getNominationJob(Long jobId);
+
+    /**
+     * Get scoped nomination jobs started by a nominator, newest first
+     */
+    List<NominationDTO.NominationJobResponse> getNominationJobsByNominator(Long nominatorId);
+
     /**
      * Get all nominations for an employee
      */
@@ -0,0 +1,37 @@
+package com.learning.globallearningcalendar.service;
+
+import com.learning.globallearningcalendar.dto.ProgramWaitlistDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for program-level ("first available") waitlists
+ */
+public interface IProgramWaitlistService {
+
+    /**
+     * Wait for a seat in any eligible session of a program
+     */
+    ProgramWaitlistDTO joinProgramWaitlist(Long programId, Long userId, String notes);
+
+    /**
+     * Leave a program waitlist
+     */
+    void leaveProgramWaitlist(Long entryId, Long userId);
+
+    /**
+     * Active (WAITING) entries for a program, longest waiting first
+     */
+    List<ProgramWaitlistDTO> getProgramWaitlist(Long programId);
+
+    /**
+     * All program waitlist entries for a user
+     */
+    List<ProgramWaitlistDTO> getUserProgramWaitlists(Long userId);
+
+    /**
+     * Assign any free seats in a session to the longest-waiting eligible users of its program
+     * Returns the number of users booked
+     */
+    int matchReleasedSeats(Long sessionId);
+}
@@ -0,0 +1,19 @@
+package com.learning.globallearningcalendar.service;
+
+import com.learning.globallearningcalendar.dto.RecommendationDTO;
+
+public interface IRecommendationService {
+
+    /**
+     * Upcoming sessions the user is eligible for, best first, served from the per-user cache
+     * when fresh
+     */
+    RecommendationDTO.UserRecommendations getRecommendations(Long userId, Integer limit);
+
+    RecommendationDTO.ModelInfo getModelInfo();
+
+    /**
+     * Rebuild the co-occurrence model from the database and drop cached rankings
+     */
+    RecommendationDTO.ModelInfo rebuildModel();
+}
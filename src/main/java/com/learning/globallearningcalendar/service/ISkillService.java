@@ -24,5 +24,5 @@ public interface ISkillService {
 
     List<String> getAllCategories();
 
-    List<SkillDTO> searchSkills(String searchTerm);
+    List<SkillDTO> searchSkills(String searchTerm, Integer limit);
 }
@@ -37,7 +37,12 @@ public interface IUserService {
 
     List<UserDTO> getDirectReports(Long managerId);
 
-    List<UserDTO> searchUsers(String searchTerm);
+    /**
+     * Everyone reporting to a manager, directly or skip-level
+     */
+    List<UserDTO> getReportingTree(Long managerId);
+
+    List<UserDTO> searchUsers(String searchTerm, Integer limit);
 
     Long countUsersByBusinessUnit(Long buId);
 
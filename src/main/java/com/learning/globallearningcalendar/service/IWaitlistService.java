@@ -4,6 +4,7 @@ import com.learning.globallearningcalendar.dto.WaitlistDTO;
 import com.learning.globallearningcalendar.entity.Waitlist.WaitlistStatus;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for Waitlist operations
@@ -46,10 +47,33 @@ public interface IWaitlistService {
     boolean isUserInWaitlist(Long sessionId, Long userId);
 
     /**
-     * Process the waitlist when a booking is cancelled
-     * Automatically confirms the first person in the waitlist if seats are available
+     * Process the waitlist when seats become available (cancellation or capacity increase)
+     * Promotes the first eligible waiters, up to the number of available seats, in one batch
+     * Returns the number of users promoted
      */
-    void processWaitlistForCancellation(Long sessionId);
+    int processWaitlistForCancellation(Long sessionId);
+
+    /**
+     * Move legacy WAITLISTED bookings for a session into the waitlist table, keeping their order
+     * Returns the number of bookings migrated
+     */
+    int migrateLegacyWaitlistedBookings(Long sessionId);
+
+    /**
+     * Migrate the next chunk of sessions with legacy WAITLISTED bookings and advance the job checkpoint
+     * Returns the number of sessions processed; 0 once the migration is complete
+     */
+    int migrateLegacyWaitlistChunk(int maxSessions);
+
+    /**
+     * Whether the background legacy migration has finished
+     */
+    boolean isLegacyMigrationComplete();
+
+    /**
+     * Progress of the background legacy migration
+     */
+    Map<String, Object> getLegacyMigrationProgress();
 
     /**
      * Get waitlist entry by ID
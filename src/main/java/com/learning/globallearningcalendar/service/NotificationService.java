@@ -3,6 +3,7 @@ package com.learning.globallearningcalendar.service;
 import com.learning.globallearningcalendar.dto.NotificationDTO;
 import com.learning.globallearningcalendar.entity.Booking;
 import com.learning.globallearningcalendar.entity.Notification;
+import com.learning.globallearningcalendar.entity.Waitlist;
 
 import java.util.List;
 
@@ -29,8 +30,20 @@ public interface NotificationService {
     void notifyBookingCancelled(Booking booking, String reason);
     
     void notifyBookingWaitlisted(Booking booking);
+
+    /**
+     * Notify (and email) every user whose booking was cancelled in one batch, e.g. when a session is cancelled.
+     */
+    void notifyBookingsCancelled(List<Booking> bookings, String reason);
+
+    void notifyWaitlistCancelled(List<Waitlist> waitlists);
     
     void notifyWaitlistPromoted(Booking booking);
+
+    /**
+     * Notify all users promoted from a waitlist in one batch.
+     */
+    void notifyWaitlistPromoted(List<Booking> bookings);
     
     void notifyBookingApproved(Booking booking);
     
@@ -39,4 +52,21 @@ public interface NotificationService {
     void notifyCancellationApproved(Booking booking);
     
     void notifyCancellationRejected(Booking booking, String reason);
+
+    /**
+     * Batch versions of the manager-decision notifications, saved (and emailed) in one go.
+     */
+    void notifyBookingsApproved(List<Booking> bookings);
+
+    void notifyBookingsRejected(List<Booking> bookings, String reason);
+
+    void notifyCancellationsApproved(List<Booking> bookings);
+
+    void notifyCancellationsRejected(List<Booking> bookings, String reason);
+
+    /**
+     * Send one digest notification per manager summarising all bookings awaiting their action.
+     * Returns the number of digests created.
+     */
+    int sendManagerDigests();
 }
@@ -0,0 +1,243 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.dto.AnalyticsDTO;
+import com.learning.globallearningcalendar.entity.Booking;
+import com.learning.globallearningcalendar.entity.LearningProgram;
+import com.learning.globallearningcalendar.entity.Role;
+import com.learning.globallearningcalendar.exception.BadRequestException;
+import com.learning.globallearningcalendar.repository.BookingRepository;
+import com.learning.globallearningcalendar.service.IAnalyticsService;
+import com.learning.globallearningcalendar.util.BookingAnalyticsSnapshot;
+import com.learning.globallearningcalendar.util.BookingAnalyticsSnapshot.Dimension;
+import com.learning.globallearningcalendar.util.BookingAnalyticsSnapshot.Measure;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Booking analytics over an in-memory {@link BookingAnalyticsSnapshot}.
+ *
+ * The snapshot is rebuilt on a schedule by streaming flattened booking rows out of MySQL a page
+ * at a time inside one read-only transaction, then swapped in atomically. Queries only ever read
+ * the current snapshot and aggregate it on a dedicated fork-join pool, so reporting load never
+ * reaches the OLTP database; the figures are as fresh as the last refresh.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsServiceImpl implements IAnalyticsService {
+
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final BookingRepository bookingRepository;
+    private final PlatformTransactionManager transactionManager;
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsServiceImpl.class);
+
+    @Value("${analytics.snapshot.page-size:5000}")
+    private int pageSize;
+
+    // 0 = one worker per available processor
+    @Value("${analytics.parallelism:0}")
+    private int parallelism;
+
+    private final AtomicReference<BookingAnalyticsSnapshot> current = new AtomicReference<>();
+    private final Object refreshLock = new Object();
+    private volatile long lastBuildMs;
+    private ForkJoinPool pool;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void start() {
+        int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(workers, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("analytics-worker-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdownNow();
+    }
+
+    @Override
+    public AnalyticsDTO.QueryResponse queryBookings(AnalyticsDTO.QueryRequest request) {
+        long startedAt = System.nanoTime();
+        List<Dimension> groupBy = request.getGroupBy() != null ? request.getGroupBy() : List.of();
+        if (new HashSet<>(groupBy).size() != groupBy.size()) {
+            throw new BadRequestException("Each dimension can appear only once in groupBy");
+        }
+        if (request.getLimit() != null && request.getLimit() < 0) {
+            throw new BadRequestException("Limit must not be negative");
+        }
+
+        BookingAnalyticsSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            // Not built yet - answer empty rather than fall back to the database
+            return AnalyticsDTO.QueryResponse.builder()
+                    .groupBy(groupBy)
+                    .groups(List.of())
+                    .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                    .build();
+        }
+
+        List<BookingAnalyticsSnapshot.Group> groups;
+        try {
+            groups = snapshot.aggregate(groupBy,
+                    request.getFilters() != null ? request.getFilters() : Map.of(), pool);
+        } catch (ArithmeticException e) {
+            throw new BadRequestException("Too many group combinations - group by fewer dimensions");
+        }
+
+        int limit = request.getLimit() != null ? Math.min(request.getLimit(), groups.size()) : groups.size();
+        return AnalyticsDTO.QueryResponse.builder()
+                .groupBy(groupBy)
+                .groups(groups.subList(0, limit).stream()
+                        .map(group -> toGroupRow(groupBy, group))
+                        .collect(Collectors.toList()))
+                .totalGroups(groups.size())
+                .snapshotBuiltAt(snapshot.builtAt())
+                .snapshotRows(snapshot.rowCount())
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                .build();
+    }
+
+    @Override
+    public List<String> getDimensionValues(Dimension dimension) {
+        BookingAnalyticsSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot.values(dimension) : List.of();
+    }
+
+    @Override
+    public AnalyticsDTO.SnapshotInfo getSnapshotInfo() {
+        return snapshotInfo(current.get());
+    }
+
+    @Override
+    public AnalyticsDTO.SnapshotInfo refreshSnapshot() {
+        synchronized (refreshLock) {
+            long startedAt = System.nanoTime();
+            BookingAnalyticsSnapshot snapshot = readOnlyTransaction.execute(status -> load());
+            current.set(snapshot);
+            lastBuildMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            log.info("Built booking analytics snapshot: {} rows in {} ms", snapshot.rowCount(), lastBuildMs);
+            return snapshotInfo(snapshot);
+        }
+    }
+
+    private BookingAnalyticsSnapshot load() {
+        BookingAnalyticsSnapshot previous = current.get();
+        BookingAnalyticsSnapshot.Builder builder =
+                BookingAnalyticsSnapshot.builder(previous != null ? previous.rowCount() : pageSize);
+        EnumMap<Dimension, String> values = new EnumMap<>(Dimension.class);
+        long afterId = 0;
+        while (true) {
+            List<Object[]> rows = bookingRepository.findAnalyticsRows(afterId, PageRequest.of(0, pageSize));
+            for (Object[] row : rows) {
+                Booking.BookingStatus status = (Booking.BookingStatus) row[1];
+                Booking.CompletionStatus completion = (Booking.CompletionStatus) row[2];
+                Booking.AttendanceStatus attendance = (Booking.AttendanceStatus) row[3];
+                Integer rating = (Integer) row[4];
+                LearningProgram.ProgramType programType = (LearningProgram.ProgramType) row[7];
+                LocalDateTime start = (LocalDateTime) row[9];
+                Role.RoleType roleType = (Role.RoleType) row[10];
+
+                values.put(Dimension.BUSINESS_UNIT, (String) row[5]);
+                values.put(Dimension.LOCATION, (String) row[6]);
+                values.put(Dimension.PROGRAM_TYPE, programType != null ? programType.name() : null);
+                values.put(Dimension.PROGRAM, (String) row[8]);
+                values.put(Dimension.MONTH, start != null ? start.format(MONTH) : null);
+                values.put(Dimension.ROLE_TYPE, roleType != null ? roleType.name() : null);
+                values.put(Dimension.STATUS, status != null ? status.name() : null);
+                builder.add(values, flagsOf(status, completion, attendance), rating != null ? rating : 0);
+            }
+            if (rows.size() < pageSize) {
+                break;
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        return builder.build();
+    }
+
+    private static int flagsOf(Booking.BookingStatus status, Booking.CompletionStatus completion,
+                               Booking.AttendanceStatus attendance) {
+        int flags = 0;
+        if (status == Booking.BookingStatus.CONFIRMED || status == Booking.BookingStatus.COMPLETED) {
+            flags |= BookingAnalyticsSnapshot.CONFIRMED;
+        }
+        if (status == Booking.BookingStatus.COMPLETED || completion == Booking.CompletionStatus.COMPLETED) {
+            flags |= BookingAnalyticsSnapshot.COMPLETED;
+        }
+        if (status == Booking.BookingStatus.CANCELLED) {
+            flags |= BookingAnalyticsSnapshot.CANCELLED;
+        }
+        if (status == Booking.BookingStatus.NO_SHOW) {
+            flags |= BookingAnalyticsSnapshot.NO_SHOW;
+        }
+        if (attendance == Booking.AttendanceStatus.PRESENT || attendance == Booking.AttendanceStatus.PARTIAL) {
+            flags |= BookingAnalyticsSnapshot.ATTENDED;
+        }
+        return flags;
+    }
+
+    private AnalyticsDTO.GroupRow toGroupRow(List<Dimension> groupBy, BookingAnalyticsSnapshot.Group group) {
+        Map<Dimension, String> keys = new LinkedHashMap<>();
+        for (int i = 0; i < groupBy.size(); i++) {
+            keys.put(groupBy.get(i), group.keys().get(i));
+        }
+        long bookings = group.get(Measure.BOOKINGS);
+        long ratingCount = group.get(Measure.RATING_COUNT);
+        return AnalyticsDTO.GroupRow.builder()
+                .keys(keys)
+                .bookings(bookings)
+                .confirmed(group.get(Measure.CONFIRMED))
+                .completions(group.get(Measure.COMPLETIONS))
+                .cancellations(group.get(Measure.CANCELLATIONS))
+                .noShows(group.get(Measure.NO_SHOWS))
+                .attended(group.get(Measure.ATTENDED))
+                .ratingCount(ratingCount)
+                .averageRating(ratingCount > 0 ? (double) group.get(Measure.RATING_SUM) / ratingCount : null)
+                .completionRate(bookings > 0 ? (double) group.get(Measure.COMPLETIONS) / bookings : null)
+                .build();
+    }
+
+    private AnalyticsDTO.SnapshotInfo snapshotInfo(BookingAnalyticsSnapshot snapshot) {
+        if (snapshot == null) {
+            return AnalyticsDTO.SnapshotInfo.builder().distinctValues(Map.of()).build();
+        }
+        Map<Dimension, Integer> distinctValues = new EnumMap<>(Dimension.class);
+        for (Dimension dimension : Dimension.values()) {
+            distinctValues.put(dimension, snapshot.values(dimension).size());
+        }
+        return AnalyticsDTO.SnapshotInfo.builder()
+                .builtAt(snapshot.builtAt())
+                .rows(snapshot.rowCount())
+                .buildMs(lastBuildMs)
+                .distinctValues(distinctValues)
+                .build();
+    }
+}
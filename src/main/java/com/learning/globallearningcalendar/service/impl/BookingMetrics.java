@@ -0,0 +1,360 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.entity.Booking;
+import com.learning.globallearningcalendar.entity.LearningSession;
+import com.learning.globallearningcalendar.repository.BookingRepository;
+import com.learning.globallearningcalendar.repository.LearningSessionRepository;
+import com.learning.globallearningcalendar.repository.WaitlistRepository;
+import com.learning.globallearningcalendar.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Business and latency metrics for bookings, waitlists and nominations.
+ *
+ * Counters: bookings.created (tag source: booking, nomination, session_waitlist or
+ * program_waitlist), bookings.waitlisted and bookings.promoted (tag waitlist) and
+ * bookings.rejected. service.calls times every IBookingService, IWaitlistService and
+ * INominationService operation (tags service, method, exception).
+ *
+ * Gauges: waitlist.depth (tag session) and waitlist.depth.total, bookings.pending.approval (tag
+ * manager) and bookings.pending.approval.total, and sessions.upcoming.seat.utilization - held
+ * seats over capacity across scheduled sessions that have not started.
+ *
+ * Gauges read counts held here, never the database. The services report each change and it is
+ * applied after commit; the counts are reloaded with three grouped queries at startup and on an
+ * interval, which corrects drift from changes made outside the services. Per-session and
+ * per-manager gauges are dropped at the next reload once their count is back to zero.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingMetrics {
+
+    // bookings.created sources; the waitlists double as bookings.waitlisted / bookings.promoted tags
+    public static final String BOOKING = "booking";
+    public static final String NOMINATION = "nomination";
+    public static final String SESSION_WAITLIST = "session_waitlist";
+    public static final String PROGRAM_WAITLIST = "program_waitlist";
+
+    private final MeterRegistry meterRegistry;
+    private final WaitlistRepository waitlistRepository;
+    private final BookingRepository bookingRepository;
+    private final LearningSessionRepository learningSessionRepository;
+    private static final Logger log = LoggerFactory.getLogger(BookingMetrics.class);
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final KeyedCounts waitlistDepth = new KeyedCounts("waitlist.depth", "session",
+            "Entries waiting on a session's waitlist");
+    private final KeyedCounts pendingApprovals = new KeyedCounts("bookings.pending.approval", "manager",
+            "Bookings awaiting the manager's approval");
+    private final Map<Long, UpcomingSession> upcomingSessions = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerGauges() {
+        waitlistDepth.registerTotal();
+        pendingApprovals.registerTotal();
+        Gauge.builder("sessions.upcoming.seat.utilization", this, BookingMetrics::upcomingSeatUtilization)
+                .description("Held seats over capacity across scheduled sessions that have not started")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reload the gauge counts from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void refresh() {
+        waitlistDepth.reload(countsByKey(waitlistRepository.countWaitingGroupedBySession()));
+        pendingApprovals.reload(countsByKey(bookingRepository.countPendingApprovalsGroupedByManager()));
+
+        Map<Long, UpcomingSession> sessions = new HashMap<>();
+        for (Object[] row : learningSessionRepository.findUpcomingSeatRows(LocalDateTime.now())) {
+            int totalSeats = row[2] != null ? (Integer) row[2] : 0;
+            int availableSeats = row[3] != null ? (Integer) row[3] : totalSeats;
+            sessions.put((Long) row[0], new UpcomingSession((LocalDateTime) row[1], totalSeats, totalSeats - availableSeats));
+        }
+        upcomingSessions.keySet().retainAll(sessions.keySet());
+        upcomingSessions.putAll(sessions);
+        log.debug("Reloaded booking metrics: {} sessions with waiters, {} managers with pending approvals, {} upcoming sessions",
+                waitlistDepth.size(), pendingApprovals.size(), upcomingSessions.size());
+    }
+
+    /**
+     * Record one service call; failed calls are tagged with the exception's class
+     */
+    public void recordCall(String service, String method, long nanos, Throwable failure) {
+        String exception = failure != null ? failure.getClass().getSimpleName() : "none";
+        timers.computeIfAbsent(service + '.' + method + ' ' + exception, key -> Timer.builder("service.calls")
+                        .description("Booking, waitlist and nomination service operations")
+                        .tags("service", service, "method", method, "exception", exception)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void bookingCreated(Booking booking, String source) {
+        bookingsCreated(List.of(booking), source);
+    }
+
+    /**
+     * New bookings; those created CONFIRMED or PENDING_APPROVAL took a seat of their session
+     */
+    public void bookingsCreated(Collection<Booking> bookings, String source) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> seatsBySession = new HashMap<>();
+        List<Long> pendingManagerIds = new ArrayList<>();
+        for (Booking booking : bookings) {
+            if (booking.getStatus() == Booking.BookingStatus.CONFIRMED
+                    || booking.getStatus() == Booking.BookingStatus.PENDING_APPROVAL) {
+                seatsBySession.merge(booking.getLearningSession().getId(), 1, Integer::sum);
+            }
+            if (booking.getStatus() == Booking.BookingStatus.PENDING_APPROVAL) {
+                pendingManagerIds.add(managerIdOf(booking));
+            }
+        }
+        int created = bookings.size();
+        TransactionCallbacks.afterCommit(() -> {
+            counter("bookings.created", "Bookings created", "source", source).increment(created);
+            seatsBySession.forEach(this::adjustHeldSeats);
+            pendingManagerIds.forEach(managerId -> pendingApprovals.add(managerId, 1));
+        });
+    }
+
+    /**
+     * Bookings created from a waitlist; promotion from a session's waitlist also shortens it
+     */
+    public void bookingsPromoted(Long sessionId, Collection<Booking> bookings, String waitlist) {
+        bookingsCreated(bookings, waitlist);
+        int promoted = bookings.size();
+        TransactionCallbacks.afterCommit(() -> {
+            counter("bookings.promoted", "Bookings created by promotion from a waitlist", "waitlist", waitlist)
+                    .increment(promoted);
+            if (SESSION_WAITLIST.equals(waitlist)) {
+                waitlistDepth.add(sessionId, -promoted);
+            }
+        });
+    }
+
+    /**
+     * A booking's status changed; only moves out of PENDING_APPROVAL and rejections are tracked
+     */
+    public void bookingStatusChanged(Booking booking, Booking.BookingStatus previous) {
+        statusChanged(booking, previous, booking.getStatus());
+    }
+
+    /**
+     * Bookings changed in bulk, whose entities still carry their previous status
+     */
+    public void bookingsStatusChanged(Collection<Booking> bookings, Booking.BookingStatus status) {
+        for (Booking booking : bookings) {
+            statusChanged(booking, booking.getStatus(), status);
+        }
+    }
+
+    /**
+     * Seats taken from (positive) or returned to (negative) a session's available seats outside booking creation
+     */
+    public void seatsTaken(Long sessionId, int seats) {
+        TransactionCallbacks.afterCommit(() -> adjustHeldSeats(sessionId, seats));
+    }
+
+    /**
+     * A session was created, rescheduled, resized, cancelled or deleted
+     */
+    public void sessionChanged(LearningSession session) {
+        Long sessionId = session.getId();
+        boolean scheduled = Boolean.TRUE.equals(session.getIsActive())
+                && session.getStatus() == LearningSession.SessionStatus.SCHEDULED;
+        LocalDateTime startsAt = session.getStartDateTime();
+        int totalSeats = session.getTotalSeats() != null ? session.getTotalSeats() : 0;
+        int availableSeats = session.getAvailableSeats() != null ? session.getAvailableSeats() : totalSeats;
+        TransactionCallbacks.afterCommit(() -> {
+            if (scheduled && startsAt != null && startsAt.isAfter(LocalDateTime.now())) {
+                upcomingSessions.put(sessionId, new UpcomingSession(startsAt, totalSeats, totalSeats - availableSeats));
+            } else {
+                upcomingSessions.remove(sessionId);
+            }
+        });
+    }
+
+    public void waitlistJoined(Long sessionId) {
+        TransactionCallbacks.afterCommit(() -> {
+            counter("bookings.waitlisted", "Users added to a waitlist", "waitlist", SESSION_WAITLIST).increment();
+            waitlistDepth.add(sessionId, 1);
+        });
+    }
+
+    public void programWaitlistJoined() {
+        TransactionCallbacks.afterCommit(() ->
+                counter("bookings.waitlisted", "Users added to a waitlist", "waitlist", PROGRAM_WAITLIST).increment());
+    }
+
+    /**
+     * Waiting entries added to (positive) or removed from (negative) a session's waitlist other than by joining or promotion
+     */
+    public void waitlistChanged(Long sessionId, int entries) {
+        if (entries != 0) {
+            TransactionCallbacks.afterCommit(() -> waitlistDepth.add(sessionId, entries));
+        }
+    }
+
+    private void statusChanged(Booking booking, Booking.BookingStatus previous, Booking.BookingStatus status) {
+        boolean leftPendingApproval = previous == Booking.BookingStatus.PENDING_APPROVAL
+                && status != Booking.BookingStatus.PENDING_APPROVAL;
+        boolean rejected = status == Booking.BookingStatus.REJECTED && previous != Booking.BookingStatus.REJECTED;
+        if (!leftPendingApproval && !rejected) {
+            return;
+        }
+        Long managerId = leftPendingApproval ? managerIdOf(booking) : null;
+        TransactionCallbacks.afterCommit(() -> {
+            if (leftPendingApproval) {
+                pendingApprovals.add(managerId, -1);
+            }
+            if (rejected) {
+                counter("bookings.rejected", "Bookings rejected by the approving manager").increment();
+            }
+        });
+    }
+
+    private void adjustHeldSeats(Long sessionId, int seats) {
+        UpcomingSession session = upcomingSessions.get(sessionId);
+        if (session != null) {
+            session.heldSeats().updateAndGet(held -> Math.max(0, Math.min(session.totalSeats(), held + seats)));
+        }
+    }
+
+    private double upcomingSeatUtilization() {
+        LocalDateTime now = LocalDateTime.now();
+        long capacity = 0;
+        long held = 0;
+        for (UpcomingSession session : upcomingSessions.values()) {
+            // Sessions that have started since the last reload no longer count
+            if (session.startsAt().isAfter(now)) {
+                capacity += session.totalSeats();
+                held += session.heldSeats().get();
+            }
+        }
+        return capacity > 0 ? (double) held / capacity : 0;
+    }
+
+    private Counter counter(String name, String description, String... tags) {
+        return counters.computeIfAbsent(name + String.join(",", tags), key -> Counter.builder(name)
+                .description(description)
+                .tags(tags)
+                .register(meterRegistry));
+    }
+
+    private static Long managerIdOf(Booking booking) {
+        return booking.getUser() != null && booking.getUser().getManager() != null
+                ? booking.getUser().getManager().getId() : null;
+    }
+
+    private static Map<Long, Integer> countsByKey(List<Object[]> rows) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return counts;
+    }
+
+    private record UpcomingSession(LocalDateTime startsAt, int totalSeats, AtomicInteger heldSeats) {
+        private UpcomingSession(LocalDateTime startsAt, int totalSeats, int heldSeats) {
+            this(startsAt, totalSeats, new AtomicInteger(heldSeats));
+        }
+    }
+
+    /**
+     * A count per key (session or manager), each with its own gauge, plus a gauge over their sum
+     */
+    private final class KeyedCounts {
+        private final String name;
+        private final String tag;
+        private final String description;
+        private final Map<Long, AtomicInteger> counts = new ConcurrentHashMap<>();
+        private final Map<Long, Gauge> gauges = new ConcurrentHashMap<>();
+
+        private KeyedCounts(String name, String tag, String description) {
+            this.name = name;
+            this.tag = tag;
+            this.description = description;
+        }
+
+        private void registerTotal() {
+            Gauge.builder(name + ".total", this, KeyedCounts::total)
+                    .description(description + ", summed")
+                    .register(meterRegistry);
+        }
+
+        private void add(Long key, int delta) {
+            if (key == null) {
+                return;
+            }
+            counts.compute(key, (id, count) -> {
+                AtomicInteger current = count != null ? count : register(id);
+                current.updateAndGet(value -> Math.max(0, value + delta));
+                return current;
+            });
+        }
+
+        private void reload(Map<Long, Integer> loaded) {
+            loaded.forEach((key, value) -> counts.compute(key, (id, count) -> {
+                AtomicInteger current = count != null ? count : register(id);
+                current.set(value);
+                return current;
+            }));
+            for (Long key : counts.keySet()) {
+                counts.computeIfPresent(key, (id, count) -> {
+                    if (loaded.containsKey(id)) {
+                        return count;
+                    }
+                    meterRegistry.remove(gauges.remove(id));
+                    return null;
+                });
+            }
+        }
+
+        private AtomicInteger register(Long key) {
+            AtomicInteger count = new AtomicInteger();
+            gauges.put(key, Gauge.builder(name, count, AtomicInteger::get)
+                    .description(description)
+                    .tag(tag, String.valueOf(key))
+                    .register(meterRegistry));
+            return count;
+        }
+
+        private int size() {
+            return counts.size();
+        }
+
+        private double total() {
+            long total = 0;
+            for (AtomicInteger count : counts.values()) {
+                total += count.get();
+            }
+            return total;
+        }
+    }
+}
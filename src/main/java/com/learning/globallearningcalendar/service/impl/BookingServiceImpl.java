@@ -1,16 +1,21 @@
 package com.learning.globallearningcalendar.service.impl;
 
 import com.learning.globallearningcalendar.dto.BookingDTO;
+import com.learning.globallearningcalendar.dto.StatisticsDTO;
 import com.learning.globallearningcalendar.entity.*;
 import com.learning.globallearningcalendar.exception.BadRequestException;
 import com.learning.globallearningcalendar.exception.ResourceNotFoundException;
 import com.learning.globallearningcalendar.repository.BookingRepository;
+import com.learning.globallearningcalendar.repository.InstructorRatingStatisticsRepository;
 import com.learning.globallearningcalendar.repository.LearningSessionRepository;
 import com.learning.globallearningcalendar.repository.NominationRepository;
+import com.learning.globallearningcalendar.repository.ProgramRatingStatisticsRepository;
+import com.learning.globallearningcalendar.repository.SessionStatisticsRepository;
 import com.learning.globallearningcalendar.repository.UserRepository;
 import com.learning.globallearningcalendar.service.IBookingService;
 import com.learning.globallearningcalendar.service.IWaitlistService;
 import com.learning.globallearningcalendar.service.NotificationService;
+import com.learning.globallearningcalendar.util.ReferenceDataSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,11 +25,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,6 +48,15 @@ public class BookingServiceImpl implements IBookingService {
     private final NominationRepository nominationRepository;
     private final IWaitlistService waitlistService;
     private final NotificationService notificationService;
+    private final WaitlistProcessingExecutor waitlistProcessingExecutor;
+    private final SessionEligibilityEvaluator sessionEligibilityEvaluator;
+    private final LearningStatistics learningStatistics;
+    private final BookingMetrics bookingMetrics;
+    private final SessionRecommender sessionRecommender;
+    private final ReferenceData referenceData;
+    private final SessionStatisticsRepository sessionStatisticsRepository;
+    private final ProgramRatingStatisticsRepository programRatingStatisticsRepository;
+    private final InstructorRatingStatisticsRepository instructorRatingStatisticsRepository;
     private static final Logger log = LoggerFactory.getLogger(BookingServiceImpl.class);
 
     @Override
@@ -94,7 +113,7 @@ public class BookingServiceImpl implements IBookingService {
         log.debug("Found session: {} (availableSeats={}, totalSeats={})", session.getId(), session.getAvailableSeats(), session.getTotalSeats());
 
         // Check if user is eligible to book this session (location and role)
-        if (!isUserEligibleForSession(user, session)) {
+        if (!sessionEligibilityEvaluator.isEligible(user, session)) {
             log.error("User {} is not eligible to book session {}", dto.getUserId(), dto.getSessionId());
             throw new BadRequestException("You are not eligible to book this session based on location or role restrictions");
         }
@@ -186,6 +205,8 @@ public class BookingServiceImpl implements IBookingService {
             }
             
             Booking saved = bookingRepository.save(booking);
+            learningStatistics.bookingCreated(saved);
+            bookingMetrics.bookingCreated(saved, BookingMetrics.BOOKING);
             log.debug("Booking saved with id {} and status {}", saved.getId(), saved.getStatus());
             
             // Send notification for auto-approved bookings
@@ -257,6 +278,7 @@ public class BookingServiceImpl implements IBookingService {
         }
 
         LearningSession session = booking.getLearningSession();
+        Booking.BookingStatus previousStatus = booking.getStatus();
         boolean shouldReleaseSeats = booking.getStatus() == Booking.BookingStatus.CONFIRMED || 
                                      booking.getStatus() == Booking.BookingStatus.PENDING_APPROVAL;
 
@@ -267,19 +289,17 @@ public class BookingServiceImpl implements IBookingService {
         if (shouldReleaseSeats) {
             session.incrementAvailableSeats();
             session = learningSessionRepository.saveAndFlush(session);
+            bookingMetrics.seatsTaken(session.getId(), -1);
             log.debug("Seat released due to cancellation. Available seats: {}", session.getAvailableSeats());
 
-            // NEW: Process waitlist using the new waitlist table
-            // This will automatically confirm the first person in the waitlist if available
-            log.info("Processing waitlist for session {} after booking cancellation. Available seats: {}", 
+            // Promote from the waitlist (and migrate legacy WAITLISTED bookings) asynchronously after commit
+            log.info("Queueing waitlist processing for session {} after booking cancellation. Available seats: {}", 
                     session.getId(), session.getAvailableSeats());
-            waitlistService.processWaitlistForCancellation(session.getId());
-            
-            // LEGACY: Also check for old WAITLISTED bookings and migrate them
-            migrateOldWaitlistedBookings(session.getId());
+            waitlistProcessingExecutor.submitAfterCommit(session.getId());
         }
 
         Booking updated = bookingRepository.save(booking);
+        bookingMetrics.bookingStatusChanged(updated, previousStatus);
         log.info("Booking {} cancelled. Reason: {}", id, cancellationReason);
         
         // Send cancellation notification
@@ -389,6 +409,7 @@ public class BookingServiceImpl implements IBookingService {
             throw new BadRequestException("Session no longer has available seats");
         }
 
+        Booking.BookingStatus previousStatus = booking.getStatus();
         booking.setStatus(Booking.BookingStatus.CONFIRMED);
         booking.setConfirmationDate(LocalDateTime.now());
         booking.setApprovedBy(approvedBy);
@@ -398,6 +419,7 @@ public class BookingServiceImpl implements IBookingService {
         // No need to decrement again here
 
         Booking updated = bookingRepository.save(booking);
+        bookingMetrics.bookingStatusChanged(updated, previousStatus);
         
         // Send booking approval notification
         try {
@@ -415,6 +437,7 @@ public class BookingServiceImpl implements IBookingService {
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking", "id", id));
 
+        Booking.AttendanceStatus previousStatus = booking.getAttendanceStatus();
         booking.setAttendanceStatus(attendanceStatus);
         booking.setAttendanceMarkedAt(LocalDateTime.now());
 
@@ -423,6 +446,7 @@ public class BookingServiceImpl implements IBookingService {
         }
 
         Booking updated = bookingRepository.save(booking);
+        learningStatistics.attendanceChanged(updated, previousStatus);
         return toDTO(updated);
     }
 
@@ -430,6 +454,8 @@ public class BookingServiceImpl implements IBookingService {
     public BookingDTO markCompletion(Long id, Booking.CompletionStatus completionStatus) {
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking", "id", id));
+        boolean wasCompleted = booking.getStatus() == Booking.BookingStatus.COMPLETED
+                || booking.getCompletionStatus() == Booking.CompletionStatus.COMPLETED;
 
         booking.setCompletionStatus(completionStatus);
 
@@ -439,6 +465,9 @@ public class BookingServiceImpl implements IBookingService {
         }
 
         Booking updated = bookingRepository.save(booking);
+        if (!wasCompleted && completionStatus == Booking.CompletionStatus.COMPLETED) {
+            sessionRecommender.bookingCompleted(updated);
+        }
         return toDTO(updated);
     }
 
@@ -451,10 +480,12 @@ public class BookingServiceImpl implements IBookingService {
             throw new BadRequestException("Rating must be between 1 and 5");
         }
 
+        Integer previousRating = booking.getFeedbackRating();
         booking.setFeedbackRating(rating);
         booking.setFeedbackComments(comments);
 
         Booking updated = bookingRepository.save(booking);
+        learningStatistics.feedbackChanged(updated, previousRating);
         return toDTO(updated);
     }
 
@@ -489,21 +520,97 @@ public class BookingServiceImpl implements IBookingService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Page<BookingDTO> getOrganizationBookings(Long managerId, Pageable pageable) {
+        return bookingRepository.findOrganizationBookings(managerId, pageable).map(this::toDTO);
+    }
+
     @Override
     public Map<Booking.AttendanceStatus, Long> getAttendanceStatsBySession(Long sessionId) {
-        List<Object[]> stats = bookingRepository.getAttendanceStatsBySession(sessionId);
-        Map<Booking.AttendanceStatus, Long> result = new HashMap<>();
-        for (Object[] stat : stats) {
-            if (stat[0] != null) {
-                result.put((Booking.AttendanceStatus) stat[0], (Long) stat[1]);
-            }
-        }
-        return result;
+        return sessionStatisticsRepository.findById(sessionId)
+                .map(this::attendanceBuckets)
+                .orElseGet(HashMap::new);
     }
 
     @Override
     public Double getAverageFeedbackRatingByProgram(Long programId) {
-        return bookingRepository.getAverageFeedbackRatingByProgram(programId);
+        return programRatingStatisticsRepository.findById(programId)
+                .map(stats -> stats.getRatings().average())
+                .orElse(null);
+    }
+
+    @Override
+    public StatisticsDTO.SessionStatistics getSessionStatistics(Long sessionId) {
+        LearningSession session = learningSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("LearningSession", "id", sessionId));
+        Optional<SessionStatistics> stats = sessionStatisticsRepository.findById(sessionId);
+
+        // Seat counters on the session are maintained transactionally, so fill rate needs no booking scan
+        Integer bookedSeats = session.getTotalSeats() != null && session.getAvailableSeats() != null
+                ? session.getTotalSeats() - session.getAvailableSeats() : null;
+        Double fillRate = bookedSeats != null && session.getTotalSeats() > 0
+                ? (double) bookedSeats / session.getTotalSeats() : null;
+
+        return StatisticsDTO.SessionStatistics.builder()
+                .sessionId(sessionId)
+                .attendance(stats.map(this::attendanceBuckets).orElseGet(HashMap::new))
+                .totalSeats(session.getTotalSeats())
+                .bookedSeats(bookedSeats)
+                .fillRate(fillRate)
+                .ratings(ratingSummary(stats.map(SessionStatistics::getRatings).orElse(null)))
+                .build();
+    }
+
+    @Override
+    public StatisticsDTO.RatingSummary getProgramRatingStatistics(Long programId) {
+        return ratingSummary(programRatingStatisticsRepository.findById(programId)
+                .map(ProgramRatingStatistics::getRatings)
+                .orElse(null));
+    }
+
+    @Override
+    public StatisticsDTO.RatingSummary getInstructorRatingStatistics(String instructorEmail) {
+        String key = LearningStatistics.instructorKey(instructorEmail);
+        if (key == null) {
+            throw new BadRequestException("Instructor email is required");
+        }
+        return ratingSummary(instructorRatingStatisticsRepository.findById(key)
+                .map(InstructorRatingStatistics::getRatings)
+                .orElse(null));
+    }
+
+    @Override
+    public void rebuildStatistics() {
+        learningStatistics.rebuild();
+    }
+
+    // Non-empty buckets only, matching the old GROUP BY over bookings
+    private Map<Booking.AttendanceStatus, Long> attendanceBuckets(SessionStatistics stats) {
+        Map<Booking.AttendanceStatus, Long> buckets = new HashMap<>();
+        putIfPositive(buckets, Booking.AttendanceStatus.NOT_MARKED, stats.getAttendanceNotMarked());
+        putIfPositive(buckets, Booking.AttendanceStatus.PRESENT, stats.getAttendancePresent());
+        putIfPositive(buckets, Booking.AttendanceStatus.ABSENT, stats.getAttendanceAbsent());
+        putIfPositive(buckets, Booking.AttendanceStatus.PARTIAL, stats.getAttendancePartial());
+        return buckets;
+    }
+
+    private static void putIfPositive(Map<Booking.AttendanceStatus, Long> buckets, Booking.AttendanceStatus status, long count) {
+        if (count > 0) {
+            buckets.put(status, count);
+        }
+    }
+
+    private StatisticsDTO.RatingSummary ratingSummary(RatingStatistics ratings) {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        long[] counts = ratings != null ? ratings.distribution() : new long[5];
+        for (int stars = 1; stars <= counts.length; stars++) {
+            distribution.put(stars, counts[stars - 1]);
+        }
+        return StatisticsDTO.RatingSummary.builder()
+                .ratingCount(ratings != null ? ratings.getRatingCount() : 0)
+                .averageRating(ratings != null ? ratings.average() : null)
+                .distribution(distribution)
+                .build();
     }
 
     @Override
@@ -533,9 +640,11 @@ public class BookingServiceImpl implements IBookingService {
         LearningSession session = booking.getLearningSession();
         session.incrementAvailableSeats();
         learningSessionRepository.save(session);
+        bookingMetrics.seatsTaken(session.getId(), -1);
         log.debug("Seat released due to rejection. Available seats: {}", session.getAvailableSeats());
 
         Booking updated = bookingRepository.save(booking);
+        bookingMetrics.bookingStatusChanged(updated, Booking.BookingStatus.PENDING_APPROVAL);
         
         // Send booking rejection notification
         try {
@@ -598,11 +707,12 @@ public class BookingServiceImpl implements IBookingService {
         return true;
     }
 
-    private String generateBookingReference() {
+    // Package-private, as is toDTO, so the benchmarks under src/jmh can call them
+    String generateBookingReference() {
         return "BK-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
     }
 
-    private BookingDTO toDTO(Booking booking) {
+    BookingDTO toDTO(Booking booking) {
         BookingDTO dto = BookingDTO.builder()
                 .id(booking.getId())
                 .bookingReference(booking.getBookingReference())
@@ -637,8 +747,10 @@ public class BookingServiceImpl implements IBookingService {
 
             // Include business unit information
             if (booking.getUser().getBusinessUnit() != null) {
-                dto.setUserBusinessUnitId(booking.getUser().getBusinessUnit().getId());
-                dto.setUserBusinessUnitName(booking.getUser().getBusinessUnit().getName());
+                ReferenceDataSnapshot.BusinessUnitEntry businessUnit =
+                        referenceData.businessUnitEntry(booking.getUser().getBusinessUnit());
+                dto.setUserBusinessUnitId(businessUnit.id());
+                dto.setUserBusinessUnitName(businessUnit.name());
             }
 
             // Include manager information
@@ -671,7 +783,7 @@ public class BookingServiceImpl implements IBookingService {
             }
 
             if (session.getLocation() != null) {
-                dto.setSessionLocationName(session.getLocation().getName());
+                dto.setSessionLocationName(referenceData.locationEntry(session.getLocation()).name());
             }
         }
 
@@ -694,48 +806,6 @@ public class BookingServiceImpl implements IBookingService {
         return dto;
     }
 
-    /**
-     * MIGRATION HELPER: Convert old WAITLISTED bookings to new waitlist table entries
-     * This ensures backward compatibility with existing WAITLISTED bookings
-     */
-    private void migrateOldWaitlistedBookings(Long sessionId) {
-        try {
-            List<Booking> oldWaitlistedBookings = bookingRepository.findWaitlistedBookingsBySession(sessionId);
-            
-            if (oldWaitlistedBookings.isEmpty()) {
-                return;
-            }
-            
-            log.info("Found {} old WAITLISTED bookings for session {}. Migrating to new waitlist table...", 
-                    oldWaitlistedBookings.size(), sessionId);
-            
-            for (Booking waitlistedBooking : oldWaitlistedBookings) {
-                try {
-                    // Check if user is already in new waitlist
-                    if (!waitlistService.isUserInWaitlist(sessionId, waitlistedBooking.getUser().getId())) {
-                        // Add to new waitlist table
-                        waitlistService.joinWaitlist(
-                            sessionId, 
-                            waitlistedBooking.getUser().getId(), 
-                            "Migrated from old WAITLISTED booking #" + waitlistedBooking.getId()
-                        );
-                        
-                        // Delete the old WAITLISTED booking
-                        bookingRepository.delete(waitlistedBooking);
-                        
-                        log.info("Migrated user {} from WAITLISTED booking {} to new waitlist table", 
-                                waitlistedBooking.getUser().getId(), waitlistedBooking.getId());
-                    }
-                } catch (Exception e) {
-                    log.error("Error migrating WAITLISTED booking {} to new waitlist: {}", 
-                            waitlistedBooking.getId(), e.getMessage());
-                }
-            }
-        } catch (Exception e) {
-            log.error("Error during waitlist migration for session {}: {}", sessionId, e.getMessage());
-        }
-    }
-
     @Override
     public void cancelBookingsBySession(Long sessionId, String cancellationReason) {
         // Find all active bookings for this session
@@ -746,6 +816,7 @@ public class BookingServiceImpl implements IBookingService {
                 .collect(Collectors.toList());
 
         log.info("Cancelling {} active bookings for session {}", activeBookings.size(), sessionId);
+        bookingMetrics.bookingsStatusChanged(activeBookings, Booking.BookingStatus.CANCELLED);
 
         // Cancel each booking
         for (Booking booking : activeBookings) {
@@ -757,11 +828,13 @@ public class BookingServiceImpl implements IBookingService {
             bookingRepository.save(booking);
             
             log.info("Cancelled booking {} for user {}", booking.getId(), booking.getUser().getId());
-            
-            // TODO: Send email notification to user about booking cancellation
-            // notificationService.notifyBookingCancelled(booking);
         }
 
+        // One batch of notifications; emails are delivered asynchronously after commit
+        notificationService.notifyBookingsCancelled(activeBookings, cancellationReason != null
+                ? cancellationReason
+                : "Session cancelled");
+
         // Cancel any waitlist entries for this session
         try {
             waitlistService.cancelWaitlistBySession(sessionId);
@@ -814,73 +887,6 @@ public class BookingServiceImpl implements IBookingService {
         return seatStatusMap;
     }
     
-    /**
-     * Check if a user is eligible to book a session based on location and role
-     */
-    private boolean isUserEligibleForSession(User user, LearningSession session) {
-        // Check role eligibility - compare role types, not role IDs (handles multiple roles with same type)
-        if (session.getTargetRoles() != null && !session.getTargetRoles().isEmpty()) {
-            boolean hasRole = session.getTargetRoles().stream()
-                .anyMatch(role -> role.getRoleType().equals(user.getRole().getRoleType()));
-            if (!hasRole) {
-                log.debug("User {} does not have required role for session {}", user.getId(), session.getId());
-                return false;
-            }
-        }
-        
-        // Check location eligibility based on delivery mode
-        DeliveryMode mode = session.getDeliveryMode() != null ? session.getDeliveryMode() : DeliveryMode.OFFLINE;
-        
-        if (mode == DeliveryMode.OFFLINE) {
-            // Offline sessions: only users in the same location
-            if (session.getLocation() != null && user.getLocation() != null) {
-                boolean sameLocation = session.getLocation().getId().equals(user.getLocation().getId());
-                if (!sameLocation) {
-                    log.debug("User location {} != session location {} for offline session", 
-                        user.getLocation().getId(), session.getLocation().getId());
-                }
-                return sameLocation;
-            }
-            // If session or user has no location, allow (backward compatibility)
-            return true;
-        } else {
-            // Online sessions: check location scope
-            LocationScope scope = session.getLocationScope() != null ? session.getLocationScope() : LocationScope.ALL_LOCATIONS;
-            
-            if (scope == LocationScope.ALL_LOCATIONS) {
-                return true;
-            } else {
-                // SPECIFIC_LOCATION: check if user's location is in session's target locations
-                if (session.getTargetLocations() != null && !session.getTargetLocations().isEmpty()) {
-                    // User must be in one of the target locations
-                    if (user.getLocation() != null) {
-                        boolean inTargetLocation = session.getTargetLocations().stream()
-                            .anyMatch(location -> location.getId().equals(user.getLocation().getId()));
-                        if (!inTargetLocation) {
-                            log.debug("User location {} not in target locations for location-specific online session", 
-                                user.getLocation().getId());
-                        }
-                        return inTargetLocation;
-                    }
-                    // User has no location, cannot access specific location sessions
-                    log.debug("User has no location, cannot access location-specific online session");
-                    return false;
-                } else {
-                    // Fallback: if no target locations specified, check session's primary location
-                    if (session.getLocation() != null && user.getLocation() != null) {
-                        boolean sameLocation = session.getLocation().getId().equals(user.getLocation().getId());
-                        if (!sameLocation) {
-                            log.debug("User location {} != session location {} for location-specific online session", 
-                                user.getLocation().getId(), session.getLocation().getId());
-                        }
-                        return sameLocation;
-                    }
-                    return true;
-                }
-            }
-        }
-    }
-
     @Override
     @Transactional
     public BookingDTO selectSeat(Long bookingId, Integer seatNumber) {
@@ -913,6 +919,7 @@ public class BookingServiceImpl implements IBookingService {
         // Decrement available seats
         session.decrementAvailableSeats();
         learningSessionRepository.save(session);
+        bookingMetrics.seatsTaken(session.getId(), 1);
 
         booking = bookingRepository.save(booking);
 
@@ -996,6 +1003,9 @@ public class BookingServiceImpl implements IBookingService {
             booking.setStatus(Booking.BookingStatus.PENDING_CANCELLATION);
             booking.setCancellationReason(cancellationReason);
             booking.setCancellationDate(LocalDateTime.now());
+            // New request for the manager - include it in their next digest
+            booking.setManagerNotified(false);
+            booking.setManagerNotifiedDate(null);
 
             booking = bookingRepository.saveAndFlush(booking);
             log.info("Cancellation request created for MANDATORY booking {} by user {}. Requires manager {} approval.", 
@@ -1036,15 +1046,13 @@ public class BookingServiceImpl implements IBookingService {
         // Release seat
         session.incrementAvailableSeats();
         session = learningSessionRepository.saveAndFlush(session);
+        bookingMetrics.seatsTaken(session.getId(), -1);
         log.debug("Seat released due to approved cancellation. Available seats: {}", session.getAvailableSeats());
 
-        // Process waitlist
-        log.info("Processing waitlist for session {} after approved cancellation. Available seats: {}", 
+        // Process waitlist asynchronously after commit
+        log.info("Queueing waitlist processing for session {} after approved cancellation. Available seats: {}", 
                 session.getId(), session.getAvailableSeats());
-        waitlistService.processWaitlistForCancellation(session.getId());
-        
-        // Migrate old waitlisted bookings
-        migrateOldWaitlistedBookings(session.getId());
+        waitlistProcessingExecutor.submitAfterCommit(session.getId());
 
         booking = bookingRepository.save(booking);
         log.info("Manager {} approved cancellation request for booking {}", managerId, bookingId);
@@ -1106,4 +1114,191 @@ public class BookingServiceImpl implements IBookingService {
                 .map(this::toDTO)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public BookingDTO.BulkDecisionResponse confirmBookings(List<Long> bookingIds, Long approvedById) {
+        User approvedBy = userRepository.findById(approvedById)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", approvedById));
+
+        List<String> errors = new ArrayList<>();
+        List<Booking> accepted = new ArrayList<>();
+        for (Booking booking : loadForDecision(bookingIds, errors)) {
+            if (booking.getStatus() != Booking.BookingStatus.PENDING &&
+                booking.getStatus() != Booking.BookingStatus.PENDING_APPROVAL) {
+                errors.add(decisionError(booking, "Only pending bookings can be confirmed"));
+            } else if (booking.getUser().getManager() != null &&
+                       !booking.getUser().getManager().getId().equals(approvedById)) {
+                errors.add(decisionError(booking, "Only the employee's direct manager can approve this booking"));
+            } else if (booking.getStatus() == Booking.BookingStatus.PENDING &&
+                       !booking.getLearningSession().hasAvailableSeats()) {
+                // PENDING_APPROVAL bookings already hold their seat
+                errors.add(decisionError(booking, "Session no longer has available seats"));
+            } else {
+                accepted.add(booking);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            int updated = bookingRepository.confirmPendingBookings(bookingIdsOf(accepted), approvedBy,
+                    LocalDateTime.now(), Booking.BookingStatus.CONFIRMED);
+            requireAllUpdated(updated, accepted);
+            bookingMetrics.bookingsStatusChanged(accepted, Booking.BookingStatus.CONFIRMED);
+            notificationService.notifyBookingsApproved(accepted);
+        }
+
+        log.info("Manager {} bulk-confirmed {} of {} bookings", approvedById, accepted.size(), bookingIds.size());
+        return decisionResponse(bookingIds, accepted, errors);
+    }
+
+    @Override
+    public BookingDTO.BulkDecisionResponse rejectBookings(List<Long> bookingIds, Long rejectedById, String rejectionReason) {
+        User rejectedBy = userRepository.findById(rejectedById)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", rejectedById));
+
+        List<String> errors = new ArrayList<>();
+        List<Booking> accepted = new ArrayList<>();
+        for (Booking booking : loadForDecision(bookingIds, errors)) {
+            if (booking.getStatus() != Booking.BookingStatus.PENDING_APPROVAL) {
+                errors.add(decisionError(booking, "Only pending approval bookings can be rejected"));
+            } else if (booking.getUser().getManager() != null &&
+                       !booking.getUser().getManager().getId().equals(rejectedById)) {
+                errors.add(decisionError(booking, "Only the employee's direct manager can reject this booking"));
+            } else {
+                accepted.add(booking);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            int updated = bookingRepository.rejectPendingApprovalBookings(bookingIdsOf(accepted), rejectedBy,
+                    rejectionReason, LocalDateTime.now(), Booking.BookingStatus.REJECTED);
+            requireAllUpdated(updated, accepted);
+            bookingMetrics.bookingsStatusChanged(accepted, Booking.BookingStatus.REJECTED);
+            releaseSeats(accepted);
+            notificationService.notifyBookingsRejected(accepted, rejectionReason);
+        }
+
+        log.info("Manager {} bulk-rejected {} of {} bookings", rejectedById, accepted.size(), bookingIds.size());
+        return decisionResponse(bookingIds, accepted, errors);
+    }
+
+    @Override
+    public BookingDTO.BulkDecisionResponse approveCancellations(List<Long> bookingIds, Long managerId) {
+        List<String> errors = new ArrayList<>();
+        List<Booking> accepted = new ArrayList<>();
+        for (Booking booking : loadForDecision(bookingIds, errors)) {
+            User manager = booking.getUser().getManager();
+            if (booking.getStatus() != Booking.BookingStatus.PENDING_CANCELLATION) {
+                errors.add(decisionError(booking, "Booking is not pending cancellation. Current status: " + booking.getStatus()));
+            } else if (manager == null || !manager.getId().equals(managerId)) {
+                errors.add(decisionError(booking, "You are not authorized to approve this cancellation request"));
+            } else {
+                accepted.add(booking);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            int updated = bookingRepository.approvePendingCancellations(bookingIdsOf(accepted),
+                    LocalDateTime.now(), Booking.BookingStatus.CANCELLED);
+            requireAllUpdated(updated, accepted);
+            releaseSeats(accepted);
+            notificationService.notifyCancellationsApproved(accepted);
+        }
+
+        log.info("Manager {} bulk-approved {} of {} cancellation requests", managerId, accepted.size(), bookingIds.size());
+        return decisionResponse(bookingIds, accepted, errors);
+    }
+
+    @Override
+    public BookingDTO.BulkDecisionResponse rejectCancellationRequests(List<Long> bookingIds, Long managerId, String rejectionReason) {
+        if (rejectionReason == null || rejectionReason.isBlank()) {
+            throw new BadRequestException("A rejection reason is required");
+        }
+        User manager = userRepository.findById(managerId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", managerId));
+
+        List<String> errors = new ArrayList<>();
+        List<Booking> accepted = new ArrayList<>();
+        for (Booking booking : loadForDecision(bookingIds, errors)) {
+            User bookingManager = booking.getUser().getManager();
+            if (booking.getStatus() != Booking.BookingStatus.PENDING_CANCELLATION) {
+                errors.add(decisionError(booking, "Booking is not pending cancellation. Current status: " + booking.getStatus()));
+            } else if (bookingManager == null || !bookingManager.getId().equals(managerId)) {
+                errors.add(decisionError(booking, "You are not authorized to reject this cancellation request"));
+            } else {
+                accepted.add(booking);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            int updated = bookingRepository.rejectPendingCancellations(bookingIdsOf(accepted), manager,
+                    rejectionReason, LocalDateTime.now(), Booking.BookingStatus.CONFIRMED);
+            requireAllUpdated(updated, accepted);
+            notificationService.notifyCancellationsRejected(accepted, rejectionReason);
+        }
+
+        log.info("Manager {} bulk-rejected {} of {} cancellation requests", managerId, accepted.size(), bookingIds.size());
+        return decisionResponse(bookingIds, accepted, errors);
+    }
+
+    /**
+     * Load a batch of bookings with user, manager and session in one query, in request order.
+     * Unknown and repeated ids are reported as errors.
+     */
+    private List<Booking> loadForDecision(List<Long> bookingIds, List<String> errors) {
+        List<Long> distinctIds = bookingIds.stream().distinct().collect(Collectors.toList());
+        Map<Long, Booking> bookings = bookingRepository.findAllByIdForDecision(distinctIds).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+
+        List<Booking> ordered = new ArrayList<>(bookings.size());
+        Set<Long> seen = new HashSet<>();
+        for (Long id : bookingIds) {
+            if (!seen.add(id)) {
+                errors.add(String.format("Booking %d: listed more than once", id));
+            } else if (!bookings.containsKey(id)) {
+                errors.add(String.format("Booking not found with id: '%d'", id));
+            } else {
+                ordered.add(bookings.get(id));
+            }
+        }
+        return ordered;
+    }
+
+    // The bulk UPDATEs re-check status; a shortfall means a booking changed after validation
+    private void requireAllUpdated(int updated, List<Booking> accepted) {
+        if (updated != accepted.size()) {
+            throw new BadRequestException("Some bookings were changed by another request while being processed. Please retry.");
+        }
+    }
+
+    // One seat update and one waitlist run per affected session
+    private void releaseSeats(List<Booking> bookings) {
+        Map<Long, Integer> releasedBySession = new LinkedHashMap<>();
+        for (Booking booking : bookings) {
+            releasedBySession.merge(booking.getLearningSession().getId(), 1, Integer::sum);
+        }
+        releasedBySession.forEach((sessionId, released) -> {
+            learningSessionRepository.releaseSeats(sessionId, released);
+            bookingMetrics.seatsTaken(sessionId, -released);
+            waitlistProcessingExecutor.submitAfterCommit(sessionId);
+        });
+        log.debug("Released seats in {} sessions: {}", releasedBySession.size(), releasedBySession);
+    }
+
+    private List<Long> bookingIdsOf(List<Booking> bookings) {
+        return bookings.stream().map(Booking::getId).collect(Collectors.toList());
+    }
+
+    private String decisionError(Booking booking, String message) {
+        return String.format("Booking %s: %s", booking.getBookingReference(), message);
+    }
+
+    private BookingDTO.BulkDecisionResponse decisionResponse(List<Long> bookingIds, List<Booking> accepted, List<String> errors) {
+        return BookingDTO.BulkDecisionResponse.builder()
+                .requested(bookingIds.size())
+                .succeeded(accepted.size())
+                .failed(bookingIds.size() - accepted.size())
+                .processedBookingIds(bookingIdsOf(accepted))
+                .errors(errors)
+                .build();
+    }
 }
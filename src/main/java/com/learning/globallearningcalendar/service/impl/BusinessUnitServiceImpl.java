@@ -2,9 +2,11 @@ package com.learning.globallearningcalendar.service.impl;
 
 import com.learning.globallearningcalendar.dto.BusinessUnitDTO;
 import com.learning.globallearningcalendar.entity.BusinessUnit;
+import com.learning.globallearningcalendar.exception.BadRequestException;
 import com.learning.globallearningcalendar.exception.ResourceNotFoundException;
 import com.learning.globallearningcalendar.repository.BusinessUnitRepository;
 import com.learning.globallearningcalendar.service.IBusinessUnitService;
+import com.learning.globallearningcalendar.util.BusinessUnitTreeSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +20,8 @@ import java.util.stream.Collectors;
 public class BusinessUnitServiceImpl implements IBusinessUnitService {
 
     private final BusinessUnitRepository businessUnitRepository;
+    private final BusinessUnitTree businessUnitTree;
+    private final ReferenceData referenceData;
 
     @Override
     public List<BusinessUnitDTO> getAllBusinessUnits() {
@@ -59,6 +63,8 @@ public class BusinessUnitServiceImpl implements IBusinessUnitService {
         }
         
         BusinessUnit saved = businessUnitRepository.save(bu);
+        businessUnitTree.reloadAfterCommit();
+        referenceData.reloadAfterCommit();
         return toDTO(saved);
     }
 
@@ -74,12 +80,17 @@ public class BusinessUnitServiceImpl implements IBusinessUnitService {
         if (dto.getParentBusinessUnitId() != null) {
             BusinessUnit parent = businessUnitRepository.findById(dto.getParentBusinessUnitId())
                     .orElseThrow(() -> new ResourceNotFoundException("Parent BusinessUnit", "id", dto.getParentBusinessUnitId()));
+            if (businessUnitTree.snapshot().isInSubtree(id, parent.getId())) {
+                throw new BadRequestException("A business unit cannot be moved under itself or one of its own sub-units");
+            }
             bu.setParentBusinessUnit(parent);
         } else {
             bu.setParentBusinessUnit(null);
         }
         
         BusinessUnit updated = businessUnitRepository.save(bu);
+        businessUnitTree.reloadAfterCommit();
+        referenceData.reloadAfterCommit();
         return toDTO(updated);
     }
 
@@ -89,6 +100,8 @@ public class BusinessUnitServiceImpl implements IBusinessUnitService {
                 .orElseThrow(() -> new ResourceNotFoundException("BusinessUnit", "id", id));
         bu.setIsActive(false);
         businessUnitRepository.save(bu);
+        businessUnitTree.reloadAfterCommit();
+        referenceData.reloadAfterCommit();
     }
 
     @Override
@@ -110,6 +123,64 @@ public class BusinessUnitServiceImpl implements IBusinessUnitService {
         return businessUnitRepository.countActiveUsersByBusinessUnit(buId);
     }
 
+    @Override
+    public Long countUsersInBusinessUnitTree(Long buId) {
+        BusinessUnitTreeSnapshot tree = requireInTree(buId);
+        return tree.subtreeActiveUsers(buId);
+    }
+
+    @Override
+    public List<BusinessUnitDTO.TreeNode> getBusinessUnitTree() {
+        BusinessUnitTreeSnapshot tree = businessUnitTree.snapshot();
+        return tree.rootIds().stream()
+                .filter(rootId -> tree.unit(rootId).active())
+                .map(rootId -> toTreeNode(tree, rootId))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public BusinessUnitDTO.TreeNode getBusinessUnitSubtree(Long buId) {
+        return toTreeNode(requireInTree(buId), buId);
+    }
+
+    @Override
+    public void refreshBusinessUnitBookingTotals() {
+        businessUnitTree.reloadBookingCounts();
+    }
+
+    @Override
+    public void reloadBusinessUnitTree() {
+        businessUnitTree.reload();
+    }
+
+    private BusinessUnitTreeSnapshot requireInTree(Long buId) {
+        BusinessUnitTreeSnapshot tree = businessUnitTree.snapshot();
+        if (!tree.contains(buId)) {
+            throw new ResourceNotFoundException("BusinessUnit", "id", buId);
+        }
+        return tree;
+    }
+
+    // Built entirely from the snapshot - inactive sub-units are left out of the chart
+    private BusinessUnitDTO.TreeNode toTreeNode(BusinessUnitTreeSnapshot tree, Long buId) {
+        BusinessUnitTreeSnapshot.Unit unit = tree.unit(buId);
+        return BusinessUnitDTO.TreeNode.builder()
+                .id(buId)
+                .code(unit.code())
+                .name(unit.name())
+                .parentBusinessUnitId(tree.parentId(buId))
+                .depth(tree.depth(buId))
+                .activeUsers(tree.activeUsers(buId))
+                .subtreeActiveUsers(tree.subtreeActiveUsers(buId))
+                .subtreeActiveBookings(tree.subtreeActiveBookings(buId))
+                .subtreeBusinessUnits(tree.subtreeSize(buId))
+                .children(tree.childIds(buId).stream()
+                        .filter(childId -> tree.unit(childId).active())
+                        .map(childId -> toTreeNode(tree, childId))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
     private BusinessUnitDTO toDTO(BusinessUnit bu) {
         BusinessUnitDTO dto = BusinessUnitDTO.builder()
                 .id(bu.getId())
@@ -123,7 +194,7 @@ public class BusinessUnitServiceImpl implements IBusinessUnitService {
         
         if (bu.getParentBusinessUnit() != null) {
             dto.setParentBusinessUnitId(bu.getParentBusinessUnit().getId());
-            dto.setParentBusinessUnitName(bu.getParentBusinessUnit().getName());
+            dto.setParentBusinessUnitName(referenceData.businessUnitEntry(bu.getParentBusinessUnit()).name());
         }
         
         return dto;
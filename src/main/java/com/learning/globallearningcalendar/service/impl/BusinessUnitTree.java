@@ -0,0 +1,113 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.repository.BusinessUnitRepository;
+import com.learning.globallearningcalendar.util.BusinessUnitTreeSnapshot;
+import com.learning.globallearningcalendar.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link BusinessUnitTreeSnapshot} and swaps in a new one when business units
+ * or users change.
+ *
+ * Business unit changes reload the structure after commit (three grouped queries); a user joining,
+ * leaving or moving between units only adjusts the counts along the affected ancestor paths.
+ * Booking totals are refreshed by {@link #reloadBookingCounts()} on a schedule rather than on every
+ * booking change, and a periodic full reload corrects any drift from deltas racing a reload.
+ */
+@Component
+@RequiredArgsConstructor
+public class BusinessUnitTree {
+
+    private final BusinessUnitRepository businessUnitRepository;
+    private static final Logger log = LoggerFactory.getLogger(BusinessUnitTree.class);
+
+    private final AtomicReference<BusinessUnitTreeSnapshot> current = new AtomicReference<>();
+    private final Object reloadLock = new Object();
+
+    /**
+     * The current tree, loading it on first use
+     */
+    public BusinessUnitTreeSnapshot snapshot() {
+        BusinessUnitTreeSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : reload();
+    }
+
+    /**
+     * Rebuild the whole tree from the database
+     */
+    public BusinessUnitTreeSnapshot reload() {
+        synchronized (reloadLock) {
+            List<BusinessUnitTreeSnapshot.Unit> units = new ArrayList<>();
+            for (Object[] row : businessUnitRepository.findAllTreeRows()) {
+                units.add(new BusinessUnitTreeSnapshot.Unit((Long) row[0], (Long) row[1], (String) row[2],
+                        (String) row[3], !Boolean.FALSE.equals(row[4])));
+            }
+            BusinessUnitTreeSnapshot snapshot = BusinessUnitTreeSnapshot.build(units,
+                    countsById(businessUnitRepository.countActiveUsersGroupedByBusinessUnit()),
+                    countsById(businessUnitRepository.countActiveBookingsGroupedByBusinessUnit()));
+            current.set(snapshot);
+            log.debug("Loaded business unit tree: {} units", snapshot.size());
+            return snapshot;
+        }
+    }
+
+    /**
+     * Re-read only the per-unit booking counts; the structure and user counts are kept
+     */
+    public void reloadBookingCounts() {
+        if (current.get() == null) {
+            return;
+        }
+        Map<Long, Long> bookings = countsById(businessUnitRepository.countActiveBookingsGroupedByBusinessUnit());
+        current.updateAndGet(snapshot -> snapshot != null ? snapshot.withActiveBookings(bookings) : null);
+    }
+
+    public void reloadAfterCommit() {
+        TransactionCallbacks.afterCommit(() -> {
+            if (current.get() != null) {
+                reload();
+            }
+        });
+    }
+
+    /**
+     * Record a user's move between units or an active flag change once the transaction commits
+     */
+    public void userChangedAfterCommit(Long previousBusinessUnitId, boolean previouslyActive,
+                                       Long businessUnitId, boolean active) {
+        if (Objects.equals(previousBusinessUnitId, businessUnitId) && previouslyActive == active) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> current.updateAndGet(snapshot -> {
+            if (snapshot == null) {
+                return null;
+            }
+            BusinessUnitTreeSnapshot updated = snapshot;
+            if (previouslyActive) {
+                updated = updated.withActiveUserDelta(previousBusinessUnitId, -1);
+            }
+            if (active) {
+                updated = updated.withActiveUserDelta(businessUnitId, 1);
+            }
+            return updated;
+        }));
+    }
+
+    private static Map<Long, Long> countsById(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,221 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.dto.BookingDTO;
+import com.learning.globallearningcalendar.dto.DashboardDTO;
+import com.learning.globallearningcalendar.dto.LearningSessionDTO;
+import com.learning.globallearningcalendar.dto.NominationDTO;
+import com.learning.globallearningcalendar.dto.NotificationDTO;
+import com.learning.globallearningcalendar.dto.WaitlistDTO;
+import com.learning.globallearningcalendar.exception.ResourceNotFoundException;
+import com.learning.globallearningcalendar.repository.UserRepository;
+import com.learning.globallearningcalendar.service.IBookingService;
+import com.learning.globallearningcalendar.service.IDashboardService;
+import com.learning.globallearningcalendar.service.ILearningSessionService;
+import com.learning.globallearningcalendar.service.INominationService;
+import com.learning.globallearningcalendar.service.IWaitlistService;
+import com.learning.globallearningcalendar.service.NotificationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Composes the role dashboards from the existing per-panel service reads.
+ *
+ * Sections run concurrently on a bounded pool, each in its own read-only transaction, and share one
+ * deadline measured from the start of the request. A section that fails, misses the deadline or is
+ * rejected because the pool is saturated is returned empty and reported in unavailableSections, so
+ * one slow panel never holds up the page.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardServiceImpl implements IDashboardService {
+
+    private final IBookingService bookingService;
+    private final ILearningSessionService learningSessionService;
+    private final NotificationService notificationService;
+    private final INominationService nominationService;
+    private final IWaitlistService waitlistService;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+    private static final Logger log = LoggerFactory.getLogger(DashboardServiceImpl.class);
+
+    @Value("${dashboard.threads:6}")
+    private int threads;
+
+    @Value("${dashboard.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${dashboard.section-timeout-ms:3000}")
+    private long sectionTimeoutMs;
+
+    private ThreadPoolExecutor pool;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        // Bounded queue, no caller-runs: a saturated pool degrades sections instead of request threads
+        pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-reader-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdownNow();
+    }
+
+    @Override
+    public DashboardDTO.EmployeeDashboard getEmployeeDashboard(Long userId) {
+        requireUser(userId);
+        Sections sections = new Sections();
+
+        CompletableFuture<List<BookingDTO>> upcomingBookings =
+                sections.read("upcomingBookings", () -> bookingService.getUpcomingBookingsByUser(userId));
+        CompletableFuture<List<LearningSessionDTO>> eligibleSessions =
+                sections.read("eligibleSessions", () -> learningSessionService.getAllSessionsForUser(userId));
+        CompletableFuture<List<NotificationDTO>> unreadNotifications =
+                sections.read("unreadNotifications", () -> notificationService.getUnreadNotifications(userId));
+        CompletableFuture<List<NominationDTO>> actionableNominations =
+                sections.read("actionableNominations", () -> nominationService.getActionableNominationsForEmployee(userId));
+        CompletableFuture<List<WaitlistDTO>> waitlists =
+                sections.read("waitlists", () -> waitlistService.getUserWaitlists(userId));
+
+        DashboardDTO.EmployeeDashboard dashboard = DashboardDTO.EmployeeDashboard.builder()
+                .userId(userId)
+                .upcomingBookings(sections.await("upcomingBookings", upcomingBookings))
+                .eligibleSessions(sections.await("eligibleSessions", eligibleSessions))
+                .unreadNotifications(sections.await("unreadNotifications", unreadNotifications))
+                .actionableNominations(sections.await("actionableNominations", actionableNominations))
+                .waitlists(sections.await("waitlists", waitlists))
+                .unavailableSections(sections.unavailable)
+                .generatedAt(LocalDateTime.now())
+                .elapsedMs(sections.elapsedMs())
+                .build();
+        sections.logIfDegraded("employee", userId);
+        return dashboard;
+    }
+
+    @Override
+    public DashboardDTO.ManagerDashboard getManagerDashboard(Long managerId) {
+        requireUser(managerId);
+        Sections sections = new Sections();
+
+        CompletableFuture<List<BookingDTO>> upcomingBookings =
+                sections.read("upcomingBookings", () -> bookingService.getUpcomingBookingsByUser(managerId));
+        CompletableFuture<List<LearningSessionDTO>> eligibleSessions =
+                sections.read("eligibleSessions", () -> learningSessionService.getAllSessionsForUser(managerId));
+        CompletableFuture<List<NotificationDTO>> unreadNotifications =
+                sections.read("unreadNotifications", () -> notificationService.getUnreadNotifications(managerId));
+        CompletableFuture<List<NominationDTO>> actionableNominations =
+                sections.read("actionableNominations", () -> nominationService.getActionableNominationsForEmployee(managerId));
+        CompletableFuture<List<WaitlistDTO>> waitlists =
+                sections.read("waitlists", () -> waitlistService.getUserWaitlists(managerId));
+        CompletableFuture<List<BookingDTO>> pendingApprovals =
+                sections.read("pendingApprovals", () -> bookingService.getPendingApprovalsByManager(managerId));
+        CompletableFuture<List<BookingDTO>> pendingCancellations =
+                sections.read("pendingCancellations", () -> bookingService.getPendingCancellationsByManager(managerId));
+        CompletableFuture<List<BookingDTO>> teamBookings =
+                sections.read("teamBookings", () -> bookingService.getTeamBookings(managerId));
+        CompletableFuture<List<NominationDTO>> sentNominations =
+                sections.read("sentNominations", () -> nominationService.getNominationsByManager(managerId));
+
+        DashboardDTO.ManagerDashboard dashboard = DashboardDTO.ManagerDashboard.builder()
+                .managerId(managerId)
+                .upcomingBookings(sections.await("upcomingBookings", upcomingBookings))
+                .eligibleSessions(sections.await("eligibleSessions", eligibleSessions))
+                .unreadNotifications(sections.await("unreadNotifications", unreadNotifications))
+                .actionableNominations(sections.await("actionableNominations", actionableNominations))
+                .waitlists(sections.await("waitlists", waitlists))
+                .pendingApprovals(sections.await("pendingApprovals", pendingApprovals))
+                .pendingCancellations(sections.await("pendingCancellations", pendingCancellations))
+                .teamBookings(sections.await("teamBookings", teamBookings))
+                .sentNominations(sections.await("sentNominations", sentNominations))
+                .unavailableSections(sections.unavailable)
+                .generatedAt(LocalDateTime.now())
+                .elapsedMs(sections.elapsedMs())
+                .build();
+        sections.logIfDegraded("manager", managerId);
+        return dashboard;
+    }
+
+    private void requireUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+    }
+
+    /**
+     * The sections of one dashboard request, sharing a single deadline
+     */
+    private class Sections {
+        private final long startedAt = System.nanoTime();
+        private final long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs);
+        private final Map<String, String> unavailable = new LinkedHashMap<>();
+
+        <T> CompletableFuture<List<T>> read(String section, Supplier<List<T>> read) {
+            try {
+                return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> read.get()), pool);
+            } catch (RejectedExecutionException e) {
+                log.warn("Dashboard section {} rejected - reader pool saturated", section);
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        <T> List<T> await(String section, CompletableFuture<List<T>> future) {
+            try {
+                long remaining = Math.max(deadline - System.nanoTime(), 0);
+                List<T> result = future.get(remaining, TimeUnit.NANOSECONDS);
+                return result != null ? result : List.of();
+            } catch (TimeoutException e) {
+                // The read finishes in the background; its result is discarded
+                future.cancel(false);
+                unavailable.put(section, "timed out");
+            } catch (ExecutionException e) {
+                log.warn("Dashboard section {} failed: {}", section, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                unavailable.put(section, "failed");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                unavailable.put(section, "failed");
+            }
+            return List.of();
+        }
+
+        long elapsedMs() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        }
+
+        void logIfDegraded(String role, Long userId) {
+            if (!unavailable.isEmpty()) {
+                log.warn("Partial {} dashboard for user {} after {} ms - unavailable: {}", role, userId, elapsedMs(), unavailable);
+            }
+        }
+    }
+}
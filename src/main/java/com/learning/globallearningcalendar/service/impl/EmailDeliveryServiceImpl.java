@@ -0,0 +1,376 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.entity.EmailDeadLetter;
+import com.learning.globallearningcalendar.repository.EmailDeadLetterRepository;
+import com.learning.globallearningcalendar.service.EmailDeliveryService;
+import com.learning.globallearningcalendar.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pooled, asynchronous email delivery.
+ *
+ * Messages go into a bounded queue drained by a fixed pool of workers. Each worker sends a batch
+ * of messages through a single {@link JavaMailSender#send(SimpleMailMessage...)} call, which reuses
+ * one SMTP connection for the whole batch - so the pool size is effectively the number of open
+ * SMTP connections. Recipients are rate limited per minute, failed messages are retried with
+ * exponential backoff and, once attempts are exhausted, written to the dead-letter table.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmailDeliveryServiceImpl implements EmailDeliveryService {
+
+    private final ObjectProvider<JavaMailSender> mailSenderProvider;
+    private final EmailDeadLetterRepository deadLetterRepository;
+    private static final Logger log = LoggerFactory.getLogger(EmailDeliveryServiceImpl.class);
+
+    private static final long RATE_WINDOW_MS = 60_000L;
+
+    @Value("${notifications.email.enabled:false}")
+    private boolean enabled;
+
+    @Value("${notifications.email.from:no-reply@learning-calendar.local}")
+    private String fromAddress;
+
+    @Value("${notifications.email.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${notifications.email.connection-pool-size:4}")
+    private int connectionPoolSize;
+
+    @Value("${notifications.email.batch-size:50}")
+    private int batchSize;
+
+    @Value("${notifications.email.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${notifications.email.retry-backoff-ms:2000}")
+    private long retryBackoffMs;
+
+    @Value("${notifications.email.per-recipient-per-minute:20}")
+    private int perRecipientPerMinute;
+
+    private BlockingQueue<OutboundEmail> queue;
+    private ExecutorService workers;
+    private ScheduledExecutorService retryScheduler;
+    private JavaMailSender mailSender;
+    private volatile boolean running;
+
+    private final Map<String, RateWindow> rateWindows = new ConcurrentHashMap<>();
+
+    // Emails waiting on the retry scheduler (retries and rate-limited messages), by identity - dead-lettered on shutdown
+    private final Set<OutboundEmail> scheduled = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong deferredCount = new AtomicLong();
+    private final AtomicLong deadLetteredCount = new AtomicLong();
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            log.info("Email delivery disabled (notifications.email.enabled=false)");
+            return;
+        }
+        mailSender = mailSenderProvider.getIfAvailable();
+        if (mailSender == null) {
+            log.warn("Email delivery enabled but no JavaMailSender is configured (spring.mail.host) - emails will not be sent");
+            enabled = false;
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+
+        AtomicInteger workerIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(connectionPoolSize, runnable -> {
+            Thread thread = new Thread(runnable, "email-sender-" + workerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < connectionPoolSize; i++) {
+            workers.submit(this::runWorker);
+        }
+
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "email-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        retryScheduler.scheduleAtFixedRate(this::evictStaleRateWindows, RATE_WINDOW_MS, RATE_WINDOW_MS, TimeUnit.MILLISECONDS);
+
+        log.info("Email delivery started: {} connections, batch size {}, queue capacity {}",
+                connectionPoolSize, batchSize, queueCapacity);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        retryScheduler.shutdownNow();
+        workers.shutdown();
+        try {
+            // A retry that already started finishes its hand-over to the queue
+            retryScheduler.awaitTermination(5, TimeUnit.SECONDS);
+            // Workers keep draining until the queue is empty or we time out
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        List<OutboundEmail> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        synchronized (scheduled) {
+            remaining.addAll(scheduled);
+            scheduled.clear();
+        }
+        if (!remaining.isEmpty()) {
+            log.warn("Email delivery stopped with {} undelivered messages (queued or awaiting retry) - moving them to the dead-letter store",
+                    remaining.size());
+            remaining.forEach(email -> deadLetter(email, "Application shutdown before delivery"));
+        }
+    }
+
+    @Override
+    public boolean enqueue(String recipient, String subject, String body) {
+        if (!enabled) {
+            return false;
+        }
+        if (recipient == null || recipient.isBlank()) {
+            log.debug("Skipping email '{}' - recipient has no email address", subject);
+            return false;
+        }
+        return offer(new OutboundEmail(recipient.trim(), subject, body, 0));
+    }
+
+    @Override
+    public void enqueueAfterCommit(String recipient, String subject, String body) {
+        if (!enabled) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> enqueue(recipient, subject, body));
+    }
+
+    @Override
+    public List<EmailDeadLetter> getDeadLetters() {
+        return deadLetterRepository.findAllByOrderByFailedAtDesc();
+    }
+
+    @Override
+    public int requeueDeadLetters(List<Long> deadLetterIds) {
+        if (!enabled) {
+            return 0;
+        }
+        int requeued = 0;
+        for (EmailDeadLetter deadLetter : deadLetterRepository.findAllById(deadLetterIds)) {
+            if (offer(new OutboundEmail(deadLetter.getRecipient(), deadLetter.getSubject(), deadLetter.getBody(), 0))) {
+                deadLetterRepository.delete(deadLetter);
+                requeued++;
+            }
+        }
+        log.info("Re-queued {} dead-lettered emails", requeued);
+        return requeued;
+    }
+
+    @Override
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("queued", queue != null ? (long) queue.size() : 0L);
+        stats.put("enqueued", enqueuedCount.get());
+        stats.put("sent", sentCount.get());
+        stats.put("retried", retriedCount.get());
+        stats.put("rateLimited", deferredCount.get());
+        stats.put("deadLettered", deadLetteredCount.get());
+        return stats;
+    }
+
+    private boolean offer(OutboundEmail email) {
+        if (queue.offer(email)) {
+            enqueuedCount.incrementAndGet();
+            return true;
+        }
+        // Never block the caller on a full queue
+        log.warn("Email queue full ({} messages) - dead-lettering email to {}", queueCapacity, email.recipient());
+        deadLetter(email, "Email queue full");
+        return false;
+    }
+
+    private void runWorker() {
+        List<OutboundEmail> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                OutboundEmail first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Unexpected error in email worker: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<OutboundEmail> batch) {
+        Map<SimpleMailMessage, OutboundEmail> messages = new IdentityHashMap<>();
+        for (OutboundEmail email : batch) {
+            if (!tryAcquire(email.recipient())) {
+                // Over the per-recipient limit - hold it back until the next window without using an attempt
+                deferredCount.incrementAndGet();
+                schedule(email, RATE_WINDOW_MS);
+                continue;
+            }
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(fromAddress);
+            message.setTo(email.recipient());
+            message.setSubject(email.subject());
+            message.setText(email.body());
+            messages.put(message, email);
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            // One call = one SMTP connection for the whole batch
+            mailSender.send(messages.keySet().toArray(new SimpleMailMessage[0]));
+            sentCount.addAndGet(messages.size());
+        } catch (MailSendException e) {
+            Map<Object, Exception> failed = e.getFailedMessages();
+            if (failed.isEmpty()) {
+                messages.values().forEach(email -> retryOrDeadLetter(email, e.getMessage()));
+                return;
+            }
+            sentCount.addAndGet(messages.size() - failed.size());
+            failed.forEach((message, cause) -> {
+                OutboundEmail email = messages.get(message);
+                if (email != null) {
+                    retryOrDeadLetter(email, cause.getMessage());
+                }
+            });
+        } catch (MailException e) {
+            // Authentication / connection level failure - nothing in the batch was sent
+            messages.values().forEach(email -> retryOrDeadLetter(email, e.getMessage()));
+        }
+    }
+
+    private void retryOrDeadLetter(OutboundEmail email, String error) {
+        int attempts = email.attempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.warn("Giving up on email '{}' to {} after {} attempts: {}", email.subject(), email.recipient(), attempts, error);
+            deadLetter(email.withAttempts(attempts), error);
+            return;
+        }
+        retriedCount.incrementAndGet();
+        long delay = retryBackoffMs * (1L << Math.min(attempts - 1, 10));
+        log.debug("Retrying email to {} in {} ms (attempt {}): {}", email.recipient(), delay, attempts + 1, error);
+        schedule(email.withAttempts(attempts), delay);
+    }
+
+    private void schedule(OutboundEmail email, long delayMs) {
+        if (!running) {
+            deadLetter(email, "Application shutdown before delivery");
+            return;
+        }
+        scheduled.add(email);
+        try {
+            retryScheduler.schedule(() -> {
+                // Not there if stop() already dead-lettered it
+                if (scheduled.remove(email) && !queue.offer(email)) {
+                    deadLetter(email, "Email queue full on retry");
+                }
+            }, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down between the running check and here
+            if (scheduled.remove(email)) {
+                deadLetter(email, "Application shutdown before delivery");
+            }
+        }
+    }
+
+    private void deadLetter(OutboundEmail email, String error) {
+        deadLetteredCount.incrementAndGet();
+        try {
+            deadLetterRepository.save(EmailDeadLetter.builder()
+                    .recipient(email.recipient())
+                    .subject(email.subject())
+                    .body(email.body())
+                    .attempts(email.attempts())
+                    .lastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error)
+                    .build());
+        } catch (Exception e) {
+            log.error("Failed to store dead-lettered email to {}: {}", email.recipient(), e.getMessage());
+        }
+    }
+
+    private boolean tryAcquire(String recipient) {
+        RateWindow window = rateWindows.computeIfAbsent(recipient.toLowerCase(), key -> new RateWindow());
+        synchronized (window) {
+            long now = System.currentTimeMillis();
+            if (now - window.startedAt >= RATE_WINDOW_MS) {
+                window.startedAt = now;
+                window.count = 0;
+            }
+            if (window.count >= perRecipientPerMinute) {
+                return false;
+            }
+            window.count++;
+            return true;
+        }
+    }
+
+    private void evictStaleRateWindows() {
+        long cutoff = System.currentTimeMillis() - RATE_WINDOW_MS;
+        rateWindows.values().removeIf(window -> window.startedAt < cutoff);
+    }
+
+    private record OutboundEmail(String recipient, String subject, String body, int attempts) {
+        OutboundEmail withAttempts(int newAttempts) {
+            return new OutboundEmail(recipient, subject, body, newAttempts);
+        }
+    }
+
+    private static class RateWindow {
+        private long startedAt = System.currentTimeMillis();
+        private int count;
+    }
+}
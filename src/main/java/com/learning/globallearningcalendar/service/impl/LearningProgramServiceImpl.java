@@ -13,9 +13,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,10 +22,9 @@ import java.util.stream.Collectors;
 public class LearningProgramServiceImpl implements ILearningProgramService {
 
     private final LearningProgramRepository learningProgramRepository;
-    private final SkillRepository skillRepository;
-    private final RoleRepository roleRepository;
-    private final BusinessUnitRepository businessUnitRepository;
     private final UserRepository userRepository;
+    private final ReferenceData referenceData;
+    private final SearchIndexes searchIndexes;
 
     @Override
     public List<LearningProgramDTO> getAllPrograms() {
@@ -75,18 +72,15 @@ public class LearningProgramServiceImpl implements ILearningProgramService {
         program.setIsActive(true);
 
         if (dto.getSkillIds() != null && !dto.getSkillIds().isEmpty()) {
-            Set<Skill> skills = new HashSet<>(skillRepository.findAllById(dto.getSkillIds()));
-            program.setSkills(skills);
+            program.setSkills(referenceData.skillReferences(dto.getSkillIds()));
         }
 
         if (dto.getTargetRoleIds() != null && !dto.getTargetRoleIds().isEmpty()) {
-            Set<Role> roles = new HashSet<>(roleRepository.findAllById(dto.getTargetRoleIds()));
-            program.setTargetRoles(roles);
+            program.setTargetRoles(referenceData.roleReferences(dto.getTargetRoleIds()));
         }
 
         if (dto.getTargetBusinessUnitIds() != null && !dto.getTargetBusinessUnitIds().isEmpty()) {
-            Set<BusinessUnit> businessUnits = new HashSet<>(businessUnitRepository.findAllById(dto.getTargetBusinessUnitIds()));
-            program.setTargetBusinessUnits(businessUnits);
+            program.setTargetBusinessUnits(referenceData.businessUnitReferences(dto.getTargetBusinessUnitIds()));
         }
 
         if (dto.getCreatedById() != null) {
@@ -96,6 +90,7 @@ public class LearningProgramServiceImpl implements ILearningProgramService {
         }
 
         LearningProgram saved = learningProgramRepository.save(program);
+        searchIndexes.programChangedAfterCommit(saved);
         return toDTO(saved);
     }
 
@@ -113,21 +108,19 @@ public class LearningProgramServiceImpl implements ILearningProgramService {
         program.setIsMandatory(dto.getIsMandatory());
 
         if (dto.getSkillIds() != null) {
-            Set<Skill> skills = new HashSet<>(skillRepository.findAllById(dto.getSkillIds()));
-            program.setSkills(skills);
+            program.setSkills(referenceData.skillReferences(dto.getSkillIds()));
         }
 
         if (dto.getTargetRoleIds() != null) {
-            Set<Role> roles = new HashSet<>(roleRepository.findAllById(dto.getTargetRoleIds()));
-            program.setTargetRoles(roles);
+            program.setTargetRoles(referenceData.roleReferences(dto.getTargetRoleIds()));
         }
 
         if (dto.getTargetBusinessUnitIds() != null) {
-            Set<BusinessUnit> businessUnits = new HashSet<>(businessUnitRepository.findAllById(dto.getTargetBusinessUnitIds()));
-            program.setTargetBusinessUnits(businessUnits);
+            program.setTargetBusinessUnits(referenceData.businessUnitReferences(dto.getTargetBusinessUnitIds()));
         }
 
         LearningProgram updated = learningProgramRepository.save(program);
+        searchIndexes.programChangedAfterCommit(updated);
         return toDTO(updated);
     }
 
@@ -137,6 +130,7 @@ public class LearningProgramServiceImpl implements ILearningProgramService {
                 .orElseThrow(() -> new ResourceNotFoundException("LearningProgram", "id", id));
         program.setIsActive(false);
         learningProgramRepository.save(program);
+        searchIndexes.programChangedAfterCommit(program);
     }
 
     @Override
@@ -182,8 +176,9 @@ public class LearningProgramServiceImpl implements ILearningProgramService {
     }
 
     @Override
-    public List<LearningProgramDTO> searchPrograms(String searchTerm) {
-        return learningProgramRepository.searchPrograms(searchTerm).stream()
+    public List<LearningProgramDTO> searchPrograms(String searchTerm, Integer limit) {
+        List<Long> ids = searchIndexes.searchPrograms(searchTerm, limit);
+        return SearchIndexes.inRankOrder(ids, learningProgramRepository.findAllById(ids), LearningProgram::getId).stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
     }
@@ -211,11 +206,12 @@ public class LearningProgramServiceImpl implements ILearningProgramService {
         if (program.getSkills() != null && !program.getSkills().isEmpty()) {
             dto.setSkillIds(program.getSkills().stream().map(Skill::getId).collect(Collectors.toSet()));
             dto.setSkills(program.getSkills().stream()
+                    .map(referenceData::skillEntry)
                     .map(s -> SkillDTO.builder()
-                            .id(s.getId())
-                            .code(s.getCode())
-                            .name(s.getName())
-                            .skillCategory(s.getSkillCategory())
+                            .id(s.id())
+                            .code(s.code())
+                            .name(s.name())
+                            .skillCategory(s.category())
                             .build())
                     .collect(Collectors.toSet()));
         }
@@ -223,11 +219,12 @@ public class LearningProgramServiceImpl implements ILearningProgramService {
         if (program.getTargetRoles() != null && !program.getTargetRoles().isEmpty()) {
             dto.setTargetRoleIds(program.getTargetRoles().stream().map(Role::getId).collect(Collectors.toSet()));
             dto.setTargetRoles(program.getTargetRoles().stream()
+                    .map(referenceData::roleEntry)
                     .map(r -> RoleDTO.builder()
-                            .id(r.getId())
-                            .code(r.getCode())
-                            .name(r.getName())
-                            .roleType(r.getRoleType())
+                            .id(r.id())
+                            .code(r.code())
+                            .name(r.name())
+                            .roleType(r.roleType())
                             .build())
                     .collect(Collectors.toSet()));
         }
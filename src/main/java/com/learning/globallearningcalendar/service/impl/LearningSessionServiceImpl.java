@@ -7,6 +7,7 @@ import com.learning.globallearningcalendar.exception.ResourceNotFoundException;
 import com.learning.globallearningcalendar.repository.*;
 import com.learning.globallearningcalendar.service.ILearningSessionService;
 import com.learning.globallearningcalendar.service.IBookingService;
+import com.learning.globallearningcalendar.util.ReferenceDataSnapshot;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -31,11 +33,14 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
 
     private final LearningSessionRepository learningSessionRepository;
     private final LearningProgramRepository learningProgramRepository;
-    private final LocationRepository locationRepository;
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
     private final BookingRepository bookingRepository;
     private final IBookingService bookingService;
+    private final WaitlistProcessingExecutor waitlistProcessingExecutor;
+    private final SessionEligibilityEvaluator sessionEligibilityEvaluator;
+    private final LearningStatistics learningStatistics;
+    private final BookingMetrics bookingMetrics;
+    private final ReferenceData referenceData;
     
     @PersistenceContext
     private EntityManager entityManager;
@@ -71,13 +76,27 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
         
         // Get subordinate role types based on user's role hierarchy
         Set<Role.RoleType> visibleRoleTypes = getVisibleRoleTypesForUser(user.getRole().getRoleType());
+
+        // Plus the actual role types and locations of everyone in the user's reporting tree (one query)
+        Set<Long> teamLocationIds = new HashSet<>();
+        if (user.getLocation() != null) {
+            teamLocationIds.add(user.getLocation().getId());
+        }
+        for (Object[] row : userRepository.findRoleTypesAndLocationsInReportingTree(userId)) {
+            if (row[0] != null) {
+                visibleRoleTypes.add((Role.RoleType) row[0]);
+            }
+            if (row[1] != null) {
+                teamLocationIds.add((Long) row[1]);
+            }
+        }
         
         // Get active sessions with roles eagerly loaded, then filter
         return learningSessionRepository.findAllActiveWithRoles().stream()
                 .filter(session -> Boolean.TRUE.equals(session.getIsActive()))
                 .filter(session -> session.getStatus() == LearningSession.SessionStatus.SCHEDULED)
                 .filter(session -> session.getStartDateTime().isAfter(LocalDateTime.now()))
-                .filter(session -> isSessionVisibleToUserOrSubordinates(session, user, visibleRoleTypes))
+                .filter(session -> isSessionVisibleToUserOrSubordinates(session, visibleRoleTypes, teamLocationIds))
                 .map(this::toDTO)
                 .collect(Collectors.toList());
     }
@@ -115,11 +134,13 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
     }
     
     /**
-     * Check if session is visible to user or their subordinates
+     * Check if session is visible to user or their subordinates.
+     * teamLocationIds holds the locations of the user and their reporting tree (empty if none are set).
      */
-    private boolean isSessionVisibleToUserOrSubordinates(LearningSession session, User user, Set<Role.RoleType> visibleRoleTypes) {
+    private boolean isSessionVisibleToUserOrSubordinates(LearningSession session, Set<Role.RoleType> visibleRoleTypes,
+                                                         Set<Long> teamLocationIds) {
         // Check if session targets any of the visible role types
-        if (session.getTargetRoles() != null && !session.getTargetRoles().isEmpty()) {
+        if (!session.isOpenToAllRoles()) {
             boolean hasVisibleRole = session.getTargetRoles().stream()
                 .anyMatch(role -> visibleRoleTypes.contains(role.getRoleType()));
             if (!hasVisibleRole) {
@@ -131,8 +152,8 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
         DeliveryMode mode = session.getDeliveryMode() != null ? session.getDeliveryMode() : DeliveryMode.OFFLINE;
         
         if (mode == DeliveryMode.OFFLINE) {
-            if (session.getLocation() != null && user.getLocation() != null) {
-                return session.getLocation().getId().equals(user.getLocation().getId());
+            if (session.getLocation() != null && !teamLocationIds.isEmpty()) {
+                return teamLocationIds.contains(session.getLocation().getId());
             }
             return true;
         } else {
@@ -142,14 +163,11 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
                 return true;
             } else {
                 if (session.getTargetLocations() != null && !session.getTargetLocations().isEmpty()) {
-                    if (user.getLocation() != null) {
-                        return session.getTargetLocations().stream()
-                            .anyMatch(location -> location.getId().equals(user.getLocation().getId()));
-                    }
-                    return false;
+                    return session.getTargetLocations().stream()
+                        .anyMatch(location -> teamLocationIds.contains(location.getId()));
                 } else {
-                    if (session.getLocation() != null && user.getLocation() != null) {
-                        return session.getLocation().getId().equals(user.getLocation().getId());
+                    if (session.getLocation() != null && !teamLocationIds.isEmpty()) {
+                        return teamLocationIds.contains(session.getLocation().getId());
                     }
                     return true;
                 }
@@ -236,34 +254,13 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
         session.setLocationScope(dto.getSessionLocationScope() != null ? dto.getSessionLocationScope() : LocationScope.ALL_LOCATIONS);
         
         // Set target roles (default to all roles if not specified for backward compatibility)
-        if (dto.getTargetRoleIds() != null && !dto.getTargetRoleIds().isEmpty()) {
-            Set<Role> targetRoles = new HashSet<>();
-            for (Long roleId : dto.getTargetRoleIds()) {
-                Role role = roleRepository.findById(roleId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Role", "id", roleId));
-                targetRoles.add(role);
-            }
-            session.setTargetRoles(targetRoles);
-        } else {
-            // Default: all roles can see the session
-            session.setTargetRoles(new HashSet<>(roleRepository.findAll()));
-        }
+        applyTargetRoles(session, dto.getTargetRoleIds());
         
         // Set target locations (for SPECIFIC_LOCATION scope)
-        if (dto.getTargetLocationIds() != null && !dto.getTargetLocationIds().isEmpty()) {
-            Set<Location> targetLocations = new HashSet<>();
-            for (Long locationId : dto.getTargetLocationIds()) {
-                Location location = locationRepository.findById(locationId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Location", "id", locationId));
-                targetLocations.add(location);
-            }
-            session.setTargetLocations(targetLocations);
-        }
+        applyTargetLocations(session, dto.getTargetLocationIds());
 
         if (dto.getLocationId() != null) {
-            Location location = locationRepository.findById(dto.getLocationId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Location", "id", dto.getLocationId()));
-            session.setLocation(location);
+            session.setLocation(referenceData.locationReference(dto.getLocationId()));
         }
 
         if (dto.getCreatedById() != null) {
@@ -273,6 +270,7 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
         }
 
         LearningSession saved = learningSessionRepository.save(session);
+        bookingMetrics.sessionChanged(saved);
         return toDTO(saved);
     }
 
@@ -287,8 +285,16 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
 
         session.setStartDateTime(dto.getStartDateTime());
         session.setEndDateTime(dto.getEndDateTime());
+
+        // Seats already held stay held - only the capacity difference is added to or removed from available seats
+        int capacityDelta = 0;
+        if (session.getTotalSeats() != null && dto.getTotalSeats() != null && session.getAvailableSeats() != null) {
+            capacityDelta = dto.getTotalSeats() - session.getTotalSeats();
+            session.setAvailableSeats(Math.max(0, session.getAvailableSeats() + capacityDelta));
+        }
         session.setTotalSeats(dto.getTotalSeats());
         session.setWaitlistCapacity(dto.getWaitlistCapacity());
+        String previousInstructorEmail = session.getInstructorEmail();
         session.setInstructorName(dto.getInstructorName());
         session.setInstructorEmail(dto.getInstructorEmail());
         session.setVirtualMeetingLink(dto.getVirtualMeetingLink());
@@ -310,34 +316,30 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
         }
         
         // Update target roles if provided
-        if (dto.getTargetRoleIds() != null) {
-            Set<Role> targetRoles = new HashSet<>();
-            for (Long roleId : dto.getTargetRoleIds()) {
-                Role role = roleRepository.findById(roleId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Role", "id", roleId));
-                targetRoles.add(role);
-            }
-            session.setTargetRoles(targetRoles);
+        if (Boolean.TRUE.equals(dto.getTargetAllRoles()) || dto.getTargetRoleIds() != null) {
+            applyTargetRoles(session, dto.getTargetRoleIds());
         }
         
         // Update target locations if provided
         if (dto.getTargetLocationIds() != null) {
-            Set<Location> targetLocations = new HashSet<>();
-            for (Long locationId : dto.getTargetLocationIds()) {
-                Location location = locationRepository.findById(locationId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Location", "id", locationId));
-                targetLocations.add(location);
-            }
-            session.setTargetLocations(targetLocations);
+            applyTargetLocations(session, dto.getTargetLocationIds());
+        } else if (session.getLocationScope() != LocationScope.SPECIFIC_LOCATION) {
+            session.getTargetLocations().clear();
         }
 
         if (dto.getLocationId() != null) {
-            Location location = locationRepository.findById(dto.getLocationId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Location", "id", dto.getLocationId()));
-            session.setLocation(location);
+            session.setLocation(referenceData.locationReference(dto.getLocationId()));
         }
 
-        LearningSession updated = learningSessionRepository.save(session);
+        LearningSession updated = learningSessionRepository.saveAndFlush(session);
+        learningStatistics.instructorChanged(previousInstructorEmail, updated.getInstructorEmail());
+        bookingMetrics.sessionChanged(updated);
+
+        // Capacity raised - promote waiters into the new seats once this update commits
+        if (capacityDelta > 0) {
+            log.info("Session {} capacity raised by {}: queueing waitlist processing", id, capacityDelta);
+            waitlistProcessingExecutor.submitAfterCommit(updated.getId());
+        }
         return toDTO(updated);
     }
 
@@ -359,6 +361,7 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
         log.info("Soft deleting session {} (no active bookings)", id);
         session.setIsActive(false);
         learningSessionRepository.save(session);
+        bookingMetrics.sessionChanged(session);
     }
 
     @Override
@@ -371,6 +374,7 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
         // Update session status to CANCELLED
         session.setStatus(LearningSession.SessionStatus.CANCELLED);
         learningSessionRepository.save(session);
+        bookingMetrics.sessionChanged(session);
         
         // Cancel all active bookings for this session
         String cancellationReason = "Session " + session.getSessionCode() + " has been cancelled";
@@ -435,6 +439,41 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * No role ids, or ids covering every role, are stored as the targetAllRoles flag rather than
+     * one session_target_roles row per role; only a real subset of roles is kept as join rows.
+     */
+    private void applyTargetRoles(LearningSession session, Collection<Long> roleIds) {
+        if (roleIds == null || roleIds.isEmpty() || roleIds.containsAll(referenceData.snapshot().roleIds())) {
+            session.setTargetAllRoles(true);
+            session.getTargetRoles().clear();
+            return;
+        }
+        Set<Role> targetRoles = new HashSet<>();
+        for (Long roleId : roleIds) {
+            targetRoles.add(referenceData.roleReference(roleId));
+        }
+        session.setTargetAllRoles(false);
+        session.setTargetRoles(targetRoles);
+    }
+
+    /**
+     * Target locations only apply to SPECIFIC_LOCATION scope - any other scope keeps no rows
+     */
+    private void applyTargetLocations(LearningSession session, Collection<Long> locationIds) {
+        if (session.getLocationScope() != LocationScope.SPECIFIC_LOCATION) {
+            session.getTargetLocations().clear();
+            return;
+        }
+        Set<Location> targetLocations = new HashSet<>();
+        if (locationIds != null) {
+            for (Long locationId : locationIds) {
+                targetLocations.add(referenceData.locationReference(locationId));
+            }
+        }
+        session.setTargetLocations(targetLocations);
+    }
+
     /**
      * Check if a session is visible to a specific user based on:
      * - Delivery mode (ONLINE/OFFLINE)
@@ -443,50 +482,7 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
      * - Target roles
      */
     private boolean isSessionVisibleToUser(LearningSession session, User user) {
-        // Check role eligibility - compare role types, not role IDs (handles multiple roles with same type)
-        if (session.getTargetRoles() != null && !session.getTargetRoles().isEmpty()) {
-            boolean hasRole = session.getTargetRoles().stream()
-                .anyMatch(role -> role.getRoleType().equals(user.getRole().getRoleType()));
-            if (!hasRole) {
-                return false;
-            }
-        }
-        
-        // Check location eligibility based on delivery mode
-        DeliveryMode mode = session.getDeliveryMode() != null ? session.getDeliveryMode() : DeliveryMode.OFFLINE;
-        
-        if (mode == DeliveryMode.OFFLINE) {
-            // Offline sessions: only visible to users in the same location
-            if (session.getLocation() != null && user.getLocation() != null) {
-                return session.getLocation().getId().equals(user.getLocation().getId());
-            }
-            // If session or user has no location, visible by default (backward compatibility)
-            return true;
-        } else {
-            // Online sessions: check location scope
-            LocationScope scope = session.getLocationScope() != null ? session.getLocationScope() : LocationScope.ALL_LOCATIONS;
-            
-            if (scope == LocationScope.ALL_LOCATIONS) {
-                return true;
-            } else {
-                // SPECIFIC_LOCATION: check if user's location is in session's target locations
-                if (session.getTargetLocations() != null && !session.getTargetLocations().isEmpty()) {
-                    // User must be in one of the target locations
-                    if (user.getLocation() != null) {
-                        return session.getTargetLocations().stream()
-                            .anyMatch(location -> location.getId().equals(user.getLocation().getId()));
-                    }
-                    // User has no location, cannot access specific location sessions
-                    return false;
-                } else {
-                    // Fallback: if no target locations specified, check session's primary location
-                    if (session.getLocation() != null && user.getLocation() != null) {
-                        return session.getLocation().getId().equals(user.getLocation().getId());
-                    }
-                    return true;
-                }
-            }
-        }
+        return sessionEligibilityEvaluator.isEligible(user, session);
     }
     
     /**
@@ -529,7 +525,8 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
         return "SES-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
     }
 
-    private LearningSessionDTO toDTO(LearningSession session) {
+    // Package-private so the benchmarks under src/jmh can call it
+    LearningSessionDTO toDTO(LearningSession session) {
         LearningSessionDTO dto = LearningSessionDTO.builder()
                 .id(session.getId())
                 .sessionCode(session.getSessionCode())
@@ -551,8 +548,11 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
                 .updatedAt(session.getUpdatedAt())
                 .build();
 
-        // Add target role IDs
-        if (session.getTargetRoles() != null && !session.getTargetRoles().isEmpty()) {
+        // Add target role IDs - unrestricted sessions list every current role, as they used to be stored
+        dto.setTargetAllRoles(Boolean.TRUE.equals(session.getTargetAllRoles()));
+        if (dto.getTargetAllRoles()) {
+            dto.setTargetRoleIds(new HashSet<>(referenceData.snapshot().roleIds()));
+        } else if (session.getTargetRoles() != null && !session.getTargetRoles().isEmpty()) {
             dto.setTargetRoleIds(session.getTargetRoles().stream()
                 .map(role -> role.getId())
                 .collect(java.util.stream.Collectors.toSet()));
@@ -592,10 +592,11 @@ public class LearningSessionServiceImpl implements ILearningSessionService {
         }
 
         if (session.getLocation() != null) {
-            dto.setLocationId(session.getLocation().getId());
-            dto.setLocationName(session.getLocation().getName());
-            dto.setLocationCity(session.getLocation().getCity());
-            dto.setLocationCountry(session.getLocation().getCountry());
+            ReferenceDataSnapshot.LocationEntry location = referenceData.locationEntry(session.getLocation());
+            dto.setLocationId(location.id());
+            dto.setLocationName(location.name());
+            dto.setLocationCity(location.city());
+            dto.setLocationCountry(location.country());
         }
 
         if (session.getCreatedBy() != null) {
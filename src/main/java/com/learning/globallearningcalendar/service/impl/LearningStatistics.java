@@ -0,0 +1,156 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.entity.Booking;
+import com.learning.globallearningcalendar.entity.LearningSession;
+import com.learning.globallearningcalendar.repository.BookingRepository;
+import com.learning.globallearningcalendar.repository.InstructorRatingStatisticsRepository;
+import com.learning.globallearningcalendar.repository.ProgramRatingStatisticsRepository;
+import com.learning.globallearningcalendar.repository.SessionStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps session_statistics, program_rating_statistics and instructor_rating_statistics in step
+ * with bookings.
+ *
+ * Callers report each change - bookings created or deleted, attendance marked, feedback
+ * submitted - inside the transaction that makes it, and the matching counters are adjusted with
+ * an upsert, so the statistics commit or roll back together with the booking.
+ */
+@Component
+@RequiredArgsConstructor
+public class LearningStatistics {
+
+    private final SessionStatisticsRepository sessionStatisticsRepository;
+    private final ProgramRatingStatisticsRepository programRatingStatisticsRepository;
+    private final InstructorRatingStatisticsRepository instructorRatingStatisticsRepository;
+    private final BookingRepository bookingRepository;
+    private static final Logger log = LoggerFactory.getLogger(LearningStatistics.class);
+
+    public void bookingCreated(Booking booking) {
+        bookingsChanged(List.of(booking), 1);
+    }
+
+    public void bookingsCreated(Collection<Booking> bookings) {
+        bookingsChanged(bookings, 1);
+    }
+
+    public void bookingsDeleted(Collection<Booking> bookings) {
+        bookingsChanged(bookings, -1);
+    }
+
+    /**
+     * Move a booking between attendance buckets; call after setting the new status
+     */
+    public void attendanceChanged(Booking booking, Booking.AttendanceStatus previous) {
+        Booking.AttendanceStatus current = booking.getAttendanceStatus();
+        if (previous == current) {
+            return;
+        }
+        Long sessionId = booking.getLearningSession().getId();
+        if (previous != null) {
+            sessionStatisticsRepository.addAttendance(sessionId, previous.name(), -1);
+        }
+        if (current != null) {
+            sessionStatisticsRepository.addAttendance(sessionId, current.name(), 1);
+        }
+    }
+
+    /**
+     * Replace a booking's rating in the session, program and instructor totals; call after
+     * setting the new rating
+     */
+    public void feedbackChanged(Booking booking, Integer previousRating) {
+        Integer rating = booking.getFeedbackRating();
+        if (Objects.equals(previousRating, rating)) {
+            return;
+        }
+        if (previousRating != null) {
+            addRating(booking.getLearningSession(), previousRating, -1);
+        }
+        if (rating != null) {
+            addRating(booking.getLearningSession(), rating, 1);
+        }
+    }
+
+    /**
+     * Recompute the rating rows of a session's old and new instructor. The session change must
+     * already be flushed, since the rows are rebuilt from the bookings table.
+     */
+    public void instructorChanged(String previousEmail, String newEmail) {
+        String previous = instructorKey(previousEmail);
+        String current = instructorKey(newEmail);
+        if (Objects.equals(previous, current)) {
+            return;
+        }
+        for (String email : new String[]{previous, current}) {
+            if (email != null) {
+                instructorRatingStatisticsRepository.deleteStatistics(email);
+                instructorRatingStatisticsRepository.insertStatistics(email);
+            }
+        }
+    }
+
+    /**
+     * Recompute every statistics row from the bookings table
+     */
+    @Transactional
+    public void rebuild() {
+        sessionStatisticsRepository.deleteAllStatistics();
+        programRatingStatisticsRepository.deleteAllStatistics();
+        instructorRatingStatisticsRepository.deleteAllStatistics();
+        int sessions = sessionStatisticsRepository.insertAllStatistics();
+        int programs = programRatingStatisticsRepository.insertAllStatistics();
+        int instructors = instructorRatingStatisticsRepository.insertAllStatistics();
+        log.info("Rebuilt learning statistics: {} sessions, {} programs, {} instructors", sessions, programs, instructors);
+    }
+
+    // The tables are created empty by schema update - populate them once before serving traffic
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void populateIfEmpty() {
+        if (sessionStatisticsRepository.count() == 0 && bookingRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    private void bookingsChanged(Collection<Booking> bookings, int sign) {
+        // One upsert per (session, attendance bucket) however many bookings share it
+        Map<Long, Map<Booking.AttendanceStatus, Long>> attendance = new HashMap<>();
+        for (Booking booking : bookings) {
+            if (booking.getAttendanceStatus() != null) {
+                attendance.computeIfAbsent(booking.getLearningSession().getId(), id -> new HashMap<>())
+                        .merge(booking.getAttendanceStatus(), 1L, Long::sum);
+            }
+            if (booking.getFeedbackRating() != null) {
+                addRating(booking.getLearningSession(), booking.getFeedbackRating(), sign);
+            }
+        }
+        attendance.forEach((sessionId, buckets) -> buckets.forEach((status, count) ->
+                sessionStatisticsRepository.addAttendance(sessionId, status.name(), sign * count)));
+    }
+
+    private void addRating(LearningSession session, int rating, int delta) {
+        sessionStatisticsRepository.addRating(session.getId(), rating, delta);
+        programRatingStatisticsRepository.addRating(session.getLearningProgram().getId(), rating, delta);
+        String instructor = instructorKey(session.getInstructorEmail());
+        if (instructor != null) {
+            instructorRatingStatisticsRepository.addRating(instructor, rating, delta);
+        }
+    }
+
+    static String instructorKey(String email) {
+        return email == null || email.isBlank() ? null : email.trim().toLowerCase();
+    }
+}
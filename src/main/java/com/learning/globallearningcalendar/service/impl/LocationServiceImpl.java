@@ -18,6 +18,7 @@ import java.util.stream.Collectors;
 public class LocationServiceImpl implements ILocationService {
 
     private final LocationRepository locationRepository;
+    private final ReferenceData referenceData;
 
     @Override
     public List<LocationDTO> getAllLocations() {
@@ -45,6 +46,7 @@ public class LocationServiceImpl implements ILocationService {
         Location location = toEntity(dto);
         location.setIsActive(true);
         Location saved = locationRepository.save(location);
+        referenceData.reloadAfterCommit();
         return toDTO(saved);
     }
 
@@ -62,6 +64,7 @@ public class LocationServiceImpl implements ILocationService {
         location.setCapacity(dto.getCapacity());
         
         Location updated = locationRepository.save(location);
+        referenceData.reloadAfterCommit();
         return toDTO(updated);
     }
 
@@ -71,6 +74,7 @@ public class LocationServiceImpl implements ILocationService {
                 .orElseThrow(() -> new ResourceNotFoundException("Location", "id", id));
         location.setIsActive(false);
         locationRepository.save(location);
+        referenceData.reloadAfterCommit();
     }
 
     @Override
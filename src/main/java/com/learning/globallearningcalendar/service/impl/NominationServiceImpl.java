@@ -6,16 +6,29 @@ import com.learning.globallearningcalendar.exception.BadRequestException;
 import com.learning.globallearningcalendar.exception.ResourceNotFoundException;
 import com.learning.globallearningcalendar.repository.*;
 import com.learning.globallearningcalendar.service.INominationService;
+import com.learning.globallearningcalendar.util.SeatBlockAllocator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,6 +40,20 @@ public class NominationServiceImpl implements INominationService {
     private final LearningSessionRepository learningSessionRepository;
     private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
+    private final NominationJobRepository nominationJobRepository;
+    private final ReferenceData referenceData;
+    private final ReportingHierarchy reportingHierarchy;
+    private final BusinessUnitTree businessUnitTree;
+    private final LearningStatistics learningStatistics;
+    private final BookingMetrics bookingMetrics;
+
+    // Roles allowed to nominate by any selector; BU leaders are limited to their own unit subtree
+    private static final Set<Role.RoleType> ORG_WIDE_NOMINATOR_ROLES =
+            EnumSet.of(Role.RoleType.LD_LEADER, Role.RoleType.LD_ADMIN, Role.RoleType.SYSTEM_ADMIN);
+    private static final int MAX_RECORDED_JOB_ERRORS = 200;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Override
     @Transactional
@@ -45,126 +72,274 @@ public class NominationServiceImpl implements INominationService {
         LearningSession session = learningSessionRepository.findById(request.getSessionId())
                 .orElseThrow(() -> new ResourceNotFoundException("LearningSession", "id", request.getSessionId()));
 
-        // Check if session is in the past
-        if (session.getStartDateTime().isBefore(LocalDateTime.now())) {
-            throw new BadRequestException("Cannot nominate for past sessions");
+        // Check the session is neither in the past nor cancelled
+        String closedReason = nominationClosedReason(session);
+        if (closedReason != null) {
+            throw new BadRequestException(closedReason);
         }
 
-        // Check if session is cancelled
-        if (session.getStatus() == LearningSession.SessionStatus.CANCELLED) {
-            throw new BadRequestException("Cannot nominate for cancelled sessions");
+        // Lock the session row and re-read seat counts - MANDATORY nominations consume seats
+        entityManager.refresh(session, LockModeType.PESSIMISTIC_WRITE);
+
+        return nominate(session, nominator, request.getNomineeIds(), request.getNominationType(), request.getNotes(), true);
+    }
+
+    @Override
+    @Transactional
+    public NominationDTO.NominationJobResponse startScopedNomination(
+            NominationDTO.ScopedNominationRequest request,
+            Long nominatorId) {
+
+        User nominator = userRepository.findByIdWithDetails(nominatorId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", nominatorId));
+
+        LearningSession session = learningSessionRepository.findById(request.getSessionId())
+                .orElseThrow(() -> new ResourceNotFoundException("LearningSession", "id", request.getSessionId()));
+
+        String closedReason = nominationClosedReason(session);
+        if (closedReason != null) {
+            throw new BadRequestException(closedReason);
+        }
+
+        validateSelector(nominator, request);
+
+        NominationJob job = NominationJob.builder()
+                .session(session)
+                .nominator(nominator)
+                .selectorType(request.getSelectorType())
+                .selectorId(request.getSelectorType() == NominationJob.SelectorType.ROLE_TYPE ? null : request.getSelectorId())
+                .selectorRoleType(request.getSelectorType() == NominationJob.SelectorType.ROLE_TYPE ? request.getRoleType() : null)
+                .nominationType(request.getNominationType())
+                .notes(request.getNotes())
+                .status(NominationJob.JobStatus.QUEUED)
+                .processedCount(0)
+                .successfulCount(0)
+                .failedCount(0)
+                .lastProcessedUserId(0L)
+                .build();
+        job.setTotalTargets((int) countScopeTargets(job));
+        job = nominationJobRepository.save(job);
+
+        log.info("Queued {} nomination job {} for session {}: {} {} resolves to {} nominees",
+                job.getNominationType(), job.getId(), session.getId(), job.getSelectorType(),
+                job.getSelectorType() == NominationJob.SelectorType.ROLE_TYPE ? job.getSelectorRoleType() : job.getSelectorId(),
+                job.getTotalTargets());
+
+        return toJobResponse(job);
+    }
+
+    @Override
+    @Transactional
+    public boolean processNominationJobChunk(Long jobId, int chunkSize) {
+        // Row lock: concurrent workers serialise on the job and each sees the latest cursor
+        NominationJob job = nominationJobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("NominationJob", "id", jobId));
+        if (job.getStatus() == NominationJob.JobStatus.COMPLETED || job.getStatus() == NominationJob.JobStatus.FAILED) {
+            return false;
+        }
+        if (job.getStatus() == NominationJob.JobStatus.QUEUED) {
+            job.setStatus(NominationJob.JobStatus.RUNNING);
+            job.setStartedAt(LocalDateTime.now());
+        }
+
+        LearningSession session = job.getSession();
+        String closedReason = nominationClosedReason(session);
+        if (closedReason != null) {
+            markJobFailed(job, closedReason);
+            return false;
+        }
+
+        List<Long> nomineeIds = resolveScopeTargets(job, chunkSize);
+        if (!nomineeIds.isEmpty()) {
+            entityManager.refresh(session, LockModeType.PESSIMISTIC_WRITE);
+            NominationDTO.BulkNominationResponse result = nominate(session, job.getNominator(), nomineeIds,
+                    job.getNominationType(), job.getNotes(), false);
+
+            // Cursor and counters commit with the chunk they describe
+            job.setLastProcessedUserId(nomineeIds.get(nomineeIds.size() - 1));
+            job.setProcessedCount(job.getProcessedCount() + nomineeIds.size());
+            job.setSuccessfulCount(job.getSuccessfulCount() + result.getSuccessful());
+            job.setFailedCount(job.getFailedCount() + result.getFailed());
+            appendJobErrors(job, result.getErrors());
+        }
+
+        boolean more = nomineeIds.size() == chunkSize;
+        if (!more) {
+            job.setStatus(NominationJob.JobStatus.COMPLETED);
+            job.setCompletedAt(LocalDateTime.now());
+            log.info("Nomination job {} completed: {} processed, {} successful, {} failed",
+                    jobId, job.getProcessedCount(), job.getSuccessfulCount(), job.getFailedCount());
         }
+        nominationJobRepository.save(job);
+        return more;
+    }
+
+    @Override
+    @Transactional
+    public void failNominationJob(Long jobId, String reason) {
+        nominationJobRepository.findByIdForUpdate(jobId).ifPresent(job -> {
+            if (job.getStatus() != NominationJob.JobStatus.COMPLETED) {
+                markJobFailed(job, reason);
+                nominationJobRepository.save(job);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> getUnfinishedNominationJobIds() {
+        return nominationJobRepository.findUnfinishedJobIds();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public NominationDTO.NominationJobResponse getNominationJob(Long jobId) {
+        NominationJob job = nominationJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("NominationJob", "id", jobId));
+        return toJobResponse(job);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NominationDTO.NominationJobResponse> getNominationJobsByNominator(Long nominatorId) {
+        return nominationJobRepository.findByNominatorId(nominatorId).stream()
+                .map(this::toJobResponse)
+                .collect(Collectors.toList());
+    }
 
-        List<NominationDTO> successfulNominations = new ArrayList<>();
+    /**
+     * Set-based nomination: all nominees are validated with a handful of IN queries, MANDATORY
+     * nominees get contiguous seat blocks per team and nominations/bookings are saved in batches. Per-nominee failures
+     * are reported in the response rather than aborting the whole request.
+     */
+    private NominationDTO.BulkNominationResponse nominate(LearningSession session, User nominator, List<Long> nomineeIds,
+                                                          Nomination.NominationType nominationType, String notes,
+                                                          boolean directReportsOnly) {
         List<String> errors = new ArrayList<>();
-        int successful = 0;
         int failed = 0;
 
-        for (Long nomineeId : request.getNomineeIds()) {
-            try {
-                // Validate nominee
-                User nominee = userRepository.findById(nomineeId)
-                        .orElseThrow(() -> new ResourceNotFoundException("User", "id", nomineeId));
+        Map<Long, User> nominees = userRepository.findAllById(new HashSet<>(nomineeIds)).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<Long> foundIds = new ArrayList<>(nominees.keySet());
+        Set<Long> activelyNominated = foundIds.isEmpty() ? Set.of()
+                : new HashSet<>(nominationRepository.findNomineeIdsWithActiveNomination(session.getId(), foundIds));
+        Set<Long> alreadyBooked = foundIds.isEmpty() ? Set.of()
+                : new HashSet<>(bookingRepository.findUserIdsWithActiveBooking(session.getId(), foundIds));
+
+        boolean mandatory = nominationType == Nomination.NominationType.MANDATORY;
+        int seatsLeft = session.getAvailableSeats() != null ? session.getAvailableSeats() : 0;
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> seen = new HashSet<>();
+        List<Nomination> nominations = new ArrayList<>();
+        List<Booking> bookings = new ArrayList<>();
+        // MANDATORY nominees who get a seat, grouped by their manager so each team sits together
+        Map<Long, List<Nomination>> seatedTeams = new LinkedHashMap<>();
+
+        for (Long nomineeId : nomineeIds) {
+            User nominee = nominees.get(nomineeId);
+            if (nominee == null) {
+                errors.add(String.format("Failed to nominate user ID %d: User not found with id: '%d'", nomineeId, nomineeId));
+                failed++;
+                continue;
+            }
+            String name = nominee.getFirstName() + " " + nominee.getLastName();
 
-                // Check if nominee is in nominator's team
-                if (nominee.getManager() == null || !nominee.getManager().getId().equals(nominatorId)) {
-                    errors.add(String.format("%s %s is not in your team", 
-                            nominee.getFirstName(), nominee.getLastName()));
-                    failed++;
-                    continue;
-                }
+            // Check if nominee is in nominator's team (scoped jobs were authorised by selector)
+            if (directReportsOnly
+                    && (nominee.getManager() == null || !nominee.getManager().getId().equals(nominator.getId()))) {
+                errors.add(String.format("%s is not in your team", name));
+                failed++;
+                continue;
+            }
 
-                // Check for existing active nomination
-                Optional<Nomination> existingNomination = nominationRepository
-                        .findActiveNominationBySessionAndNominee(session.getId(), nomineeId);
-                
-                if (existingNomination.isPresent()) {
-                    errors.add(String.format("%s %s already has an active nomination for this session", 
-                            nominee.getFirstName(), nominee.getLastName()));
-                    failed++;
-                    continue;
-                }
+            // Repeated ids and existing PENDING nominations count as an active nomination
+            if (!seen.add(nomineeId) || activelyNominated.contains(nomineeId)) {
+                errors.add(String.format("%s already has an active nomination for this session", name));
+                failed++;
+                continue;
+            }
 
-                // Check if user already has a booking for this session
-                Optional<Booking> existingBooking = bookingRepository
-                        .findByUserIdAndSessionId(nomineeId, session.getId());
-                
-                if (existingBooking.isPresent()) {
-                    errors.add(String.format("%s %s already has a booking for this session", 
-                            nominee.getFirstName(), nominee.getLastName()));
+            if (alreadyBooked.contains(nomineeId)) {
+                errors.add(String.format("%s already has a booking for this session", name));
+                failed++;
+                continue;
+            }
+
+            Nomination nomination = Nomination.builder()
+                    .session(session)
+                    .nominee(nominee)
+                    .nominator(nominator)
+                    .nominationType(nominationType)
+                    .notes(notes)
+                    .nominatedAt(now)
+                    .build();
+
+            if (mandatory) {
+                // If MANDATORY, a seat is reserved in list order; numbers are assigned per team below
+                if (seatsLeft <= 0) {
+                    errors.add(String.format("No seats available for %s", name));
                     failed++;
                     continue;
                 }
+                seatsLeft--;
+                Long teamKey = nominee.getManager() != null ? nominee.getManager().getId() : 0L;
+                seatedTeams.computeIfAbsent(teamKey, key -> new ArrayList<>()).add(nomination);
+                nomination.setStatus(Nomination.NominationStatus.COMPLETED);
+            } else {
+                // RECOMMENDED - set status to PENDING
+                nomination.setStatus(Nomination.NominationStatus.PENDING);
+            }
+            nominations.add(nomination);
+        }
 
-                // Create nomination
-                Nomination nomination = Nomination.builder()
-                        .session(session)
-                        .nominee(nominee)
-                        .nominator(nominator)
-                        .nominationType(request.getNominationType())
-                        .notes(request.getNotes())
-                        .nominatedAt(LocalDateTime.now())
-                        .build();
-
-                // If MANDATORY, auto-create booking
-                if (request.getNominationType() == Nomination.NominationType.MANDATORY) {
-                    // Check seat availability
-                    if (!session.hasAvailableSeats()) {
-                        errors.add(String.format("No seats available for %s %s", 
-                                nominee.getFirstName(), nominee.getLastName()));
-                        failed++;
-                        continue;
-                    }
-
-                    // Auto-assign seat
-                    Integer assignedSeat = autoAssignSeat(session.getId(), session.getTotalSeats());
-
-                    // Create booking with assigned seat
+        if (!seatedTeams.isEmpty()) {
+            // One read of the seat map; largest teams claim contiguous blocks first, falling back
+            // to best-fit fragments when the session is too fragmented
+            SeatBlockAllocator allocator = new SeatBlockAllocator(session.getTotalSeats(),
+                    bookingRepository.findBookedSeatsBySessionId(session.getId()));
+            List<List<Nomination>> teams = new ArrayList<>(seatedTeams.values());
+            teams.sort(Comparator.comparingInt((List<Nomination> team) -> team.size()).reversed());
+            for (List<Nomination> team : teams) {
+                List<Integer> teamSeats = allocator.allocate(team.size());
+                for (int i = 0; i < team.size(); i++) {
+                    Nomination nomination = team.get(i);
+                    // Seats held by bookings without a seat number can leave the seat map short
+                    Integer seatNumber = i < teamSeats.size() ? teamSeats.get(i) : null;
                     Booking booking = Booking.builder()
-                            .user(nominee)
+                            .user(nomination.getNominee())
                             .learningSession(session)
                             .status(Booking.BookingStatus.CONFIRMED)
-                            .bookingDate(LocalDateTime.now())
+                            .bookingDate(now)
                             .bookingReference(generateBookingReference())
-                            .seatNumber(assignedSeat)
-                            .confirmationDate(LocalDateTime.now())
+                            .seatNumber(seatNumber)
+                            .confirmationDate(now)
                             .build();
-
-                    booking = bookingRepository.save(booking);
-
-                    // Decrement available seats
-                    session.decrementAvailableSeats();
-                    learningSessionRepository.save(session);
-
-                    // Link booking to nomination
+                    bookings.add(booking);
                     nomination.setBooking(booking);
-                    nomination.setStatus(Nomination.NominationStatus.COMPLETED);
-                    
-                    log.info("Created MANDATORY nomination and auto-booked seat {} for user {} in session {}", 
-                            assignedSeat, nomineeId, session.getId());
-                } else {
-                    // RECOMMENDED - set status to PENDING
-                    nomination.setStatus(Nomination.NominationStatus.PENDING);
-                    log.info("Created RECOMMENDED nomination for user {} in session {}", 
-                            nomineeId, session.getId());
                 }
-
-                nomination = nominationRepository.save(nomination);
-                successfulNominations.add(toDTO(nomination));
-                successful++;
-
-            } catch (Exception e) {
-                log.error("Error nominating user {}: {}", nomineeId, e.getMessage());
-                errors.add(String.format("Failed to nominate user ID %d: %s", nomineeId, e.getMessage()));
-                failed++;
             }
         }
 
-        log.info("Bulk nomination completed: {} successful, {} failed", successful, failed);
+        bookingRepository.saveAll(bookings);
+        learningStatistics.bookingsCreated(bookings);
+        bookingMetrics.bookingsCreated(bookings, BookingMetrics.NOMINATION);
+        nominationRepository.saveAll(nominations);
+        if (!bookings.isEmpty()) {
+            // One seat-count update for the whole batch
+            session.setAvailableSeats(seatsLeft);
+        }
+
+        List<NominationDTO> successfulNominations = nominations.stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+
+        log.info("Bulk nomination completed for session {}: {} successful ({} auto-booked), {} failed",
+                session.getId(), nominations.size(), bookings.size(), failed);
 
         return NominationDTO.BulkNominationResponse.builder()
-                .totalNominations(request.getNomineeIds().size())
-                .successful(successful)
+                .totalNominations(nomineeIds.size())
+                .successful(nominations.size())
                 .failed(failed)
                 .errors(errors)
                 .nominations(successfulNominations)
@@ -258,6 +433,8 @@ public class NominationServiceImpl implements INominationService {
                 .build();
 
         booking = bookingRepository.save(booking);
+        learningStatistics.bookingCreated(booking);
+        bookingMetrics.bookingCreated(booking, BookingMetrics.NOMINATION);
 
         // Note: Do NOT decrement available seats yet - will be done when user selects seat
 
@@ -339,6 +516,143 @@ public class NominationServiceImpl implements INominationService {
         return toDTO(nomination);
     }
 
+    /**
+     * Why nominations for the session are closed, or null if they are open
+     */
+    private String nominationClosedReason(LearningSession session) {
+        if (session.getStartDateTime().isBefore(LocalDateTime.now())) {
+            return "Cannot nominate for past sessions";
+        }
+        if (session.getStatus() == LearningSession.SessionStatus.CANCELLED) {
+            return "Cannot nominate for cancelled sessions";
+        }
+        return null;
+    }
+
+    /**
+     * Check the selector is complete, refers to existing data and is within the nominator's reach
+     */
+    private void validateSelector(User nominator, NominationDTO.ScopedNominationRequest request) {
+        NominationJob.SelectorType selectorType = request.getSelectorType();
+        Long selectorId = request.getSelectorId();
+        if (selectorType == NominationJob.SelectorType.ROLE_TYPE) {
+            if (request.getRoleType() == null) {
+                throw new BadRequestException("Role type is required for ROLE_TYPE nominations");
+            }
+        } else if (selectorId == null) {
+            throw new BadRequestException("Selector ID is required for " + selectorType + " nominations");
+        }
+
+        Role.RoleType nominatorRole = nominator.getRole() != null ? referenceData.roleEntry(nominator.getRole()).roleType() : null;
+        boolean orgWide = nominatorRole != null && ORG_WIDE_NOMINATOR_ROLES.contains(nominatorRole);
+
+        switch (selectorType) {
+            case BUSINESS_UNIT -> {
+                BusinessUnit businessUnit = referenceData.businessUnitReference(selectorId);
+                boolean ownSubtree = nominatorRole == Role.RoleType.BU_LEADER
+                        && nominator.getBusinessUnit() != null
+                        && businessUnitTree.snapshot().isInSubtree(nominator.getBusinessUnit().getId(), businessUnit.getId());
+                if (!orgWide && !ownSubtree) {
+                    throw new BadRequestException("You can only nominate business units within your own business unit");
+                }
+            }
+            case LOCATION -> {
+                // Throws ResourceNotFoundException for an unknown location
+                referenceData.locationReference(selectorId);
+                if (!orgWide) {
+                    throw new BadRequestException("Only L&D leaders and administrators can nominate by location");
+                }
+            }
+            case ROLE_TYPE -> {
+                if (!orgWide) {
+                    throw new BadRequestException("Only L&D leaders and administrators can nominate by role type");
+                }
+            }
+            case REPORTING_TREE -> {
+                User root = userRepository.findById(selectorId)
+                        .orElseThrow(() -> new ResourceNotFoundException("User", "id", selectorId));
+                if (!orgWide && !root.getId().equals(nominator.getId())
+                        && !reportingHierarchy.isInReportingLine(nominator.getId(), root.getId())) {
+                    throw new BadRequestException("You can only nominate within your own reporting tree");
+                }
+            }
+        }
+    }
+
+    private long countScopeTargets(NominationJob job) {
+        Long nominatorId = job.getNominator().getId();
+        return switch (job.getSelectorType()) {
+            case BUSINESS_UNIT -> userRepository.countActiveInBusinessUnitTree(job.getSelectorId(), nominatorId);
+            case LOCATION -> userRepository.countActiveByLocation(job.getSelectorId(), nominatorId);
+            case ROLE_TYPE -> userRepository.countActiveByRoleType(job.getSelectorRoleType(), nominatorId);
+            case REPORTING_TREE -> userRepository.countActiveInReportingTree(job.getSelectorId(), nominatorId);
+        };
+    }
+
+    /**
+     * Next chunk of nominee ids after the job's cursor, resolved in the database
+     */
+    private List<Long> resolveScopeTargets(NominationJob job, int chunkSize) {
+        Long nominatorId = job.getNominator().getId();
+        Long afterId = job.getLastProcessedUserId();
+        return switch (job.getSelectorType()) {
+            case BUSINESS_UNIT -> userRepository.findActiveIdsInBusinessUnitTree(job.getSelectorId(), nominatorId, afterId, chunkSize);
+            case LOCATION -> userRepository.findActiveIdsByLocation(job.getSelectorId(), nominatorId, afterId, PageRequest.of(0, chunkSize));
+            case ROLE_TYPE -> userRepository.findActiveIdsByRoleType(job.getSelectorRoleType(), nominatorId, afterId, PageRequest.of(0, chunkSize));
+            case REPORTING_TREE -> userRepository.findActiveIdsInReportingTree(job.getSelectorId(), nominatorId, afterId, PageRequest.of(0, chunkSize));
+        };
+    }
+
+    private void markJobFailed(NominationJob job, String reason) {
+        job.setStatus(NominationJob.JobStatus.FAILED);
+        job.setFailureReason(reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason);
+        job.setCompletedAt(LocalDateTime.now());
+        log.warn("Nomination job {} failed after {} nominees: {}", job.getId(), job.getProcessedCount(), reason);
+    }
+
+    private void appendJobErrors(NominationJob job, List<String> errors) {
+        List<String> recorded = new ArrayList<>(splitErrors(job.getErrors()));
+        for (String error : errors) {
+            if (recorded.size() >= MAX_RECORDED_JOB_ERRORS) {
+                break;
+            }
+            recorded.add(error);
+        }
+        job.setErrors(recorded.isEmpty() ? null : String.join("\n", recorded));
+    }
+
+    private List<String> splitErrors(String errors) {
+        return errors == null || errors.isEmpty() ? List.of() : Arrays.asList(errors.split("\n"));
+    }
+
+    private NominationDTO.NominationJobResponse toJobResponse(NominationJob job) {
+        LearningSession session = job.getSession();
+        int total = job.getTotalTargets();
+        return NominationDTO.NominationJobResponse.builder()
+                .jobId(job.getId())
+                .sessionId(session.getId())
+                .sessionName(session.getLearningProgram() != null ? session.getLearningProgram().getName() : null)
+                .nominatorId(job.getNominator().getId())
+                .selectorType(job.getSelectorType())
+                .selectorId(job.getSelectorId())
+                .roleType(job.getSelectorRoleType())
+                .nominationType(job.getNominationType())
+                .status(job.getStatus())
+                .totalTargets(total)
+                .processed(job.getProcessedCount())
+                .successful(job.getSuccessfulCount())
+                .failed(job.getFailedCount())
+                // The audience can change while the job runs, so cap at 100%
+                .percentComplete(job.getStatus() == NominationJob.JobStatus.COMPLETED ? 100.0
+                        : total == 0 ? 0.0 : Math.min(100.0, Math.round(job.getProcessedCount() * 1000.0 / total) / 10.0))
+                .errors(splitErrors(job.getErrors()))
+                .failureReason(job.getFailureReason())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
     private NominationDTO toDTO(Nomination nomination) {
         NominationDTO dto = NominationDTO.builder()
                 .id(nomination.getId())
@@ -363,7 +677,7 @@ public class NominationServiceImpl implements INominationService {
             dto.setSessionEndDateTime(session.getEndDateTime());
             
             if (session.getLocation() != null) {
-                dto.setSessionLocationName(session.getLocation().getName());
+                dto.setSessionLocationName(referenceData.locationEntry(session.getLocation()).name());
             }
             
             // Program name
@@ -414,22 +728,4 @@ public class NominationServiceImpl implements INominationService {
     private String generateBookingReference() {
         return "BK-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
     }
-
-    /**
-     * Auto-assign the next available seat for a session
-     */
-    private Integer autoAssignSeat(Long sessionId, int totalSeats) {
-        // Get all booked seats for this session
-        List<Integer> bookedSeats = bookingRepository.findBookedSeatsBySessionId(sessionId);
-        
-        // Find first available seat
-        for (int seatNumber = 1; seatNumber <= totalSeats; seatNumber++) {
-            if (!bookedSeats.contains(seatNumber)) {
-                return seatNumber;
-            }
-        }
-        
-        // No seat available (shouldn't happen if we check hasAvailableSeats first)
-        throw new BadRequestException("No seats available for auto-assignment");
-    }
 }
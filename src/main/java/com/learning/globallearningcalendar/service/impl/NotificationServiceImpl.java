@@ -4,15 +4,25 @@ import com.learning.globallearningcalendar.dto.NotificationDTO;
 import com.learning.globallearningcalendar.entity.Booking;
 import com.learning.globallearningcalendar.entity.Notification;
 import com.learning.globallearningcalendar.entity.User;
+import com.learning.globallearningcalendar.entity.Waitlist;
+import com.learning.globallearningcalendar.repository.BookingRepository;
 import com.learning.globallearningcalendar.repository.NotificationRepository;
 import com.learning.globallearningcalendar.repository.UserRepository;
+import com.learning.globallearningcalendar.service.EmailDeliveryService;
 import com.learning.globallearningcalendar.service.NotificationService;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +31,9 @@ public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final BookingRepository bookingRepository;
+    private final EmailDeliveryService emailDeliveryService;
+    private static final Logger log = LoggerFactory.getLogger(NotificationServiceImpl.class);
 
     @Override
     @Transactional
@@ -44,6 +57,7 @@ public class NotificationServiceImpl implements NotificationService {
         }
 
         notification = notificationRepository.save(notification);
+        emailDeliveryService.enqueueAfterCommit(user.getEmail(), title, message);
         return toDTO(notification);
     }
 
@@ -123,6 +137,55 @@ public class NotificationServiceImpl implements NotificationService {
                 Notification.NotificationType.BOOKING_WAITLISTED, booking.getId());
     }
 
+    @Override
+    @Transactional
+    public void notifyBookingsCancelled(List<Booking> bookings, String reason) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        // Build all notifications in memory and save them in one batch
+        List<Notification> notifications = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            String message = String.format("Your booking for '%s' has been cancelled.%s",
+                    booking.getLearningSession().getLearningProgram().getName(),
+                    reason != null ? " Reason: " + reason : "");
+            notifications.add(Notification.builder()
+                    .user(booking.getUser())
+                    .title("Booking Cancelled")
+                    .message(message)
+                    .type(Notification.NotificationType.BOOKING_CANCELLED)
+                    .booking(booking)
+                    .isRead(false)
+                    .build());
+            emailDeliveryService.enqueueAfterCommit(booking.getUser().getEmail(), "Booking Cancelled", message);
+        }
+        notificationRepository.saveAll(notifications);
+        log.info("Queued {} booking cancellation notifications", notifications.size());
+    }
+
+    @Override
+    @Transactional
+    public void notifyWaitlistCancelled(List<Waitlist> waitlists) {
+        if (waitlists.isEmpty()) {
+            return;
+        }
+        List<Notification> notifications = new ArrayList<>(waitlists.size());
+        for (Waitlist waitlist : waitlists) {
+            String message = String.format("The session for '%s' you were waitlisted for has been cancelled. You have been removed from the waitlist.",
+                    waitlist.getLearningSession().getLearningProgram().getName());
+            notifications.add(Notification.builder()
+                    .user(waitlist.getUser())
+                    .title("Waitlist Cancelled")
+                    .message(message)
+                    .type(Notification.NotificationType.WAITLIST_CANCELLED)
+                    .isRead(false)
+                    .build());
+            emailDeliveryService.enqueueAfterCommit(waitlist.getUser().getEmail(), "Waitlist Cancelled", message);
+        }
+        notificationRepository.saveAll(notifications);
+        log.info("Queued {} waitlist cancellation notifications", notifications.size());
+    }
+
     @Override
     @Transactional
     public void notifyWaitlistPromoted(Booking booking) {
@@ -135,6 +198,30 @@ public class NotificationServiceImpl implements NotificationService {
                 Notification.NotificationType.WAITLIST_PROMOTED, booking.getId());
     }
 
+    @Override
+    @Transactional
+    public void notifyWaitlistPromoted(List<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        List<Notification> notifications = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            String message = String.format("Great news! Your waitlist booking for '%s' has been confirmed. Session date: %s",
+                    booking.getLearningSession().getLearningProgram().getName(),
+                    formatDateTime(booking.getLearningSession().getStartDateTime()));
+            notifications.add(Notification.builder()
+                    .user(booking.getUser())
+                    .title("Waitlist Promoted!")
+                    .message(message)
+                    .type(Notification.NotificationType.WAITLIST_PROMOTED)
+                    .booking(booking)
+                    .isRead(false)
+                    .build());
+            emailDeliveryService.enqueueAfterCommit(booking.getUser().getEmail(), "Waitlist Promoted!", message);
+        }
+        notificationRepository.saveAll(notifications);
+    }
+
     @Override
     @Transactional
     public void notifyBookingApproved(Booking booking) {
@@ -182,6 +269,120 @@ public class NotificationServiceImpl implements NotificationService {
                 Notification.NotificationType.CANCELLATION_REJECTED, booking.getId());
     }
 
+    @Override
+    @Transactional
+    public void notifyBookingsApproved(List<Booking> bookings) {
+        notifyBookingUsers(bookings, "Booking Approved", Notification.NotificationType.BOOKING_APPROVED,
+                booking -> String.format("Your manager has approved your booking for '%s'. Session date: %s",
+                        booking.getLearningSession().getLearningProgram().getName(),
+                        formatDateTime(booking.getLearningSession().getStartDateTime())));
+    }
+
+    @Override
+    @Transactional
+    public void notifyBookingsRejected(List<Booking> bookings, String reason) {
+        notifyBookingUsers(bookings, "Booking Rejected", Notification.NotificationType.BOOKING_REJECTED,
+                booking -> String.format("Your booking request for '%s' has been rejected by your manager.%s",
+                        booking.getLearningSession().getLearningProgram().getName(),
+                        reason != null ? " Reason: " + reason : ""));
+    }
+
+    @Override
+    @Transactional
+    public void notifyCancellationsApproved(List<Booking> bookings) {
+        notifyBookingUsers(bookings, "Cancellation Approved", Notification.NotificationType.CANCELLATION_APPROVED,
+                booking -> String.format("Your cancellation request for '%s' has been approved.",
+                        booking.getLearningSession().getLearningProgram().getName()));
+    }
+
+    @Override
+    @Transactional
+    public void notifyCancellationsRejected(List<Booking> bookings, String reason) {
+        notifyBookingUsers(bookings, "Cancellation Request Rejected", Notification.NotificationType.CANCELLATION_REJECTED,
+                booking -> String.format("Your cancellation request for '%s' has been rejected by your manager.%s Your booking remains active.",
+                        booking.getLearningSession().getLearningProgram().getName(),
+                        reason != null ? " Reason: " + reason : ""));
+    }
+
+    // One notification (and email) per booking owner, saved in a single batch
+    private void notifyBookingUsers(List<Booking> bookings, String title, Notification.NotificationType type,
+                                    Function<Booking, String> message) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        List<Notification> notifications = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            String text = message.apply(booking);
+            notifications.add(Notification.builder()
+                    .user(booking.getUser())
+                    .title(title)
+                    .message(text)
+                    .type(type)
+                    .booking(booking)
+                    .isRead(false)
+                    .build());
+            emailDeliveryService.enqueueAfterCommit(booking.getUser().getEmail(), title, text);
+        }
+        notificationRepository.saveAll(notifications);
+        log.info("Queued {} {} notifications", notifications.size(), type);
+    }
+
+    @Override
+    @Transactional
+    public int sendManagerDigests() {
+        LocalDateTime cutoff = LocalDateTime.now();
+
+        // One grouped query across all managers instead of one notification per pending booking
+        Map<Long, DigestCounts> digests = new LinkedHashMap<>();
+        for (Object[] row : bookingRepository.countPendingManagerActionsGroupedByManager(cutoff)) {
+            Long managerId = (Long) row[0];
+            Booking.BookingStatus status = (Booking.BookingStatus) row[1];
+            long total = ((Number) row[2]).longValue();
+            long unnotified = row[3] != null ? ((Number) row[3]).longValue() : 0L;
+
+            DigestCounts counts = digests.computeIfAbsent(managerId, id -> new DigestCounts());
+            if (status == Booking.BookingStatus.PENDING_APPROVAL) {
+                counts.pendingApprovals += total;
+            } else {
+                counts.pendingCancellations += total;
+            }
+            counts.newSinceLastDigest += unnotified;
+        }
+
+        // Only managers with something new get a digest; older items were covered by a previous one
+        digests.values().removeIf(counts -> counts.newSinceLastDigest == 0);
+        List<Notification> notifications = new ArrayList<>();
+        for (User manager : userRepository.findAllById(digests.keySet())) {
+            DigestCounts counts = digests.get(manager.getId());
+            String message = String.format("You have %d booking request(s) awaiting approval and %d cancellation request(s) awaiting review (%d new since your last digest).",
+                    counts.pendingApprovals, counts.pendingCancellations, counts.newSinceLastDigest);
+            notifications.add(Notification.builder()
+                    .user(manager)
+                    .title("Pending Approvals Digest")
+                    .message(message)
+                    .type(Notification.NotificationType.MANAGER_DIGEST)
+                    .isRead(false)
+                    .build());
+            emailDeliveryService.enqueueAfterCommit(manager.getEmail(), "Pending Approvals Digest", message);
+        }
+
+        if (notifications.isEmpty()) {
+            log.debug("No new pending manager actions - no digests sent");
+            return 0;
+        }
+
+        notificationRepository.saveAll(notifications);
+        int flagged = bookingRepository.markPendingManagerActionsNotified(cutoff, LocalDateTime.now());
+        log.info("Sent {} manager digest notifications covering {} newly pending bookings", notifications.size(), flagged);
+        return notifications.size();
+    }
+
+    private static class DigestCounts {
+        private long pendingApprovals;
+        private long pendingCancellations;
+        private long newSinceLastDigest;
+    }
+
     private NotificationDTO toDTO(Notification notification) {
         return NotificationDTO.builder()
                 .id(notification.getId())
@@ -0,0 +1,138 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.repository.ProgramWaitlistRepository;
+import com.learning.globallearningcalendar.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory priority queues of WAITING program waitlist entries, one per program, ordered by
+ * (joinedAt, id) - longest waiting first.
+ *
+ * A released seat only touches the queue of that session's program. Queues are loaded lazily
+ * from the database and mutations are applied after commit; add/remove are idempotent so a load
+ * racing with a commit cannot double count. Other instances' joins and removals are picked up by
+ * {@link #reloadLoaded}, run on an interval; until then a queue can miss or hold a few entries,
+ * which seat matching tolerates by re-reading each candidate. Positions are counted in the
+ * database, so they are exact on every instance.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProgramWaitlistQueues {
+
+    private static final Comparator<QueueEntry> LONGEST_WAITING_FIRST =
+            Comparator.comparing(QueueEntry::joinedAt).thenComparing(QueueEntry::id);
+
+    private final ProgramWaitlistRepository programWaitlistRepository;
+
+    private final Map<Long, ProgramQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * Ids of the first {@code limit} waiting entries, longest waiting first.
+     */
+    public List<Long> headIds(Long programId, int limit) {
+        ProgramQueue queue = loaded(programId);
+        synchronized (queue) {
+            List<Long> ids = new ArrayList<>(Math.min(limit, queue.entries.size()));
+            for (QueueEntry entry : queue.entries) {
+                if (ids.size() >= limit) {
+                    break;
+                }
+                ids.add(entry.id());
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * 1-based position of an entry in its program queue.
+     */
+    public int positionOf(Long programId, Long entryId, LocalDateTime joinedAt) {
+        return (int) programWaitlistRepository.countWaitingAhead(programId, joinedAt, entryId) + 1;
+    }
+
+    public int size(Long programId) {
+        ProgramQueue queue = loaded(programId);
+        synchronized (queue) {
+            return queue.entries.size();
+        }
+    }
+
+    public void addAfterCommit(Long programId, Long entryId, LocalDateTime joinedAt) {
+        TransactionCallbacks.afterCommit(() -> update(programId, new QueueEntry(entryId, joinedAt), true));
+    }
+
+    public void removeAfterCommit(Long programId, Long entryId, LocalDateTime joinedAt) {
+        TransactionCallbacks.afterCommit(() -> update(programId, new QueueEntry(entryId, joinedAt), false));
+    }
+
+    /**
+     * Re-read every queue held in memory from the database. Returns the number of queues reloaded.
+     */
+    public int reloadLoaded() {
+        int reloaded = 0;
+        for (Map.Entry<Long, ProgramQueue> loadedQueue : queues.entrySet()) {
+            ProgramQueue queue = loadedQueue.getValue();
+            synchronized (queue) {
+                if (queue.loaded) {
+                    queue.entries.clear();
+                    load(loadedQueue.getKey(), queue);
+                    reloaded++;
+                }
+            }
+        }
+        return reloaded;
+    }
+
+    private void update(Long programId, QueueEntry entry, boolean waiting) {
+        ProgramQueue queue = queues.get(programId);
+        if (queue == null) {
+            // Not in memory - the next load reads the committed state
+            return;
+        }
+        synchronized (queue) {
+            if (!queue.loaded) {
+                return;
+            }
+            if (waiting) {
+                queue.entries.add(entry);
+            } else {
+                queue.entries.remove(entry);
+            }
+        }
+    }
+
+    private ProgramQueue loaded(Long programId) {
+        ProgramQueue queue = queues.computeIfAbsent(programId, id -> new ProgramQueue());
+        synchronized (queue) {
+            if (!queue.loaded) {
+                load(programId, queue);
+            }
+        }
+        return queue;
+    }
+
+    // Callers hold the queue's lock, so commits applied meanwhile wait and land on the fresh entries
+    private void load(Long programId, ProgramQueue queue) {
+        for (Object[] row : programWaitlistRepository.findWaitingQueueKeysByProgram(programId)) {
+            queue.entries.add(new QueueEntry((Long) row[0], (LocalDateTime) row[1]));
+        }
+        queue.loaded = true;
+    }
+
+    private record QueueEntry(Long id, LocalDateTime joinedAt) {
+    }
+
+    private static class ProgramQueue {
+        private final TreeSet<QueueEntry> entries = new TreeSet<>(LONGEST_WAITING_FIRST);
+        private boolean loaded;
+    }
+}
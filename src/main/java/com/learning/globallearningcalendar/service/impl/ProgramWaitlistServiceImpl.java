@@ -0,0 +1,298 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.dto.ProgramWaitlistDTO;
+import com.learning.globallearningcalendar.entity.Booking;
+import com.learning.globallearningcalendar.entity.LearningProgram;
+import com.learning.globallearningcalendar.entity.LearningSession;
+import com.learning.globallearningcalendar.entity.ProgramWaitlist;
+import com.learning.globallearningcalendar.entity.User;
+import com.learning.globallearningcalendar.entity.Waitlist.WaitlistStatus;
+import com.learning.globallearningcalendar.exception.BadRequestException;
+import com.learning.globallearningcalendar.exception.ResourceNotFoundException;
+import com.learning.globallearningcalendar.repository.BookingRepository;
+import com.learning.globallearningcalendar.repository.LearningProgramRepository;
+import com.learning.globallearningcalendar.repository.LearningSessionRepository;
+import com.learning.globallearningcalendar.repository.ProgramWaitlistRepository;
+import com.learning.globallearningcalendar.repository.UserRepository;
+import com.learning.globallearningcalendar.service.IProgramWaitlistService;
+import com.learning.globallearningcalendar.service.NotificationService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for program-level ("first available") waitlists
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProgramWaitlistServiceImpl implements IProgramWaitlistService {
+
+    private final ProgramWaitlistRepository programWaitlistRepository;
+    private final LearningProgramRepository learningProgramRepository;
+    private final LearningSessionRepository learningSessionRepository;
+    private final UserRepository userRepository;
+    private final BookingRepository bookingRepository;
+    private final NotificationService notificationService;
+    private final SessionEligibilityEvaluator sessionEligibilityEvaluator;
+    private final ProgramWaitlistQueues programWaitlistQueues;
+    private final LearningStatistics learningStatistics;
+    private final BookingMetrics bookingMetrics;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final Logger log = LoggerFactory.getLogger(ProgramWaitlistServiceImpl.class);
+
+    @Override
+    public ProgramWaitlistDTO joinProgramWaitlist(Long programId, Long userId, String notes) {
+        log.info("User {} attempting to join program waitlist for program {}", userId, programId);
+
+        LearningProgram program = learningProgramRepository.findById(programId)
+                .orElseThrow(() -> new ResourceNotFoundException("LearningProgram", "id", programId));
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        if (programWaitlistRepository.existsByLearningProgramIdAndUserIdAndStatus(programId, userId, WaitlistStatus.WAITING)) {
+            throw new BadRequestException("You are already in the waitlist for this program");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!bookingRepository.findUserIdsWithUpcomingProgramBooking(programId, List.of(userId), now).isEmpty()) {
+            throw new BadRequestException("You already have a booking for an upcoming session of this program");
+        }
+
+        List<LearningSession> eligibleSessions = learningSessionRepository.findByLearningProgramId(programId).stream()
+                .filter(session -> session.getStatus() == LearningSession.SessionStatus.SCHEDULED)
+                .filter(session -> session.getStartDateTime().isAfter(now))
+                .filter(session -> sessionEligibilityEvaluator.isEligible(user, session))
+                .collect(Collectors.toList());
+
+        if (eligibleSessions.isEmpty()) {
+            throw new BadRequestException("There are no upcoming sessions of this program you are eligible for");
+        }
+        if (eligibleSessions.stream().anyMatch(LearningSession::hasAvailableSeats)) {
+            throw new BadRequestException("A session of this program has available seats. Please book directly instead of joining the waitlist");
+        }
+
+        ProgramWaitlist entry = ProgramWaitlist.builder()
+                .learningProgram(program)
+                .user(user)
+                .status(WaitlistStatus.WAITING)
+                .joinedAt(now)
+                .notes(notes)
+                .build();
+
+        entry = programWaitlistRepository.save(entry);
+        programWaitlistQueues.addAfterCommit(programId, entry.getId(), entry.getJoinedAt());
+        bookingMetrics.programWaitlistJoined();
+        log.info("User {} joined program waitlist for program {} ({} eligible sessions)", userId, programId, eligibleSessions.size());
+
+        return toDTO(entry);
+    }
+
+    @Override
+    public void leaveProgramWaitlist(Long entryId, Long userId) {
+        ProgramWaitlist entry = programWaitlistRepository.findById(entryId)
+                .orElseThrow(() -> new ResourceNotFoundException("ProgramWaitlist", "id", entryId));
+
+        if (!entry.getUser().getId().equals(userId)) {
+            throw new BadRequestException("You are not authorized to remove this waitlist entry");
+        }
+        if (entry.getStatus() != WaitlistStatus.WAITING) {
+            throw new BadRequestException("Waitlist entry is not active. Current status: " + entry.getStatus());
+        }
+
+        entry.setStatus(WaitlistStatus.REMOVED);
+        programWaitlistRepository.save(entry);
+        programWaitlistQueues.removeAfterCommit(entry.getLearningProgram().getId(), entry.getId(), entry.getJoinedAt());
+        log.info("User {} left program waitlist for program {}", userId, entry.getLearningProgram().getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProgramWaitlistDTO> getProgramWaitlist(Long programId) {
+        List<ProgramWaitlist> entries = programWaitlistRepository.findByProgramIdAndStatus(programId, WaitlistStatus.WAITING);
+        List<ProgramWaitlistDTO> dtos = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            ProgramWaitlistDTO dto = toDTO(entries.get(i), false);
+            dto.setPosition(i + 1);
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProgramWaitlistDTO> getUserProgramWaitlists(Long userId) {
+        return programWaitlistRepository.findByUserId(userId).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int matchReleasedSeats(Long sessionId) {
+        LearningSession session = learningSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("LearningSession", "id", sessionId));
+
+        // Lock the session row and re-read the seat count, as session waitlist promotion does
+        entityManager.refresh(session, LockModeType.PESSIMISTIC_WRITE);
+
+        LocalDateTime now = LocalDateTime.now();
+        int seats = session.getAvailableSeats() != null ? session.getAvailableSeats() : 0;
+        if (seats <= 0
+                || !Boolean.TRUE.equals(session.getIsActive())
+                || session.getStatus() != LearningSession.SessionStatus.SCHEDULED
+                || !session.getStartDateTime().isAfter(now)) {
+            return 0;
+        }
+
+        // Only the released session's program queue is re-evaluated
+        Long programId = session.getLearningProgram().getId();
+        if (programWaitlistQueues.size(programId) == 0) {
+            return 0;
+        }
+
+        List<Booking> bookings = new ArrayList<>();
+        List<ProgramWaitlist> assigned = new ArrayList<>();
+        Set<Long> examined = new HashSet<>();
+        int window = Math.max(seats * 4, 16);
+
+        while (bookings.size() < seats) {
+            List<Long> headIds = programWaitlistQueues.headIds(programId, window);
+            List<Long> candidateIds = headIds.stream().filter(examined::add).collect(Collectors.toList());
+            if (candidateIds.isEmpty()) {
+                break;
+            }
+
+            // Lock the entries before checking their status; only the user rows are then fetched without a lock,
+            // so waiters sharing a manager don't serialize the lanes
+            Map<Long, ProgramWaitlist> candidates = programWaitlistRepository.findAllByIdInForUpdate(candidateIds).stream()
+                    .filter(entry -> entry.getStatus() == WaitlistStatus.WAITING)
+                    .collect(Collectors.toMap(ProgramWaitlist::getId, Function.identity()));
+            Set<Long> alreadyBooked = new HashSet<>();
+            if (!candidates.isEmpty()) {
+                programWaitlistRepository.findAllWithUserByIdIn(new ArrayList<>(candidates.keySet()));
+                List<Long> userIds = candidates.values().stream().map(entry -> entry.getUser().getId()).collect(Collectors.toList());
+                alreadyBooked.addAll(bookingRepository.findUserIdsWithUpcomingProgramBooking(programId, userIds, now));
+            }
+
+            for (Long candidateId : candidateIds) {
+                if (bookings.size() >= seats) {
+                    break;
+                }
+                ProgramWaitlist entry = candidates.get(candidateId);
+                if (entry == null || entry.getStatus() != WaitlistStatus.WAITING) {
+                    continue;
+                }
+                User user = entry.getUser();
+                if (alreadyBooked.contains(user.getId())) {
+                    // Got a seat some other way (direct booking or session waitlist) - close the entry
+                    entry.setStatus(WaitlistStatus.CONFIRMED);
+                    entry.setNotes("Closed: already booked into a session of this program");
+                    programWaitlistQueues.removeAfterCommit(programId, entry.getId(), entry.getJoinedAt());
+                    continue;
+                }
+                if (!sessionEligibilityEvaluator.isEligible(user, session)) {
+                    continue;
+                }
+
+                boolean needsApproval = user.getManager() != null;
+                bookings.add(Booking.builder()
+                        .bookingReference(generateBookingReference())
+                        .user(user)
+                        .learningSession(session)
+                        .status(needsApproval ? Booking.BookingStatus.PENDING_APPROVAL : Booking.BookingStatus.CONFIRMED)
+                        .bookingDate(now)
+                        .confirmationDate(needsApproval ? null : now)
+                        .attendanceStatus(Booking.AttendanceStatus.NOT_MARKED)
+                        .completionStatus(Booking.CompletionStatus.NOT_STARTED)
+                        .managerNotified(false)
+                        .notes("Assigned from program waitlist")
+                        .build());
+
+                entry.setStatus(WaitlistStatus.CONFIRMED);
+                entry.setAssignedSession(session);
+                entry.setAssignedAt(now);
+                assigned.add(entry);
+                alreadyBooked.add(user.getId());
+            }
+
+            if (headIds.size() < window) {
+                // Whole queue examined
+                break;
+            }
+            window *= 2;
+        }
+
+        if (bookings.isEmpty()) {
+            return 0;
+        }
+
+        bookingRepository.saveAll(bookings);
+        learningStatistics.bookingsCreated(bookings);
+        bookingMetrics.bookingsPromoted(sessionId, bookings, BookingMetrics.PROGRAM_WAITLIST);
+        assigned.forEach(entry -> programWaitlistQueues.removeAfterCommit(programId, entry.getId(), entry.getJoinedAt()));
+        session.setAvailableSeats(seats - bookings.size());
+
+        List<Booking> confirmed = bookings.stream()
+                .filter(booking -> booking.getStatus() == Booking.BookingStatus.CONFIRMED)
+                .collect(Collectors.toList());
+        try {
+            notificationService.notifyWaitlistPromoted(confirmed);
+        } catch (Exception e) {
+            log.error("Failed to send program waitlist notifications for session {}: {}", sessionId, e.getMessage());
+        }
+
+        log.info("Assigned {} seats in session {} to program {} waitlist ({} confirmed, {} pending manager approval)",
+                bookings.size(), sessionId, programId, confirmed.size(), bookings.size() - confirmed.size());
+        return bookings.size();
+    }
+
+    /**
+     * Generate a unique booking reference
+     */
+    private String generateBookingReference() {
+        return "BK-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+
+    private ProgramWaitlistDTO toDTO(ProgramWaitlist entry) {
+        return toDTO(entry, true);
+    }
+
+    private ProgramWaitlistDTO toDTO(ProgramWaitlist entry, boolean withPosition) {
+        return ProgramWaitlistDTO.builder()
+                .id(entry.getId())
+                .programId(entry.getLearningProgram().getId())
+                .programName(entry.getLearningProgram().getName())
+                .userId(entry.getUser().getId())
+                .userName(entry.getUser().getFullName())
+                .userEmail(entry.getUser().getEmail())
+                .position(withPosition && entry.getStatus() == WaitlistStatus.WAITING
+                        ? programWaitlistQueues.positionOf(entry.getLearningProgram().getId(), entry.getId(), entry.getJoinedAt())
+                        : null)
+                .status(entry.getStatus())
+                .joinedAt(entry.getJoinedAt())
+                .assignedSessionId(entry.getAssignedSession() != null ? entry.getAssignedSession().getId() : null)
+                .assignedSessionCode(entry.getAssignedSession() != null ? entry.getAssignedSession().getSessionCode() : null)
+                .assignedAt(entry.getAssignedAt())
+                .notes(entry.getNotes())
+                .build();
+    }
+}
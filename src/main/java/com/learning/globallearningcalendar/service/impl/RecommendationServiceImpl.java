@@ -0,0 +1,123 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.dto.RecommendationDTO;
+import com.learning.globallearningcalendar.entity.LearningSession;
+import com.learning.globallearningcalendar.entity.User;
+import com.learning.globallearningcalendar.exception.ResourceNotFoundException;
+import com.learning.globallearningcalendar.repository.BookingRepository;
+import com.learning.globallearningcalendar.repository.LearningSessionRepository;
+import com.learning.globallearningcalendar.repository.UserRepository;
+import com.learning.globallearningcalendar.service.IRecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * "Recommended sessions for you", ranked by {@link SessionRecommender}.
+ *
+ * A cache miss scores every open session the user is eligible for. A cached ranking is
+ * re-checked against the current sessions and bookings before it is served, so sessions that
+ * have since filled up, started or been booked by the user drop out; the cache keeps twice
+ * the result size to leave room for that.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RecommendationServiceImpl implements IRecommendationService {
+
+    private final UserRepository userRepository;
+    private final BookingRepository bookingRepository;
+    private final LearningSessionRepository learningSessionRepository;
+    private final SessionEligibilityEvaluator sessionEligibilityEvaluator;
+    private final SessionRecommender sessionRecommender;
+
+    @Value("${recommendations.top-k:10}")
+    private int topK;
+
+    @Override
+    public RecommendationDTO.UserRecommendations getRecommendations(Long userId, Integer limit) {
+        User user = userRepository.findByIdWithDetails(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> bookedProgramIds = new HashSet<>(bookingRepository.findUpcomingBookedProgramIdsByUser(userId, now));
+
+        SessionRecommender.Ranking ranking = sessionRecommender.cached(userId);
+        Map<Long, LearningSession> sessions;
+        if (ranking == null) {
+            List<LearningSession> candidates = learningSessionRepository.findOpenSessionsWithEligibility(now).stream()
+                    .filter(session -> sessionEligibilityEvaluator.isEligible(user, session))
+                    .collect(Collectors.toList());
+            Set<Long> completedProgramIds = new HashSet<>(bookingRepository.findCompletedProgramIdsByUser(userId));
+            ranking = sessionRecommender.rank(user, completedProgramIds, bookedProgramIds, candidates, topK * 2);
+            sessions = candidates.stream().collect(Collectors.toMap(LearningSession::getId, Function.identity()));
+        } else {
+            List<Long> ids = ranking.sessions().stream().map(SessionRecommender.Scored::sessionId).collect(Collectors.toList());
+            sessions = learningSessionRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(LearningSession::getId, Function.identity()));
+        }
+
+        int size = limit != null && limit > 0 ? Math.min(limit, topK) : topK;
+        List<RecommendationDTO.SessionRecommendation> recommendations = new ArrayList<>();
+        for (SessionRecommender.Scored scored : ranking.sessions()) {
+            if (recommendations.size() == size) {
+                break;
+            }
+            LearningSession session = sessions.get(scored.sessionId());
+            if (session != null && isOpen(session, now)
+                    && !bookedProgramIds.contains(session.getLearningProgram().getId())) {
+                recommendations.add(toDTO(session, scored));
+            }
+        }
+        return RecommendationDTO.UserRecommendations.builder()
+                .userId(userId)
+                .recommendations(recommendations)
+                .rankedAt(ranking.rankedAt())
+                .fromCache(ranking.fromCache())
+                .build();
+    }
+
+    @Override
+    public RecommendationDTO.ModelInfo getModelInfo() {
+        return sessionRecommender.info();
+    }
+
+    @Override
+    public RecommendationDTO.ModelInfo rebuildModel() {
+        sessionRecommender.rebuild();
+        return sessionRecommender.info();
+    }
+
+    private static boolean isOpen(LearningSession session, LocalDateTime now) {
+        return Boolean.TRUE.equals(session.getIsActive())
+                && session.getStatus() == LearningSession.SessionStatus.SCHEDULED
+                && session.getAvailableSeats() != null && session.getAvailableSeats() > 0
+                && session.getStartDateTime().isAfter(now);
+    }
+
+    private RecommendationDTO.SessionRecommendation toDTO(LearningSession session, SessionRecommender.Scored scored) {
+        return RecommendationDTO.SessionRecommendation.builder()
+                .sessionId(session.getId())
+                .sessionCode(session.getSessionCode())
+                .programId(session.getLearningProgram().getId())
+                .programName(session.getLearningProgram().getName())
+                .isMandatory(session.getLearningProgram().getIsMandatory())
+                .startDateTime(session.getStartDateTime())
+                .endDateTime(session.getEndDateTime())
+                .deliveryMode(session.getDeliveryMode())
+                .locationName(session.getLocation() != null ? session.getLocation().getName() : null)
+                .availableSeats(session.getAvailableSeats())
+                .score(scored.score())
+                .reasons(scored.reasons())
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.entity.BusinessUnit;
+import com.learning.globallearningcalendar.entity.Location;
+import com.learning.globallearningcalendar.entity.Role;
+import com.learning.globallearningcalendar.entity.Skill;
+import com.learning.globallearningcalendar.exception.ResourceNotFoundException;
+import com.learning.globallearningcalendar.repository.BusinessUnitRepository;
+import com.learning.globallearningcalendar.repository.LocationRepository;
+import com.learning.globallearningcalendar.repository.RoleRepository;
+import com.learning.globallearningcalendar.repository.SkillRepository;
+import com.learning.globallearningcalendar.util.ReferenceDataSnapshot;
+import com.learning.globallearningcalendar.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the current {@link ReferenceDataSnapshot}, loaded before serving traffic and replaced
+ * whole after any role, location, skill or business unit write commits.
+ *
+ * Services attach reference data to the entities they save through the *Reference methods:
+ * the id is checked against the snapshot and a lazy reference is returned instead of loading
+ * the row. DTO mappers read names through the *Entry methods instead of initializing the
+ * association. Ids the snapshot doesn't know yet (written by another instance since the last
+ * load) fall back to the repository; renames and deletions made elsewhere show up with the
+ * next reload, run on an interval by ReferenceDataRefresher.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceData {
+
+    private final RoleRepository roleRepository;
+    private final LocationRepository locationRepository;
+    private final SkillRepository skillRepository;
+    private final BusinessUnitRepository businessUnitRepository;
+    private static final Logger log = LoggerFactory.getLogger(ReferenceData.class);
+
+    private final AtomicReference<ReferenceDataSnapshot> current = new AtomicReference<>();
+
+    public ReferenceDataSnapshot snapshot() {
+        ReferenceDataSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : load();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        load();
+    }
+
+    /**
+     * Reload once the current transaction commits, so a rolled-back write never shows up
+     */
+    public void reloadAfterCommit() {
+        TransactionCallbacks.afterCommit(this::load);
+    }
+
+    // Serialised, so a load that read the tables before a commit can't replace one that read after it
+    private synchronized ReferenceDataSnapshot load() {
+        ReferenceDataSnapshot snapshot = new ReferenceDataSnapshot(
+                roleRepository.findAll().stream().map(ReferenceDataSnapshot.RoleEntry::of).collect(Collectors.toList()),
+                locationRepository.findAll().stream().map(ReferenceDataSnapshot.LocationEntry::of).collect(Collectors.toList()),
+                skillRepository.findAll().stream().map(ReferenceDataSnapshot.SkillEntry::of).collect(Collectors.toList()),
+                businessUnitRepository.findAll().stream().map(ReferenceDataSnapshot.BusinessUnitEntry::of).collect(Collectors.toList()));
+        current.set(snapshot);
+        log.info("Loaded reference data: {} roles, {} locations, {} skills, {} business units",
+                snapshot.roleCount(), snapshot.locationCount(), snapshot.skillCount(), snapshot.businessUnitCount());
+        return snapshot;
+    }
+
+    public Role roleReference(Long id) {
+        return reference(roleRepository, id, snapshot().role(id) != null, "Role");
+    }
+
+    public Location locationReference(Long id) {
+        return reference(locationRepository, id, snapshot().location(id) != null, "Location");
+    }
+
+    public BusinessUnit businessUnitReference(Long id) {
+        return reference(businessUnitRepository, id, snapshot().businessUnit(id) != null, "BusinessUnit");
+    }
+
+    /**
+     * References for the given ids; unknown ids are skipped, as with findAllById
+     */
+    public Set<Role> roleReferences(Collection<Long> ids) {
+        ReferenceDataSnapshot snapshot = snapshot();
+        return references(roleRepository, ids, id -> snapshot.role(id) != null);
+    }
+
+    public Set<Location> locationReferences(Collection<Long> ids) {
+        ReferenceDataSnapshot snapshot = snapshot();
+        return references(locationRepository, ids, id -> snapshot.location(id) != null);
+    }
+
+    public Set<Skill> skillReferences(Collection<Long> ids) {
+        ReferenceDataSnapshot snapshot = snapshot();
+        return references(skillRepository, ids, id -> snapshot.skill(id) != null);
+    }
+
+    public Set<BusinessUnit> businessUnitReferences(Collection<Long> ids) {
+        ReferenceDataSnapshot snapshot = snapshot();
+        return references(businessUnitRepository, ids, id -> snapshot.businessUnit(id) != null);
+    }
+
+    public ReferenceDataSnapshot.RoleEntry roleEntry(Role role) {
+        ReferenceDataSnapshot.RoleEntry entry = snapshot().role(role.getId());
+        return entry != null ? entry : ReferenceDataSnapshot.RoleEntry.of(role);
+    }
+
+    public ReferenceDataSnapshot.LocationEntry locationEntry(Location location) {
+        ReferenceDataSnapshot.LocationEntry entry = snapshot().location(location.getId());
+        return entry != null ? entry : ReferenceDataSnapshot.LocationEntry.of(location);
+    }
+
+    public ReferenceDataSnapshot.SkillEntry skillEntry(Skill skill) {
+        ReferenceDataSnapshot.SkillEntry entry = snapshot().skill(skill.getId());
+        return entry != null ? entry : ReferenceDataSnapshot.SkillEntry.of(skill);
+    }
+
+    public ReferenceDataSnapshot.BusinessUnitEntry businessUnitEntry(BusinessUnit businessUnit) {
+        ReferenceDataSnapshot.BusinessUnitEntry entry = snapshot().businessUnit(businessUnit.getId());
+        return entry != null ? entry : ReferenceDataSnapshot.BusinessUnitEntry.of(businessUnit);
+    }
+
+    private static <T> T reference(JpaRepository<T, Long> repository, Long id, boolean known, String resource) {
+        if (known) {
+            return repository.getReferenceById(id);
+        }
+        return repository.findById(id).orElseThrow(() -> new ResourceNotFoundException(resource, "id", id));
+    }
+
+    private static <T> Set<T> references(JpaRepository<T, Long> repository, Collection<Long> ids, Predicate<Long> known) {
+        Set<T> references = new HashSet<>();
+        List<Long> unknown = new ArrayList<>();
+        for (Long id : ids) {
+            if (known.test(id)) {
+                references.add(repository.getReferenceById(id));
+            } else {
+                unknown.add(id);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            references.addAll(repository.findAllById(unknown));
+        }
+        return references;
+    }
+}
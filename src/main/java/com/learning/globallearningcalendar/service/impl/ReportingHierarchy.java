@@ -0,0 +1,101 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.entity.User;
+import com.learning.globallearningcalendar.entity.UserReportingPath;
+import com.learning.globallearningcalendar.exception.BadRequestException;
+import com.learning.globallearningcalendar.repository.UserReportingPathRepository;
+import com.learning.globallearningcalendar.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Keeps the user_reporting_paths closure table in step with User.manager.
+ *
+ * Creating a user adds their depth-0 row and links them under their manager's ancestors; changing a
+ * manager detaches the user's whole subtree from its old ancestors and re-attaches it under the new
+ * manager, in two statements. Callers run inside the transaction that changes the manager.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportingHierarchy {
+
+    private final UserReportingPathRepository pathRepository;
+    private final UserRepository userRepository;
+    private static final Logger log = LoggerFactory.getLogger(ReportingHierarchy.class);
+
+    /**
+     * Add a newly created user, under their manager if they have one
+     */
+    public void addUser(User user) {
+        ensureSelfPath(user.getId());
+        if (user.getManager() != null) {
+            ensureSelfPath(user.getManager().getId());
+            pathRepository.attachSubtree(user.getId(), user.getManager().getId());
+        }
+    }
+
+    /**
+     * Move a user - and everyone under them - below a new manager (null = top of the hierarchy)
+     */
+    public void changeManager(User user, Long newManagerId) {
+        ensureSelfPath(user.getId());
+        List<Long> subtreeIds = pathRepository.findSubtreeIds(user.getId());
+        if (newManagerId != null && subtreeIds.contains(newManagerId)) {
+            throw new BadRequestException("A user cannot report to themselves or to someone in their own reporting line");
+        }
+
+        int detached = pathRepository.detachSubtree(subtreeIds);
+        int attached = 0;
+        if (newManagerId != null) {
+            ensureSelfPath(newManagerId);
+            attached = pathRepository.attachSubtree(user.getId(), newManagerId);
+        }
+        log.debug("Moved user {} ({} users in subtree) under manager {}: {} paths removed, {} added",
+                user.getId(), subtreeIds.size(), newManagerId, detached, attached);
+    }
+
+    /**
+     * True if userId reports to managerId, directly or skip-level
+     */
+    public boolean isInReportingLine(Long managerId, Long userId) {
+        return pathRepository.isInReportingLine(managerId, userId);
+    }
+
+    /**
+     * Recompute the closure table from users.manager_id
+     */
+    @Transactional
+    public int rebuild() {
+        pathRepository.deleteAllPaths();
+        int paths = pathRepository.insertAllPaths();
+        log.info("Rebuilt reporting hierarchy: {} paths", paths);
+        return paths;
+    }
+
+    // The table is created empty by schema update - populate it once before serving traffic
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void populateIfEmpty() {
+        if (pathRepository.count() == 0 && userRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    private void ensureSelfPath(Long userId) {
+        UserReportingPath.PathId self = new UserReportingPath.PathId(userId, userId);
+        if (!pathRepository.existsById(self)) {
+            pathRepository.saveAndFlush(UserReportingPath.builder()
+                    .ancestorId(userId)
+                    .descendantId(userId)
+                    .depth(0)
+                    .build());
+        }
+    }
+}
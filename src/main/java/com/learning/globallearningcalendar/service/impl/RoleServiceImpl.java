@@ -18,6 +18,7 @@ import java.util.stream.Collectors;
 public class RoleServiceImpl implements IRoleService {
 
     private final RoleRepository roleRepository;
+    private final ReferenceData referenceData;
 
     @Override
     public List<RoleDTO> getAllRoles() {
@@ -52,6 +53,7 @@ public class RoleServiceImpl implements IRoleService {
         Role role = toEntity(dto);
         role.setIsActive(true);
         Role saved = roleRepository.save(role);
+        referenceData.reloadAfterCommit();
         return toDTO(saved);
     }
 
@@ -66,6 +68,7 @@ public class RoleServiceImpl implements IRoleService {
         role.setRoleType(dto.getRoleType());
         
         Role updated = roleRepository.save(role);
+        referenceData.reloadAfterCommit();
         return toDTO(updated);
     }
 
@@ -75,6 +78,7 @@ public class RoleServiceImpl implements IRoleService {
                 .orElseThrow(() -> new ResourceNotFoundException("Role", "id", id));
         role.setIsActive(false);
         roleRepository.save(role);
+        referenceData.reloadAfterCommit();
     }
 
     @Override
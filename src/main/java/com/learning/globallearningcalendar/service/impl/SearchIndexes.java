@@ -0,0 +1,185 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.entity.LearningProgram;
+import com.learning.globallearningcalendar.entity.Skill;
+import com.learning.globallearningcalendar.entity.User;
+import com.learning.globallearningcalendar.repository.LearningProgramRepository;
+import com.learning.globallearningcalendar.repository.SkillRepository;
+import com.learning.globallearningcalendar.repository.UserRepository;
+import com.learning.globallearningcalendar.util.TransactionCallbacks;
+import com.learning.globallearningcalendar.util.TrigramIndex;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Trigram search indexes over active learning programs (name, code, description), skills (name)
+ * and users (full name, email, employee id).
+ *
+ * Loaded before serving traffic; create/update/delete then re-index the one document after
+ * commit, and inactive documents are dropped, matching the isActive filter of the old LIKE
+ * queries. Searches return ids in rank order for the caller to load.
+ *
+ * Changes made on other instances only arrive with a reload, run on an interval by
+ * SearchIndexRefresher. A reload builds fresh indexes while searches keep using the current ones,
+ * replays the changes committed here in the meantime, then swaps them in.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexes {
+
+    private final LearningProgramRepository learningProgramRepository;
+    private final SkillRepository skillRepository;
+    private final UserRepository userRepository;
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexes.class);
+
+    @Value("${search.max-results:50}")
+    private int maxResults;
+
+    private final Object reloadLock = new Object();
+    // Null until the first load completes
+    private volatile Indexes indexes;
+    // Changes committed while a reload reads the tables, replayed onto its indexes; guarded by this
+    private List<Consumer<Indexes>> changesDuringReload;
+
+    public List<Long> searchPrograms(String term, Integer limit) {
+        return loaded().programs().search(term, resultLimit(limit));
+    }
+
+    public List<Long> searchSkills(String term, Integer limit) {
+        return loaded().skills().search(term, resultLimit(limit));
+    }
+
+    public List<Long> searchUsers(String term, Integer limit) {
+        return loaded().users().search(term, resultLimit(limit));
+    }
+
+    public void programChangedAfterCommit(LearningProgram program) {
+        List<String> fields = Arrays.asList(program.getName(), program.getCode(), program.getDescription());
+        boolean active = Boolean.TRUE.equals(program.getIsActive());
+        Long id = program.getId();
+        TransactionCallbacks.afterCommit(() -> apply(current -> update(current.programs(), id, active, fields)));
+    }
+
+    public void skillChangedAfterCommit(Skill skill) {
+        List<String> fields = Arrays.asList(skill.getName());
+        boolean active = Boolean.TRUE.equals(skill.getIsActive());
+        Long id = skill.getId();
+        TransactionCallbacks.afterCommit(() -> apply(current -> update(current.skills(), id, active, fields)));
+    }
+
+    public void userChangedAfterCommit(User user) {
+        List<String> fields = Arrays.asList(fullName(user.getFirstName(), user.getLastName()), user.getEmail(),
+                user.getEmployeeId());
+        boolean active = Boolean.TRUE.equals(user.getIsActive());
+        Long id = user.getId();
+        TransactionCallbacks.afterCommit(() -> apply(current -> update(current.users(), id, active, fields)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                changesDuringReload = new ArrayList<>();
+            }
+            Indexes fresh = new Indexes(new TrigramIndex(), new TrigramIndex(), new TrigramIndex());
+            try {
+                for (Object[] row : learningProgramRepository.findActiveSearchRows()) {
+                    fresh.programs().put((Long) row[0], Arrays.asList((String) row[1], (String) row[2], (String) row[3]));
+                }
+                for (Object[] row : skillRepository.findActiveSearchRows()) {
+                    fresh.skills().put((Long) row[0], Arrays.asList((String) row[1]));
+                }
+                for (Object[] row : userRepository.findActiveSearchRows()) {
+                    fresh.users().put((Long) row[0], Arrays.asList(fullName((String) row[1], (String) row[2]),
+                            (String) row[3], (String) row[4]));
+                }
+                synchronized (this) {
+                    // Replayed in commit order; re-applying a change the tables already showed is harmless
+                    changesDuringReload.forEach(change -> change.accept(fresh));
+                    indexes = fresh;
+                }
+            } finally {
+                synchronized (this) {
+                    changesDuringReload = null;
+                }
+            }
+            log.info("Loaded search indexes: {} programs, {} skills, {} users",
+                    fresh.programs().size(), fresh.skills().size(), fresh.users().size());
+        }
+    }
+
+    private Indexes loaded() {
+        Indexes current = indexes;
+        if (current == null) {
+            synchronized (reloadLock) {
+                if (indexes == null) {
+                    load();
+                }
+                current = indexes;
+            }
+        }
+        return current;
+    }
+
+    private synchronized void apply(Consumer<Indexes> change) {
+        // Before the first load nothing is applied - the load reads the committed state
+        if (indexes != null) {
+            change.accept(indexes);
+        }
+        if (changesDuringReload != null) {
+            changesDuringReload.add(change);
+        }
+    }
+
+    private static void update(TrigramIndex index, Long id, boolean active, List<String> fields) {
+        if (active) {
+            index.put(id, fields);
+        } else {
+            index.remove(id);
+        }
+    }
+
+    /**
+     * Put entities loaded by id back into the rank order of the search result
+     */
+    public static <T> List<T> inRankOrder(List<Long> ids, List<T> entities, Function<T, Long> idOf) {
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            rank.put(ids.get(i), i);
+        }
+        return entities.stream()
+                .sorted(Comparator.comparingInt(entity -> rank.getOrDefault(idOf.apply(entity), Integer.MAX_VALUE)))
+                .collect(Collectors.toList());
+    }
+
+    private int resultLimit(Integer limit) {
+        return limit != null && limit > 0 ? Math.min(limit, maxResults) : maxResults;
+    }
+
+    private static String fullName(String firstName, String lastName) {
+        if (firstName == null) {
+            return lastName;
+        }
+        return lastName == null ? firstName : firstName + " " + lastName;
+    }
+
+    private record Indexes(TrigramIndex programs, TrigramIndex skills, TrigramIndex users) {
+    }
+}
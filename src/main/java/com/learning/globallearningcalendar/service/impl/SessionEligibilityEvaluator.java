@@ -0,0 +1,66 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.entity.DeliveryMode;
+import com.learning.globallearningcalendar.entity.LearningSession;
+import com.learning.globallearningcalendar.entity.LocationScope;
+import com.learning.globallearningcalendar.entity.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Role and location rules deciding whether a user may see and book a session.
+ * Shared by session listing, booking and waitlist matching so the rules stay in one place.
+ */
+@Component
+public class SessionEligibilityEvaluator {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionEligibilityEvaluator.class);
+
+    public boolean isEligible(User user, LearningSession session) {
+        // Check role eligibility - compare role types, not role IDs (handles multiple roles with same type)
+        if (!session.isOpenToAllRoles()) {
+            boolean hasRole = user.getRole() != null && session.getTargetRoles().stream()
+                .anyMatch(role -> role.getRoleType().equals(user.getRole().getRoleType()));
+            if (!hasRole) {
+                log.debug("User {} does not have required role for session {}", user.getId(), session.getId());
+                return false;
+            }
+        }
+
+        // Check location eligibility based on delivery mode
+        DeliveryMode mode = session.getDeliveryMode() != null ? session.getDeliveryMode() : DeliveryMode.OFFLINE;
+
+        if (mode == DeliveryMode.OFFLINE) {
+            // Offline sessions: only users in the same location
+            if (session.getLocation() != null && user.getLocation() != null) {
+                return session.getLocation().getId().equals(user.getLocation().getId());
+            }
+            // If session or user has no location, allow (backward compatibility)
+            return true;
+        }
+
+        // Online sessions: check location scope
+        LocationScope scope = session.getLocationScope() != null ? session.getLocationScope() : LocationScope.ALL_LOCATIONS;
+        if (scope == LocationScope.ALL_LOCATIONS) {
+            return true;
+        }
+
+        // SPECIFIC_LOCATION: check if user's location is in session's target locations
+        if (session.getTargetLocations() != null && !session.getTargetLocations().isEmpty()) {
+            if (user.getLocation() == null) {
+                // User has no location, cannot access specific location sessions
+                log.debug("User {} has no location, cannot access location-specific session {}", user.getId(), session.getId());
+                return false;
+            }
+            return session.getTargetLocations().stream()
+                .anyMatch(location -> location.getId().equals(user.getLocation().getId()));
+        }
+
+        // Fallback: if no target locations specified, check session's primary location
+        if (session.getLocation() != null && user.getLocation() != null) {
+            return session.getLocation().getId().equals(user.getLocation().getId());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,313 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.dto.RecommendationDTO;
+import com.learning.globallearningcalendar.entity.Booking;
+import com.learning.globallearningcalendar.entity.LearningProgram;
+import com.learning.globallearningcalendar.entity.LearningSession;
+import com.learning.globallearningcalendar.entity.User;
+import com.learning.globallearningcalendar.repository.BookingRepository;
+import com.learning.globallearningcalendar.repository.LearningProgramRepository;
+import com.learning.globallearningcalendar.util.SparseCountMatrix;
+import com.learning.globallearningcalendar.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ranks upcoming sessions for a user and caches each user's top results.
+ *
+ * The model is built offline from the bookings table into sparse count matrices: programs
+ * completed together by the same user (the diagonal holds how many users completed each
+ * program), confirmed bookings per (role, business unit) cohort and program, and the skills of
+ * each program. Completing a booking adds that user's new pairs after commit, so the
+ * co-occurrence counts track completions between periodic rebuilds.
+ *
+ * A session's score adds up four signals, each 0..1 before weighting: its program is mandatory
+ * and not yet completed, it shares skills with programs the user completed, it is often
+ * completed alongside them, and it is popular with the user's peers. Rankings are kept in a
+ * bounded LRU cache per user until the model is rebuilt, the user completes a booking or the
+ * entry expires.
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionRecommender {
+
+    private static final double MANDATORY_WEIGHT = 4.0;
+    private static final double SKILLS_WEIGHT = 2.0;
+    private static final double COMPLETED_TOGETHER_WEIGHT = 2.0;
+    private static final double PEERS_WEIGHT = 1.0;
+
+    private final BookingRepository bookingRepository;
+    private final LearningProgramRepository learningProgramRepository;
+    private static final Logger log = LoggerFactory.getLogger(SessionRecommender.class);
+
+    @Value("${recommendations.cache.max-users:10000}")
+    private int cacheMaxUsers;
+
+    @Value("${recommendations.cache.ttl-ms:900000}")
+    private long cacheTtlMs;
+
+    private volatile Model model = new Model();
+    private final AtomicLong generation = new AtomicLong();
+    private Map<Long, CachedRanking> cache;
+
+    public record Scored(Long sessionId, double score, List<String> reasons) {
+    }
+
+    public record Ranking(List<Scored> sessions, LocalDateTime rankedAt, boolean fromCache) {
+    }
+
+    private record CachedRanking(long generation, long createdAtMs, LocalDateTime rankedAt, List<Scored> sessions) {
+    }
+
+    private record CohortKey(Long roleId, Long businessUnitId) {
+    }
+
+    @PostConstruct
+    void start() {
+        cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedRanking> eldest) {
+                return size() > cacheMaxUsers;
+            }
+        });
+    }
+
+    /**
+     * The user's cached ranking, or null when there is none or it is stale
+     */
+    public Ranking cached(Long userId) {
+        CachedRanking entry = cache.get(userId);
+        if (entry == null || entry.generation() != generation.get()
+                || System.currentTimeMillis() - entry.createdAtMs() > cacheTtlMs) {
+            return null;
+        }
+        return new Ranking(entry.sessions(), entry.rankedAt(), true);
+    }
+
+    /**
+     * Score the candidate sessions for a user, keep the best {@code depth} and cache them.
+     * Candidates must already pass the eligibility rules. Programs the user completed or has an
+     * upcoming booking for are skipped, and only the earliest session of each program is kept.
+     */
+    public Ranking rank(User user, Collection<Long> completedProgramIds, Collection<Long> bookedProgramIds,
+                        List<LearningSession> candidates, int depth) {
+        Model current = model;
+        long rankedGeneration = generation.get();
+
+        List<Integer> completed = new ArrayList<>();
+        BitSet userSkills = new BitSet();
+        for (Long programId : completedProgramIds) {
+            Integer program = current.programIndex.get(programId);
+            if (program != null) {
+                completed.add(program);
+                for (int skill : current.programSkills.rowColumns(program)) {
+                    userSkills.set(skill);
+                }
+            }
+        }
+        Integer cohort = user.getRole() != null && user.getBusinessUnit() != null
+                ? current.cohortIndex.get(new CohortKey(user.getRole().getId(), user.getBusinessUnit().getId()))
+                : null;
+        int peerMax = cohort != null ? current.cohortBookings.rowMax(cohort) : 0;
+
+        List<LearningSession> byStart = new ArrayList<>(candidates);
+        byStart.sort(Comparator.comparing(LearningSession::getStartDateTime));
+        Set<Long> seenPrograms = new HashSet<>();
+        List<Scored> ranked = new ArrayList<>();
+        for (LearningSession session : byStart) {
+            LearningProgram program = session.getLearningProgram();
+            if (completedProgramIds.contains(program.getId()) || bookedProgramIds.contains(program.getId())
+                    || !seenPrograms.add(program.getId())) {
+                continue;
+            }
+            ranked.add(score(current, session, program, completed, userSkills, cohort, peerMax));
+        }
+        // Stable sort - equal scores stay soonest first
+        ranked.sort(Comparator.comparingDouble(Scored::score).reversed());
+        List<Scored> top = List.copyOf(ranked.subList(0, Math.min(depth, ranked.size())));
+
+        LocalDateTime rankedAt = LocalDateTime.now();
+        cache.put(user.getId(), new CachedRanking(rankedGeneration, System.currentTimeMillis(), rankedAt, top));
+        return new Ranking(top, rankedAt, false);
+    }
+
+    /**
+     * Record a booking that has just moved to COMPLETED. Reads the user's other completions now
+     * and adds the new co-occurrence pairs once the transaction commits.
+     */
+    public void bookingCompleted(Booking booking) {
+        Long userId = booking.getUser().getId();
+        Long programId = booking.getLearningSession().getLearningProgram().getId();
+        List<Long> others = bookingRepository.findOtherCompletedProgramIdsByUser(userId, booking.getId());
+        if (others.contains(programId)) {
+            // Already counted through an earlier booking of the same program
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            Model current = model;
+            int program = current.program(programId);
+            current.completedTogether.add(program, program, 1);
+            for (Long otherId : others) {
+                int other = current.program(otherId);
+                current.completedTogether.add(program, other, 1);
+                current.completedTogether.add(other, program, 1);
+            }
+            cache.remove(userId);
+        });
+    }
+
+    /**
+     * Rebuild every matrix from the database, swap the model in and drop all cached rankings
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        Model next = new Model();
+
+        for (Object[] row : learningProgramRepository.findActiveProgramSkillPairs()) {
+            next.programSkills.add(next.program((Long) row[0]), next.skill((Long) row[1]), 1);
+        }
+
+        // Rows arrive grouped by user - add each user's completions as one set
+        Long currentUser = null;
+        List<Integer> completed = new ArrayList<>();
+        for (Object[] row : bookingRepository.findCompletedUserPrograms()) {
+            if (!row[0].equals(currentUser)) {
+                next.addCompletions(completed);
+                completed.clear();
+                currentUser = (Long) row[0];
+            }
+            completed.add(next.program((Long) row[1]));
+        }
+        next.addCompletions(completed);
+
+        for (Object[] row : bookingRepository.countBookingsByCohortAndProgram()) {
+            int cohort = next.cohortIndex.computeIfAbsent(new CohortKey((Long) row[0], (Long) row[1]),
+                    key -> next.cohortIndex.size());
+            next.cohortBookings.add(cohort, next.program((Long) row[2]), ((Long) row[3]).intValue());
+        }
+
+        next.builtAt = LocalDateTime.now();
+        next.buildMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        model = next;
+        generation.incrementAndGet();
+        cache.clear();
+        log.info("Built recommendation model: {} programs, {} cohorts, {} co-occurrence cells in {} ms",
+                next.programIndex.size(), next.cohortIndex.size(), next.completedTogether.nonZeroCount(), next.buildMs);
+    }
+
+    public RecommendationDTO.ModelInfo info() {
+        Model current = model;
+        return RecommendationDTO.ModelInfo.builder()
+                .builtAt(current.builtAt)
+                .buildMs(current.buildMs)
+                .programs(current.programIndex.size())
+                .cohorts(current.cohortIndex.size())
+                .cooccurrenceCells(current.completedTogether.nonZeroCount())
+                .cachedUsers(cache.size())
+                .build();
+    }
+
+    private static Scored score(Model current, LearningSession session, LearningProgram program, List<Integer> completed,
+                                BitSet userSkills, Integer cohort, int peerMax) {
+        double score = 0;
+        List<String> reasons = new ArrayList<>();
+        if (Boolean.TRUE.equals(program.getIsMandatory())) {
+            score += MANDATORY_WEIGHT;
+            reasons.add("Mandatory program you have not completed");
+        }
+
+        Integer index = current.programIndex.get(program.getId());
+        if (index != null) {
+            int[] skills = current.programSkills.rowColumns(index);
+            int shared = 0;
+            for (int skill : skills) {
+                if (userSkills.get(skill)) {
+                    shared++;
+                }
+            }
+            if (shared > 0) {
+                score += SKILLS_WEIGHT * shared / skills.length;
+                reasons.add("Builds on " + shared + " skill(s) from programs you completed");
+            }
+
+            // Cosine similarity over the users who completed each program; the closest completed program counts
+            int programCompletions = current.completedTogether.get(index, index);
+            double together = 0;
+            for (int other : completed) {
+                int both = current.completedTogether.get(other, index);
+                if (both > 0) {
+                    together = Math.max(together,
+                            both / Math.sqrt((double) current.completedTogether.get(other, other) * programCompletions));
+                }
+            }
+            if (together > 0) {
+                score += COMPLETED_TOGETHER_WEIGHT * together;
+                reasons.add("Often completed by people who finished the same programs as you");
+            }
+
+            int peers = cohort != null ? current.cohortBookings.get(cohort, index) : 0;
+            if (peers > 0) {
+                score += PEERS_WEIGHT * peers / peerMax;
+                reasons.add("Booked " + peers + " time(s) by peers in your role and business unit");
+            }
+        }
+        return new Scored(session.getId(), score, reasons);
+    }
+
+    private static final class Model {
+        // Dense matrix indexes; programs can be added after the build by incremental completions
+        private final Map<Long, Integer> programIndex = new ConcurrentHashMap<>();
+        private final AtomicInteger nextProgram = new AtomicInteger();
+        private final Map<Long, Integer> skillIndex = new HashMap<>();
+        private final Map<CohortKey, Integer> cohortIndex = new HashMap<>();
+
+        private final SparseCountMatrix completedTogether = new SparseCountMatrix();
+        private final SparseCountMatrix programSkills = new SparseCountMatrix();
+        private final SparseCountMatrix cohortBookings = new SparseCountMatrix();
+
+        private LocalDateTime builtAt;
+        private long buildMs;
+
+        private int program(Long programId) {
+            return programIndex.computeIfAbsent(programId, id -> nextProgram.getAndIncrement());
+        }
+
+        private int skill(Long skillId) {
+            return skillIndex.computeIfAbsent(skillId, id -> skillIndex.size());
+        }
+
+        private void addCompletions(List<Integer> programs) {
+            for (int a : programs) {
+                for (int b : programs) {
+                    completedTogether.add(a, b, 1);
+                }
+            }
+        }
+    }
+}
@@ -18,6 +18,8 @@ import java.util.stream.Collectors;
 public class SkillServiceImpl implements ISkillService {
 
     private final SkillRepository skillRepository;
+    private final SearchIndexes searchIndexes;
+    private final ReferenceData referenceData;
 
     @Override
     public List<SkillDTO> getAllSkills() {
@@ -52,6 +54,8 @@ public class SkillServiceImpl implements ISkillService {
         Skill skill = toEntity(dto);
         skill.setIsActive(true);
         Skill saved = skillRepository.save(skill);
+        searchIndexes.skillChangedAfterCommit(saved);
+        referenceData.reloadAfterCommit();
         return toDTO(saved);
     }
 
@@ -66,6 +70,8 @@ public class SkillServiceImpl implements ISkillService {
         skill.setSkillCategory(dto.getSkillCategory());
         
         Skill updated = skillRepository.save(skill);
+        searchIndexes.skillChangedAfterCommit(updated);
+        referenceData.reloadAfterCommit();
         return toDTO(updated);
     }
 
@@ -75,6 +81,8 @@ public class SkillServiceImpl implements ISkillService {
                 .orElseThrow(() -> new ResourceNotFoundException("Skill", "id", id));
         skill.setIsActive(false);
         skillRepository.save(skill);
+        searchIndexes.skillChangedAfterCommit(skill);
+        referenceData.reloadAfterCommit();
     }
 
     @Override
@@ -90,8 +98,9 @@ public class SkillServiceImpl implements ISkillService {
     }
 
     @Override
-    public List<SkillDTO> searchSkills(String searchTerm) {
-        return skillRepository.searchByName(searchTerm).stream()
+    public List<SkillDTO> searchSkills(String searchTerm, Integer limit) {
+        List<Long> ids = searchIndexes.searchSkills(searchTerm, limit);
+        return SearchIndexes.inRankOrder(ids, skillRepository.findAllById(ids), Skill::getId).stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,73 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.util.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the SQL tally of each HTTP request and each outermost service call, and logs the
+ * ones that go over budget - the usual sign of an N+1 walk over lazy associations.
+ *
+ * Metrics: sql.statements and sql.rows (histograms) and sql.time, tagged with scope (http or
+ * service) and name ("GET /api/v1/sessions/{id}" or "LearningSessionServiceImpl.getSessionById").
+ */
+@Component
+@ConditionalOnProperty(name = "sql.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SqlStatementMetrics {
+
+    public static final String HTTP = "http";
+    public static final String SERVICE = "service";
+
+    private final MeterRegistry meterRegistry;
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMetrics.class);
+
+    @Value("${sql.budget.request-statements:30}")
+    private long requestBudget;
+
+    @Value("${sql.budget.service-call-statements:20}")
+    private long serviceCallBudget;
+
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    private record Meters(DistributionSummary statements, DistributionSummary rows, Timer time) {
+    }
+
+    public void record(String scope, String name, SqlStatementCounter.Tally tally) {
+        Meters forName = meters.computeIfAbsent(scope + ' ' + name, key -> new Meters(
+                DistributionSummary.builder("sql.statements")
+                        .description("SQL statements executed")
+                        .tags("scope", scope, "name", name)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                DistributionSummary.builder("sql.rows")
+                        .description("Rows read or written by SQL statements")
+                        .tags("scope", scope, "name", name)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Timer.builder("sql.time")
+                        .description("Time spent executing SQL statements")
+                        .tags("scope", scope, "name", name)
+                        .register(meterRegistry)));
+        forName.statements().record(tally.statements());
+        forName.rows().record(tally.rows());
+        forName.time().record(tally.nanos(), TimeUnit.NANOSECONDS);
+
+        long budget = HTTP.equals(scope) ? requestBudget : serviceCallBudget;
+        if (tally.statements() > budget) {
+            log.warn("{} {} executed {} SQL statements (budget {}), {} rows, {} ms in SQL", scope, name,
+                    tally.statements(), budget, tally.rows(), TimeUnit.NANOSECONDS.toMillis(tally.nanos()));
+        }
+    }
+}
@@ -1,16 +1,12 @@
 package com.learning.globallearningcalendar.service.impl;
 
 import com.learning.globallearningcalendar.dto.UserDTO;
-import com.learning.globallearningcalendar.entity.BusinessUnit;
-import com.learning.globallearningcalendar.entity.Location;
 import com.learning.globallearningcalendar.entity.Role;
 import com.learning.globallearningcalendar.entity.User;
 import com.learning.globallearningcalendar.exception.ResourceNotFoundException;
-import com.learning.globallearningcalendar.repository.BusinessUnitRepository;
-import com.learning.globallearningcalendar.repository.LocationRepository;
-import com.learning.globallearningcalendar.repository.RoleRepository;
 import com.learning.globallearningcalendar.repository.UserRepository;
 import com.learning.globallearningcalendar.service.IUserService;
+import com.learning.globallearningcalendar.util.ReferenceDataSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,9 +23,10 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements IUserService {
 
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
-    private final BusinessUnitRepository businessUnitRepository;
-    private final LocationRepository locationRepository;
+    private final ReferenceData referenceData;
+    private final ReportingHierarchy reportingHierarchy;
+    private final BusinessUnitTree businessUnitTree;
+    private final SearchIndexes searchIndexes;
 
     @Override
     public List<UserDTO> getAllUsers() {
@@ -81,21 +79,15 @@ public class UserServiceImpl implements IUserService {
         user.setIsActive(true);
 
         if (dto.getRoleId() != null) {
-            Role role = roleRepository.findById(dto.getRoleId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Role", "id", dto.getRoleId()));
-            user.setRole(role);
+            user.setRole(referenceData.roleReference(dto.getRoleId()));
         }
 
         if (dto.getBusinessUnitId() != null) {
-            BusinessUnit bu = businessUnitRepository.findById(dto.getBusinessUnitId())
-                    .orElseThrow(() -> new ResourceNotFoundException("BusinessUnit", "id", dto.getBusinessUnitId()));
-            user.setBusinessUnit(bu);
+            user.setBusinessUnit(referenceData.businessUnitReference(dto.getBusinessUnitId()));
         }
 
         if (dto.getLocationId() != null) {
-            Location location = locationRepository.findById(dto.getLocationId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Location", "id", dto.getLocationId()));
-            user.setLocation(location);
+            user.setLocation(referenceData.locationReference(dto.getLocationId()));
         }
 
         if (dto.getManagerId() != null) {
@@ -105,6 +97,9 @@ public class UserServiceImpl implements IUserService {
         }
 
         User saved = userRepository.save(user);
+        reportingHierarchy.addUser(saved);
+        businessUnitTree.userChangedAfterCommit(null, false, businessUnitIdOf(saved), true);
+        searchIndexes.userChangedAfterCommit(saved);
         return toDTO(saved);
     }
 
@@ -112,6 +107,8 @@ public class UserServiceImpl implements IUserService {
     public UserDTO updateUser(Long id, UserDTO dto) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+        Long previousManagerId = user.getManager() != null ? user.getManager().getId() : null;
+        Long previousBusinessUnitId = businessUnitIdOf(user);
 
         user.setEmployeeId(dto.getEmployeeId());
         user.setEmail(dto.getEmail());
@@ -120,21 +117,15 @@ public class UserServiceImpl implements IUserService {
         user.setJobTitle(dto.getJobTitle());
 
         if (dto.getRoleId() != null) {
-            Role role = roleRepository.findById(dto.getRoleId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Role", "id", dto.getRoleId()));
-            user.setRole(role);
+            user.setRole(referenceData.roleReference(dto.getRoleId()));
         }
 
         if (dto.getBusinessUnitId() != null) {
-            BusinessUnit bu = businessUnitRepository.findById(dto.getBusinessUnitId())
-                    .orElseThrow(() -> new ResourceNotFoundException("BusinessUnit", "id", dto.getBusinessUnitId()));
-            user.setBusinessUnit(bu);
+            user.setBusinessUnit(referenceData.businessUnitReference(dto.getBusinessUnitId()));
         }
 
         if (dto.getLocationId() != null) {
-            Location location = locationRepository.findById(dto.getLocationId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Location", "id", dto.getLocationId()));
-            user.setLocation(location);
+            user.setLocation(referenceData.locationReference(dto.getLocationId()));
         }
 
         if (dto.getManagerId() != null) {
@@ -146,6 +137,12 @@ public class UserServiceImpl implements IUserService {
         }
 
         User updated = userRepository.save(user);
+        if (!Objects.equals(previousManagerId, dto.getManagerId())) {
+            reportingHierarchy.changeManager(updated, dto.getManagerId());
+        }
+        boolean active = Boolean.TRUE.equals(updated.getIsActive());
+        businessUnitTree.userChangedAfterCommit(previousBusinessUnitId, active, businessUnitIdOf(updated), active);
+        searchIndexes.userChangedAfterCommit(updated);
         return toDTO(updated);
     }
 
@@ -153,8 +150,11 @@ public class UserServiceImpl implements IUserService {
     public void deleteUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+        boolean wasActive = Boolean.TRUE.equals(user.getIsActive());
         user.setIsActive(false);
         userRepository.save(user);
+        businessUnitTree.userChangedAfterCommit(businessUnitIdOf(user), wasActive, businessUnitIdOf(user), false);
+        searchIndexes.userChangedAfterCommit(user);
     }
 
     @Override
@@ -193,8 +193,16 @@ public class UserServiceImpl implements IUserService {
     }
 
     @Override
-    public List<UserDTO> searchUsers(String searchTerm) {
-        return userRepository.searchUsers(searchTerm).stream()
+    public List<UserDTO> getReportingTree(Long managerId) {
+        return userRepository.findActiveInReportingTree(managerId).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<UserDTO> searchUsers(String searchTerm, Integer limit) {
+        List<Long> ids = searchIndexes.searchUsers(searchTerm, limit);
+        return SearchIndexes.inRankOrder(ids, userRepository.findAllById(ids), User::getId).stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
     }
@@ -209,6 +217,10 @@ public class UserServiceImpl implements IUserService {
         return userRepository.countByLocation(locationId);
     }
 
+    private static Long businessUnitIdOf(User user) {
+        return user.getBusinessUnit() != null ? user.getBusinessUnit().getId() : null;
+    }
+
     private UserDTO toDTO(User user) {
         UserDTO dto = UserDTO.builder()
                 .id(user.getId())
@@ -224,19 +236,22 @@ public class UserServiceImpl implements IUserService {
                 .build();
 
         if (user.getRole() != null) {
-            dto.setRoleId(user.getRole().getId());
-            dto.setRoleName(user.getRole().getName());
-            dto.setRoleType(user.getRole().getRoleType().name());
+            ReferenceDataSnapshot.RoleEntry role = referenceData.roleEntry(user.getRole());
+            dto.setRoleId(role.id());
+            dto.setRoleName(role.name());
+            dto.setRoleType(role.roleType().name());
         }
 
         if (user.getBusinessUnit() != null) {
-            dto.setBusinessUnitId(user.getBusinessUnit().getId());
-            dto.setBusinessUnitName(user.getBusinessUnit().getName());
+            ReferenceDataSnapshot.BusinessUnitEntry businessUnit = referenceData.businessUnitEntry(user.getBusinessUnit());
+            dto.setBusinessUnitId(businessUnit.id());
+            dto.setBusinessUnitName(businessUnit.name());
         }
 
         if (user.getLocation() != null) {
-            dto.setLocationId(user.getLocation().getId());
-            dto.setLocationName(user.getLocation().getName());
+            ReferenceDataSnapshot.LocationEntry location = referenceData.locationEntry(user.getLocation());
+            dto.setLocationId(location.id());
+            dto.setLocationName(location.name());
         }
 
         if (user.getManager() != null) {
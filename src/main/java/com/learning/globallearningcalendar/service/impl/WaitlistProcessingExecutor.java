@@ -0,0 +1,236 @@
+package com.learning.globallearningcalendar.service.impl;
+
+import com.learning.globallearningcalendar.repository.LearningSessionRepository;
+import com.learning.globallearningcalendar.service.IProgramWaitlistService;
+import com.learning.globallearningcalendar.service.IWaitlistService;
+import com.learning.globallearningcalendar.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs waitlist processing off the request thread, one session at a time.
+ *
+ * A run migrates legacy entries, promotes the session's own waitlist and then offers any seats left
+ * over to the program-level waitlist.
+ *
+ * Each session has a lane: at most one run per session executes at any moment (single writer), and
+ * requests that arrive while a run is queued are coalesced into it, because a run always fills every
+ * available seat. A request that arrives mid-run schedules exactly one follow-up run. Lanes share a
+ * small thread pool, so different sessions are processed in parallel.
+ *
+ * Requests live only in memory, so a restart or a lost after-commit callback can strand free seats
+ * while people wait; {@link #resubmitStrandedSessions} is swept on an interval to pick those up. A
+ * session whose swept run filled nothing (everyone waiting is ineligible) is skipped by later sweeps
+ * until its free seats or waiters change.
+ *
+ * Metrics: waitlist.processing.pending (sessions waiting for a run), waitlist.processing.lag (request
+ * to start), waitlist.processing.duration and waitlist.processing.failures.
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitlistProcessingExecutor {
+
+    private final IWaitlistService waitlistService;
+    private final IProgramWaitlistService programWaitlistService;
+    private final LearningSessionRepository learningSessionRepository;
+    private final MeterRegistry meterRegistry;
+    private static final Logger log = LoggerFactory.getLogger(WaitlistProcessingExecutor.class);
+
+    @Value("${waitlist.processing.threads:2}")
+    private int threads;
+
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingRuns = new AtomicInteger();
+
+    // Seat and waiter state of sessions submitted by the sweep, and of those whose swept run filled nothing
+    private final Map<Long, List<Object>> sweptState = new ConcurrentHashMap<>();
+    private final Map<Long, List<Object>> fruitlessState = new ConcurrentHashMap<>();
+
+    private ExecutorService pool;
+    private Timer lagTimer;
+    private Timer durationTimer;
+    private Counter failureCounter;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "waitlist-processor-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("waitlist.processing.pending", pendingRuns, AtomicInteger::get)
+                .description("Sessions with waitlist processing requested but not yet started")
+                .register(meterRegistry);
+        Gauge.builder("waitlist.processing.active.sessions", lanes, Map::size)
+                .description("Sessions with waitlist processing queued or running")
+                .register(meterRegistry);
+        lagTimer = Timer.builder("waitlist.processing.lag")
+                .description("Time from a processing request to the start of its run")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        durationTimer = Timer.builder("waitlist.processing.duration")
+                .description("Time spent migrating and promoting a session's waitlist")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        failureCounter = Counter.builder("waitlist.processing.failures")
+                .description("Waitlist processing runs that failed")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(30, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Request waitlist processing for a session once the current transaction commits, so the
+     * run sees the released seats. Returns immediately.
+     */
+    public void submitAfterCommit(Long sessionId) {
+        TransactionCallbacks.afterCommit(() -> submit(sessionId));
+    }
+
+    /**
+     * Request waitlist processing for a session. Returns immediately.
+     */
+    public void submit(Long sessionId) {
+        boolean[] schedule = {false};
+        lanes.compute(sessionId, (id, lane) -> {
+            if (lane == null) {
+                schedule[0] = true;
+                pendingRuns.incrementAndGet();
+                return new Lane(System.nanoTime());
+            }
+            if (lane.started && !lane.rerun) {
+                // Mid-run: whatever freed the seat may not be visible to it - run once more afterwards
+                lane.rerun = true;
+                lane.requestedAt = System.nanoTime();
+                pendingRuns.incrementAndGet();
+            }
+            // Otherwise a run is already queued and will see this request's seats
+            return lane;
+        });
+        if (schedule[0]) {
+            pool.execute(() -> drain(sessionId));
+        }
+    }
+
+    /**
+     * Request a run for every upcoming session that has free seats and someone waiting for them,
+     * except sessions already queued or running and sessions whose last swept run filled nothing
+     * with the same free seats and waiters. Returns the number of sessions submitted.
+     */
+    public int resubmitStrandedSessions() {
+        List<Object[]> rows = learningSessionRepository.findSessionsWithSeatsForWaiters(LocalDateTime.now());
+        Set<Long> sessionIds = new HashSet<>();
+        int submitted = 0;
+        for (Object[] row : rows) {
+            Long sessionId = (Long) row[0];
+            List<Object> state = Arrays.asList(row).subList(1, row.length);
+            sessionIds.add(sessionId);
+            if (state.equals(fruitlessState.get(sessionId)) || lanes.containsKey(sessionId)) {
+                continue;
+            }
+            sweptState.put(sessionId, state);
+            submit(sessionId);
+            submitted++;
+        }
+        // Sessions that filled up, started or lost their waiters
+        fruitlessState.keySet().retainAll(sessionIds);
+        return submitted;
+    }
+
+    private void drain(Long sessionId) {
+        while (true) {
+            long[] requestedAt = new long[1];
+            lanes.computeIfPresent(sessionId, (id, lane) -> {
+                lane.started = true;
+                lane.rerun = false;
+                requestedAt[0] = lane.requestedAt;
+                return lane;
+            });
+            pendingRuns.decrementAndGet();
+            lagTimer.record(System.nanoTime() - requestedAt[0], TimeUnit.NANOSECONDS);
+
+            durationTimer.record(() -> process(sessionId));
+
+            boolean[] again = {false};
+            lanes.compute(sessionId, (id, lane) -> {
+                if (lane != null && lane.rerun) {
+                    again[0] = true;
+                    return lane;
+                }
+                return null;
+            });
+            if (!again[0]) {
+                return;
+            }
+        }
+    }
+
+    private void process(Long sessionId) {
+        try {
+            // Legacy WAITLISTED bookings join the queue first so they can be promoted in the same run -
+            // skipped entirely once the background migrator has finished
+            int migrated = waitlistService.isLegacyMigrationComplete()
+                    ? 0
+                    : waitlistService.migrateLegacyWaitlistedBookings(sessionId);
+            int promoted = waitlistService.processWaitlistForCancellation(sessionId);
+            // Seats the session's own waitlist couldn't fill go to the program-level "first available" queue
+            int assigned = programWaitlistService.matchReleasedSeats(sessionId);
+            List<Object> swept = sweptState.remove(sessionId);
+            if (promoted + assigned == 0 && swept != null) {
+                fruitlessState.put(sessionId, swept);
+            } else {
+                fruitlessState.remove(sessionId);
+            }
+            log.info("Waitlist run for session {}: {} legacy entries migrated, {} users promoted, {} assigned from program waitlist",
+                    sessionId, migrated, promoted, assigned);
+        } catch (Exception e) {
+            sweptState.remove(sessionId);
+            failureCounter.increment();
+            log.error("Waitlist processing failed for session {}: {}", sessionId, e.getMessage(), e);
+        }
+    }
+
+    private static class Lane {
+        private long requestedAt;
+        private boolean started;
+        private boolean rerun;
+
+        private Lane(long requestedAt) {
+            this.requestedAt = requestedAt;
+        }
+    }
+}
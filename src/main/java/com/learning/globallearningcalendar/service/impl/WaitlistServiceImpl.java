@@ -2,6 +2,7 @@ package com.learning.globallearningcalendar.service.impl;
 
 import com.learning.globallearningcalendar.dto.WaitlistDTO;
 import com.learning.globallearningcalendar.entity.Booking;
+import com.learning.globallearningcalendar.entity.JobCheckpoint;
 import com.learning.globallearningcalendar.entity.LearningSession;
 import com.learning.globallearningcalendar.entity.User;
 import com.learning.globallearningcalendar.entity.Waitlist;
@@ -9,19 +10,30 @@ import com.learning.globallearningcalendar.entity.Waitlist.WaitlistStatus;
 import com.learning.globallearningcalendar.exception.BadRequestException;
 import com.learning.globallearningcalendar.exception.ResourceNotFoundException;
 import com.learning.globallearningcalendar.repository.BookingRepository;
+import com.learning.globallearningcalendar.repository.JobCheckpointRepository;
 import com.learning.globallearningcalendar.repository.LearningSessionRepository;
 import com.learning.globallearningcalendar.repository.UserRepository;
 import com.learning.globallearningcalendar.repository.WaitlistRepository;
 import com.learning.globallearningcalendar.service.IWaitlistService;
 import com.learning.globallearningcalendar.service.NotificationService;
+import com.learning.globallearningcalendar.util.TransactionCallbacks;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -38,8 +50,21 @@ public class WaitlistServiceImpl implements IWaitlistService {
     private final LearningSessionRepository learningSessionRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final LearningStatistics learningStatistics;
+    private final BookingMetrics bookingMetrics;
+    private final ReferenceData referenceData;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private static final Logger log = LoggerFactory.getLogger(WaitlistServiceImpl.class);
 
+    private static final String LEGACY_MIGRATION_JOB = "legacy-waitlisted-bookings";
+
+    // Cached once the legacy migration job has finished; nothing creates WAITLISTED bookings any more
+    private volatile boolean legacyMigrationComplete;
+
     @Override
     public WaitlistDTO joinWaitlist(Long sessionId, Long userId, String notes) {
         log.info("User {} attempting to join waitlist for session {}", userId, sessionId);
@@ -48,6 +73,9 @@ public class WaitlistServiceImpl implements IWaitlistService {
         LearningSession session = learningSessionRepository.findById(sessionId)
                 .orElseThrow(() -> new ResourceNotFoundException("LearningSession", "id", sessionId));
 
+        // Lock the session row: join sequences are allocated under it, and the seat check below must not race a cancellation
+        entityManager.refresh(session, LockModeType.PESSIMISTIC_WRITE);
+
         // Validate user exists
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
@@ -70,24 +98,25 @@ public class WaitlistServiceImpl implements IWaitlistService {
             throw new BadRequestException("This session has available seats. Please book directly instead of joining the waitlist");
         }
 
-        // Get next position in waitlist
-        Integer maxPosition = waitlistRepository.findMaxPositionBySession(sessionId);
-        Integer nextPosition = (maxPosition == null) ? 1 : maxPosition + 1;
+        // Stable join sequence - the displayed position is derived from it
+        int sequence = nextSequence(sessionId);
 
         // Create waitlist entry
         Waitlist waitlist = Waitlist.builder()
                 .learningSession(session)
                 .user(user)
-                .position(nextPosition)
+                .position(sequence)
                 .status(WaitlistStatus.WAITING)
                 .joinedAt(LocalDateTime.now())
                 .notes(notes)
                 .build();
 
         waitlist = waitlistRepository.save(waitlist);
-        log.info("User {} joined waitlist for session {} at position {}", userId, sessionId, nextPosition);
+        bookingMetrics.waitlistJoined(sessionId);
+        WaitlistDTO dto = toDTO(waitlist);
+        log.info("User {} joined waitlist for session {} at position {}", userId, sessionId, dto.getPosition());
 
-        return toDTO(waitlist);
+        return dto;
     }
 
     @Override
@@ -104,12 +133,10 @@ public class WaitlistServiceImpl implements IWaitlistService {
             throw new BadRequestException("You are not authorized to remove this waitlist entry");
         }
 
-        // Update status to REMOVED
+        // Update status to REMOVED - everyone behind moves up in rank, no rows are rewritten
         waitlist.setStatus(WaitlistStatus.REMOVED);
         waitlistRepository.save(waitlist);
-
-        // Reorder remaining waitlist entries
-        reorderWaitlist(waitlist.getLearningSession().getId());
+        bookingMetrics.waitlistChanged(waitlist.getLearningSession().getId(), -1);
 
         log.info("User {} removed from waitlist for session {}", userId, waitlist.getLearningSession().getId());
     }
@@ -117,10 +144,13 @@ public class WaitlistServiceImpl implements IWaitlistService {
     @Override
     @Transactional(readOnly = true)
     public List<WaitlistDTO> getSessionWaitlist(Long sessionId, WaitlistStatus status) {
-        return waitlistRepository.findBySessionIdAndStatusOrderByPosition(sessionId, status)
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        List<Waitlist> entries = waitlistRepository.findBySessionIdAndStatusOrderByPosition(sessionId, status);
+        List<WaitlistDTO> dtos = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            // The whole WAITING queue comes in sequence order, so each entry's rank is its index
+            dtos.add(toDTO(entries.get(i), status == WaitlistStatus.WAITING ? i + 1 : null));
+        }
+        return dtos;
     }
 
     @Override
@@ -142,7 +172,7 @@ public class WaitlistServiceImpl implements IWaitlistService {
     @Transactional(readOnly = true)
     public Integer getWaitlistPosition(Long sessionId, Long userId) {
         return waitlistRepository.findBySessionIdAndUserIdAndStatus(sessionId, userId, WaitlistStatus.WAITING)
-                .map(Waitlist::getPosition)
+                .map(waitlist -> rankOf(sessionId, waitlist.getPosition()))
                 .orElse(null);
     }
 
@@ -153,13 +183,15 @@ public class WaitlistServiceImpl implements IWaitlistService {
     }
 
     @Override
-    public void processWaitlistForCancellation(Long sessionId) {
+    public int processWaitlistForCancellation(Long sessionId) {
         log.info("Processing waitlist for session {}", sessionId);
 
-        // Refresh session to get latest data including incremented available seats
         LearningSession session = learningSessionRepository.findById(sessionId)
                 .orElseThrow(() -> new ResourceNotFoundException("LearningSession", "id", sessionId));
 
+        // Lock the session row and re-read the seat count so concurrent promotions can't oversell
+        entityManager.refresh(session, LockModeType.PESSIMISTIC_WRITE);
+
         log.info("Session {} has {} available seats and {} total capacity", 
                 sessionId, session.getAvailableSeats(), session.getTotalSeats());
 
@@ -167,96 +199,185 @@ public class WaitlistServiceImpl implements IWaitlistService {
         if (session.getAvailableSeats() == null || session.getAvailableSeats() <= 0) {
             log.info("No available seats for session {}. Available seats: {}. Waitlist processing skipped", 
                     sessionId, session.getAvailableSeats());
-            return;
+            return 0;
         }
 
-        // Get waitlist entries in order
-        List<Waitlist> waitingList = waitlistRepository.findBySessionIdAndStatusOrderByPosition(sessionId, WaitlistStatus.WAITING);
+        // First N eligible waiters (with user and manager) in one query
+        List<Waitlist> promotedEntries = waitlistRepository.findFirstEligibleWaiting(sessionId,
+                PageRequest.of(0, session.getAvailableSeats()));
 
-        if (waitingList.isEmpty()) {
+        if (promotedEntries.isEmpty()) {
             log.info("No waitlist entries for session {}", sessionId);
-            return;
+            return 0;
         }
 
-        int seatsToFill = Math.min(session.getAvailableSeats(), waitingList.size());
-        log.info("Found {} people in waitlist for session {}. Attempting to fill {} seats", 
-                waitingList.size(), sessionId, seatsToFill);
+        LocalDateTime now = LocalDateTime.now();
+        List<Booking> bookings = new ArrayList<>(promotedEntries.size());
+        for (int i = 0; i < promotedEntries.size(); i++) {
+            User user = promotedEntries.get(i).getUser();
+
+            // Users with a manager need approval; the seat is locked either way
+            boolean needsApproval = user.getManager() != null;
+            bookings.add(Booking.builder()
+                    .bookingReference(generateBookingReference())
+                    .user(user)
+                    .learningSession(session)
+                    .status(needsApproval ? Booking.BookingStatus.PENDING_APPROVAL : Booking.BookingStatus.CONFIRMED)
+                    .bookingDate(now)
+                    .confirmationDate(needsApproval ? null : now)
+                    .attendanceStatus(Booking.AttendanceStatus.NOT_MARKED)
+                    .completionStatus(Booking.CompletionStatus.NOT_STARTED)
+                    .managerNotified(false)
+                    .notes("Promoted from waitlist position " + (i + 1))
+                    .build());
+        }
 
-        for (int i = 0; i < seatsToFill; i++) {
-            Waitlist waitlistEntry = waitingList.get(i);
-            
-            try {
-                User user = waitlistEntry.getUser();
-                
-                // Check if user has a manager - if yes, require approval
-                Booking.BookingStatus bookingStatus;
-                LocalDateTime confirmationDate = null;
-                
-                if (user.getManager() != null) {
-                    // User has a manager - require manager approval
-                    bookingStatus = Booking.BookingStatus.PENDING_APPROVAL;
-                    log.info("User {} has a manager. Booking from waitlist will require manager approval", user.getId());
-                } else {
-                    // No manager - auto-confirm
-                    bookingStatus = Booking.BookingStatus.CONFIRMED;
-                    confirmationDate = LocalDateTime.now();
-                    log.info("User {} has no manager. Booking from waitlist will be auto-confirmed", user.getId());
-                }
-                
-                // Create booking for the waitlisted user
-                Booking booking = Booking.builder()
-                        .bookingReference(generateBookingReference())
+        bookingRepository.saveAll(bookings);
+        learningStatistics.bookingsCreated(bookings);
+
+        // Single DELETE for all promoted entries; everyone behind moves up in rank
+        waitlistRepository.deleteAllByIdInBatch(promotedEntries.stream().map(Waitlist::getId).collect(Collectors.toList()));
+        bookingMetrics.bookingsPromoted(sessionId, bookings, BookingMetrics.SESSION_WAITLIST);
+
+        // Row is locked, so a single UPDATE of the seat count is safe
+        session.setAvailableSeats(session.getAvailableSeats() - bookings.size());
+
+        List<Booking> confirmed = bookings.stream()
+                .filter(booking -> booking.getStatus() == Booking.BookingStatus.CONFIRMED)
+                .collect(Collectors.toList());
+        try {
+            notificationService.notifyWaitlistPromoted(confirmed);
+        } catch (Exception e) {
+            log.error("Failed to send waitlist promotion notifications for session {}: {}", sessionId, e.getMessage());
+        }
+
+        log.info("Promoted {} users from waitlist for session {} ({} confirmed, {} pending manager approval)",
+                bookings.size(), sessionId, confirmed.size(), bookings.size() - confirmed.size());
+        return bookings.size();
+    }
+
+    @Override
+    public int migrateLegacyWaitlistedBookings(Long sessionId) {
+        List<Booking> legacyBookings = bookingRepository.findWaitlistedBookingsBySessionForUpdate(sessionId);
+        if (legacyBookings.isEmpty()) {
+            return 0;
+        }
+
+        // Join sequences are allocated under the session row lock, as in joinWaitlist
+        learningSessionRepository.findById(sessionId)
+                .ifPresent(session -> entityManager.refresh(session, LockModeType.PESSIMISTIC_WRITE));
+        int sequence = nextSequence(sessionId);
+
+        log.info("Found {} old WAITLISTED bookings for session {}. Migrating to new waitlist table...",
+                legacyBookings.size(), sessionId);
+
+        // Bypasses joinWaitlist's checks: the legacy booking itself would count as an existing booking.
+        // A user has at most one waitlist row per session, so earlier rows are reactivated rather than duplicated
+        List<Long> userIds = legacyBookings.stream().map(booking -> booking.getUser().getId()).collect(Collectors.toList());
+        Map<Long, Waitlist> existingEntries = new HashMap<>();
+        for (Waitlist entry : waitlistRepository.findBySessionIdAndUserIds(sessionId, userIds)) {
+            existingEntries.put(entry.getUser().getId(), entry);
+        }
+
+        List<Waitlist> entries = new ArrayList<>();
+        for (Booking legacyBooking : legacyBookings) {
+            User user = legacyBooking.getUser();
+            Waitlist entry = existingEntries.get(user.getId());
+            if (entry != null && entry.getStatus() == WaitlistStatus.WAITING) {
+                continue;
+            }
+            if (entry == null) {
+                entry = Waitlist.builder()
+                        .learningSession(legacyBooking.getLearningSession())
                         .user(user)
-                        .learningSession(session)
-                        .status(bookingStatus)
-                        .bookingDate(LocalDateTime.now())
-                        .confirmationDate(confirmationDate)
-                        .attendanceStatus(Booking.AttendanceStatus.NOT_MARKED)
-                        .completionStatus(Booking.CompletionStatus.NOT_STARTED)
-                        .managerNotified(false)
-                        .notes("Promoted from waitlist position " + waitlistEntry.getPosition())
                         .build();
-
-                bookingRepository.save(booking);
-
-                // Delete waitlist entry after successful booking creation
-                waitlistRepository.delete(waitlistEntry);
-                log.info("Deleted waitlist entry {} for user {} after creating booking", 
-                        waitlistEntry.getId(), user.getId());
-
-                // CRITICAL: Decrement seat immediately for BOTH confirmed and pending approval bookings
-                // This ensures the seat is locked and not shown as available to others
-                session.decrementAvailableSeats();
-                learningSessionRepository.save(session);
-                
-                if (bookingStatus == Booking.BookingStatus.CONFIRMED) {
-                    log.info("User {} auto-confirmed from waitlist position {} for session {} (no manager)", 
-                            user.getId(), waitlistEntry.getPosition(), sessionId);
-                    
-                    // Send waitlist promotion notification for auto-confirmed bookings
-                    try {
-                        notificationService.notifyWaitlistPromoted(booking);
-                        log.info("Notification sent for waitlist promotion to user {}", user.getId());
-                    } catch (Exception notifEx) {
-                        log.error("Failed to send waitlist promotion notification for user {}: {}", 
-                                user.getId(), notifEx.getMessage());
-                    }
-                } else {
-                    // Seat is decremented immediately - locked while awaiting manager approval
-                    log.info("User {} moved from waitlist position {} to PENDING_APPROVAL for session {} (seat locked, requires manager approval)", 
-                            user.getId(), waitlistEntry.getPosition(), sessionId);
-                }
-                
-            } catch (Exception e) {
-                log.error("Error processing waitlist user {} for session {}: {}", 
-                        waitlistEntry.getUser().getId(), sessionId, e.getMessage(), e);
+                existingEntries.put(user.getId(), entry);
             }
+            // Legacy bookings come ordered by their old waitlist position, so sequences preserve that order
+            entry.setPosition(sequence++);
+            entry.setStatus(WaitlistStatus.WAITING);
+            entry.setJoinedAt(legacyBooking.getBookingDate() != null ? legacyBooking.getBookingDate() : LocalDateTime.now());
+            entry.setNotes("Migrated from old WAITLISTED booking #" + legacyBooking.getId());
+            entries.add(entry);
         }
 
-        // Reorder remaining waitlist
-        if (seatsToFill > 0) {
-            reorderWaitlist(sessionId);
+        waitlistRepository.saveAll(entries);
+        bookingMetrics.waitlistChanged(sessionId, entries.size());
+        // Users already waiting are represented in the waitlist table - their legacy booking goes too
+        bookingRepository.deleteAllInBatch(legacyBookings);
+        learningStatistics.bookingsDeleted(legacyBookings);
+
+        log.info("Migrated {} WAITLISTED bookings to the waitlist table for session {}", legacyBookings.size(), sessionId);
+        return legacyBookings.size();
+    }
+
+    @Override
+    public int migrateLegacyWaitlistChunk(int maxSessions) {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(LEGACY_MIGRATION_JOB)
+                .orElseGet(() -> JobCheckpoint.builder()
+                        .jobName(LEGACY_MIGRATION_JOB)
+                        .status(JobCheckpoint.JobStatus.RUNNING)
+                        .lastProcessedId(0L)
+                        .processedCount(0L)
+                        .build());
+        if (checkpoint.getStatus() == JobCheckpoint.JobStatus.COMPLETED) {
+            legacyMigrationComplete = true;
+            return 0;
+        }
+
+        // Chunks are whole sessions, in session id order, so each session's legacy order is preserved
+        List<Long> sessionIds = bookingRepository.findSessionIdsWithWaitlistedBookingsAfter(
+                checkpoint.getLastProcessedId(), PageRequest.of(0, maxSessions));
+
+        if (sessionIds.isEmpty()) {
+            checkpoint.setStatus(JobCheckpoint.JobStatus.COMPLETED);
+            checkpoint.setCompletedAt(LocalDateTime.now());
+            jobCheckpointRepository.save(checkpoint);
+            TransactionCallbacks.afterCommit(() -> legacyMigrationComplete = true);
+            log.info("Legacy WAITLISTED booking migration complete: {} bookings migrated", checkpoint.getProcessedCount());
+            return 0;
+        }
+
+        long migrated = 0;
+        for (Long sessionId : sessionIds) {
+            migrated += migrateLegacyWaitlistedBookings(sessionId);
         }
+
+        // Checkpoint commits with the chunk it describes
+        checkpoint.setLastProcessedId(sessionIds.get(sessionIds.size() - 1));
+        checkpoint.setProcessedCount(checkpoint.getProcessedCount() + migrated);
+        jobCheckpointRepository.save(checkpoint);
+
+        log.info("Legacy WAITLISTED migration chunk: {} sessions, {} bookings (checkpoint session {})",
+                sessionIds.size(), migrated, checkpoint.getLastProcessedId());
+        return sessionIds.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isLegacyMigrationComplete() {
+        if (!legacyMigrationComplete) {
+            legacyMigrationComplete = jobCheckpointRepository.findById(LEGACY_MIGRATION_JOB)
+                    .map(checkpoint -> checkpoint.getStatus() == JobCheckpoint.JobStatus.COMPLETED)
+                    .orElse(false);
+        }
+        return legacyMigrationComplete;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getLegacyMigrationProgress() {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        Optional<JobCheckpoint> checkpoint = jobCheckpointRepository.findById(LEGACY_MIGRATION_JOB);
+        progress.put("job", LEGACY_MIGRATION_JOB);
+        progress.put("status", checkpoint.map(c -> c.getStatus().name()).orElse("NOT_STARTED"));
+        progress.put("bookingsMigrated", checkpoint.map(JobCheckpoint::getProcessedCount).orElse(0L));
+        progress.put("bookingsRemaining", bookingRepository.countWaitlistedBookings());
+        progress.put("lastSessionId", checkpoint.map(JobCheckpoint::getLastProcessedId).orElse(0L));
+        progress.put("startedAt", checkpoint.map(JobCheckpoint::getStartedAt).orElse(null));
+        progress.put("updatedAt", checkpoint.map(JobCheckpoint::getUpdatedAt).orElse(null));
+        progress.put("completedAt", checkpoint.map(JobCheckpoint::getCompletedAt).orElse(null));
+        return progress;
     }
 
     @Override
@@ -268,31 +389,40 @@ public class WaitlistServiceImpl implements IWaitlistService {
     }
 
     /**
-     * Reorder waitlist positions after removal or confirmation
+     * Generate a unique booking reference
      */
-    private void reorderWaitlist(Long sessionId) {
-        List<Waitlist> waitingList = waitlistRepository.findBySessionIdAndStatusOrderByPosition(sessionId, WaitlistStatus.WAITING);
-
-        for (int i = 0; i < waitingList.size(); i++) {
-            Waitlist entry = waitingList.get(i);
-            entry.setPosition(i + 1);
-            waitlistRepository.save(entry);
-        }
+    private String generateBookingReference() {
+        return "BK-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
 
-        log.info("Reordered {} waitlist entries for session {}", waitingList.size(), sessionId);
+    /**
+     * Next join sequence for a session. Callers hold the session row lock, and the unique
+     * (session_id, position) constraint rejects a duplicate should one slip through.
+     */
+    private int nextSequence(Long sessionId) {
+        Integer maxSequence = waitlistRepository.findMaxSequenceBySession(sessionId);
+        return (maxSequence == null ? 0 : maxSequence) + 1;
     }
 
     /**
-     * Generate a unique booking reference
+     * 1-based rank of a join sequence among the session's WAITING entries
      */
-    private String generateBookingReference() {
-        return "BK-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    private int rankOf(Long sessionId, int sequence) {
+        return (int) waitlistRepository.countWaitingAhead(sessionId, sequence) + 1;
     }
 
     /**
      * Convert Waitlist entity to DTO
      */
     private WaitlistDTO toDTO(Waitlist waitlist) {
+        return toDTO(waitlist, null);
+    }
+
+    /**
+     * Convert Waitlist entity to DTO; rank is the live position of a WAITING entry when the caller
+     * already knows it, otherwise it is counted
+     */
+    private WaitlistDTO toDTO(Waitlist waitlist, Integer rank) {
         WaitlistDTO dto = new WaitlistDTO();
         dto.setId(waitlist.getId());
         dto.setSessionId(waitlist.getLearningSession().getId());
@@ -300,14 +430,19 @@ public class WaitlistServiceImpl implements IWaitlistService {
         dto.setProgramName(waitlist.getLearningSession().getLearningProgram().getName());
         dto.setSessionStartDateTime(waitlist.getLearningSession().getStartDateTime());
         dto.setSessionEndDateTime(waitlist.getLearningSession().getEndDateTime());
-        dto.setSessionLocationName(waitlist.getLearningSession().getLocation() != null 
-                ? waitlist.getLearningSession().getLocation().getName() 
+        dto.setSessionLocationName(waitlist.getLearningSession().getLocation() != null
+                ? referenceData.locationEntry(waitlist.getLearningSession().getLocation()).name()
                 : null);
         dto.setUserId(waitlist.getUser().getId());
         dto.setUserName(waitlist.getUser().getFullName());
         dto.setUserEmail(waitlist.getUser().getEmail());
         dto.setUserEmployeeId(waitlist.getUser().getEmployeeId());
-        dto.setPosition(waitlist.getPosition());
+        // Stored position is the join sequence; WAITING entries report their live rank
+        if (waitlist.getStatus() != WaitlistStatus.WAITING) {
+            dto.setPosition(waitlist.getPosition());
+        } else {
+            dto.setPosition(rank != null ? rank : rankOf(waitlist.getLearningSession().getId(), waitlist.getPosition()));
+        }
         dto.setStatus(waitlist.getStatus());
         dto.setJoinedAt(waitlist.getJoinedAt());
         dto.setNotifiedAt(waitlist.getNotifiedAt());
@@ -332,11 +467,11 @@ public class WaitlistServiceImpl implements IWaitlistService {
             
             log.info("Cancelled waitlist entry {} for user {}", 
                     waitlist.getId(), waitlist.getUser().getId());
-            
-            // TODO: Send email notification to user about waitlist cancellation
-            // notificationService.notifyWaitlistCancelled(waitlist);
         }
 
+        notificationService.notifyWaitlistCancelled(activeWaitlists);
+        bookingMetrics.waitlistChanged(sessionId, -activeWaitlists.size());
+
         log.info("Successfully cancelled {} waitlist entries for session {}", 
                 activeWaitlists.size(), sessionId);
     }
@@ -0,0 +1,289 @@
+package com.learning.globallearningcalendar.util;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Immutable column store of bookings joined to their user and session dimensions, for reporting.
+ *
+ * Each dimension is dictionary-encoded into an int column and each measure is a bit in a byte
+ * column, so a group-by is a scan over primitive arrays. Aggregations split the rows into ranges
+ * on a fork-join pool, build a partial table per range keyed by the packed group codes, and merge
+ * the partials. Built once per refresh and never modified, so any number of queries can share it.
+ */
+public final class BookingAnalyticsSnapshot {
+
+    public static final String UNASSIGNED = "UNASSIGNED";
+
+    // Rows per leaf task - large enough that task overhead is noise next to the scan
+    private static final int SPLIT_THRESHOLD = 16_384;
+
+    public enum Dimension {
+        BUSINESS_UNIT,
+        LOCATION,
+        PROGRAM_TYPE,
+        PROGRAM,
+        MONTH,
+        ROLE_TYPE,
+        STATUS
+    }
+
+    public enum Measure {
+        BOOKINGS,
+        CONFIRMED,
+        COMPLETIONS,
+        CANCELLATIONS,
+        NO_SHOWS,
+        ATTENDED,
+        RATING_COUNT,
+        RATING_SUM
+    }
+
+    // Bits of the flags column
+    public static final int CONFIRMED = 1;
+    public static final int COMPLETED = 1 << 1;
+    public static final int CANCELLED = 1 << 2;
+    public static final int NO_SHOW = 1 << 3;
+    public static final int ATTENDED = 1 << 4;
+
+    private static final Dimension[] DIMENSIONS = Dimension.values();
+    private static final int MEASURES = Measure.values().length;
+
+    private final int rowCount;
+    private final int[][] codes;
+    private final String[][] dictionaries;
+    private final byte[] flags;
+    private final byte[] ratings;
+    private final LocalDateTime builtAt;
+
+    private BookingAnalyticsSnapshot(int rowCount, int[][] codes, String[][] dictionaries, byte[] flags,
+                                     byte[] ratings, LocalDateTime builtAt) {
+        this.rowCount = rowCount;
+        this.codes = codes;
+        this.dictionaries = dictionaries;
+        this.flags = flags;
+        this.ratings = ratings;
+        this.builtAt = builtAt;
+    }
+
+    /**
+     * One aggregated group: the dimension values in group-by order and the measures by ordinal
+     */
+    public record Group(List<String> keys, long[] measures) {
+
+        public long get(Measure measure) {
+            return measures[measure.ordinal()];
+        }
+    }
+
+    public static Builder builder(int expectedRows) {
+        return new Builder(expectedRows);
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public LocalDateTime builtAt() {
+        return builtAt;
+    }
+
+    /**
+     * Distinct values of a dimension, sorted
+     */
+    public List<String> values(Dimension dimension) {
+        String[] dictionary = dictionaries[dimension.ordinal()].clone();
+        Arrays.sort(dictionary);
+        return List.of(dictionary);
+    }
+
+    /**
+     * Aggregate every measure over the rows matching all filters, grouped by the given dimensions
+     * (none = one grand-total group). A filter keeps rows whose value is one of the listed values.
+     * Groups come back ordered by booking count, largest first.
+     */
+    public List<Group> aggregate(List<Dimension> groupBy, Map<Dimension, ? extends Collection<String>> filters,
+                                 ForkJoinPool pool) {
+        boolean[][] allowed = new boolean[DIMENSIONS.length][];
+        for (Map.Entry<Dimension, ? extends Collection<String>> filter : filters.entrySet()) {
+            if (filter.getValue() == null || filter.getValue().isEmpty()) {
+                continue;
+            }
+            int dimension = filter.getKey().ordinal();
+            boolean[] mask = new boolean[dictionaries[dimension].length];
+            boolean any = false;
+            for (int code = 0; code < mask.length; code++) {
+                mask[code] = filter.getValue().contains(dictionaries[dimension][code]);
+                any |= mask[code];
+            }
+            if (!any) {
+                return List.of();
+            }
+            allowed[dimension] = mask;
+        }
+
+        int[] groupColumns = new int[groupBy.size()];
+        long[] radix = new long[groupBy.size()];
+        long multiplier = 1;
+        for (int i = 0; i < groupBy.size(); i++) {
+            groupColumns[i] = groupBy.get(i).ordinal();
+            radix[i] = multiplier;
+            multiplier = Math.multiplyExact(multiplier, Math.max(dictionaries[groupColumns[i]].length, 1));
+        }
+
+        Map<Long, long[]> totals = rowCount == 0 ? Map.of()
+                : pool.invoke(new AggregateTask(0, rowCount, groupColumns, radix, allowed));
+
+        List<Group> groups = new ArrayList<>(totals.size());
+        for (Map.Entry<Long, long[]> entry : totals.entrySet()) {
+            List<String> keys = new ArrayList<>(groupColumns.length);
+            long packed = entry.getKey();
+            for (int i = groupColumns.length - 1; i >= 0; i--) {
+                int code = (int) (packed / radix[i]);
+                packed -= code * radix[i];
+                keys.add(0, dictionaries[groupColumns[i]][code]);
+            }
+            groups.add(new Group(keys, entry.getValue()));
+        }
+        groups.sort(Comparator.comparingLong((Group group) -> group.get(Measure.BOOKINGS)).reversed());
+        return groups;
+    }
+
+    private class AggregateTask extends RecursiveTask<Map<Long, long[]>> {
+        private final int from;
+        private final int to;
+        private final int[] groupColumns;
+        private final long[] radix;
+        private final boolean[][] allowed;
+
+        AggregateTask(int from, int to, int[] groupColumns, long[] radix, boolean[][] allowed) {
+            this.from = from;
+            this.to = to;
+            this.groupColumns = groupColumns;
+            this.radix = radix;
+            this.allowed = allowed;
+        }
+
+        @Override
+        protected Map<Long, long[]> compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                return scan();
+            }
+            int mid = (from + to) >>> 1;
+            AggregateTask left = new AggregateTask(from, mid, groupColumns, radix, allowed);
+            left.fork();
+            Map<Long, long[]> right = new AggregateTask(mid, to, groupColumns, radix, allowed).compute();
+            return merge(left.join(), right);
+        }
+
+        private Map<Long, long[]> scan() {
+            Map<Long, long[]> partial = new HashMap<>();
+            rows:
+            for (int row = from; row < to; row++) {
+                for (int dimension = 0; dimension < allowed.length; dimension++) {
+                    if (allowed[dimension] != null && !allowed[dimension][codes[dimension][row]]) {
+                        continue rows;
+                    }
+                }
+                long key = 0;
+                for (int i = 0; i < groupColumns.length; i++) {
+                    key += codes[groupColumns[i]][row] * radix[i];
+                }
+                long[] measures = partial.computeIfAbsent(key, k -> new long[MEASURES]);
+                int rowFlags = flags[row];
+                measures[Measure.BOOKINGS.ordinal()]++;
+                measures[Measure.CONFIRMED.ordinal()] += rowFlags & CONFIRMED;
+                measures[Measure.COMPLETIONS.ordinal()] += (rowFlags & COMPLETED) >>> 1;
+                measures[Measure.CANCELLATIONS.ordinal()] += (rowFlags & CANCELLED) >>> 2;
+                measures[Measure.NO_SHOWS.ordinal()] += (rowFlags & NO_SHOW) >>> 3;
+                measures[Measure.ATTENDED.ordinal()] += (rowFlags & ATTENDED) >>> 4;
+                if (ratings[row] > 0) {
+                    measures[Measure.RATING_COUNT.ordinal()]++;
+                    measures[Measure.RATING_SUM.ordinal()] += ratings[row];
+                }
+            }
+            return partial;
+        }
+
+        private Map<Long, long[]> merge(Map<Long, long[]> a, Map<Long, long[]> b) {
+            Map<Long, long[]> into = a.size() >= b.size() ? a : b;
+            Map<Long, long[]> other = into == a ? b : a;
+            other.forEach((key, measures) -> into.merge(key, measures, (x, y) -> {
+                for (int i = 0; i < x.length; i++) {
+                    x[i] += y[i];
+                }
+                return x;
+            }));
+            return into;
+        }
+    }
+
+    /**
+     * Appends rows column by column, dictionary-encoding dimension values as they arrive
+     */
+    public static final class Builder {
+        private final List<Map<String, Integer>> dictionaries = new ArrayList<>();
+        private int[][] codes;
+        private byte[] flags;
+        private byte[] ratings;
+        private int size;
+
+        private Builder(int expectedRows) {
+            int capacity = Math.max(expectedRows, 16);
+            codes = new int[DIMENSIONS.length][capacity];
+            flags = new byte[capacity];
+            ratings = new byte[capacity];
+            for (int i = 0; i < DIMENSIONS.length; i++) {
+                dictionaries.add(new HashMap<>());
+            }
+        }
+
+        /**
+         * Add one booking. {@code values} holds a value per dimension (null = UNASSIGNED),
+         * {@code rowFlags} the CONFIRMED/COMPLETED/... bits and {@code rating} 1-5 or 0 for none.
+         */
+        public Builder add(EnumMap<Dimension, String> values, int rowFlags, int rating) {
+            if (size == flags.length) {
+                int capacity = size * 2;
+                for (int i = 0; i < codes.length; i++) {
+                    codes[i] = Arrays.copyOf(codes[i], capacity);
+                }
+                flags = Arrays.copyOf(flags, capacity);
+                ratings = Arrays.copyOf(ratings, capacity);
+            }
+            for (Dimension dimension : DIMENSIONS) {
+                String value = values.get(dimension);
+                Map<String, Integer> dictionary = dictionaries.get(dimension.ordinal());
+                codes[dimension.ordinal()][size] = dictionary.computeIfAbsent(value != null ? value : UNASSIGNED,
+                        v -> dictionary.size());
+            }
+            flags[size] = (byte) rowFlags;
+            ratings[size] = (byte) (rating >= 1 && rating <= 5 ? rating : 0);
+            size++;
+            return this;
+        }
+
+        public BookingAnalyticsSnapshot build() {
+            int[][] columns = new int[codes.length][];
+            String[][] values = new String[codes.length][];
+            for (int i = 0; i < codes.length; i++) {
+                columns[i] = Arrays.copyOf(codes[i], size);
+                values[i] = new String[dictionaries.get(i).size()];
+                for (Map.Entry<String, Integer> entry : dictionaries.get(i).entrySet()) {
+                    values[i][entry.getValue()] = entry.getKey();
+                }
+            }
+            return new BookingAnalyticsSnapshot(size, columns, values, Arrays.copyOf(flags, size),
+                    Arrays.copyOf(ratings, size), LocalDateTime.now());
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.learning.globallearningcalendar.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable view of the business unit hierarchy with subtree rollups.
+ *
+ * Units are numbered in depth-first preorder, so every subtree is one contiguous range
+ * [enter, exit) of that order (its Euler tour interval): "is X under Y" is two comparisons, and
+ * subtree totals are precomputed per unit. Count changes produce a new snapshot that shares the
+ * structure and copies only the affected count array, so readers never see a half-applied update.
+ */
+public final class BusinessUnitTreeSnapshot {
+
+    public static final BusinessUnitTreeSnapshot EMPTY = build(List.of(), Map.of(), Map.of());
+
+    /**
+     * One business unit row as loaded from the database
+     */
+    public record Unit(Long id, Long parentId, String code, String name, boolean active) {
+    }
+
+    private final Map<Long, Integer> positions;
+    private final Unit[] units;
+    private final int[] parent;
+    private final int[] depth;
+    private final int[] exit;
+    private final int[][] children;
+    private final long[] ownUsers;
+    private final long[] subtreeUsers;
+    private final long[] ownBookings;
+    private final long[] subtreeBookings;
+
+    private BusinessUnitTreeSnapshot(Map<Long, Integer> positions, Unit[] units, int[] parent, int[] depth,
+                                     int[] exit, int[][] children, long[] ownUsers, long[] subtreeUsers,
+                                     long[] ownBookings, long[] subtreeBookings) {
+        this.positions = positions;
+        this.units = units;
+        this.parent = parent;
+        this.depth = depth;
+        this.exit = exit;
+        this.children = children;
+        this.ownUsers = ownUsers;
+        this.subtreeUsers = subtreeUsers;
+        this.ownBookings = ownBookings;
+        this.subtreeBookings = subtreeBookings;
+    }
+
+    /**
+     * Build the tree from unit rows and per-unit active user and booking counts. Units whose
+     * parent is missing become roots; a parent cycle is cut where it is first reached.
+     */
+    public static BusinessUnitTreeSnapshot build(Collection<Unit> rows, Map<Long, Long> activeUsers,
+                                                 Map<Long, Long> activeBookings) {
+        Map<Long, Unit> byId = new HashMap<>();
+        for (Unit row : rows) {
+            byId.put(row.id(), row);
+        }
+        Map<Long, List<Unit>> childrenById = new HashMap<>();
+        List<Unit> roots = new ArrayList<>();
+        for (Unit row : byId.values()) {
+            if (row.parentId() != null && byId.containsKey(row.parentId())) {
+                childrenById.computeIfAbsent(row.parentId(), id -> new ArrayList<>()).add(row);
+            } else {
+                roots.add(row);
+            }
+        }
+        Comparator<Unit> byCode = Comparator.comparing(Unit::code, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                .thenComparing(Unit::id);
+        childrenById.values().forEach(list -> list.sort(byCode));
+        roots.sort(byCode);
+
+        int size = byId.size();
+        Unit[] units = new Unit[size];
+        int[] parent = new int[size];
+        int[] depth = new int[size];
+        int[] exit = new int[size];
+        Map<Long, Integer> positions = new HashMap<>(size * 2);
+
+        int next = 0;
+        for (Unit root : roots) {
+            next = visit(root, childrenById, units, parent, depth, exit, positions, next);
+        }
+        if (next < size) {
+            // Whatever was not reached hangs off a parent cycle
+            List<Unit> unreached = new ArrayList<>();
+            for (Unit row : byId.values()) {
+                if (!positions.containsKey(row.id())) {
+                    unreached.add(row);
+                }
+            }
+            unreached.sort(Comparator.comparing(Unit::id));
+            for (Unit row : unreached) {
+                if (positions.containsKey(row.id())) {
+                    continue;
+                }
+                // Climb until a unit repeats - that one is on the cycle, and becomes the root
+                Unit start = row;
+                Set<Long> seen = new HashSet<>();
+                while (seen.add(start.id())) {
+                    start = byId.get(start.parentId());
+                }
+                next = visit(start, childrenById, units, parent, depth, exit, positions, next);
+            }
+        }
+
+        int[][] children = new int[size][];
+        int[] childCounts = new int[size];
+        for (int i = 0; i < size; i++) {
+            if (parent[i] >= 0) {
+                childCounts[parent[i]]++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            children[i] = new int[childCounts[i]];
+            childCounts[i] = 0;
+        }
+        // Preorder visits children in their sorted order, so each child list comes out sorted
+        for (int i = 0; i < size; i++) {
+            if (parent[i] >= 0) {
+                children[parent[i]][childCounts[parent[i]]++] = i;
+            }
+        }
+
+        long[] ownUsers = countsByPosition(positions, activeUsers, size);
+        long[] ownBookings = countsByPosition(positions, activeBookings, size);
+        return new BusinessUnitTreeSnapshot(Collections.unmodifiableMap(positions), units, parent, depth, exit,
+                children, ownUsers, rollUp(parent, ownUsers), ownBookings, rollUp(parent, ownBookings));
+    }
+
+    // Iterative preorder walk from one root; returns the next free position
+    private static int visit(Unit root, Map<Long, List<Unit>> childrenById, Unit[] units, int[] parent, int[] depth,
+                             int[] exit, Map<Long, Integer> positions, int next) {
+        WalkStack stack = new WalkStack(units.length);
+        stack.push(place(root, -1, 0, units, parent, depth, positions, next++), 0);
+        while (!stack.isEmpty()) {
+            int position = stack.topPosition();
+            int childIndex = stack.topChild();
+            List<Unit> kids = childrenById.getOrDefault(units[position].id(), List.of());
+            // Skip children already placed - only possible when this subtree was reached through a cycle
+            while (childIndex < kids.size() && positions.containsKey(kids.get(childIndex).id())) {
+                childIndex++;
+            }
+            if (childIndex < kids.size()) {
+                stack.advanceTop(childIndex + 1);
+                int child = place(kids.get(childIndex), position, depth[position] + 1, units, parent, depth, positions, next++);
+                stack.push(child, 0);
+            } else {
+                exit[position] = next;
+                stack.pop();
+            }
+        }
+        return next;
+    }
+
+    private static int place(Unit unit, int parentPosition, int unitDepth, Unit[] units, int[] parent, int[] depth,
+                             Map<Long, Integer> positions, int position) {
+        units[position] = unit;
+        parent[position] = parentPosition;
+        depth[position] = unitDepth;
+        positions.put(unit.id(), position);
+        return position;
+    }
+
+    private static long[] countsByPosition(Map<Long, Integer> positions, Map<Long, Long> counts, int size) {
+        long[] own = new long[size];
+        counts.forEach((id, count) -> {
+            Integer position = positions.get(id);
+            if (position != null && count != null) {
+                own[position] = count;
+            }
+        });
+        return own;
+    }
+
+    // Children always come after their parent in preorder, so one backwards pass sums every subtree
+    private static long[] rollUp(int[] parent, long[] own) {
+        long[] total = own.clone();
+        for (int i = total.length - 1; i >= 0; i--) {
+            if (parent[i] >= 0) {
+                total[parent[i]] += total[i];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * A copy with {@code delta} active users added to one unit and all its ancestors
+     */
+    public BusinessUnitTreeSnapshot withActiveUserDelta(Long businessUnitId, long delta) {
+        Integer position = businessUnitId != null ? positions.get(businessUnitId) : null;
+        if (position == null || delta == 0) {
+            return this;
+        }
+        long[] own = ownUsers.clone();
+        long[] total = subtreeUsers.clone();
+        own[position] += delta;
+        for (int i = position; i >= 0; i = parent[i]) {
+            total[i] += delta;
+        }
+        return new BusinessUnitTreeSnapshot(positions, units, parent, depth, exit, children,
+                own, total, ownBookings, subtreeBookings);
+    }
+
+    /**
+     * A copy with the per-unit active booking counts replaced
+     */
+    public BusinessUnitTreeSnapshot withActiveBookings(Map<Long, Long> activeBookings) {
+        long[] own = countsByPosition(positions, activeBookings, units.length);
+        return new BusinessUnitTreeSnapshot(positions, units, parent, depth, exit, children,
+                ownUsers, subtreeUsers, own, rollUp(parent, own));
+    }
+
+    public int size() {
+        return units.length;
+    }
+
+    public boolean contains(Long businessUnitId) {
+        return businessUnitId != null && positions.containsKey(businessUnitId);
+    }
+
+    /**
+     * True if {@code businessUnitId} is {@code ancestorId} or sits anywhere below it
+     */
+    public boolean isInSubtree(Long ancestorId, Long businessUnitId) {
+        Integer ancestor = ancestorId != null ? positions.get(ancestorId) : null;
+        Integer unit = businessUnitId != null ? positions.get(businessUnitId) : null;
+        return ancestor != null && unit != null && ancestor <= unit && unit < exit[ancestor];
+    }
+
+    public Unit unit(Long businessUnitId) {
+        Integer position = positions.get(businessUnitId);
+        return position != null ? units[position] : null;
+    }
+
+    public Long parentId(Long businessUnitId) {
+        Integer position = positions.get(businessUnitId);
+        return position != null && parent[position] >= 0 ? units[parent[position]].id() : null;
+    }
+
+    public int depth(Long businessUnitId) {
+        Integer position = positions.get(businessUnitId);
+        return position != null ? depth[position] : -1;
+    }
+
+    public long activeUsers(Long businessUnitId) {
+        return valueAt(ownUsers, businessUnitId);
+    }
+
+    public long subtreeActiveUsers(Long businessUnitId) {
+        return valueAt(subtreeUsers, businessUnitId);
+    }
+
+    public long activeBookings(Long businessUnitId) {
+        return valueAt(ownBookings, businessUnitId);
+    }
+
+    public long subtreeActiveBookings(Long businessUnitId) {
+        return valueAt(subtreeBookings, businessUnitId);
+    }
+
+    /**
+     * Number of units in the subtree, the unit itself included
+     */
+    public int subtreeSize(Long businessUnitId) {
+        Integer position = positions.get(businessUnitId);
+        return position != null ? exit[position] - position : 0;
+    }
+
+    /**
+     * The unit and everything below it, in preorder
+     */
+    public List<Long> subtreeIds(Long businessUnitId) {
+        Integer position = positions.get(businessUnitId);
+        if (position == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(exit[position] - position);
+        for (int i = position; i < exit[position]; i++) {
+            ids.add(units[i].id());
+        }
+        return ids;
+    }
+
+    public List<Long> childIds(Long businessUnitId) {
+        Integer position = positions.get(businessUnitId);
+        if (position == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(children[position].length);
+        for (int child : children[position]) {
+            ids.add(units[child].id());
+        }
+        return ids;
+    }
+
+    public List<Long> rootIds() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < units.length; i = exit[i]) {
+            ids.add(units[i].id());
+        }
+        return ids;
+    }
+
+    /**
+     * Ancestors from the direct parent up to the root
+     */
+    public List<Long> ancestorIds(Long businessUnitId) {
+        Integer position = positions.get(businessUnitId);
+        if (position == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(depth[position]);
+        for (int i = parent[position]; i >= 0; i = parent[i]) {
+            ids.add(units[i].id());
+        }
+        return ids;
+    }
+
+    private long valueAt(long[] values, Long businessUnitId) {
+        Integer position = businessUnitId != null ? positions.get(businessUnitId) : null;
+        return position != null ? values[position] : 0;
+    }
+
+    // Explicit stack of (position, next child index) for the preorder walk
+    private static final class WalkStack {
+        private final int[] positions;
+        private final int[] nextChild;
+        private int top = -1;
+
+        WalkStack(int capacity) {
+            positions = new int[Math.max(capacity, 1)];
+            nextChild = new int[Math.max(capacity, 1)];
+        }
+
+        void push(int position, int childIndex) {
+            top++;
+            positions[top] = position;
+            nextChild[top] = childIndex;
+        }
+
+        int topPosition() {
+            return positions[top];
+        }
+
+        int topChild() {
+            return nextChild[top];
+        }
+
+        void advanceTop(int childIndex) {
+            nextChild[top] = childIndex;
+        }
+
+        void pop() {
+            top--;
+        }
+
+        boolean isEmpty() {
+            return top < 0;
+        }
+    }
+}
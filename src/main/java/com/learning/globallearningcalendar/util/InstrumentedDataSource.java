@@ -0,0 +1,126 @@
+package com.learning.globallearningcalendar.util;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource wrapper that reports every statement Hibernate (or anything else) executes to
+ * {@link SqlStatementCounter}: one count and the execution time per execute call, plus the
+ * update count for writes and the rows read from result sets.
+ *
+ * Result sets are only wrapped while the calling thread has an open tally, so background jobs
+ * reading large pages pay nothing beyond the statement proxy.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    public InstrumentedDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private static Connection connection(Connection target) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            if (isEquals(method)) {
+                return proxy == args[0];
+            }
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                return statement(statement);
+            }
+            return result;
+        });
+    }
+
+    private static Statement statement(Statement target) {
+        Class<? extends Statement> type = target instanceof CallableStatement ? CallableStatement.class
+                : target instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return proxy(type, (proxy, method, args) -> {
+            if (isEquals(method)) {
+                return proxy == args[0];
+            }
+            if (!method.getName().startsWith("execute")) {
+                Object result = invoke(target, method, args);
+                return method.getName().equals("getResultSet") && result instanceof ResultSet resultSet
+                        ? resultSet(resultSet) : result;
+            }
+            long startedAt = System.nanoTime();
+            Object result = invoke(target, method, args);
+            SqlStatementCounter.statementExecuted(System.nanoTime() - startedAt, updateCount(result));
+            return result instanceof ResultSet resultSet ? resultSet(resultSet) : result;
+        });
+    }
+
+    private static ResultSet resultSet(ResultSet target) {
+        if (!SqlStatementCounter.isCounting()) {
+            return target;
+        }
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            if (isEquals(method)) {
+                return proxy == args[0];
+            }
+            Object result = invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                SqlStatementCounter.rowsRead(1);
+            }
+            return result;
+        });
+    }
+
+    // Batch entries report SUCCESS_NO_INFO (-2) when the driver doesn't know - those count as 0
+    private static long updateCount(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof Long count) {
+            return Math.max(count, 0);
+        }
+        long total = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                total += Math.max(count, 0);
+            }
+        }
+        return total;
+    }
+
+    private static boolean isEquals(Method method) {
+        return method.getName().equals("equals") && method.getParameterCount() == 1;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
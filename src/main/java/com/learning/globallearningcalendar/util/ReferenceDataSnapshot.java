@@ -0,0 +1,183 @@
+package com.learning.globallearningcalendar.util;
+
+import com.learning.globallearningcalendar.entity.BusinessUnit;
+import com.learning.globallearningcalendar.entity.Location;
+import com.learning.globallearningcalendar.entity.Role;
+import com.learning.globallearningcalendar.entity.Skill;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable copy of the reference data - roles, locations, skills and business units - as plain
+ * value records looked up by id, code or name.
+ *
+ * Holds no entities, so it can be shared across threads and transactions freely. Code and name
+ * lookups ignore case; locations have no code and are looked up by id or name only.
+ */
+public final class ReferenceDataSnapshot {
+
+    public record RoleEntry(Long id, String code, String name, Role.RoleType roleType, boolean active) {
+
+        public static RoleEntry of(Role role) {
+            return new RoleEntry(role.getId(), role.getCode(), role.getName(), role.getRoleType(),
+                    Boolean.TRUE.equals(role.getIsActive()));
+        }
+    }
+
+    public record LocationEntry(Long id, String name, String city, String country, String region, boolean active) {
+
+        public static LocationEntry of(Location location) {
+            return new LocationEntry(location.getId(), location.getName(), location.getCity(), location.getCountry(),
+                    location.getRegion(), Boolean.TRUE.equals(location.getIsActive()));
+        }
+    }
+
+    public record SkillEntry(Long id, String code, String name, String category, boolean active) {
+
+        public static SkillEntry of(Skill skill) {
+            return new SkillEntry(skill.getId(), skill.getCode(), skill.getName(), skill.getSkillCategory(),
+                    Boolean.TRUE.equals(skill.getIsActive()));
+        }
+    }
+
+    public record BusinessUnitEntry(Long id, String code, String name, Long parentId, boolean active) {
+
+        public static BusinessUnitEntry of(BusinessUnit businessUnit) {
+            return new BusinessUnitEntry(businessUnit.getId(), businessUnit.getCode(), businessUnit.getName(),
+                    businessUnit.getParentBusinessUnit() != null ? businessUnit.getParentBusinessUnit().getId() : null,
+                    Boolean.TRUE.equals(businessUnit.getIsActive()));
+        }
+    }
+
+    private final Index<RoleEntry> roles;
+    private final Index<LocationEntry> locations;
+    private final Index<SkillEntry> skills;
+    private final Index<BusinessUnitEntry> businessUnits;
+    private final LocalDateTime loadedAt;
+
+    public ReferenceDataSnapshot(Collection<RoleEntry> roles, Collection<LocationEntry> locations,
+                                 Collection<SkillEntry> skills, Collection<BusinessUnitEntry> businessUnits) {
+        this.roles = new Index<>(roles, RoleEntry::id, RoleEntry::code, RoleEntry::name);
+        this.locations = new Index<>(locations, LocationEntry::id, entry -> null, LocationEntry::name);
+        this.skills = new Index<>(skills, SkillEntry::id, SkillEntry::code, SkillEntry::name);
+        this.businessUnits = new Index<>(businessUnits, BusinessUnitEntry::id, BusinessUnitEntry::code,
+                BusinessUnitEntry::name);
+        this.loadedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime loadedAt() {
+        return loadedAt;
+    }
+
+    public RoleEntry role(Long id) {
+        return roles.byId(id);
+    }
+
+    public RoleEntry roleByCode(String code) {
+        return roles.byCode(code);
+    }
+
+    public RoleEntry roleByName(String name) {
+        return roles.byName(name);
+    }
+
+    public Set<Long> roleIds() {
+        return roles.byId.keySet();
+    }
+
+    public LocationEntry location(Long id) {
+        return locations.byId(id);
+    }
+
+    public LocationEntry locationByName(String name) {
+        return locations.byName(name);
+    }
+
+    public SkillEntry skill(Long id) {
+        return skills.byId(id);
+    }
+
+    public SkillEntry skillByCode(String code) {
+        return skills.byCode(code);
+    }
+
+    public SkillEntry skillByName(String name) {
+        return skills.byName(name);
+    }
+
+    public BusinessUnitEntry businessUnit(Long id) {
+        return businessUnits.byId(id);
+    }
+
+    public BusinessUnitEntry businessUnitByCode(String code) {
+        return businessUnits.byCode(code);
+    }
+
+    public BusinessUnitEntry businessUnitByName(String name) {
+        return businessUnits.byName(name);
+    }
+
+    public int roleCount() {
+        return roles.byId.size();
+    }
+
+    public int locationCount() {
+        return locations.byId.size();
+    }
+
+    public int skillCount() {
+        return skills.byId.size();
+    }
+
+    public int businessUnitCount() {
+        return businessUnits.byId.size();
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Index<T> {
+        private final Map<Long, T> byId;
+        private final Map<String, T> byCode;
+        private final Map<String, T> byName;
+
+        private Index(Collection<T> entries, Function<T, Long> id, Function<T, String> code, Function<T, String> name) {
+            Map<Long, T> ids = new HashMap<>();
+            Map<String, T> codes = new HashMap<>();
+            Map<String, T> names = new HashMap<>();
+            for (T entry : entries) {
+                ids.put(id.apply(entry), entry);
+                if (code.apply(entry) != null) {
+                    codes.put(key(code.apply(entry)), entry);
+                }
+                // Names need not be unique - the first entry wins
+                if (name.apply(entry) != null) {
+                    names.putIfAbsent(key(name.apply(entry)), entry);
+                }
+            }
+            this.byId = Map.copyOf(ids);
+            this.byCode = Map.copyOf(codes);
+            this.byName = Map.copyOf(names);
+        }
+
+        // Immutable maps reject null keys - a null lookup is simply a miss
+        private T byId(Long id) {
+            return id != null ? byId.get(id) : null;
+        }
+
+        private T byCode(String code) {
+            return code != null ? byCode.get(key(code)) : null;
+        }
+
+        private T byName(String name) {
+            return name != null ? byName.get(key(name)) : null;
+        }
+    }
+}
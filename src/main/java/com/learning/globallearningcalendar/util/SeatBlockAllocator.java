@@ -0,0 +1,217 @@
+package com.learning.globallearningcalendar.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Seat allocator for a single session, over seat numbers 1..totalSeats.
+ *
+ * A segment tree keeps, for every range of seats, the longest free run and the free runs touching
+ * either end, so the leftmost contiguous block of k free seats is found in O(log n). When no block
+ * is long enough, {@link #allocate(int)} falls back to best-fit fragments: the smallest free run
+ * that holds the rest of the group, otherwise the largest run, repeated until the group is seated.
+ * Not thread-safe; build one per allocation under the session lock.
+ */
+public class SeatBlockAllocator {
+
+    private final int totalSeats;
+    private final BitSet occupied = new BitSet();
+    // Per node: longest free run, free run starting at the range's left edge, and at its right edge
+    private final int[] best;
+    private final int[] prefix;
+    private final int[] suffix;
+    private int freeSeats;
+
+    public SeatBlockAllocator(int totalSeats, Collection<Integer> occupiedSeats) {
+        this.totalSeats = Math.max(totalSeats, 0);
+        for (Integer seat : occupiedSeats) {
+            if (seat != null && seat >= 1 && seat <= this.totalSeats) {
+                occupied.set(seat);
+            }
+        }
+        this.freeSeats = this.totalSeats - occupied.cardinality();
+        int nodes = 4 * Math.max(this.totalSeats, 1);
+        best = new int[nodes];
+        prefix = new int[nodes];
+        suffix = new int[nodes];
+        if (this.totalSeats > 0) {
+            build(1, 1, this.totalSeats);
+        }
+    }
+
+    public int totalSeats() {
+        return totalSeats;
+    }
+
+    public int freeSeats() {
+        return freeSeats;
+    }
+
+    public int largestFreeRun() {
+        return totalSeats > 0 ? best[1] : 0;
+    }
+
+    public boolean isFree(int seat) {
+        return seat >= 1 && seat <= totalSeats && !occupied.get(seat);
+    }
+
+    /**
+     * First seat of the leftmost run of {@code length} free seats, or -1 if there is none.
+     */
+    public int findBlock(int length) {
+        if (length <= 0 || totalSeats == 0 || best[1] < length) {
+            return -1;
+        }
+        return find(1, 1, totalSeats, length);
+    }
+
+    /**
+     * Occupy {@code count} seats, contiguously if a long enough run exists, otherwise as few
+     * best-fit fragments as possible. Returns the seats taken in ascending order - fewer than
+     * requested only when the session runs out of free seats.
+     */
+    public List<Integer> allocate(int count) {
+        List<Integer> seats = new ArrayList<>(Math.max(Math.min(count, freeSeats), 0));
+        if (count <= 0 || freeSeats == 0) {
+            return seats;
+        }
+
+        int start = findBlock(count);
+        if (start > 0) {
+            occupyRun(start, count, seats);
+            return seats;
+        }
+
+        // No single block - take best-fit fragments from the free runs, ordered by (length, start)
+        List<int[]> runs = freeRuns();
+        runs.sort(Comparator.<int[]>comparingInt(run -> run[1]).thenComparingInt(run -> run[0]));
+        int remaining = count;
+        while (remaining > 0 && !runs.isEmpty()) {
+            int fit = firstRunOfAtLeast(runs, remaining);
+            if (fit >= 0) {
+                occupyRun(runs.get(fit)[0], remaining, seats);
+                break;
+            }
+            int[] largest = runs.remove(runs.size() - 1);
+            occupyRun(largest[0], largest[1], seats);
+            remaining -= largest[1];
+        }
+        seats.sort(null);
+        return seats;
+    }
+
+    public void occupy(int seat) {
+        if (isFree(seat)) {
+            occupied.set(seat);
+            freeSeats--;
+            update(1, 1, totalSeats, seat);
+        }
+    }
+
+    public void release(int seat) {
+        if (seat >= 1 && seat <= totalSeats && occupied.get(seat)) {
+            occupied.clear(seat);
+            freeSeats++;
+            update(1, 1, totalSeats, seat);
+        }
+    }
+
+    private void occupyRun(int start, int length, List<Integer> seats) {
+        for (int seat = start; seat < start + length; seat++) {
+            occupy(seat);
+            seats.add(seat);
+        }
+    }
+
+    // Free runs as {start, length}, in seat order
+    private List<int[]> freeRuns() {
+        List<int[]> runs = new ArrayList<>();
+        int seat = occupied.nextClearBit(1);
+        while (seat <= totalSeats) {
+            int end = occupied.nextSetBit(seat);
+            if (end < 0 || end > totalSeats) {
+                end = totalSeats + 1;
+            }
+            runs.add(new int[]{seat, end - seat});
+            seat = occupied.nextClearBit(end);
+        }
+        return runs;
+    }
+
+    // Index of the shortest run with at least `length` seats in a list sorted by length, or -1
+    private static int firstRunOfAtLeast(List<int[]> runs, int length) {
+        int lo = 0;
+        int hi = runs.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (runs.get(mid)[1] >= length) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo < runs.size() ? lo : -1;
+    }
+
+    private void build(int node, int lo, int hi) {
+        if (lo == hi) {
+            setLeaf(node, lo);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        build(2 * node, lo, mid);
+        build(2 * node + 1, mid + 1, hi);
+        pull(node, lo, mid, hi);
+    }
+
+    private void update(int node, int lo, int hi, int seat) {
+        if (lo == hi) {
+            setLeaf(node, lo);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (seat <= mid) {
+            update(2 * node, lo, mid, seat);
+        } else {
+            update(2 * node + 1, mid + 1, hi, seat);
+        }
+        pull(node, lo, mid, hi);
+    }
+
+    private int find(int node, int lo, int hi, int length) {
+        if (lo == hi) {
+            return lo;
+        }
+        int mid = (lo + hi) >>> 1;
+        int left = 2 * node;
+        int right = 2 * node + 1;
+        if (best[left] >= length) {
+            return find(left, lo, mid, length);
+        }
+        // A run crossing the midpoint starts at the left child's trailing free seats
+        if (suffix[left] + prefix[right] >= length) {
+            return mid - suffix[left] + 1;
+        }
+        return find(right, mid + 1, hi, length);
+    }
+
+    private void setLeaf(int node, int seat) {
+        int free = occupied.get(seat) ? 0 : 1;
+        best[node] = free;
+        prefix[node] = free;
+        suffix[node] = free;
+    }
+
+    private void pull(int node, int lo, int mid, int hi) {
+        int left = 2 * node;
+        int right = 2 * node + 1;
+        int leftLength = mid - lo + 1;
+        int rightLength = hi - mid;
+        prefix[node] = prefix[left] == leftLength ? leftLength + prefix[right] : prefix[left];
+        suffix[node] = suffix[right] == rightLength ? rightLength + suffix[left] : suffix[right];
+        best[node] = Math.max(Math.max(best[left], best[right]), suffix[left] + prefix[right]);
+    }
+}
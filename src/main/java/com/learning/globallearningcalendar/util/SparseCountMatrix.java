@@ -0,0 +1,102 @@
+package com.learning.globallearningcalendar.util;
+
+import java.util.Arrays;
+
+/**
+ * Sparse matrix of int counts over dense int row and column indexes.
+ *
+ * Each row keeps its non-zero columns sorted in a primitive array with the counts alongside, so a
+ * lookup is a binary search and a row scan touches only its non-zero cells - no boxing anywhere.
+ * Rows grow as indexes appear. Thread-safe: writers and readers synchronize on the matrix, and
+ * updates are small, so contention stays low.
+ */
+public class SparseCountMatrix {
+
+    private static final int[] EMPTY = new int[0];
+
+    private int[][] columns = new int[16][];
+    private int[][] counts = new int[16][];
+    private int[] sizes = new int[16];
+    private int rowCount;
+
+    /**
+     * Add {@code delta} to a cell; cells reaching zero are dropped
+     */
+    public synchronized void add(int row, int column, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        ensureRow(row);
+        int[] rowColumns = columns[row] != null ? columns[row] : EMPTY;
+        int size = sizes[row];
+        int at = Arrays.binarySearch(rowColumns, 0, size, column);
+        if (at >= 0) {
+            counts[row][at] += delta;
+            if (counts[row][at] == 0) {
+                System.arraycopy(columns[row], at + 1, columns[row], at, size - at - 1);
+                System.arraycopy(counts[row], at + 1, counts[row], at, size - at - 1);
+                sizes[row]--;
+            }
+            return;
+        }
+        int insertAt = -at - 1;
+        if (size == rowColumns.length) {
+            int capacity = Math.max(4, size * 2);
+            columns[row] = Arrays.copyOf(rowColumns, capacity);
+            counts[row] = Arrays.copyOf(counts[row] != null ? counts[row] : EMPTY, capacity);
+        }
+        System.arraycopy(columns[row], insertAt, columns[row], insertAt + 1, size - insertAt);
+        System.arraycopy(counts[row], insertAt, counts[row], insertAt + 1, size - insertAt);
+        columns[row][insertAt] = column;
+        counts[row][insertAt] = delta;
+        sizes[row]++;
+    }
+
+    public synchronized int get(int row, int column) {
+        if (row >= rowCount || columns[row] == null) {
+            return 0;
+        }
+        int at = Arrays.binarySearch(columns[row], 0, sizes[row], column);
+        return at >= 0 ? counts[row][at] : 0;
+    }
+
+    /**
+     * Copy of a row's non-zero columns, ascending
+     */
+    public synchronized int[] rowColumns(int row) {
+        return row < rowCount && columns[row] != null ? Arrays.copyOf(columns[row], sizes[row]) : EMPTY;
+    }
+
+    /**
+     * Copy of a row's counts, aligned with {@link #rowColumns(int)}
+     */
+    public synchronized int[] rowCounts(int row) {
+        return row < rowCount && counts[row] != null ? Arrays.copyOf(counts[row], sizes[row]) : EMPTY;
+    }
+
+    public synchronized int rowMax(int row) {
+        int max = 0;
+        for (int i = 0; row < rowCount && i < sizes[row]; i++) {
+            max = Math.max(max, counts[row][i]);
+        }
+        return max;
+    }
+
+    public synchronized long nonZeroCount() {
+        long total = 0;
+        for (int row = 0; row < rowCount; row++) {
+            total += sizes[row];
+        }
+        return total;
+    }
+
+    private void ensureRow(int row) {
+        if (row >= columns.length) {
+            int capacity = Math.max(row + 1, columns.length * 2);
+            columns = Arrays.copyOf(columns, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+        }
+        rowCount = Math.max(rowCount, row + 1);
+    }
+}
@@ -0,0 +1,74 @@
+package com.learning.globallearningcalendar.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Counts the SQL statements, rows and execution time issued by the current thread while a
+ * tally is open. Tallies nest - an HTTP request and the service call it makes both see every
+ * statement run inside the service call.
+ *
+ * Statements are reported by {@link InstrumentedDataSource}; nothing is counted on threads with
+ * no open tally.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Deque<Tally>> OPEN = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private SqlStatementCounter() {
+    }
+
+    public static final class Tally {
+        private long statements;
+        private long rows;
+        private long nanos;
+
+        public long statements() {
+            return statements;
+        }
+
+        public long rows() {
+            return rows;
+        }
+
+        public long nanos() {
+            return nanos;
+        }
+    }
+
+    public static Tally begin() {
+        Tally tally = new Tally();
+        OPEN.get().push(tally);
+        return tally;
+    }
+
+    public static void end(Tally tally) {
+        Deque<Tally> open = OPEN.get();
+        open.remove(tally);
+        if (open.isEmpty()) {
+            OPEN.remove();
+        }
+    }
+
+    public static boolean isCounting() {
+        return !OPEN.get().isEmpty();
+    }
+
+    /**
+     * One statement executed; rows is the update count for writes and 0 for queries, whose rows
+     * are added as the result set is read
+     */
+    public static void statementExecuted(long nanos, long rows) {
+        for (Tally tally : OPEN.get()) {
+            tally.statements++;
+            tally.rows += rows;
+            tally.nanos += nanos;
+        }
+    }
+
+    public static void rowsRead(long rows) {
+        for (Tally tally : OPEN.get()) {
+            tally.rows += rows;
+        }
+    }
+}
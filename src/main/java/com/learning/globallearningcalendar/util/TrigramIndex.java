@@ -0,0 +1,223 @@
+package com.learning.globallearningcalendar.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory substring search over a few text fields per document, by trigram inverted index.
+ *
+ * Terms of three or more characters are answered by intersecting the posting sets of their
+ * trigrams and confirming the substring on the candidates' stored text - the same matches as
+ * {@code LIKE '%term%'}, case- and accent-insensitive. Shorter terms (typeahead) match documents
+ * with a word starting with the term. Results are ranked: whole field, field prefix, word prefix,
+ * then plain substring, with earlier fields outranking later ones. Thread-safe; updates are
+ * incremental per document.
+ */
+public class TrigramIndex {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final int WORD_PREFIX_LENGTH = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final Map<Long, Set<Long>> postings = new HashMap<>();
+    // Word prefixes of one and two characters, for terms too short to have a trigram
+    private final Map<String, Set<Long>> wordPrefixes = new HashMap<>();
+
+    /**
+     * Add or replace a document. Fields are given in ranking order, most important first;
+     * null fields are skipped.
+     */
+    public void put(long id, List<String> fields) {
+        String[] normalized = new String[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            normalized[i] = fields.get(i) != null ? normalize(fields.get(i)) : "";
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            documents.put(id, normalized);
+            for (String text : normalized) {
+                for (long trigram : trigrams(text)) {
+                    postings.computeIfAbsent(trigram, key -> new HashSet<>()).add(id);
+                }
+                for (String prefix : wordPrefixes(text)) {
+                    wordPrefixes.computeIfAbsent(prefix, key -> new HashSet<>()).add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            wordPrefixes.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the best {@code limit} matches, best first. A blank term matches nothing.
+     */
+    public List<Long> search(String term, int limit) {
+        String query = term != null ? normalize(term).trim() : "";
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<long[]> ranked = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : candidates(query)) {
+                long score = score(documents.get(id), query);
+                if (score > 0) {
+                    ranked.add(new long[]{score, id});
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        ranked.sort(Comparator.<long[]>comparingLong(entry -> -entry[0]).thenComparingLong(entry -> entry[1]));
+        List<Long> ids = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int i = 0; i < ranked.size() && ids.size() < limit; i++) {
+            ids.add(ranked.get(i)[1]);
+        }
+        return ids;
+    }
+
+    private Set<Long> candidates(String query) {
+        if (query.length() < 3) {
+            return wordPrefixes.getOrDefault(query.substring(0, Math.min(query.length(), WORD_PREFIX_LENGTH)), Set.of());
+        }
+        List<Set<Long>> sets = new ArrayList<>();
+        for (long trigram : trigrams(query)) {
+            Set<Long> posting = postings.get(trigram);
+            if (posting == null) {
+                return Set.of();
+            }
+            sets.add(posting);
+        }
+        // Intersect starting from the rarest trigram
+        sets.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(sets.get(0));
+        for (int i = 1; i < sets.size() && !result.isEmpty(); i++) {
+            result.retainAll(sets.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Rank of the best-matching field: match kind dominates, then field order, then shorter text.
+     * 0 = no match (a trigram candidate whose trigrams don't appear in sequence).
+     */
+    private static long score(String[] fields, String query) {
+        long best = 0;
+        boolean wordPrefixOnly = query.length() < 3;
+        for (int i = 0; i < fields.length; i++) {
+            String text = fields[i];
+            int kind;
+            if (text.equals(query)) {
+                kind = 4;
+            } else if (text.startsWith(query)) {
+                kind = 3;
+            } else if (startsWord(text, query)) {
+                kind = 2;
+            } else if (!wordPrefixOnly && text.contains(query)) {
+                kind = 1;
+            } else {
+                continue;
+            }
+            long fieldRank = fields.length - i;
+            long brevity = Math.max(0, 1000 - text.length());
+            best = Math.max(best, kind * 1_000_000L + fieldRank * 1_000L + brevity);
+        }
+        return best;
+    }
+
+    private static boolean startsWord(String text, String query) {
+        for (int from = text.indexOf(query); from >= 0; from = text.indexOf(query, from + 1)) {
+            if (from == 0 || !Character.isLetterOrDigit(text.charAt(from - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeLocked(long id) {
+        String[] previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String text : previous) {
+            for (long trigram : trigrams(text)) {
+                Set<Long> posting = postings.get(trigram);
+                if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+            for (String prefix : wordPrefixes(text)) {
+                Set<Long> posting = wordPrefixes.get(prefix);
+                if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                    wordPrefixes.remove(prefix);
+                }
+            }
+        }
+    }
+
+    private static Set<Long> trigrams(String text) {
+        Set<Long> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            trigrams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return trigrams;
+    }
+
+    private static Set<String> wordPrefixes(String text) {
+        Set<String> prefixes = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isLetterOrDigit(text.charAt(i)) && (i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1)))) {
+                for (int length = 1; length <= WORD_PREFIX_LENGTH && i + length <= text.length(); length++) {
+                    prefixes.add(text.substring(i, i + length));
+                }
+            }
+        }
+        return prefixes;
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
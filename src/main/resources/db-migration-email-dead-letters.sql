@@ -0,0 +1,16 @@
+-- Migration Script: Email dead-letter store
+-- Date: 2026-10-18
+-- Description: Emails that exhaust their delivery retries are kept here for inspection and re-queueing.
+
+CREATE TABLE IF NOT EXISTS email_dead_letters (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT,
+    attempts INT NOT NULL,
+    last_error VARCHAR(1000),
+    failed_at DATETIME(6) NOT NULL,
+    INDEX idx_email_dead_letters_failed_at (failed_at)
+);
+
+COMMIT;
@@ -0,0 +1,20 @@
+-- Migration Script: Background job checkpoints
+-- Date: 2026-10-18
+-- Description: Progress markers for resumable background jobs, starting with the migration of
+-- legacy WAITLISTED bookings into the waitlist table.
+
+CREATE TABLE IF NOT EXISTS job_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    last_processed_id BIGINT NOT NULL DEFAULT 0,
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    started_at DATETIME(6),
+    updated_at DATETIME(6),
+    completed_at DATETIME(6)
+);
+
+-- Supports finding sessions that still have legacy WAITLISTED bookings
+CREATE INDEX idx_bookings_status_session
+ON bookings(status, session_id);
+
+COMMIT;
@@ -0,0 +1,85 @@
+-- Migration Script: Incrementally maintained learning statistics
+-- Date: 2026-10-18
+-- Description: Per-session attendance buckets and rating totals, and per-program and per-instructor
+-- rating totals, kept up to date by the application in the same transaction as the booking change.
+-- Running the DELETE/INSERT pairs below again recomputes everything from bookings (offline repair).
+
+CREATE TABLE IF NOT EXISTS session_statistics (
+    session_id BIGINT PRIMARY KEY,
+    attendance_not_marked BIGINT NOT NULL DEFAULT 0,
+    attendance_present BIGINT NOT NULL DEFAULT 0,
+    attendance_absent BIGINT NOT NULL DEFAULT 0,
+    attendance_partial BIGINT NOT NULL DEFAULT 0,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    rating_1 BIGINT NOT NULL DEFAULT 0,
+    rating_2 BIGINT NOT NULL DEFAULT 0,
+    rating_3 BIGINT NOT NULL DEFAULT 0,
+    rating_4 BIGINT NOT NULL DEFAULT 0,
+    rating_5 BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME(6)
+);
+
+CREATE TABLE IF NOT EXISTS program_rating_statistics (
+    program_id BIGINT PRIMARY KEY,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    rating_1 BIGINT NOT NULL DEFAULT 0,
+    rating_2 BIGINT NOT NULL DEFAULT 0,
+    rating_3 BIGINT NOT NULL DEFAULT 0,
+    rating_4 BIGINT NOT NULL DEFAULT 0,
+    rating_5 BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME(6)
+);
+
+CREATE TABLE IF NOT EXISTS instructor_rating_statistics (
+    instructor_email VARCHAR(255) PRIMARY KEY,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    rating_1 BIGINT NOT NULL DEFAULT 0,
+    rating_2 BIGINT NOT NULL DEFAULT 0,
+    rating_3 BIGINT NOT NULL DEFAULT 0,
+    rating_4 BIGINT NOT NULL DEFAULT 0,
+    rating_5 BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME(6)
+);
+
+-- Rebuild from bookings
+DELETE FROM session_statistics;
+INSERT INTO session_statistics (session_id, attendance_not_marked, attendance_present, attendance_absent,
+    attendance_partial, rating_count, rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5, updated_at)
+SELECT b.session_id,
+    SUM(CASE WHEN b.attendance_status = 'NOT_MARKED' THEN 1 ELSE 0 END),
+    SUM(CASE WHEN b.attendance_status = 'PRESENT' THEN 1 ELSE 0 END),
+    SUM(CASE WHEN b.attendance_status = 'ABSENT' THEN 1 ELSE 0 END),
+    SUM(CASE WHEN b.attendance_status = 'PARTIAL' THEN 1 ELSE 0 END),
+    COUNT(b.feedback_rating), COALESCE(SUM(b.feedback_rating), 0),
+    SUM(CASE WHEN b.feedback_rating = 1 THEN 1 ELSE 0 END), SUM(CASE WHEN b.feedback_rating = 2 THEN 1 ELSE 0 END),
+    SUM(CASE WHEN b.feedback_rating = 3 THEN 1 ELSE 0 END), SUM(CASE WHEN b.feedback_rating = 4 THEN 1 ELSE 0 END),
+    SUM(CASE WHEN b.feedback_rating = 5 THEN 1 ELSE 0 END), NOW()
+FROM bookings b
+GROUP BY b.session_id;
+
+DELETE FROM program_rating_statistics;
+INSERT INTO program_rating_statistics (program_id, rating_count, rating_sum,
+    rating_1, rating_2, rating_3, rating_4, rating_5, updated_at)
+SELECT s.program_id, COUNT(*), SUM(b.feedback_rating),
+    SUM(CASE WHEN b.feedback_rating = 1 THEN 1 ELSE 0 END), SUM(CASE WHEN b.feedback_rating = 2 THEN 1 ELSE 0 END),
+    SUM(CASE WHEN b.feedback_rating = 3 THEN 1 ELSE 0 END), SUM(CASE WHEN b.feedback_rating = 4 THEN 1 ELSE 0 END),
+    SUM(CASE WHEN b.feedback_rating = 5 THEN 1 ELSE 0 END), NOW()
+FROM bookings b JOIN learning_sessions s ON s.id = b.session_id
+WHERE b.feedback_rating IS NOT NULL
+GROUP BY s.program_id;
+
+DELETE FROM instructor_rating_statistics;
+INSERT INTO instructor_rating_statistics (instructor_email, rating_count, rating_sum,
+    rating_1, rating_2, rating_3, rating_4, rating_5, updated_at)
+SELECT LOWER(TRIM(s.instructor_email)), COUNT(*), SUM(b.feedback_rating),
+    SUM(CASE WHEN b.feedback_rating = 1 THEN 1 ELSE 0 END), SUM(CASE WHEN b.feedback_rating = 2 THEN 1 ELSE 0 END),
+    SUM(CASE WHEN b.feedback_rating = 3 THEN 1 ELSE 0 END), SUM(CASE WHEN b.feedback_rating = 4 THEN 1 ELSE 0 END),
+    SUM(CASE WHEN b.feedback_rating = 5 THEN 1 ELSE 0 END), NOW()
+FROM bookings b JOIN learning_sessions s ON s.id = b.session_id
+WHERE b.feedback_rating IS NOT NULL AND s.instructor_email IS NOT NULL AND TRIM(s.instructor_email) <> ''
+GROUP BY LOWER(TRIM(s.instructor_email));
+
+COMMIT;
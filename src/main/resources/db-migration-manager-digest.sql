@@ -0,0 +1,14 @@
+-- Migration Script: Manager digest notifications
+-- Date: 2026-10-18
+-- Description: Supports the scheduled manager digest that aggregates pending approvals and
+-- pending cancellations per manager into a single notification.
+
+-- Store the notification type as VARCHAR so new types (MANAGER_DIGEST) don't need an ENUM change
+ALTER TABLE notifications
+MODIFY COLUMN type VARCHAR(50) NOT NULL;
+
+-- Supports the grouped digest query and the bulk "mark notified" update
+CREATE INDEX idx_bookings_status_notified_updated
+ON bookings(status, manager_notified, updated_at);
+
+COMMIT;
@@ -0,0 +1,39 @@
+-- Migration Script: Organization-scope nomination jobs
+-- Date: 2026-10-18
+-- Description: Background jobs that nominate a whole business unit subtree, location, role type
+-- or reporting tree, plus indexes for resolving those selectors to nominee ids.
+
+CREATE TABLE IF NOT EXISTS nomination_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    session_id BIGINT NOT NULL,
+    nominator_user_id BIGINT NOT NULL,
+    selector_type VARCHAR(30) NOT NULL,
+    selector_id BIGINT,
+    selector_role_type VARCHAR(30),
+    nomination_type VARCHAR(20) NOT NULL,
+    notes TEXT,
+    status VARCHAR(20) NOT NULL,
+    total_targets INT NOT NULL DEFAULT 0,
+    processed_count INT NOT NULL DEFAULT 0,
+    successful_count INT NOT NULL DEFAULT 0,
+    failed_count INT NOT NULL DEFAULT 0,
+    last_processed_user_id BIGINT NOT NULL DEFAULT 0,
+    errors TEXT,
+    failure_reason VARCHAR(500),
+    created_at DATETIME(6) NOT NULL,
+    started_at DATETIME(6),
+    completed_at DATETIME(6),
+    updated_at DATETIME(6) NOT NULL,
+    FOREIGN KEY (session_id) REFERENCES learning_sessions(id),
+    FOREIGN KEY (nominator_user_id) REFERENCES users(id),
+    INDEX idx_nomination_jobs_status (status, created_at),
+    INDEX idx_nomination_jobs_nominator (nominator_user_id, created_at)
+);
+
+-- Selector resolution walks users by unit / location / manager in id order
+CREATE INDEX idx_users_bu_active ON users(business_unit_id, is_active, id);
+CREATE INDEX idx_users_location_active ON users(location_id, is_active, id);
+CREATE INDEX idx_users_manager_active ON users(manager_id, is_active, id);
+CREATE INDEX idx_business_units_parent ON business_units(parent_bu_id);
+
+COMMIT;
@@ -0,0 +1,30 @@
+-- Migration Script: Program-level "first available" waitlist
+-- Date: 2026-10-18
+-- Description: Employees can wait for a seat in any eligible session of a learning program.
+-- A seat released in one of the program's sessions goes to the longest-waiting eligible employee.
+
+CREATE TABLE IF NOT EXISTS program_waitlist (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    program_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'WAITING',
+    joined_at DATETIME(6) NOT NULL,
+    assigned_session_id BIGINT NULL,
+    assigned_at DATETIME(6) NULL,
+    notes TEXT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+
+    CONSTRAINT fk_program_waitlist_program FOREIGN KEY (program_id)
+        REFERENCES learning_programs(id) ON DELETE CASCADE,
+    CONSTRAINT fk_program_waitlist_user FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_program_waitlist_session FOREIGN KEY (assigned_session_id)
+        REFERENCES learning_sessions(id) ON DELETE SET NULL,
+
+    -- Queue order: longest waiting first
+    INDEX idx_program_waitlist_queue (program_id, status, joined_at, id),
+    INDEX idx_program_waitlist_user (user_id, status)
+);
+
+COMMIT;
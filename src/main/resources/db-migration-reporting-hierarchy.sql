@@ -0,0 +1,28 @@
+-- Migration Script: Materialized reporting hierarchy
+-- Date: 2026-10-18
+-- Description: Closure table over users.manager_id - one row per (manager, report) pair at any
+-- depth plus a depth-0 row per user - so "everyone under manager X" is a single indexed join.
+-- The application maintains it on user create/update and fills it on first start if empty.
+
+CREATE TABLE IF NOT EXISTS user_reporting_paths (
+    ancestor_id BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth INT NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    INDEX idx_reporting_paths_descendant (descendant_id, ancestor_id),
+    FOREIGN KEY (ancestor_id) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (descendant_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Backfill from the current manager links (depth capped to guard against manager cycles)
+INSERT IGNORE INTO user_reporting_paths (ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM users
+    UNION
+    SELECT p.ancestor_id, u.id, p.depth + 1
+    FROM paths p JOIN users u ON u.manager_id = p.descendant_id
+    WHERE p.depth < 64
+)
+SELECT ancestor_id, descendant_id, MIN(depth) FROM paths GROUP BY ancestor_id, descendant_id;
+
+COMMIT;
@@ -0,0 +1,25 @@
+-- Migration Script: Store "visible to every role" as a flag on the session
+-- Date: 2026-10-18
+-- Description: Sessions open to all roles used to get one session_target_roles row per role.
+-- They now carry target_all_roles = TRUE and no join rows, so roles created later are included
+-- automatically and the visibility queries skip the join.
+
+ALTER TABLE learning_sessions
+ADD COLUMN target_all_roles BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Sessions targeting every existing role, or none at all, are unrestricted
+UPDATE learning_sessions ls
+SET ls.target_all_roles = TRUE
+WHERE (SELECT COUNT(*) FROM session_target_roles str WHERE str.session_id = ls.id)
+      IN (0, (SELECT COUNT(*) FROM roles));
+
+DELETE str FROM session_target_roles str
+JOIN learning_sessions ls ON ls.id = str.session_id
+WHERE ls.target_all_roles = TRUE;
+
+-- Target locations only apply to SPECIFIC_LOCATION scope
+DELETE stl FROM session_target_locations stl
+JOIN learning_sessions ls ON ls.id = stl.session_id
+WHERE ls.location_scope <> 'SPECIFIC_LOCATION' OR ls.location_scope IS NULL;
+
+COMMIT;
@@ -0,0 +1,11 @@
+-- Migration Script: Stable waitlist join sequences
+-- Date: 2026-10-18
+-- Description: waitlist.position now holds a join sequence number that is never rewritten.
+-- A waiter's displayed position is a count of the WAITING entries with a lower sequence, a
+-- range scan on the index below, so removals and promotions no longer renumber every row behind them.
+
+-- Supports the rank counts and ordered promotion scans
+CREATE INDEX idx_waitlist_session_status_position
+ON waitlist(session_id, status, position);
+
+COMMIT;
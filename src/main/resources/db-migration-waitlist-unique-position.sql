@@ -0,0 +1,21 @@
+-- Migration Script: Unique waitlist join sequences
+-- Date: 2026-10-19
+-- Description: Join sequences are allocated in the database under the session row lock and
+-- protected by a unique (session_id, position) key, so every application instance sees the same
+-- sequences and ranks are counted from the table. Sessions holding sequences duplicated by the old
+-- per-instance allocator are renumbered first, keeping their join order (position, then id).
+
+UPDATE waitlist w
+JOIN (SELECT id, ROW_NUMBER() OVER (PARTITION BY session_id ORDER BY position, id) AS sequence
+      FROM waitlist) ordered ON ordered.id = w.id
+SET w.position = ordered.sequence
+WHERE w.session_id IN (
+    SELECT session_id FROM (
+        SELECT session_id FROM waitlist GROUP BY session_id, position HAVING COUNT(*) > 1
+    ) duplicated
+);
+
+ALTER TABLE waitlist
+ADD CONSTRAINT uk_waitlist_session_position UNIQUE (session_id, position);
+
+COMMIT;